@@ -0,0 +1,132 @@
+package com.example.chillgram.common.google;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileStorage 업로드 벤치마크 (네트워크 없음)
+ * - 1 op = FilePart 1개를 storeFixed로 올리고 객체가 확정될 때까지
+ * - mode: streaming(resumable writer 1개) / composite(part 병렬 업로드 → compose)
+ *   → GcsFileStorage + 가짜 GCS(InMemoryStorage): 요청당 20ms + 연결당 50MB/s (실제 GCS 단일 스트림 업로드에 가깝게)
+ * - mode: local → LocalFileStorage (임시 디렉터리, 디스크 쓰기 + rename 비용만)
+ * - 실행: ./gradlew jmh -Pjmh.includes=FileUploadBenchmark → build/reports/jmh/results.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class FileUploadBenchmark {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Param({"streaming", "composite", "local"})
+    public String mode;
+
+    @Param({"4", "64"})
+    public int sizeMb;
+
+    private InMemoryStorage fake;
+    private GcsFileStorage gcs;
+    private Path localRoot;
+    private FileStorage storage;
+    private byte[] file;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        file = new byte[sizeMb * 1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(file);
+        if ("local".equals(mode)) {
+            localRoot = Files.createTempDirectory("chillgram-bench");
+            storage = new LocalFileStorage(localRoot.toString(), "bench", "http://localhost:8080/local-storage");
+            return;
+        }
+        fake = new InMemoryStorage(Duration.ofMillis(20), 50L * 1024 * 1024);
+        GcsUploadProperties.Composite composite = new GcsUploadProperties.Composite(
+                "composite".equals(mode), DataSize.ofMegabytes(16), DataSize.ofMegabytes(8), 4, 16);
+        gcs = new GcsFileStorage(fake.storage(), "bench", "https://storage.example.com/bench",
+                new GcsUploadProperties(true, DataSize.ofMegabytes(8), composite, null), null, null);
+        storage = gcs;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reset() {
+        if (fake != null) {
+            fake.clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        if (gcs != null) {
+            gcs.shutdown();
+        }
+        if (localRoot != null) {
+            FileSystemUtils.deleteRecursively(localRoot);
+        }
+    }
+
+    @Benchmark
+    public FileStorage.StoredFile upload() {
+        return storage.storeFixed(new BytesFilePart("bench.bin", file), "bench/upload").block();
+    }
+
+    /**
+     * 메모리 바이트를 64KB DataBuffer로 흘리는 FilePart (multipart 디코더가 내보내는 모양)
+     */
+    private record BytesFilePart(String filename, byte[] bytes) implements FilePart {
+
+        @Override
+        public String name() {
+            return "file";
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            return headers;
+        }
+
+        @Override
+        public Flux<DataBuffer> content() {
+            return Flux.range(0, (bytes.length + BUFFER_SIZE - 1) / BUFFER_SIZE)
+                    .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(bytes, i * BUFFER_SIZE,
+                            Math.min(BUFFER_SIZE, bytes.length - i * BUFFER_SIZE)).slice()));
+        }
+
+        @Override
+        public Mono<Void> transferTo(Path dest) {
+            return Mono.error(new UnsupportedOperationException("transferTo"));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * job 파이프라인 end-to-end 벤치마크 (요청 → outbox → relay → 워커 → 결과 consumer → applyResult)
+ * - 1 op = job 1건 요청부터 job_task에 결과가 반영될 때까지 (LocalJobPipeline, 외부 인프라 없음)
+ * - 동시성: endToEnd_cN = 요청 스레드 N개 (closed loop)
+ * - Throughput(ops/ms) = 처리량, SampleTime의 p0.50/p0.99 = end-to-end 지연
+ * - resultConsumer: batch(JobResultsBatchConsumer, 기본 모드) / single(JobResultsConsumer)
+ * - 실행: ./gradlew jmh -Pjmh.includes=JobPipelineBenchmark → build/reports/jmh/results.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobPipelineBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Param({"batch", "single"})
+    public String resultConsumer;
+
+    private LocalJobPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // 결과 consumer 4개 (listener concurrency), 워커 8개
+        pipeline = new LocalJobPipeline("batch".equals(resultConsumer), 4, 8, Duration.ZERO);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reset() {
+        pipeline.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        pipeline.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void endToEnd_c01() throws Exception {
+        pipeline.roundTrip(TIMEOUT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void endToEnd_c08() throws Exception {
+        pipeline.roundTrip(TIMEOUT);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void endToEnd_c32() throws Exception {
+        pipeline.roundTrip(TIMEOUT);
+    }
+
+    @Benchmark
+    @Threads(128)
+    public void endToEnd_c128() throws Exception {
+        pipeline.roundTrip(TIMEOUT);
+    }
+}
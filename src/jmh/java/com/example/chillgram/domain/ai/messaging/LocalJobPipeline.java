@@ -0,0 +1,543 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.common.google.GcsFileStorage;
+import com.example.chillgram.common.google.GcsUploadProperties;
+import com.example.chillgram.domain.advertising.dto.jobs.CreateJobRequest;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.repository.JobSideEffectRepository;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import com.example.chillgram.domain.ai.service.JobIdempotencyStore;
+import com.example.chillgram.domain.ai.service.JobService;
+import com.example.chillgram.domain.ai.service.JobStatusCache;
+import com.example.chillgram.domain.ai.service.TenantJobLimiter;
+import com.example.chillgram.domain.content.service.ContentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * job 파이프라인 전체를 프로세스 안에서 돌리는 벤치마크용 조립체 (외부 Postgres/RabbitMQ/Redis 없음)
+ * - JobService.requestJob → outbox_event → OutboxRelay → 큐 → 가짜 워커(결과 echo) → 결과 consumer → applyResult(s)
+ * - 실제 코드: JobService, OutboxRelay, JobResultsConsumer / JobResultsBatchConsumer
+ * - 대체(in-memory): job_task/outbox_event 저장소, RabbitMQ(큐 2개 + publisher confirm 즉시 ack), Redis(멱등 키),
+ *   트랜잭션(pass-through), content 반영
+ * - 상태 캐시/SSE 발행/회사별 상한은 끈다 (Redis I/O라 이 벤치마크 범위 밖)
+ * - 측정 대상은 서비스 코드 경로의 비용과 동시성 병목. DB/브로커 I/O 지연은 포함하지 않는다
+ */
+final class LocalJobPipeline implements AutoCloseable {
+
+    private static final String JOBS_QUEUE = "chillgram.jobs";
+    private static final String RESULT_QUEUE = "chillgram.job-results";
+    private static final String DEAD_LETTER_QUEUE = "chillgram.job-results.dlq";
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final InMemoryJobTasks jobTasks = new InMemoryJobTasks(om);
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final InMemoryBroker broker = new InMemoryBroker();
+    private final InMemoryIdempotencyStore idempotencyStore = new InMemoryIdempotencyStore();
+    private final JobService jobService;
+    private final AtomicLong seq = new AtomicLong();
+    private final List<ExecutorService> pools = new ArrayList<>();
+    private final Disposable relayLoop;
+
+    /**
+     * @param batchResults  true면 JobResultsBatchConsumer(기본 모드), false면 JobResultsConsumer
+     * @param consumers     결과 consumer 스레드 수 (listener container concurrency)
+     * @param workers       가짜 워커 스레드 수
+     * @param workDelay     워커 1건 처리 시간 (0이면 바로 echo)
+     */
+    LocalJobPipeline(boolean batchResults, int consumers, int workers, Duration workDelay) {
+        TransactionalOperator tx = new PassThroughTx();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GcsFileStorage gcs = new GcsFileStorage(null, "bench", "https://storage.example.com",
+                new GcsUploadProperties(null, null, null, null), null, null);
+
+        jobService = new JobService(
+                jobTasks, outbox, tx, om, JOBS_QUEUE,
+                new NoOpContentService(),
+                null,
+                gcs,
+                new EchoSideEffects(),
+                new SilentEvents(om),
+                new JobStatusCache(null, false, Duration.ZERO, Duration.ZERO),
+                new JobLaneProperties(false, null, null, null),
+                new NoOpTenantLimiter(),
+                idempotencyStore);
+
+        // relay: insert 알림(pg_notify 대신 sink)마다 drain, 처리 중 알림은 1개로 합친다 (OutboxRelay.start와 동일)
+        OutboxRelay relay = new OutboxRelay(outbox, tx, broker, new R2dbcProperties(), registry,
+                100, Duration.ofSeconds(5), Duration.ofSeconds(5), false);
+        relayLoop = outbox.wakeUps.asFlux()
+                .onBackpressureLatest()
+                .concatMap(tick -> relay.drain().onErrorResume(e -> Mono.empty()), 1)
+                .subscribe();
+
+        startWorkers(workers, workDelay);
+        if (batchResults) {
+            JobResultsBatchConsumer consumer = new JobResultsBatchConsumer(om, jobService, broker, registry,
+                    DEAD_LETTER_QUEUE, Duration.ofSeconds(30));
+            Channel channel = noOpChannel();
+            startConsumers(consumers, RESULT_QUEUE, 100, batch -> {
+                try {
+                    consumer.onMessages(batch, channel);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } else {
+            JobResultsConsumer consumer = new JobResultsConsumer(om, jobService);
+            startConsumers(consumers, RESULT_QUEUE, 1, batch -> {
+                try {
+                    consumer.onMessage(new String(batch.get(0).getBody(), StandardCharsets.UTF_8));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * job 1건 요청 → 결과가 job_task에 반영될 때까지 대기
+     */
+    void roundTrip(Duration timeout) throws Exception {
+        long n = seq.incrementAndGet();
+        ObjectNode payload = om.createObjectNode();
+        payload.put("contentId", n);
+        payload.put("prompt", "bench-" + n);
+
+        UUID jobId = jobService.requestJob(1L, new CreateJobRequest(JobType.SNS, payload), null)
+                .block(timeout);
+        jobTasks.completion(Objects.requireNonNull(jobId)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 측정 회차 사이에 쌓인 job 정리 (진행 중인 job이 없을 때만 호출)
+     */
+    void reset() {
+        jobTasks.clear();
+        idempotencyStore.clear();
+    }
+
+    @Override
+    public void close() {
+        relayLoop.dispose();
+        pools.forEach(ExecutorService::shutdownNow);
+    }
+
+    private void startWorkers(int workers, Duration workDelay) {
+        BlockingQueue<Message> jobs = broker.queue(JOBS_QUEUE);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        pools.add(pool);
+        for (int i = 0; i < workers; i++) {
+            pool.submit(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Message m = jobs.take();
+                    JsonNode event = om.readTree(m.getBody());
+                    if (!workDelay.isZero()) {
+                        Thread.sleep(workDelay.toMillis());
+                    }
+                    ObjectNode result = om.createObjectNode();
+                    result.put("jobId", event.path("jobId").asText());
+                    result.put("success", true);
+                    result.put("outputUri", "https://storage.example.com/out/" + event.path("jobId").asText() + ".png");
+                    broker.send("", RESULT_QUEUE, MessageBuilder.withBody(om.writeValueAsBytes(result)).build());
+                }
+                return null;
+            });
+        }
+    }
+
+    private void startConsumers(int consumers, String queueName, int batchSize, Consumer<List<Message>> listener) {
+        BlockingQueue<Message> queue = broker.queue(queueName);
+        ExecutorService pool = Executors.newFixedThreadPool(consumers);
+        pools.add(pool);
+        AtomicLong deliveryTag = new AtomicLong();
+        for (int i = 0; i < consumers; i++) {
+            pool.submit(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    List<Message> batch = new ArrayList<>(batchSize);
+                    batch.add(queue.take());
+                    queue.drainTo(batch, batchSize - 1);
+                    batch.forEach(m -> m.getMessageProperties().setDeliveryTag(deliveryTag.incrementAndGet()));
+                    try {
+                        listener.accept(batch);
+                    } catch (RuntimeException e) {
+                        // listener container와 같이 consumer 스레드는 계속 돈다 (해당 job은 roundTrip timeout으로 드러남)
+                        System.err.println("result consumer failed: " + e);
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    private static Channel noOpChannel() {
+        return (Channel) Proxy.newProxyInstance(Channel.class.getClassLoader(), new Class<?>[]{Channel.class},
+                (proxy, method, args) -> null);
+    }
+
+    /**
+     * job_task 대체: 키 unique 제약(idempotency_key, 진행 중 dedup_key)까지 흉내 낸다
+     */
+    static final class InMemoryJobTasks extends JobTaskRepository {
+
+        private final Map<UUID, JobResponse> rows = new ConcurrentHashMap<>();
+        private final Map<String, UUID> keys = new ConcurrentHashMap<>();
+        private final Map<UUID, CompletableFuture<Void>> done = new ConcurrentHashMap<>();
+
+        InMemoryJobTasks(ObjectMapper om) {
+            super(null, om);
+        }
+
+        CompletableFuture<Void> completion(UUID jobId) {
+            return done.computeIfAbsent(jobId, id -> new CompletableFuture<>());
+        }
+
+        void clear() {
+            rows.clear();
+            keys.clear();
+            done.clear();
+        }
+
+        @Override
+        public Flux<UUID> insertRequestedAll(List<NewJob> jobs, OffsetDateTime now) {
+            return Flux.defer(() -> {
+                List<UUID> inserted = new ArrayList<>(jobs.size());
+                for (NewJob j : jobs) {
+                    if (j.idempotencyKey() != null && keys.putIfAbsent("key:" + j.idempotencyKey(), j.jobId()) != null) {
+                        continue;
+                    }
+                    if (keys.putIfAbsent("dedup:" + j.dedupKey(), j.jobId()) != null) {
+                        continue;
+                    }
+                    rows.put(j.jobId(), new JobResponse(j.jobId(), j.projectId(), j.jobType(), JobStatus.REQUESTED,
+                            j.payload(), null, null, null, now, now));
+                    completion(j.jobId());
+                    inserted.add(j.jobId());
+                }
+                return Flux.fromIterable(inserted);
+            });
+        }
+
+        @Override
+        public Mono<UUID> findIdByKeys(String idempotencyKey, String dedupKey) {
+            return Mono.fromSupplier(() -> idempotencyKey != null && keys.containsKey("key:" + idempotencyKey)
+                    ? keys.get("key:" + idempotencyKey)
+                    : keys.get("dedup:" + dedupKey));
+        }
+
+        @Override
+        public Mono<JobResponse> findById(UUID jobId) {
+            return Mono.fromSupplier(() -> rows.get(jobId));
+        }
+
+        @Override
+        public Flux<JobResponse> findAllByIds(Collection<UUID> jobIds) {
+            return Flux.defer(() -> Flux.fromStream(jobIds.stream().map(rows::get).filter(Objects::nonNull)));
+        }
+
+        @Override
+        public Mono<Long> markSucceeded(UUID jobId, String outputUri, OffsetDateTime now) {
+            return Mono.fromSupplier(() -> finish(jobId, JobStatus.SUCCEEDED, outputUri, null, null, now));
+        }
+
+        @Override
+        public Mono<Long> markFailed(UUID jobId, String errorCode, String errorMessage, OffsetDateTime now) {
+            return Mono.fromSupplier(() -> finish(jobId, JobStatus.FAILED, null, errorCode, errorMessage, now));
+        }
+
+        @Override
+        public Mono<Long> markSucceededAll(List<UUID> jobIds, List<String> outputUris, OffsetDateTime now) {
+            return Mono.fromSupplier(() -> {
+                long n = 0;
+                for (int i = 0; i < jobIds.size(); i++) {
+                    n += finish(jobIds.get(i), JobStatus.SUCCEEDED, outputUris.get(i), null, null, now);
+                }
+                return n;
+            });
+        }
+
+        @Override
+        public Mono<Long> markFailedAll(List<UUID> jobIds, List<String> errorCodes, List<String> errorMessages,
+                                        OffsetDateTime now) {
+            return Mono.fromSupplier(() -> {
+                long n = 0;
+                for (int i = 0; i < jobIds.size(); i++) {
+                    n += finish(jobIds.get(i), JobStatus.FAILED, null, errorCodes.get(i), errorMessages.get(i), now);
+                }
+                return n;
+            });
+        }
+
+        private long finish(UUID jobId, JobStatus status, String outputUri, String errorCode, String errorMessage,
+                            OffsetDateTime now) {
+            // update ... where status in (REQUESTED, RUNNING) 와 같이 이미 끝난 job은 건드리지 않는다
+            AtomicBoolean changed = new AtomicBoolean();
+            rows.computeIfPresent(jobId, (id, j) -> {
+                if (j.status().isDone()) {
+                    return j;
+                }
+                changed.set(true);
+                return new JobResponse(id, j.projectId(), j.jobType(), status, j.payload(), outputUri, errorCode,
+                        errorMessage, j.requestedAt(), now);
+            });
+            if (!changed.get()) {
+                return 0;
+            }
+            completion(jobId).complete(null);
+            return 1;
+        }
+    }
+
+    /**
+     * outbox_event 대체: insert 시 wakeUps로 알림 (pg_notify 대신)
+     */
+    static final class InMemoryOutbox extends OutboxEventRepository {
+
+        private final ConcurrentLinkedQueue<OutboxEvent> pending = new ConcurrentLinkedQueue<>();
+        private final Sinks.Many<Object> wakeUps = Sinks.many().multicast().directBestEffort();
+
+        InMemoryOutbox() {
+            super(null);
+        }
+
+        @Override
+        public Mono<Void> insertOutbox(UUID id, String aggregateType, UUID aggregateId, String eventType,
+                                       String routingKey, JsonNode payload, OffsetDateTime now) {
+            return insertOutboxAll(aggregateType, eventType, List.of(id), List.of(aggregateId), List.of(routingKey),
+                    List.of(payload), now);
+        }
+
+        @Override
+        public Mono<Void> insertOutboxAll(String aggregateType, String eventType, List<UUID> ids,
+                                          List<UUID> aggregateIds, List<String> routingKeys, List<JsonNode> payloads,
+                                          OffsetDateTime now) {
+            return Mono.fromRunnable(() -> {
+                for (int i = 0; i < ids.size(); i++) {
+                    pending.add(new OutboxEvent(ids.get(i), aggregateIds.get(i), eventType, routingKeys.get(i),
+                            payloads.get(i).toString()));
+                }
+                wakeUps.emitNext(Boolean.TRUE, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+            });
+        }
+
+        @Override
+        public Flux<OutboxEvent> claimUnpublished(int limit) {
+            return Flux.defer(() -> {
+                List<OutboxEvent> claimed = new ArrayList<>(limit);
+                OutboxEvent e;
+                while (claimed.size() < limit && (e = pending.poll()) != null) {
+                    claimed.add(e);
+                }
+                return Flux.fromIterable(claimed);
+            });
+        }
+
+        @Override
+        public Mono<Long> markPublished(List<UUID> ids, OffsetDateTime now) {
+            return Mono.just((long) ids.size());
+        }
+    }
+
+    /**
+     * RabbitMQ 대체: default exchange(routing key = 큐 이름) + publisher confirm 즉시 ack
+     */
+    static final class InMemoryBroker extends RabbitTemplate {
+
+        private final Map<String, BlockingQueue<Message>> queues = new ConcurrentHashMap<>();
+
+        BlockingQueue<Message> queue(String name) {
+            return queues.computeIfAbsent(name, n -> new LinkedBlockingQueue<>());
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message) {
+            send(exchange, routingKey, message, null);
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            queue(routingKey).add(new Message(message.getBody(), copy(message.getMessageProperties())));
+            if (correlationData != null) {
+                correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+            }
+        }
+
+        private static MessageProperties copy(MessageProperties source) {
+            MessageProperties props = new MessageProperties();
+            props.setContentType(source.getContentType());
+            props.setMessageId(source.getMessageId());
+            source.getHeaders().forEach(props::setHeader);
+            return props;
+        }
+    }
+
+    /**
+     * Redis 대체 (TTL 없음, reset 때 비운다)
+     */
+    static final class InMemoryIdempotencyStore extends JobIdempotencyStore {
+
+        private final Map<String, UUID> keys = new ConcurrentHashMap<>();
+
+        InMemoryIdempotencyStore() {
+            super(null, Duration.ZERO);
+        }
+
+        @Override
+        public Mono<UUID> find(String idempotencyKey) {
+            return Mono.justOrEmpty(idempotencyKey == null ? null : keys.get(idempotencyKey));
+        }
+
+        @Override
+        public Mono<Map<Integer, UUID>> findAll(List<String> idempotencyKeys) {
+            return Flux.range(0, idempotencyKeys.size())
+                    .flatMap(i -> find(idempotencyKeys.get(i)).map(id -> Map.entry(i, id)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+        }
+
+        @Override
+        public Mono<Void> remember(String idempotencyKey, UUID jobId) {
+            return Mono.fromRunnable(() -> {
+                if (idempotencyKey != null) keys.put(idempotencyKey, jobId);
+            });
+        }
+
+        void clear() {
+            keys.clear();
+        }
+    }
+
+    static final class NoOpTenantLimiter extends TenantJobLimiter {
+
+        NoOpTenantLimiter() {
+            super(null, new JobLaneProperties(false, null, null, null));
+        }
+
+        @Override
+        public Mono<Void> release(UUID jobId) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> releaseAll(Collection<UUID> jobIds) {
+            return Mono.empty();
+        }
+    }
+
+    static final class SilentEvents extends JobEventBroadcaster {
+
+        SilentEvents(ObjectMapper om) {
+            super(null, om, "bench");
+        }
+
+        @Override
+        public Mono<Void> publish(JobStatusEvent event) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> publishAll(Iterable<JobStatusEvent> events) {
+            return Mono.empty();
+        }
+    }
+
+    /**
+     * content 반영 대체: 항상 반영된 것으로 본다
+     */
+    static final class NoOpContentService extends ContentService {
+
+        NoOpContentService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public Mono<Void> applyMediaResult(Long contentId, String gcsUrl) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> markContentFailed(Long contentId) {
+            return Mono.empty();
+        }
+    }
+
+    static final class EchoSideEffects extends JobSideEffectRepository {
+
+        EchoSideEffects() {
+            super(null);
+        }
+
+        @Override
+        public Flux<Long> applyContentMedia(List<Long> contentIds, List<String> urls, List<Integer> bannerRatios) {
+            return Flux.fromIterable(contentIds);
+        }
+
+        @Override
+        public Flux<Long> applyContentMockup(List<Long> contentIds, List<String> urls, LocalDateTime now) {
+            return Flux.fromIterable(contentIds);
+        }
+
+        @Override
+        public Flux<Long> applyProjectMockup(List<Long> projectIds, List<String> urls, LocalDateTime now) {
+            return Flux.fromIterable(projectIds);
+        }
+    }
+
+    /**
+     * 트랜잭션 대체: 그대로 실행 (커밋 후 콜백은 JobService가 트랜잭션 밖으로 보고 바로 실행)
+     */
+    static final class PassThroughTx implements TransactionalOperator {
+
+        @Override
+        public <T> Mono<T> transactional(Mono<T> mono) {
+            return mono;
+        }
+
+        @Override
+        public <T> Flux<T> execute(TransactionCallback<T> action) {
+            return Flux.from(action.doInTransaction(null));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.AdGuidesResponse;
+import com.example.chillgram.domain.ai.dto.FinalCopyResponse;
+import com.example.chillgram.domain.ai.dto.VisualGuideOption;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 벤치마크 기준선: LlmResponseParser 도입 전 AdCopyService의 정규식 파서 (동작 그대로 보존)
+ * - 호출마다 Pattern.compile, 키마다 패턴 생성
+ * - 로그 호출만 제거
+ */
+final class LegacyRegexParsers {
+
+    private LegacyRegexParsers() {
+    }
+
+    static AdGuidesResponse parseAdGuidesResponse(String response) {
+        List<AdGuidesResponse.GuidelineOption> guides = new ArrayList<>();
+        String clean = (response == null ? "" : response).replaceAll("\\*\\*", "");
+
+        Matcher blockMatcher = Pattern.compile("(?s)\\[GUIDE_START\\](.*?)\\[GUIDE_END\\]").matcher(clean);
+
+        int index = 1;
+        String recommendedId = null;
+        int highestScore = -1;
+
+        while (blockMatcher.find()) {
+            String block = blockMatcher.group(1);
+
+            String id = extractValue(block, "ID");
+            if (id.isBlank())
+                id = "guide-" + index;
+            String title = extractValue(block, "Title");
+            String summary = extractValue(block, "Summary");
+            String badge = extractValue(block, "Badge");
+            int score;
+            try {
+                score = Integer.parseInt(extractValue(block, "Score").replaceAll("[^0-9]", ""));
+            } catch (NumberFormatException e) {
+                score = 50;
+            }
+            String rationale = extractValue(block, "Rationale");
+
+            Map<String, Object> keyPoints = new HashMap<>();
+            String tone = extractValue(block, "Tone");
+            String structure = extractValue(block, "Structure");
+            String cta = extractValue(block, "CTA");
+            if (!tone.isBlank())
+                keyPoints.put("tone", List.of(tone));
+            if (!structure.isBlank())
+                keyPoints.put("structure", structure);
+            if (!cta.isBlank())
+                keyPoints.put("cta", cta);
+
+            guides.add(new AdGuidesResponse.GuidelineOption(id, title, summary, badge, score, rationale, keyPoints));
+
+            if (score > highestScore) {
+                highestScore = score;
+                recommendedId = id;
+            }
+            index++;
+        }
+
+        if (guides.isEmpty()) {
+            guides.add(new AdGuidesResponse.GuidelineOption(
+                    "guide-1", "가이드라인", clean.trim(), "", 50, "", Map.of()));
+            recommendedId = "guide-1";
+        }
+
+        return new AdGuidesResponse(recommendedId, guides);
+    }
+
+    static FinalCopyResponse parseFinalCopyResponse(String response) {
+        List<FinalCopyResponse.CopyOption> copies = new ArrayList<>();
+        String clean = (response == null ? "" : response).replaceAll("\\*\\*", "");
+
+        Matcher blockMatcher = Pattern.compile("(?s)\\[COPY_START\\](.*?)\\[COPY_END\\]").matcher(clean);
+
+        int index = 1;
+        while (blockMatcher.find()) {
+            String block = blockMatcher.group(1);
+            String id = "copy-" + index;
+            String title = extractValue(block, "Title");
+            Matcher bodyMatcher = Pattern.compile("(?s)Body\\s*:\\s*(.*?)$").matcher(block.trim());
+            String body = bodyMatcher.find() ? bodyMatcher.group(1).trim() : "";
+
+            copies.add(new FinalCopyResponse.CopyOption(id, title, body));
+            index++;
+        }
+
+        if (copies.isEmpty()) {
+            copies.add(new FinalCopyResponse.CopyOption("copy-1", "광고 카피", clean.trim()));
+        }
+
+        String recommendedId = copies.get(0).id();
+        return new FinalCopyResponse(recommendedId, copies);
+    }
+
+    static String extractValue(String block, String key) {
+        Pattern pattern = Pattern.compile("(?i)" + Pattern.quote(key) + ":?\\s*([^\n]+)");
+        Matcher matcher = pattern.matcher(block);
+        return matcher.find() ? matcher.group(1).trim() : "";
+    }
+
+    static List<VisualGuideOption> parseVisualGuides(String response) {
+        List<VisualGuideOption> options = new ArrayList<>();
+        String clean = (response == null ? "" : response).replaceAll("\\*\\*", "");
+        String[] blocks = clean.split("\\[OPTION\\s+\\d+\\]");
+
+        int id = 1;
+        for (String block : blocks) {
+            if (block.isBlank())
+                continue;
+            String product = extractGuideField(block, "제품");
+            String place = extractGuideField(block, "장소");
+            String effect = extractGuideField(block, "역동적 효과");
+            String texture = extractGuideField(block, "글자 재질");
+            String style = extractGuideField(block, "스타일");
+
+            if (!product.isEmpty() || !place.isEmpty()) {
+                options.add(new VisualGuideOption(id++, product, place, effect, texture, style));
+            }
+        }
+        return options;
+    }
+
+    static String extractGuideField(String block, String key) {
+        Pattern p = Pattern.compile("(?s)(?:" + key + ")\\s*:\\s*(.*?)(?=\\n(?:제품|장소|역동적 효과|글자 재질|스타일)\\s*:|$)");
+        Matcher m = p.matcher(block);
+        return m.find() ? m.group(1).trim() : "";
+    }
+
+    static List<String> parseCopyVariations(String response) {
+        if (response == null)
+            return List.of();
+        String clean = response.replaceAll("\\*\\*", "");
+
+        List<String> copies = new ArrayList<>();
+        Matcher m = Pattern.compile("\\[COPY\\s+\\d+\\]\\s*(.*?)(?=\\[COPY|$)", Pattern.DOTALL).matcher(clean);
+
+        while (m.find()) {
+            copies.add(m.group(1).trim());
+        }
+
+        if (copies.isEmpty()) {
+            // Fallback: 줄바꿈으로 시도 (thinking 잔여 텍스트 필터링)
+            String[] lines = clean.split("\n");
+            for (String line : lines) {
+                String l = line.replaceAll("^\\d+[.\\)]\\s*", "").replaceAll("^-\\s*", "").trim();
+                if (!l.isBlank() && l.length() > 5 && !l.toLowerCase().startsWith("okay")
+                        && !l.toLowerCase().startsWith("my thought"))
+                    copies.add(l);
+            }
+        }
+
+        return copies;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.chillgram.domain.ai.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 응답 파서 벤치마크: 기존 정규식 경로(LegacyRegexParsers) vs 단일 패스(LlmResponseParser)
+ * - 입력: src/jmh/resources/llm-responses/*.txt (Gemini 응답 포맷 그대로)
+ * - 실행: ./gradlew jmh  (기본으로 -prof gc 포함 → gc.alloc.rate.norm 로 호출당 할당 바이트 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LlmResponseParserBenchmark {
+
+    private String adGuides;
+    private String finalCopies;
+    private String visualGuides;
+    private String copyVariations;
+
+    @Setup(Level.Trial)
+    public void load() {
+        adGuides = fixture("ad-guides.txt");
+        finalCopies = fixture("final-copies.txt");
+        visualGuides = fixture("visual-guides.txt");
+        copyVariations = fixture("copy-variations.txt");
+    }
+
+    @Benchmark
+    public Object adGuidesRegex() {
+        return LegacyRegexParsers.parseAdGuidesResponse(adGuides);
+    }
+
+    @Benchmark
+    public Object adGuidesSinglePass() {
+        return LlmResponseParser.parseAdGuides(adGuides);
+    }
+
+    @Benchmark
+    public Object finalCopiesRegex() {
+        return LegacyRegexParsers.parseFinalCopyResponse(finalCopies);
+    }
+
+    @Benchmark
+    public Object finalCopiesSinglePass() {
+        return LlmResponseParser.parseFinalCopies(finalCopies);
+    }
+
+    @Benchmark
+    public Object visualGuidesRegex() {
+        return LegacyRegexParsers.parseVisualGuides(visualGuides);
+    }
+
+    @Benchmark
+    public Object visualGuidesSinglePass() {
+        return LlmResponseParser.parseVisualGuides(visualGuides);
+    }
+
+    @Benchmark
+    public Object copyVariationsRegex() {
+        return LegacyRegexParsers.parseCopyVariations(copyVariations);
+    }
+
+    @Benchmark
+    public Object copyVariationsSinglePass() {
+        return LlmResponseParser.parseCopyVariations(copyVariations);
+    }
+
+    static String fixture(String name) {
+        try (InputStream in = LlmResponseParserBenchmark.class.getResourceAsStream("/llm-responses/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,23 +1,85 @@
 package com.example.chillgram.common.config;
 
+import com.example.chillgram.domain.ai.config.AiLimiterProperties;
+import com.example.chillgram.domain.ai.service.AiUsageAdvisor;
+import com.example.chillgram.domain.ai.service.GeminiSseChatModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.ai.model.google.genai.autoconfigure.chat.GoogleGenAiChatProperties;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 @ConditionalOnProperty(name = "spring.ai.enabled", havingValue = "TRUE")
 public class AiConfig {
 
     @Bean
+    @Primary
     public ChatClient chatClient(
             ChatClient.Builder builder,
+            AiUsageAdvisor usageAdvisor,
             @Value("${spring.ai.google.genai.api-key:}") String apiKey
     ) {
+        checkApiKey(apiKey);
+        return builder.defaultAdvisors(usageAdvisor).build();
+    }
+
+    /**
+     * Gemini SSE를 WebClient로 받는 non-blocking ChatClient (AdCopyService의 Mono/Flux API 전용)
+     * - responseTimeout은 첫 응답 헤더까지, 청크 간 대기는 Gemini 쪽 생성 속도에 맡긴다
+     * - 동시 호출 수는 AiCallLimiter가 maxLimit 이하로 막으므로 커넥션 풀도 같은 크기로 둔다
+     * - 기본 옵션은 기본 ChatClient와 같은 spring.ai.google.genai.chat.options.* (요청별 옵션이 덮어씀)
+     */
+    @Bean("reactiveChatClient")
+    @ConditionalOnProperty(name = "app.ai.reactive.enabled", havingValue = "true", matchIfMissing = true)
+    public ChatClient reactiveChatClient(
+            WebClient.Builder builder,
+            ObjectMapper objectMapper,
+            AiUsageAdvisor usageAdvisor,
+            AiLimiterProperties limiterProps,
+            GoogleGenAiChatProperties chatProperties,
+            @Value("${spring.ai.google.genai.api-key:}") String apiKey,
+            @Value("${app.ai.reactive.base-url:https://generativelanguage.googleapis.com/v1beta}") String baseUrl,
+            @Value("${app.ai.reactive.response-timeout:60s}") Duration responseTimeout
+    ) {
+        checkApiKey(apiKey);
+        ConnectionProvider pool = ConnectionProvider.builder("gemini-sse")
+                .maxConnections(limiterProps.maxLimit())
+                .build();
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2000)
+                .responseTimeout(responseTimeout);
+
+        WebClient webClient = builder.clone()
+                .baseUrl(baseUrl)
+                .defaultHeader("x-goog-api-key", apiKey)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        GoogleGenAiChatOptions defaults = chatProperties.getOptions().copy();
+        if (defaults.getModel() == null) {
+            defaults.setModel(GoogleGenAiChatProperties.DEFAULT_MODEL);
+        }
+
+        return ChatClient.builder(new GeminiSseChatModel(webClient, objectMapper, defaults))
+                .defaultAdvisors(usageAdvisor)
+                .build();
+    }
+
+    private static void checkApiKey(String apiKey) {
         if (apiKey == null || apiKey.isBlank() || "API_KEY".equals(apiKey)) {
             throw new IllegalStateException("GenAI API Key가 설정되지 않았습니다.");
         }
-        return builder.build();
     }
-}
\ No newline at end of file
+}
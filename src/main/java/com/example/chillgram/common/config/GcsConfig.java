@@ -1,15 +1,20 @@
 package com.example.chillgram.common.config;
 
+import com.example.chillgram.common.google.GcsUploadProperties;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(GcsUploadProperties.class)
 public class GcsConfig {
 
     @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "gcs", matchIfMissing = true)
     public Storage gcsStorage() {
         return StorageOptions.getDefaultInstance().getService();
     }
-}
\ No newline at end of file
+}
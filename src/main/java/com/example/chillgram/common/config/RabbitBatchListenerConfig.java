@@ -0,0 +1,40 @@
+package com.example.chillgram.common.config;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * job 결과 배치 소비용 listener container
+ * - 최대 batch-size건을 모아서(또는 receive-timeout 경과 시 모인 만큼) 한 번에 전달
+ * - ack는 listener가 직접 (배치 단위 ack + poison만 따로 격리)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jobs.result-batch.enabled", havingValue = "true", matchIfMissing = true)
+public class RabbitBatchListenerConfig {
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory jobResultsBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${app.jobs.result-batch.size:100}") int batchSize,
+            @Value("${app.jobs.result-batch.receive-timeout:200ms}") Duration receiveTimeout
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.chillgram.common.config;
 
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Arrays;
+
 @Configuration
 public class RabbitQueuesConfig {
 
@@ -14,9 +20,25 @@ public class RabbitQueuesConfig {
         return QueueBuilder.durable(q).build();
     }
 
+    // 배치 소비 시 재시도해도 실패하는 결과 메시지만 격리 (기존 결과 큐 인자는 건드리지 않음)
+    @Bean
+    public Queue jobResultsDeadLetterQueue(@Value("${app.jobs.result-dead-letter-queue}") String q) {
+        return QueueBuilder.durable(q).build();
+    }
+
     // [Fix] Worker로 보내는 큐도 선언 필요 (Default Exchange 사용 시 필수)
     @Bean
     public Queue jobsQueue(@Value("${app.jobs.routing-key}") String q) {
         return QueueBuilder.durable(q).build();
     }
-}
\ No newline at end of file
+
+    // lane 큐: {routing-key}.{lane}.{type} (JobType별 1개, 워커는 lane별로 consumer 수를 따로 둔다)
+    @Bean
+    @ConditionalOnProperty(name = "app.jobs.lanes.enabled", havingValue = "true")
+    public Declarables jobLaneQueues(@Value("${app.jobs.routing-key}") String base, JobLaneProperties lanes) {
+        return new Declarables(Arrays.stream(JobType.values())
+                .filter(JobType::usesWorker)
+                .map(type -> QueueBuilder.durable(lanes.routingKey(base, type)).build())
+                .toList());
+    }
+}
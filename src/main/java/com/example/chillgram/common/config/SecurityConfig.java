@@ -79,6 +79,11 @@ public class SecurityConfig {
                     // Product API 인증 필수
                     ex.pathMatchers("/api/products/**").authenticated();
 
+                    // 파일 프록시 (비공개 버킷) 인증 필수 + 객체 단위 서명 URL (FileHandler)
+                    ex.pathMatchers("/api/files/**").authenticated();
+                    // 로컬 저장소 공개 URL (app.storage.type=local, 개발용)
+                    ex.pathMatchers(HttpMethod.GET, "/local-storage/**").permitAll();
+
                     ex.pathMatchers(HttpMethod.GET, "/api/**").permitAll();
 
                     if (isProd) {
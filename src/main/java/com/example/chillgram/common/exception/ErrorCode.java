@@ -33,6 +33,7 @@ public enum ErrorCode {
     AD_GUIDE_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "광고 가이드 생성에 실패했습니다."),
     JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다."),
     JOB_ALREADY_FINISHED(HttpStatus.CONFLICT, "이미 종료된 작업입니다."),
+    JOB_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     AD_COPY_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "광고 문구 생성에 실패했습니다."),
     AD_GUIDE_REQUIRED(HttpStatus.BAD_REQUEST, "guideId는 필수입니다."),
@@ -1,25 +1,28 @@
 package com.example.chillgram.common.google;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.io.InputStream;
+
 @Service
 public class BasicImageManifestService {
 
-    private final GcsFileStorage gcs;
+    private final FileStorage gcs;
     private final ObjectMapper om;
 
-    public BasicImageManifestService(GcsFileStorage gcs, ObjectMapper om) {
+    public BasicImageManifestService(FileStorage gcs, ObjectMapper om) {
         this.gcs = gcs;
         this.om = om;
     }
 
     public Mono<BasicImageManifest> readManifest(String manifestGsUri) {
-        return gcs.fetchBytes(manifestGsUri)
-                .map(bytes -> {
-                    try {
-                        return om.readValue(bytes, BasicImageManifest.class);
+        return DataBufferUtils.join(gcs.read(manifestGsUri))
+                .map(buffer -> {
+                    try (InputStream in = buffer.asInputStream(true)) {
+                        return om.readValue(in, BasicImageManifest.class);
                     } catch (Exception e) {
                         throw new RuntimeException("manifest json parse failed", e);
                     }
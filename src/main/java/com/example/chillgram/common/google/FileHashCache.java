@@ -0,0 +1,62 @@
+package com.example.chillgram.common.google;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * file_object 앞단 존재 캐시 (Redis)
+ * - 키 규칙: file:sha256:{scope}:{sha256} (값 "1", TTL gcs.upload.dedup.cache-ttl)
+ * - 없음 → DB 조회 없이 바로 업로드 (대부분의 업로드는 새 내용이라 DB 왕복 1번을 아낀다)
+ *   있음 → DB에서 참조 +1 시도 (행이 이미 지워졌으면 업로드로 진행)
+ * - 정확성은 DB가 책임진다: 캐시가 비어 중복 업로드가 생겨도 register가 기존 객체를 돌려주고 새 객체는 지운다
+ * - Redis 장애 시 "있음"으로 보고 DB로 판단
+ */
+@Slf4j
+@Component
+public class FileHashCache {
+
+    private static final String PREFIX = "file:sha256:";
+
+    private final ReactiveStringRedisTemplate redis;
+    private final Duration ttl;
+
+    public FileHashCache(ReactiveStringRedisTemplate redis, GcsUploadProperties props) {
+        this.redis = redis;
+        this.ttl = props.dedup().cacheTtl();
+    }
+
+    public Mono<Boolean> mightContain(String scope, String sha256) {
+        return redis.hasKey(key(scope, sha256))
+                .defaultIfEmpty(true)
+                .onErrorResume(e -> {
+                    log.warn("파일 해시 캐시 조회 실패, DB로 진행. err={}", e.toString());
+                    return Mono.just(true);
+                });
+    }
+
+    public Mono<Void> remember(String scope, String sha256) {
+        return redis.opsForValue().set(key(scope, sha256), "1", ttl)
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("파일 해시 캐시 저장 실패. sha256={}, err={}", sha256, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> forget(String scope, String sha256) {
+        return redis.delete(key(scope, sha256))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("파일 해시 캐시 삭제 실패 (TTL 만료 시 정리). sha256={}, err={}", sha256, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private static String key(String scope, String sha256) {
+        return PREFIX + scope + ":" + sha256;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.chillgram.common.google;
+
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * file_object (업로드 내용 해시 → GCS 객체, 참조 수)
+ * - 키: (scope, sha256). scope = 객체 이름의 첫 경로(gcs.upload.dedup.scopes에 있는 것만, 기본 qna)
+ *   → 같은 내용이라도 prefix가 다르면 공유하지 않는다 (prefix별 lifecycle rule이 다른 객체를 지우지 않게)
+ * - ref_count: 이 객체를 돌려받은 업로드 수. delete(uri)마다 1 감소, 0이 되면 행 삭제 후 객체 삭제
+ * - 색인에 없는 객체(기능 켜기 전 업로드 등)는 기존처럼 바로 삭제
+ * - 스키마: db/migration/V5__file_object.sql
+ */
+@Repository
+public class FileObjectRepository {
+
+    private final DatabaseClient db;
+
+    public FileObjectRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /**
+     * 색인된 객체
+     */
+    public record FileObject(String gsUri, String mimeType, long fileSize) {
+    }
+
+    /**
+     * delete(uri) 결과
+     *
+     * @param deleteObject 객체를 지워도 되면 true (색인에 없거나 마지막 참조)
+     * @param scope        마지막 참조로 행이 지워졌을 때만 값 있음
+     * @param sha256       마지막 참조로 행이 지워졌을 때만 값 있음
+     */
+    public record Released(boolean deleteObject, String scope, String sha256) {
+    }
+
+    /**
+     * 같은 내용이 있으면 참조 +1 후 반환, 없으면 empty
+     */
+    public Mono<FileObject> acquire(String scope, String sha256) {
+        return db.sql("""
+                update file_object set ref_count = ref_count + 1
+                where scope = :scope and sha256 = :sha256
+                returning gs_uri, mime_type, file_size
+                """)
+                .bind("scope", scope)
+                .bind("sha256", sha256)
+                .map((row, meta) -> toFileObject(row))
+                .first();
+    }
+
+    /**
+     * 방금 올린 객체 등록 (참조 1). 동시에 같은 내용이 먼저 등록됐으면 그쪽 참조 +1 후 그 객체를 반환
+     * → 반환값의 gsUri가 올린 객체와 다르면 호출 측이 올린 객체를 지운다
+     */
+    public Mono<FileObject> register(String scope, String sha256, FileObject uploaded, OffsetDateTime now) {
+        return db.sql("""
+                insert into file_object (scope, sha256, gs_uri, mime_type, file_size, ref_count, created_at)
+                values (:scope, :sha256, :gsUri, :mimeType, :fileSize, 1, :now)
+                on conflict (scope, sha256) do update set ref_count = file_object.ref_count + 1
+                returning gs_uri, mime_type, file_size
+                """)
+                .bind("scope", scope)
+                .bind("sha256", sha256)
+                .bind("gsUri", uploaded.gsUri())
+                .bind("mimeType", uploaded.mimeType())
+                .bind("fileSize", uploaded.fileSize())
+                .bind("now", now)
+                .map((row, meta) -> toFileObject(row))
+                .one();
+    }
+
+    /**
+     * 참조 -1. 0 이하가 되면 행을 지운다
+     * - 감소와 삭제 사이에 다른 업로드가 acquire 하면 ref_count > 0 이라 행/객체가 남는다
+     */
+    public Mono<Released> release(String gsUri) {
+        return db.sql("""
+                update file_object set ref_count = ref_count - 1
+                where gs_uri = :gsUri
+                returning ref_count
+                """)
+                .bind("gsUri", gsUri)
+                .map((row, meta) -> row.get("ref_count", Integer.class))
+                .first()
+                .flatMap(left -> left > 0
+                        ? Mono.just(new Released(false, null, null))
+                        : db.sql("""
+                                delete from file_object
+                                where gs_uri = :gsUri and ref_count <= 0
+                                returning scope, sha256
+                                """)
+                        .bind("gsUri", gsUri)
+                        .map((row, meta) -> new Released(true,
+                                row.get("scope", String.class), row.get("sha256", String.class)))
+                        .first()
+                        .defaultIfEmpty(new Released(false, null, null)))
+                .defaultIfEmpty(new Released(true, null, null));
+    }
+
+    private static FileObject toFileObject(Row row) {
+        Long size = row.get("file_size", Long.class);
+        return new FileObject(
+                row.get("gs_uri", String.class),
+                row.get("mime_type", String.class),
+                size == null ? 0L : size);
+    }
+}
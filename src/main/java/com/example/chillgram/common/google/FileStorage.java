@@ -1,11 +1,15 @@
 package com.example.chillgram.common.google;
 
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.codec.multipart.FilePart;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * 파일 저장소 인터페이스 (GCS 등)
  * 여러 도메인에서 공통으로 사용
+ * - 구현 선택: app.storage.type=gcs(기본, GcsFileStorage) / local(LocalFileStorage, 로컬 디렉터리)
+ * - URI는 구현과 무관하게 gs://{bucket}/{object} 형태로 저장/조회
  */
 public interface FileStorage {
     Mono<StoredFile> store(FilePart filePart);
@@ -18,6 +22,11 @@ public interface FileStorage {
      */
     Mono<StoredFile> store(FilePart filePart, String folder);
 
+    /**
+     * 지정된 객체 이름으로 저장 (확장자가 없으면 원본 파일명/Content-Type에서 붙인다)
+     */
+    Mono<StoredFile> storeFixed(FilePart filePart, String objectName);
+
     record StoredFile(
             String fileUrl,
             String mimeType,
@@ -31,4 +40,50 @@ public interface FileStorage {
      * @param uri gs://... or https://... URL
      */
     Mono<Void> delete(String uri);
+
+    /**
+     * gs:// URI → 브라우저에서 열 수 있는 URL (http(s) URL이나 다른 버킷 URI는 그대로)
+     */
+    String toPublicUrl(String uri);
+
+    /**
+     * 버킷 내 객체 이름 → gs:// URI
+     */
+    String objectUri(String objectName);
+
+    /**
+     * gs:// URI / 공개 URL → 버킷 내 객체 이름 (objectUri의 역)
+     * - 설정 버킷이 아니거나 알 수 없는 형식이면 IllegalArgumentException
+     */
+    String objectName(String uri);
+
+    /**
+     * 객체 메타데이터 조회 (없으면 empty)
+     *
+     * @param uri gs://... or https://... URL
+     */
+    Mono<StoredObject> stat(String uri);
+
+    /**
+     * 객체 전체를 스트리밍으로 읽기 (메모리에 전부 올리지 않음)
+     */
+    Flux<DataBuffer> read(String uri);
+
+    /**
+     * 객체 일부를 스트리밍으로 읽기 (stat 시점의 generation 기준)
+     *
+     * @param offset 시작 바이트
+     * @param length 읽을 바이트 수 (음수면 끝까지)
+     */
+    Flux<DataBuffer> read(StoredObject object, long offset, long length);
+
+    /**
+     * @param generation 객체 버전 (없으면 null → 최신본)
+     */
+    record StoredObject(
+            String gsUri,
+            String contentType,
+            long size,
+            Long generation) {
+    }
 }
@@ -1,35 +1,108 @@
 package com.example.chillgram.common.google;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.net.URI;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.Instant;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCS 파일 저장소
+ * - 업로드(storeFixed): 기본은 스트리밍 (FilePart.content() → resumable WriteChannel, 임시 파일 없음)
+ *   · 업로드 1건의 heap 사용량 ≈ gcs.upload.chunk-size (+ 처리 중인 DataBuffer 1~2개), 파일 크기와 무관
+ *   · 버퍼는 쓰는 즉시 release, 다음 버퍼는 쓰기가 끝나야 요청 (backpressure)
+ *   · 실패/취소 시 WriteChannel을 close 하지 않는다 → 반쯤 올라간 객체가 생기지 않음 (resumable 세션은 GCS가 만료)
+ * - gcs.upload.streaming=false: 기존 방식 (임시 파일 → 전체 바이트 업로드)
+ * - gcs.upload.composite.enabled=true: threshold를 넘는 파일은 part로 나눠 병렬 업로드 후 서버 측 compose
+ *   · 앞부분 threshold 바이트를 먼저 읽고, 그 안에서 끝나면 단일 업로드
+ *   · part는 {object}.parts-{uuid}/{i} 임시 객체, compose 후(실패 시에도) 삭제
+ *   · 업로드 1건의 heap ≈ threshold + parallelism × partSize
+ * - gcs.upload.dedup.enabled=true: 내용(SHA-256) 기준 중복 제거 (FileObjectRepository 색인 + FileHashCache 앞단)
+ *   · maxBufferedSize 이하: 모아서 해시 → 같은 내용이 있으면 쓰지 않고 기존 StoredFile 반환 (참조 +1)
+ *   · 그보다 크면: 올리면서 해시 → 등록 시 이미 있으면 방금 올린 객체를 지우고 기존 StoredFile 반환
+ *   · delete(uri)는 참조 -1, 마지막 참조일 때만 객체 삭제
+ *   · 색인 장애 시 중복 제거 없이 업로드 결과를 그대로 반환
+ *   · gcs.upload.dedup.scopes에 있는 범위만 (lifecycle rule로 지워지는 tmp/mockuptmp는 빼야 색인이 stale해지지 않음)
+ * - app.storage.type=gcs(기본)일 때만 등록 (local이면 LocalFileStorage)
+ */
+@Slf4j
 @Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "gcs", matchIfMissing = true)
 public class GcsFileStorage implements FileStorage {
 
+        private static final int MAX_COMPOSE_SOURCES = 32;
+        private static final int READ_BUFFER_SIZE = 64 * 1024;
+
         private final Storage storage;
         private final String bucket; // expected bucket
         private final String publicBaseUrl; // e.g. https://storage.googleapis.com/<bucket>
+        private final boolean streaming;
+        private final int chunkSize;
+        private final GcsUploadProperties.Composite composite;
+        private final Scheduler compositeScheduler;
+        private final GcsUploadProperties.Dedup dedup;
+        private final FileObjectRepository fileObjects;
+        private final FileHashCache hashCache;
 
         public GcsFileStorage(
                         Storage storage,
                         @Value("${gcs.bucket}") String bucket,
-                        @Value("${gcs.publicBaseUrl}") String publicBaseUrl) {
+                        @Value("${gcs.publicBaseUrl}") String publicBaseUrl,
+                        GcsUploadProperties upload,
+                        FileObjectRepository fileObjects,
+                        FileHashCache hashCache) {
                 this.storage = storage;
                 this.bucket = bucket;
                 this.publicBaseUrl = stripTrailingSlash(publicBaseUrl);
+                this.streaming = upload.streaming();
+                this.chunkSize = alignChunkSize(upload.chunkSize());
+                this.composite = upload.composite();
+                this.compositeScheduler = composite.enabled()
+                                ? Schedulers.newBoundedElastic(composite.threads(),
+                                                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "gcs-composite")
+                                : null;
+                this.dedup = upload.dedup();
+                this.fileObjects = fileObjects;
+                this.hashCache = hashCache;
+        }
+
+        @PreDestroy
+        void shutdown() {
+                if (compositeScheduler != null) {
+                        compositeScheduler.dispose();
+                }
         }
 
         public String getPublicBaseUrl() {
@@ -43,95 +116,176 @@ public class GcsFileStorage implements FileStorage {
 
         @Override
         public Mono<StoredFile> store(FilePart filePart, String folder) {
-                String safeName = filePart.filename().replaceAll("[\\\\/\\r\\n]", "_");
-                String objectName = folder + "/" + Instant.now().toEpochMilli()
-                                + "_" + UUID.randomUUID().toString().replace("-", "")
-                                + "_" + safeName;
-
-                return storeFixed(filePart, objectName);
+                return storeFixed(filePart, ObjectNames.unique(filePart, folder));
         }
 
+        @Override
         public Mono<StoredFile> storeFixed(FilePart filePart, String objectName) {
-                String safeName = filePart.filename().replaceAll("[\\\\/\\r\\n]", "_");
+                String safeName = ObjectNames.safeName(filePart);
+                BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucket, ObjectNames.withExtension(filePart, objectName)))
+                                .setContentType(ObjectNames.contentType(filePart))
+                                .build();
 
-                // If objectName does not include an extension, try to preserve original file
-                // extension
-                String finalObjectName = objectName;
-                try {
-                        int lastSlash = objectName.lastIndexOf('/');
-                        int lastDot = objectName.lastIndexOf('.');
-                        boolean hasExt = lastDot > lastSlash;
-
-                        if (!hasExt) {
-                                // derive extension from original filename
-                                String filename = filePart.filename();
-                                String ext = null;
-
-                                if (filename != null) {
-                                        int fdot = filename.lastIndexOf('.');
-                                        if (fdot > -1 && fdot < filename.length() - 1) {
-                                                ext = filename.substring(fdot + 1).toLowerCase();
+                if (dedup.enabled() && dedup.scopes().contains(dedupScope(blobInfo.getName()))) {
+                        return dedupUpload(filePart.content(), blobInfo, safeName);
+                }
+                return upload(filePart.content(), blobInfo, safeName).map(size -> storedFile(blobInfo, size));
+        }
+
+        private Mono<Long> upload(Flux<DataBuffer> content, BlobInfo blobInfo, String safeName) {
+                if (composite.enabled()) {
+                        return compositeUpload(content, blobInfo);
+                }
+                return streaming
+                                ? streamUpload(content, blobInfo)
+                                : tempFileUpload(content, blobInfo, safeName);
+        }
+
+        private StoredFile storedFile(BlobInfo blobInfo, long size) {
+                return new StoredFile(
+                                publicBaseUrl + "/" + blobInfo.getName(),
+                                blobInfo.getContentType(),
+                                "gs://" + bucket + "/" + blobInfo.getName(),
+                                size);
+        }
+
+        /**
+         * 내용 해시 기준 중복 제거 업로드
+         */
+        private Mono<StoredFile> dedupUpload(Flux<DataBuffer> content, BlobInfo blobInfo, String safeName) {
+                String scope = dedupScope(blobInfo.getName());
+                int limit = (int) dedup.maxBufferedSize().toBytes();
+                return splitParts(content, limit, chunkSize)
+                                .switchOnFirst((first, parts) -> {
+                                        byte[] head = first.get();
+                                        if (head != null && head.length >= limit) {
+                                                // 큰 파일: 올리면서 해시 (part를 다시 DataBuffer로 감싸 기존 업로드 경로로)
+                                                MessageDigest digest = sha256();
+                                                Flux<DataBuffer> hashed = parts
+                                                                .doOnNext(digest::update)
+                                                                .map(DefaultDataBufferFactory.sharedInstance::wrap);
+                                                return upload(hashed, blobInfo, safeName)
+                                                                .flatMap(size -> register(scope,
+                                                                                HexFormat.of().formatHex(digest.digest()),
+                                                                                storedFile(blobInfo, size)));
                                         }
-                                }
+                                        byte[] bytes = head == null ? new byte[0] : head;
+                                        String sha256 = HexFormat.of().formatHex(sha256().digest(bytes));
+                                        return findExisting(scope, sha256)
+                                                        .switchIfEmpty(Mono.defer(() -> Mono.fromCallable(() -> {
+                                                                storage.create(blobInfo, bytes);
+                                                                return storedFile(blobInfo, bytes.length);
+                                                        })
+                                                                        .subscribeOn(Schedulers.boundedElastic())
+                                                                        .flatMap(stored -> register(scope, sha256, stored))));
+                                })
+                                .next();
+        }
 
-                                // fallback to content-type mapping
-                                if (ext == null) {
-                                        var ct = filePart.headers().getContentType();
-                                        if (ct != null) {
-                                                String subtype = ct.getSubtype();
-                                                if (subtype != null) {
-                                                        if (subtype.contains("svg"))
-                                                                ext = "svg";
-                                                        else if (subtype.contains("jpeg") || subtype.contains("jpg"))
-                                                                ext = "jpg";
-                                                        else if (subtype.contains("png"))
-                                                                ext = "png";
-                                                        else if (subtype.contains("webp"))
-                                                                ext = "webp";
-                                                        else
-                                                                ext = subtype.replaceAll("[^a-z0-9]", "");
-                                                }
+        /**
+         * 같은 내용이 색인돼 있으면 참조 +1 후 그 객체
+         */
+        private Mono<StoredFile> findExisting(String scope, String sha256) {
+                return hashCache.mightContain(scope, sha256)
+                                .filter(Boolean::booleanValue)
+                                .flatMap(hit -> fileObjects.acquire(scope, sha256))
+                                .map(this::storedFile)
+                                .onErrorResume(e -> {
+                                        log.warn("파일 색인 조회 실패, 업로드로 진행. sha256={}, err={}", sha256, e.toString());
+                                        return Mono.empty();
+                                });
+        }
+
+        /**
+         * 방금 올린 객체 등록. 먼저 등록된 같은 내용이 있으면 방금 올린 객체는 지우고 그쪽을 반환
+         */
+        private Mono<StoredFile> register(String scope, String sha256, StoredFile uploaded) {
+                FileObjectRepository.FileObject mine = new FileObjectRepository.FileObject(
+                                uploaded.gsUri(), uploaded.mimeType(), uploaded.fileSize());
+                return fileObjects.register(scope, sha256, mine, OffsetDateTime.now())
+                                .flatMap(winner -> {
+                                        Mono<Void> cache = hashCache.remember(scope, sha256);
+                                        if (winner.gsUri().equals(uploaded.gsUri())) {
+                                                return cache.thenReturn(uploaded);
                                         }
-                                }
+                                        return cache.then(deleteObject(uploaded.gsUri()))
+                                                        .thenReturn(storedFile(winner));
+                                })
+                                .onErrorResume(e -> {
+                                        log.warn("파일 색인 등록 실패, 중복 제거 없이 반환. uri={}, err={}", uploaded.gsUri(), e.toString());
+                                        return Mono.just(uploaded);
+                                });
+        }
 
-                                if (ext == null || ext.isBlank())
-                                        ext = "bin";
+        private StoredFile storedFile(FileObjectRepository.FileObject obj) {
+                return new StoredFile(toPublicUrl(obj.gsUri()), obj.mimeType(), obj.gsUri(), obj.fileSize());
+        }
 
-                                if (objectName.endsWith("/"))
-                                        finalObjectName = objectName + safeName;
-                                // append extension if not present
-                                else
-                                        finalObjectName = finalObjectName + "." + ext;
-                        }
-                } catch (Exception ignored) {
-                        finalObjectName = objectName;
+        /**
+         * 중복 제거 범위 = 객체 이름의 첫 경로 (prefix별 lifecycle rule이 다른 prefix 업로드를 지우지 않게)
+         */
+        static String dedupScope(String objectName) {
+                int slash = objectName.indexOf('/');
+                return slash < 0 ? "" : objectName.substring(0, slash);
+        }
+
+        private static MessageDigest sha256() {
+                try {
+                        return MessageDigest.getInstance("SHA-256");
+                } catch (NoSuchAlgorithmException e) {
+                        throw new IllegalStateException(e);
                 }
+        }
 
-                String actualObjectName = finalObjectName;
+        /**
+         * 업로드 스트림 → resumable WriteChannel (chunkSize 단위로 GCS에 전송)
+         *
+         * @return 업로드한 바이트 수
+         */
+        private Mono<Long> streamUpload(Flux<DataBuffer> content, BlobInfo blobInfo) {
+                return Mono.fromCallable(() -> {
+                        WriteChannel writer = storage.writer(blobInfo);
+                        writer.setChunkSize(chunkSize);
+                        return writer;
+                })
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .flatMap(writer -> content
+                                                // 블로킹 write는 boundedElastic에서, 대기 버퍼는 1개까지만
+                                                .publishOn(Schedulers.boundedElastic(), 1)
+                                                .reduce(0L, (total, buffer) -> total + write(writer, buffer))
+                                                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                                // close = 마지막 chunk 전송 + 객체 확정
+                                                .flatMap(total -> Mono.fromCallable(() -> {
+                                                        writer.close();
+                                                        return total;
+                                                }).subscribeOn(Schedulers.boundedElastic())));
+        }
 
+        private static long write(WriteChannel writer, DataBuffer buffer) {
+                long written = 0;
+                try (DataBuffer.ByteBufferIterator it = buffer.readableByteBuffers()) {
+                        while (it.hasNext()) {
+                                ByteBuffer bb = it.next();
+                                while (bb.hasRemaining()) {
+                                        written += writer.write(bb);
+                                }
+                        }
+                } catch (IOException e) {
+                        throw new UncheckedIOException("gcs stream upload failed", e);
+                } finally {
+                        DataBufferUtils.release(buffer);
+                }
+                return written;
+        }
+
+        private Mono<Long> tempFileUpload(Flux<DataBuffer> content, BlobInfo blobInfo, String safeName) {
                 return Mono.usingWhen(
                                 Mono.fromCallable(() -> Files.createTempFile("upload_", "_" + safeName))
                                                 .subscribeOn(Schedulers.boundedElastic()),
-                                temp -> filePart.transferTo(temp)
+                                temp -> DataBufferUtils.write(content, temp)
                                                 .then(Mono.fromCallable(() -> {
-                                                        BlobId blobId = BlobId.of(bucket, actualObjectName);
-                                                        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                                                                        .setContentType(
-                                                                                        filePart.headers()
-                                                                                                        .getContentType() != null
-                                                                                                                        ? filePart.headers()
-                                                                                                                                        .getContentType()
-                                                                                                                                        .toString()
-                                                                                                                        : "application/octet-stream")
-                                                                        .build();
-
                                                         storage.create(blobInfo, Files.readAllBytes(temp));
-
-                                                        String url = publicBaseUrl + "/" + actualObjectName;
-                                                        String gsUri = "gs://" + bucket + "/" + actualObjectName;
-
-                                                        return new StoredFile(url, blobInfo.getContentType(), gsUri,
-                                                                        Files.size(temp));
+                                                        return Files.size(temp);
                                                 }).subscribeOn(Schedulers.boundedElastic())),
                                 temp -> Mono.fromRunnable(() -> {
                                         try {
@@ -141,21 +295,239 @@ public class GcsFileStorage implements FileStorage {
                                 }).subscribeOn(Schedulers.boundedElastic()));
         }
 
+        /**
+         * threshold 이하면 단일 업로드, 넘으면 part 병렬 업로드 → compose
+         *
+         * @return 업로드한 바이트 수
+         */
+        private Mono<Long> compositeUpload(Flux<DataBuffer> content, BlobInfo blobInfo) {
+                int threshold = (int) composite.threshold().toBytes();
+                int partSize = (int) composite.partSize().toBytes();
+                return splitParts(content, threshold, partSize)
+                                .switchOnFirst((first, parts) -> {
+                                        byte[] head = first.get();
+                                        if (head != null && head.length >= threshold) {
+                                                return uploadParts(parts, blobInfo);
+                                        }
+                                        // threshold 안에서 끝남 (빈 파일 포함)
+                                        byte[] bytes = head == null ? new byte[0] : head;
+                                        return Mono.fromCallable(() -> {
+                                                storage.create(blobInfo, bytes);
+                                                return (long) bytes.length;
+                                        }).subscribeOn(Schedulers.boundedElastic());
+                                })
+                                .next();
+        }
+
+        private Mono<Long> uploadParts(Flux<byte[]> parts, BlobInfo target) {
+                String prefix = target.getName() + ".parts-" + UUID.randomUUID().toString().replace("-", "") + "/";
+                List<String> created = new CopyOnWriteArrayList<>();
+                AtomicLong total = new AtomicLong();
+
+                Mono<Long> upload = parts.index()
+                                .flatMapSequential(part -> Mono.fromCallable(() -> {
+                                        String name = prefix + part.getT1();
+                                        storage.create(BlobInfo.newBuilder(BlobId.of(bucket, name)).build(), part.getT2());
+                                        created.add(name);
+                                        total.addAndGet(part.getT2().length);
+                                        return name;
+                                }).subscribeOn(compositeScheduler), composite.parallelism(), 1)
+                                .collectList()
+                                .flatMap(names -> Mono.fromCallable(() -> {
+                                        compose(names, target, prefix, created);
+                                        return total.get();
+                                }).subscribeOn(compositeScheduler));
+
+                // 성공/실패/취소 모두 임시 part 정리 (정리 실패는 lifecycle rule에 맡긴다)
+                return Mono.usingWhen(
+                                Mono.just(created),
+                                ignored -> upload,
+                                names -> deleteQuietly(names),
+                                (names, e) -> deleteQuietly(names),
+                                names -> deleteQuietly(names));
+        }
+
+        /**
+         * compose는 요청당 source 32개까지 → 넘으면 32개씩 중간 객체로 합친 뒤 다시 합친다
+         */
+        private void compose(List<String> sources, BlobInfo target, String prefix, List<String> created) {
+                List<String> level = sources;
+                int round = 0;
+                while (level.size() > MAX_COMPOSE_SOURCES) {
+                        List<String> next = new ArrayList<>();
+                        for (int i = 0; i < level.size(); i += MAX_COMPOSE_SOURCES) {
+                                String name = prefix + "c" + round + "-" + next.size();
+                                storage.compose(Storage.ComposeRequest.newBuilder()
+                                                .addSource(level.subList(i, Math.min(level.size(), i + MAX_COMPOSE_SOURCES)))
+                                                .setTarget(BlobInfo.newBuilder(BlobId.of(bucket, name)).build())
+                                                .build());
+                                created.add(name);
+                                next.add(name);
+                        }
+                        level = next;
+                        round++;
+                }
+                storage.compose(Storage.ComposeRequest.newBuilder()
+                                .addSource(level)
+                                .setTarget(target)
+                                .build());
+        }
+
+        private Mono<Void> deleteQuietly(List<String> names) {
+                if (names.isEmpty()) {
+                        return Mono.empty();
+                }
+                return Mono.fromRunnable(() -> {
+                        try {
+                                storage.delete(names.stream().map(n -> BlobId.of(bucket, n)).toList());
+                        } catch (Exception e) {
+                                log.warn("gcs 임시 part 삭제 실패. count={}, err={}", names.size(), e.toString());
+                        }
+                }).subscribeOn(Schedulers.boundedElastic()).then();
+        }
+
+        /**
+         * DataBuffer 스트림 → byte[] part (첫 part는 firstSize, 이후 partSize). 버퍼는 복사 후 바로 release
+         * - 아무것도 받지 못했으면 빈 배열 1개를 내보낸다
+         */
+        static Flux<byte[]> splitParts(Flux<DataBuffer> content, int firstSize, int partSize) {
+                return Flux.defer(() -> {
+                        PartSplitter splitter = new PartSplitter(firstSize, partSize);
+                        return content
+                                        .concatMapIterable(splitter::accept, 1)
+                                        .concatWith(Mono.fromSupplier(splitter::finish))
+                                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+                });
+        }
+
+        private static final class PartSplitter {
+
+                private final int partSize;
+                private int limit;
+                private ByteArrayOutputStream current = new ByteArrayOutputStream();
+                private boolean emitted;
+
+                PartSplitter(int firstSize, int partSize) {
+                        this.limit = firstSize;
+                        this.partSize = partSize;
+                }
+
+                List<byte[]> accept(DataBuffer buffer) {
+                        List<byte[]> full = new ArrayList<>(1);
+                        try {
+                                while (buffer.readableByteCount() > 0) {
+                                        byte[] bytes = new byte[Math.min(buffer.readableByteCount(), limit - current.size())];
+                                        buffer.read(bytes);
+                                        current.writeBytes(bytes);
+                                        if (current.size() == limit) {
+                                                full.add(current.toByteArray());
+                                                current = new ByteArrayOutputStream();
+                                                limit = partSize;
+                                                emitted = true;
+                                        }
+                                }
+                        } finally {
+                                DataBufferUtils.release(buffer);
+                        }
+                        return full;
+                }
+
+                byte[] finish() {
+                        if (current.size() == 0 && emitted) {
+                                return null;
+                        }
+                        return current.toByteArray();
+                }
+        }
+
+        /**
+         * resumable 업로드 chunk는 256KiB 배수여야 한다
+         */
+        private static int alignChunkSize(DataSize size) {
+                long unit = 256 * 1024;
+                long bytes = Math.max(unit, size == null ? unit : size.toBytes());
+                return (int) Math.min(Integer.MAX_VALUE - unit, (bytes + unit - 1) / unit * unit);
+        }
+
+        @Override
+        public String objectUri(String objectName) {
+                return "gs://" + bucket + "/" + objectName;
+        }
+
+        /**
+         * gs:// URI, GCS HTTPS URL, {publicBaseUrl}/{object} → 객체 이름 (설정 버킷만)
+         */
+        @Override
+        public String objectName(String uri) {
+                if (uri == null)
+                        throw new IllegalArgumentException("uri is null");
+                String u = uri.trim();
+                if (u.startsWith(publicBaseUrl + "/"))
+                        return u.substring(publicBaseUrl.length() + 1);
+                GcsLocation loc = GcsLocation.parse(u);
+                if (bucket != null && !bucket.isBlank() && !bucket.equals(loc.bucket()))
+                        throw new IllegalArgumentException("bucket mismatch: " + loc.bucket() + " (" + u + ")");
+                return loc.object();
+        }
+
         /**
          * ✅ gs:// 뿐 아니라 GCS HTTPS URL도 지원
          * - https://storage.googleapis.com/<bucket>/<object>
          * - https://<bucket>.storage.googleapis.com/<object>
          */
-        public Mono<byte[]> fetchBytes(String uri) {
+        @Override
+        public Mono<StoredObject> stat(String uri) {
                 return Mono.fromCallable(() -> {
-                        GcsLocation loc = parseGcsLocation(uri);
-                        Blob blob = storage.get(loc.bucket(), loc.object());
-                        if (blob == null)
-                                throw new IllegalStateException("gcs object not found: " + uri);
-                        return blob.getContent();
-                }).subscribeOn(Schedulers.boundedElastic());
+                        GcsLocation loc = GcsLocation.parse(uri);
+                        Blob blob = storage.get(BlobId.of(loc.bucket(), loc.object()));
+                        return Optional.ofNullable(blob)
+                                        .map(b -> new StoredObject(
+                                                        "gs://" + loc.bucket() + "/" + loc.object(),
+                                                        b.getContentType() != null ? b.getContentType()
+                                                                        : "application/octet-stream",
+                                                        b.getSize() == null ? 0L : b.getSize(),
+                                                        b.getGeneration()));
+                }).subscribeOn(Schedulers.boundedElastic()).flatMap(Mono::justOrEmpty);
         }
 
+        @Override
+        public Flux<DataBuffer> read(String uri) {
+                return Flux.defer(() -> {
+                        GcsLocation loc = GcsLocation.parse(uri);
+                        return read(BlobId.of(loc.bucket(), loc.object()), 0, -1);
+                });
+        }
+
+        @Override
+        public Flux<DataBuffer> read(StoredObject object, long offset, long length) {
+                return Flux.defer(() -> {
+                        GcsLocation loc = GcsLocation.parse(object.gsUri());
+                        return read(BlobId.of(loc.bucket(), loc.object(), object.generation()), offset, length);
+                });
+        }
+
+        /**
+         * ReadChannel → DataBuffer 스트림
+         * - 요청(request)이 올 때만 다음 버퍼를 읽는다 (backpressure), 블로킹 read는 boundedElastic에서
+         * - 완료/취소/에러 시 ReadChannel close
+         * - GCS에서는 chunkSize 단위로 받아오고 READ_BUFFER_SIZE 단위로 내보낸다
+         */
+        private Flux<DataBuffer> read(BlobId id, long offset, long length) {
+                return DataBufferUtils.readByteChannel(() -> {
+                        ReadChannel reader = storage.reader(id);
+                        reader.setChunkSize(chunkSize);
+                        if (offset > 0) {
+                                reader.seek(offset);
+                        }
+                        if (length >= 0) {
+                                reader.limit(offset + length);
+                        }
+                        return reader;
+                }, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE)
+                                .subscribeOn(Schedulers.boundedElastic());
+        }
+
+        @Override
         public String toPublicUrl(String uri) {
                 if (uri == null)
                         return null;
@@ -184,8 +556,26 @@ public class GcsFileStorage implements FileStorage {
 
         @Override
         public Mono<Void> delete(String uri) {
+                if (!dedup.enabled()) {
+                        return deleteObject(uri);
+                }
+                // 색인 장애 시에는 지우지 않고 실패 (다른 업로드가 참조 중일 수 있음)
+                return Mono.fromCallable(() -> GcsLocation.parse(uri))
+                                .flatMap(loc -> fileObjects.release("gs://" + loc.bucket() + "/" + loc.object()))
+                                .flatMap(released -> {
+                                        if (!released.deleteObject()) {
+                                                return Mono.empty();
+                                        }
+                                        Mono<Void> evict = released.sha256() == null
+                                                        ? Mono.empty()
+                                                        : hashCache.forget(released.scope(), released.sha256());
+                                        return evict.then(deleteObject(uri));
+                                });
+        }
+
+        private Mono<Void> deleteObject(String uri) {
                 return Mono.fromCallable(() -> {
-                        GcsLocation loc = parseGcsLocation(uri);
+                        GcsLocation loc = GcsLocation.parse(uri);
                         storage.delete(BlobId.of(loc.bucket(), loc.object()));
                         return null;
                 }).subscribeOn(Schedulers.boundedElastic()).then();
@@ -195,63 +585,6 @@ public class GcsFileStorage implements FileStorage {
         // helpers
         // =========================
 
-        private record GcsLocation(String bucket, String object) {
-        }
-
-        private GcsLocation parseGcsLocation(String uri) {
-                if (uri == null)
-                        throw new IllegalArgumentException("uri is null");
-                String u = uri.trim();
-
-                if (u.startsWith("gs://")) {
-                        String noScheme = u.substring("gs://".length());
-                        int slash = noScheme.indexOf('/');
-                        if (slash < 0)
-                                throw new IllegalArgumentException("invalid gs uri: " + u);
-                        String bkt = noScheme.substring(0, slash);
-                        String obj = noScheme.substring(slash + 1);
-                        if (obj.isBlank())
-                                throw new IllegalArgumentException("invalid gs uri (empty object): " + u);
-                        return new GcsLocation(bkt, obj);
-                }
-
-                if (u.startsWith("http://") || u.startsWith("https://")) {
-                        URI parsed = URI.create(u);
-                        String host = parsed.getHost();
-                        String path = parsed.getPath();
-                        if (host == null)
-                                throw new IllegalArgumentException("invalid url: " + u);
-
-                        if ("storage.googleapis.com".equals(host)) {
-                                // /bucket/object
-                                if (path == null || path.length() < 2)
-                                        throw new IllegalArgumentException("invalid gcs url: " + u);
-                                String p = path.substring(1);
-                                int slash = p.indexOf('/');
-                                if (slash < 0)
-                                        throw new IllegalArgumentException("invalid gcs url: " + u);
-                                String bkt = p.substring(0, slash);
-                                String obj = p.substring(slash + 1);
-                                if (obj.isBlank())
-                                        throw new IllegalArgumentException("invalid gcs url (empty object): " + u);
-                                return new GcsLocation(bkt, obj);
-                        }
-
-                        String suffix = ".storage.googleapis.com";
-                        if (host.endsWith(suffix)) {
-                                String bkt = host.substring(0, host.length() - suffix.length());
-                                String obj = (path != null && path.startsWith("/")) ? path.substring(1) : path;
-                                if (obj == null || obj.isBlank())
-                                        throw new IllegalArgumentException("invalid gcs url (empty object): " + u);
-                                return new GcsLocation(bkt, obj);
-                        }
-
-                        throw new IllegalArgumentException("unsupported url host: " + host + " (" + u + ")");
-                }
-
-                throw new IllegalArgumentException("unsupported uri: " + u);
-        }
-
         private static String stripTrailingSlash(String s) {
                 if (s == null)
                         return "";
@@ -0,0 +1,71 @@
+package com.example.chillgram.common.google;
+
+import java.net.URI;
+
+/**
+ * 저장소 URI → (bucket, object)
+ * - gs://<bucket>/<object>
+ * - https://storage.googleapis.com/<bucket>/<object>
+ * - https://<bucket>.storage.googleapis.com/<object>
+ * - 그 외 형식은 IllegalArgumentException
+ */
+record GcsLocation(String bucket, String object) {
+
+    String gsUri() {
+        return "gs://" + bucket + "/" + object;
+    }
+
+    static GcsLocation parse(String uri) {
+        if (uri == null)
+            throw new IllegalArgumentException("uri is null");
+        String u = uri.trim();
+
+        if (u.startsWith("gs://")) {
+            String noScheme = u.substring("gs://".length());
+            int slash = noScheme.indexOf('/');
+            if (slash < 0)
+                throw new IllegalArgumentException("invalid gs uri: " + u);
+            String bkt = noScheme.substring(0, slash);
+            String obj = noScheme.substring(slash + 1);
+            if (obj.isBlank())
+                throw new IllegalArgumentException("invalid gs uri (empty object): " + u);
+            return new GcsLocation(bkt, obj);
+        }
+
+        if (u.startsWith("http://") || u.startsWith("https://")) {
+            URI parsed = URI.create(u);
+            String host = parsed.getHost();
+            String path = parsed.getPath();
+            if (host == null)
+                throw new IllegalArgumentException("invalid url: " + u);
+
+            if ("storage.googleapis.com".equals(host)) {
+                // /bucket/object
+                if (path == null || path.length() < 2)
+                    throw new IllegalArgumentException("invalid gcs url: " + u);
+                String p = path.substring(1);
+                int slash = p.indexOf('/');
+                if (slash < 0)
+                    throw new IllegalArgumentException("invalid gcs url: " + u);
+                String bkt = p.substring(0, slash);
+                String obj = p.substring(slash + 1);
+                if (obj.isBlank())
+                    throw new IllegalArgumentException("invalid gcs url (empty object): " + u);
+                return new GcsLocation(bkt, obj);
+            }
+
+            String suffix = ".storage.googleapis.com";
+            if (host.endsWith(suffix)) {
+                String bkt = host.substring(0, host.length() - suffix.length());
+                String obj = (path != null && path.startsWith("/")) ? path.substring(1) : path;
+                if (obj == null || obj.isBlank())
+                    throw new IllegalArgumentException("invalid gcs url (empty object): " + u);
+                return new GcsLocation(bkt, obj);
+            }
+
+            throw new IllegalArgumentException("unsupported url host: " + host + " (" + u + ")");
+        }
+
+        throw new IllegalArgumentException("unsupported uri: " + u);
+    }
+}
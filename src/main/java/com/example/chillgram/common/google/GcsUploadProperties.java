@@ -0,0 +1,72 @@
+package com.example.chillgram.common.google;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * GCS 업로드 설정 (gcs.upload.*)
+ * - streaming: true면 FilePart를 resumable WriteChannel로 스트리밍 (false면 임시 파일 → 전체 바이트 업로드)
+ * - chunkSize: 스트리밍 chunk 크기 (256KiB 배수로 올림)
+ * - composite: 큰 파일 병렬 분할 업로드 (part 업로드 → 서버 측 compose)
+ * - dedup: 내용(SHA-256) 기준 중복 업로드 제거 + 참조 수
+ */
+@ConfigurationProperties(prefix = "gcs.upload")
+public record GcsUploadProperties(
+        Boolean streaming,
+        DataSize chunkSize,
+        Composite composite,
+        Dedup dedup
+) {
+    public GcsUploadProperties {
+        if (streaming == null) streaming = true;
+        if (chunkSize == null) chunkSize = DataSize.ofMegabytes(1);
+        if (composite == null) composite = new Composite(false, null, null, null, null);
+        if (dedup == null) dedup = new Dedup(false, null, null, null);
+    }
+
+    /**
+     * 병렬 분할 업로드
+     * - threshold: 앞부분을 이만큼 읽기 전에 끝나면 단일 업로드, 넘으면 분할 업로드 (업로드 1건의 선행 버퍼 크기)
+     * - partSize: threshold 이후 part 크기
+     * - parallelism: 업로드 1건에서 동시에 올리는 part 수 (heap ≈ threshold + parallelism × partSize)
+     * - threads: part 업로드 전용 스케줄러 스레드 수 (전체 업로드 공유)
+     */
+    public record Composite(
+            boolean enabled,
+            DataSize threshold,
+            DataSize partSize,
+            Integer parallelism,
+            Integer threads
+    ) {
+        public Composite {
+            if (threshold == null) threshold = DataSize.ofMegabytes(16);
+            if (partSize == null) partSize = DataSize.ofMegabytes(8);
+            if (parallelism == null) parallelism = 4;
+            if (threads == null) threads = 16;
+        }
+    }
+
+    /**
+     * 내용 기준 중복 제거 (file_object 색인 + Redis 앞단)
+     * - maxBufferedSize: 이 크기 이하 파일은 먼저 모아서 해시 → 이미 있으면 쓰지 않고 기존 객체 반환
+     *   (넘는 파일은 올리면서 해시, 끝난 뒤 중복이면 방금 올린 객체를 지운다)
+     * - cacheTtl: Redis 존재 캐시 TTL
+     * - scopes: 중복 제거할 범위(객체 이름 첫 경로) 목록, 나머지는 그냥 업로드
+     *   (lifecycle rule로 지워지는 tmp 등을 넣으면 색인이 없는 객체를 가리키게 된다)
+     */
+    public record Dedup(
+            boolean enabled,
+            DataSize maxBufferedSize,
+            Duration cacheTtl,
+            Set<String> scopes
+    ) {
+        public Dedup {
+            if (maxBufferedSize == null) maxBufferedSize = DataSize.ofMegabytes(8);
+            if (cacheTtl == null) cacheTtl = Duration.ofDays(7);
+            scopes = scopes == null ? Set.of("qna") : Set.copyOf(scopes);
+        }
+    }
+}
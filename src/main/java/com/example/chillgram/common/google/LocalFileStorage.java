@@ -0,0 +1,201 @@
+package com.example.chillgram.common.google;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 디렉터리 파일 저장소 (app.storage.type=local) - 오프라인 개발/부하 테스트용, GCS 자격 증명 불필요
+ * - 객체 {object} → {app.storage.local.root}/{object}, 객체 이름 규칙은 GcsFileStorage와 같다 (ObjectNames)
+ * - URI는 GCS와 같은 gs://{gcs.bucket}/{object} → DB에 저장된 값을 GCS로 돌려도 그대로 쓸 수 있다
+ *   · 다른 버킷 URI, root 밖을 가리키는 이름(../ 등)은 IllegalArgumentException
+ *   · GCS HTTPS URL(같은 버킷)과 자기 공개 URL도 받는다
+ * - 업로드: FilePart.content()를 같은 디렉터리의 임시 파일에 비동기로 쓰고 끝나면 rename (쓰는 중인 객체는 보이지 않음)
+ * - 공개 URL: {app.storage.local.public-base-url}/{object} → FileRouter의 GET /local-storage/{*object} (Range 지원)
+ * - Content-Type은 따로 저장하지 않고 확장자로 판단, generation = 수정 시각(ms) → 덮어쓰면 ETag가 바뀐다
+ * - 중복 제거/분할 업로드(gcs.upload.*)는 적용하지 않는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final String bucket;
+    private final String publicBaseUrl;
+
+    public LocalFileStorage(
+            @Value("${app.storage.local.root:${java.io.tmpdir}/chillgram-storage}") String root,
+            @Value("${gcs.bucket}") String bucket,
+            @Value("${app.storage.local.public-base-url:http://localhost:8080/local-storage}") String publicBaseUrl) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.bucket = bucket;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/")
+                ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1)
+                : publicBaseUrl;
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 디렉터리 생성 실패: " + this.root, e);
+        }
+        log.info("로컬 파일 저장소 사용. root={}, publicBaseUrl={}", this.root, this.publicBaseUrl);
+    }
+
+    @Override
+    public Mono<StoredFile> store(FilePart filePart) {
+        return store(filePart, "ads");
+    }
+
+    @Override
+    public Mono<StoredFile> store(FilePart filePart, String folder) {
+        return storeFixed(filePart, ObjectNames.unique(filePart, folder));
+    }
+
+    @Override
+    public Mono<StoredFile> storeFixed(FilePart filePart, String objectName) {
+        String name = ObjectNames.withExtension(filePart, objectName);
+        String contentType = ObjectNames.contentType(filePart);
+        return Mono.fromCallable(() -> {
+                    Path target = path(name);
+                    Files.createDirectories(target.getParent());
+                    return target;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(target -> Mono.usingWhen(
+                        blocking(() -> Files.createTempFile(target.getParent(), ".upload-", ".tmp")),
+                        tmp -> DataBufferUtils.write(filePart.content(), tmp)
+                                .then(blocking(() -> {
+                                    Files.move(tmp, target,
+                                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                                    return Files.size(target);
+                                })),
+                        // rename 후에는 지울 파일이 없다 (실패/취소 시에만 의미 있음)
+                        tmp -> blocking(() -> Files.deleteIfExists(tmp))))
+                .map(size -> {
+                    String gsUri = objectUri(name);
+                    return new StoredFile(toPublicUrl(gsUri), contentType, gsUri, size);
+                });
+    }
+
+    @Override
+    public Mono<Void> delete(String uri) {
+        return blocking(() -> Files.deleteIfExists(path(objectName(uri)))).then();
+    }
+
+    @Override
+    public String toPublicUrl(String uri) {
+        if (uri == null)
+            return null;
+        String u = uri.trim();
+        if (!u.startsWith("gs://"))
+            return u;
+        try {
+            GcsLocation loc = GcsLocation.parse(u);
+            // bucket mismatch면 변환하지 않음
+            return bucket.equals(loc.bucket()) ? publicBaseUrl + "/" + loc.object() : u;
+        } catch (IllegalArgumentException e) {
+            return u;
+        }
+    }
+
+    @Override
+    public String objectUri(String objectName) {
+        return "gs://" + bucket + "/" + objectName;
+    }
+
+    /**
+     * gs://{bucket}/{object}, GCS HTTPS URL, {publicBaseUrl}/{object} → 객체 이름
+     */
+    @Override
+    public String objectName(String uri) {
+        if (uri == null)
+            throw new IllegalArgumentException("uri is null");
+        String u = uri.trim();
+        if (u.startsWith(publicBaseUrl + "/")) {
+            return u.substring(publicBaseUrl.length() + 1);
+        }
+        GcsLocation loc = GcsLocation.parse(u);
+        if (!bucket.equals(loc.bucket()))
+            throw new IllegalArgumentException("bucket mismatch: " + loc.bucket() + " (" + u + ")");
+        return loc.object();
+    }
+
+    @Override
+    public Mono<StoredObject> stat(String uri) {
+        return blocking(() -> {
+            String name = objectName(uri);
+            Path file = path(name);
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                    .map(MediaType::toString)
+                    .orElse("application/octet-stream");
+            return new StoredObject(objectUri(name), contentType, attrs.size(), attrs.lastModifiedTime().toMillis());
+        });
+    }
+
+    @Override
+    public Flux<DataBuffer> read(String uri) {
+        return Flux.defer(() -> read(path(objectName(uri)), 0, -1));
+    }
+
+    /**
+     * generation은 보지 않는다 (파일은 최신본 1개)
+     */
+    @Override
+    public Flux<DataBuffer> read(StoredObject object, long offset, long length) {
+        return Flux.defer(() -> read(path(objectName(object.gsUri())), offset, length));
+    }
+
+    /**
+     * AsynchronousFileChannel → DataBuffer 스트림 (요청이 올 때만 다음 버퍼를 읽음, 완료/취소 시 close)
+     */
+    private Flux<DataBuffer> read(Path file, long offset, long length) {
+        Flux<DataBuffer> body = DataBufferUtils.readAsynchronousFileChannel(
+                () -> AsynchronousFileChannel.open(file, StandardOpenOption.READ),
+                Math.max(0, offset), DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE);
+        return length >= 0 ? DataBufferUtils.takeUntilByteCount(body, length) : body;
+    }
+
+    // =========================
+    // helpers
+    // =========================
+
+    /**
+     * 객체 이름 → root 아래 파일 경로 (root 밖이면 거부)
+     */
+    private Path path(String objectName) {
+        Path file = root.resolve(objectName).normalize();
+        if (!file.startsWith(root) || file.equals(root))
+            throw new IllegalArgumentException("invalid object name: " + objectName);
+        return file;
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> io) {
+        return Mono.fromCallable(io).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.chillgram.common.google;
+
+import org.springframework.http.codec.multipart.FilePart;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * FileStorage 구현들이 같은 객체 이름을 쓰도록 하는 이름 규칙
+ * - store(filePart, folder): {folder}/{epochMillis}_{uuid}_{원본 파일명}
+ * - storeFixed(filePart, objectName): 확장자가 없으면 원본 파일명/Content-Type에서 붙인다
+ */
+final class ObjectNames {
+
+    private ObjectNames() {
+    }
+
+    static String safeName(FilePart filePart) {
+        return filePart.filename().replaceAll("[\\\\/\\r\\n]", "_");
+    }
+
+    static String unique(FilePart filePart, String folder) {
+        return folder + "/" + Instant.now().toEpochMilli()
+                + "_" + UUID.randomUUID().toString().replace("-", "")
+                + "_" + safeName(filePart);
+    }
+
+    static String contentType(FilePart filePart) {
+        return filePart.headers().getContentType() != null
+                ? filePart.headers().getContentType().toString()
+                : "application/octet-stream";
+    }
+
+    /**
+     * If objectName does not include an extension, try to preserve original file extension
+     */
+    static String withExtension(FilePart filePart, String objectName) {
+        try {
+            int lastSlash = objectName.lastIndexOf('/');
+            int lastDot = objectName.lastIndexOf('.');
+            boolean hasExt = lastDot > lastSlash;
+            if (hasExt) {
+                return objectName;
+            }
+
+            // derive extension from original filename
+            String filename = filePart.filename();
+            String ext = null;
+
+            if (filename != null) {
+                int fdot = filename.lastIndexOf('.');
+                if (fdot > -1 && fdot < filename.length() - 1) {
+                    ext = filename.substring(fdot + 1).toLowerCase();
+                }
+            }
+
+            // fallback to content-type mapping
+            if (ext == null) {
+                var ct = filePart.headers().getContentType();
+                if (ct != null) {
+                    String subtype = ct.getSubtype();
+                    if (subtype != null) {
+                        if (subtype.contains("svg"))
+                            ext = "svg";
+                        else if (subtype.contains("jpeg") || subtype.contains("jpg"))
+                            ext = "jpg";
+                        else if (subtype.contains("png"))
+                            ext = "png";
+                        else if (subtype.contains("webp"))
+                            ext = "webp";
+                        else
+                            ext = subtype.replaceAll("[^a-z0-9]", "");
+                    }
+                }
+            }
+
+            if (ext == null || ext.isBlank())
+                ext = "bin";
+
+            if (objectName.endsWith("/"))
+                return objectName + safeName(filePart);
+            // append extension if not present
+            return objectName + "." + ext;
+        } catch (Exception ignored) {
+            return objectName;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.chillgram.domain.advertising.dto;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+
+import java.util.UUID;
+
+/**
+ * 광고 가이드라인 일괄 생성 결과 1건 (NDJSON 한 줄)
+ * - status: SUCCEEDED → guides, FAILED → errorCode/errorMessage
+ * - replayed: 이어하기 시 job_task에 저장돼 있던 결과를 그대로 돌려준 경우 true
+ */
+public record AdGuidesBatchItem(
+        UUID jobId,
+        long productId,
+        JobStatus status,
+        AdGuidesResponse guides,
+        String errorCode,
+        String errorMessage,
+        boolean replayed
+) {
+    public static AdGuidesBatchItem succeeded(UUID jobId, long productId, AdGuidesResponse guides) {
+        return new AdGuidesBatchItem(jobId, productId, JobStatus.SUCCEEDED, guides, null, null, false);
+    }
+
+    public static AdGuidesBatchItem failed(UUID jobId, long productId, String errorCode, String errorMessage) {
+        return new AdGuidesBatchItem(jobId, productId, JobStatus.FAILED, null, errorCode, errorMessage, false);
+    }
+
+    public AdGuidesBatchItem asReplayed() {
+        return new AdGuidesBatchItem(jobId, productId, status, guides, errorCode, errorMessage, true);
+    }
+}
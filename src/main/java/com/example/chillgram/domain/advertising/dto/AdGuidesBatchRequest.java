@@ -0,0 +1,13 @@
+package com.example.chillgram.domain.advertising.dto;
+
+import java.util.List;
+
+/**
+ * 광고 가이드라인 일괄 생성 요청
+ * - productIds: 대상 제품 (중복 제거, 요청 순서 유지)
+ * - request: 모든 제품에 공통 적용할 가이드 옵션 (baseDate 미지정 시 오늘)
+ */
+public record AdGuidesBatchRequest(
+        List<Long> productIds,
+        AdGuidesRequest request
+) {}
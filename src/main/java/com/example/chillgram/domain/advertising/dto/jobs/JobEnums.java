@@ -11,7 +11,9 @@ public final class JobEnums {
         BANNER(Set.of("BANNER"), true),
         SNS(Set.of("SNS", "SNS_IMAGE", "INSTAGRAM"), true),
         VIDEO(Set.of("VIDEO", "SHORT", "SHORTS", "YOUTUBE"), true),
-        DIELINE(Set.of("DIELINE", "PACKAGE", "PACKAGING"), true);
+        DIELINE(Set.of("DIELINE", "PACKAGE", "PACKAGING"), true),
+        /** 서버 내에서 처리하는 광고 가이드 일괄 생성 (워커/outbox 미사용) */
+        AD_GUIDES(Set.of("AD_GUIDES"), false);
 
         /** 외부(프론트/요청)에서 들어올 수 있는 별칭들 */
         private final Set<String> aliases;
@@ -28,6 +30,11 @@ public final class JobEnums {
             return producesAsset;
         }
 
+        /** 워커가 처리하는 작업인지 (outbox로 발행됨). 서버 내 작업은 재발행 대상이 아니다 */
+        public boolean usesWorker() {
+            return this != AD_GUIDES;
+        }
+
         /**
          * 프론트 selectedTypes 같은 문자열을 안전하게 JobType으로 변환.
          * - null/빈값: 기본 SNS
@@ -59,6 +66,13 @@ public final class JobEnums {
         }
     }
 
+    /**
+     * 워커 큐 lane (우선순위). INTERACTIVE: 화면에서 기다리는 미리보기, BULK: 오래 걸리거나 대량인 작업
+     */
+    public enum JobLane {
+        INTERACTIVE, BULK
+    }
+
     public enum JobStatus {
         REQUESTED, RUNNING, SUCCEEDED, FAILED;
 
@@ -0,0 +1,27 @@
+package com.example.chillgram.domain.advertising.dto.jobs;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * job 상태 전이 이벤트 (구독 SSE 본문 + 인스턴스 간 Redis pub/sub 메시지)
+ * - payload는 싣지 않는다 (필요하면 GET /api/jobs/{jobId})
+ */
+public record JobStatusEvent(
+        UUID jobId,
+        long projectId,
+        JobType jobType,
+        JobStatus status,
+        String outputUri,
+        String errorCode,
+        String errorMessage,
+        OffsetDateTime updatedAt
+) {
+    public static JobStatusEvent of(JobResponse job) {
+        return new JobStatusEvent(job.jobId(), job.projectId(), job.jobType(), job.status(),
+                job.outputUri(), job.errorCode(), job.errorMessage(), job.updatedAt());
+    }
+}
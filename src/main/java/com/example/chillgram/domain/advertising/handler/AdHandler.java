@@ -1,26 +1,37 @@
 package com.example.chillgram.domain.advertising.handler;
 
 import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.BusinessException;
 import com.example.chillgram.common.exception.ErrorCode;
 import com.example.chillgram.domain.advertising.dto.AdCreateRequest;
+import com.example.chillgram.domain.advertising.dto.AdGuidesBatchItem;
+import com.example.chillgram.domain.advertising.dto.AdGuidesBatchRequest;
 import com.example.chillgram.domain.advertising.dto.AdGuidesRequest;
 import com.example.chillgram.domain.advertising.dto.AdTrendsRequest;
 import com.example.chillgram.common.google.FileStorage;
+import com.example.chillgram.domain.advertising.service.AdGuideBatchService;
 import com.example.chillgram.domain.advertising.service.AdService;
 import com.example.chillgram.domain.ai.dto.AdCopiesRequest;
+import com.example.chillgram.domain.ai.service.JobService;
 import com.example.chillgram.common.security.AuthPrincipal;
 import com.example.chillgram.domain.qa.handler.QaHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.http.codec.multipart.FormFieldPart;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * 역할: 광고 관련 HTTP 요청 처리
  */
@@ -29,13 +40,15 @@ import reactor.core.publisher.Mono;
 public class AdHandler {
 
     private final AdService adService;
+    private final AdGuideBatchService adGuideBatchService;
     private final ObjectMapper objectMapper;
     private final FileStorage fileStorage;
     private final jakarta.validation.Validator validator;
 
-    public AdHandler(AdService adService, ObjectMapper objectMapper, FileStorage fileStorage,
-            jakarta.validation.Validator validator) {
+    public AdHandler(AdService adService, AdGuideBatchService adGuideBatchService, ObjectMapper objectMapper,
+            FileStorage fileStorage, jakarta.validation.Validator validator) {
         this.adService = adService;
+        this.adGuideBatchService = adGuideBatchService;
         this.objectMapper = objectMapper;
         this.fileStorage = fileStorage;
         this.validator = validator;
@@ -70,6 +83,80 @@ public class AdHandler {
                         .bodyValue(resp));
     }
 
+    /**
+     * 광고 가이드라인 스트리밍 생성 (SSE)
+     * POST /api/advertising/{id}/ad-guides/stream
+     * - event: guide → 가이드 1개 (AdGuidesResponse.GuidelineOption)
+     * - event: done  → {"recommendedGuideId": ...}
+     * - event: error → {"code": ..., "message": ...} (응답이 이미 커밋되어 전역 에러 핸들러를 쓸 수 없음)
+     */
+    public Mono<ServerResponse> streamAdGuides(ServerRequest request) {
+        long productId = Long.parseLong(request.pathVariable("id"));
+
+        Flux<ServerSentEvent<Object>> events = request.bodyToMono(AdGuidesRequest.class)
+                .flatMapMany(req -> adService.streamAdGuides(productId, req))
+                .publish(guides -> Flux.merge(
+                        guides.map(guide -> ServerSentEvent.<Object>builder(guide)
+                                .id(guide.id())
+                                .event("guide")
+                                .build()),
+                        guides.reduce((best, next) -> next.score() > best.score() ? next : best)
+                                .map(best -> ServerSentEvent.<Object>builder(
+                                                Map.of("recommendedGuideId", best.id()))
+                                        .event("done")
+                                        .build())))
+                .onErrorResume(ex -> {
+                    ErrorCode code = (ex instanceof BusinessException be) ? be.errorCode()
+                            : ErrorCode.AD_GUIDE_GENERATION_FAILED;
+                    log.error("streamAdGuides failed. productId={}", productId, ex);
+                    return Flux.just(ServerSentEvent.<Object>builder(
+                                    Map.of("code", code.name(), "message", code.defaultMessage()))
+                            .event("error")
+                            .build());
+                });
+
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(events, new ParameterizedTypeReference<ServerSentEvent<Object>>() {
+                });
+    }
+
+    /**
+     * 광고 가이드라인 일괄 생성 (NDJSON)
+     * POST /api/advertising/ad-guides/batch
+     * - 응답 헤더 X-Job-Id: 이어하기용 jobId
+     * - 본문: 제품별 AdGuidesBatchItem 한 줄씩, 끝난 순서대로
+     */
+    public Mono<ServerResponse> batchAdGuides(ServerRequest request) {
+        return request.bodyToMono(AdGuidesBatchRequest.class)
+                .switchIfEmpty(Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED, "body is required")))
+                .flatMap(adGuideBatchService::start)
+                .flatMap(this::ndjson);
+    }
+
+    /**
+     * 광고 가이드라인 일괄 생성 이어하기
+     * POST /api/advertising/ad-guides/batch/{jobId}/resume
+     * - 이미 성공한 제품은 저장된 결과를 replayed=true로 재전송, 나머지만 생성
+     */
+    public Mono<ServerResponse> resumeAdGuidesBatch(ServerRequest request) {
+        UUID jobId;
+        try {
+            jobId = UUID.fromString(request.pathVariable("jobId"));
+        } catch (IllegalArgumentException e) {
+            return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED, "invalid jobId"));
+        }
+        return adGuideBatchService.resume(jobId)
+                .flatMap(this::ndjson);
+    }
+
+    private Mono<ServerResponse> ndjson(AdGuideBatchService.Batch batch) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("X-Job-Id", batch.jobId().toString())
+                .body(batch.items(), AdGuidesBatchItem.class);
+    }
+
     public Mono<ServerResponse> createAdCopies(ServerRequest req) {
         long productId = Long.parseLong(req.pathVariable("id"));
 
@@ -117,7 +204,9 @@ public class AdHandler {
                 return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED, "base img url is required"));
             }
 
-            return adService.createProjectAndContents(productId, userId, body)
+            String idempotencyKey = JobService.scopedIdempotencyKey(
+                    req.headers().firstHeader(JobService.IDEMPOTENCY_KEY_HEADER), "");
+            return adService.createProjectAndContents(productId, userId, body, idempotencyKey)
                     .flatMap(result -> ServerResponse.ok().bodyValue(result));
         }));
     }
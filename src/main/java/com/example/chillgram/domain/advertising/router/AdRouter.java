@@ -29,8 +29,11 @@ public class AdRouter {
     public RouterFunction<ServerResponse> adRoutes(AdHandler adHandler) {
         return route()
                 .path("/api/advertising", builder -> builder
+                        .route(POST("/ad-guides/batch"), adHandler::batchAdGuides)
+                        .route(POST("/ad-guides/batch/{jobId}/resume"), adHandler::resumeAdGuidesBatch)
                         .route(POST("/{id}/ad-trends"), adHandler::getAdTrends)
                         .route(POST("/{id}/ad-guides"), adHandler::createAdGuides)
+                        .route(POST("/{id}/ad-guides/stream"), adHandler::streamAdGuides)
                         .route(POST("/{id}/ad-copies"), adHandler::createAdCopies)
                         .route(POST("/{id}/ads"), adHandler::createAdProjectAndContents)
                         .route(POST("/{id}/log"), adHandler::createAdLog))
@@ -15,6 +15,8 @@ public class JobRouter {
         return RouterFunctions.route()
                 .path("/api/jobs", b -> b
                         .GET("/{jobId}", h::getJob)
+                        .GET("/{jobId}/events", h::subscribeJob)
+                        .GET("/projects/{projectId}/events", h::subscribeProject)
                         .POST("/basic-images", h::createBasicImagesJob)
                         .GET("/basic-images/{jobId}", h::getBasicImagesResult)
                         .POST("/{jobId}/result", h::postResult)
@@ -0,0 +1,262 @@
+package com.example.chillgram.domain.advertising.service;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.BusinessException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.domain.advertising.dto.AdGuidesBatchItem;
+import com.example.chillgram.domain.advertising.dto.AdGuidesBatchRequest;
+import com.example.chillgram.domain.advertising.dto.AdGuidesRequest;
+import com.example.chillgram.domain.advertising.dto.AdTrendsResponse;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.engine.TrendRuleEngine;
+import com.example.chillgram.domain.advertising.repository.EventCalendarRepository;
+import com.example.chillgram.domain.ai.dto.AdGuideAiRequest;
+import com.example.chillgram.domain.ai.service.AdCopyService;
+import com.example.chillgram.domain.ai.service.JobService;
+import com.example.chillgram.domain.product.entity.Product;
+import com.example.chillgram.domain.product.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 광고 가이드라인 일괄 생성 (카탈로그 단위)
+ * - 제품은 findAllById 1회로 조회, 이벤트 캘린더는 baseDate당 1회 조회 후 모든 제품이 공유
+ * - Gemini 호출은 concurrency 만큼만 병렬 (배치 1건이 AI 호출 레인(AiCallLimiter)을 독점하지 않도록)
+ * - 제품별 결과는 끝나는 순서대로 방출하고 job_task.payload.results에 누적
+ *
+ * 이어하기 (resume)
+ * - job_task(job_type=AD_GUIDES) payload: {productIds, request, results: {productId: item}}
+ * - 같은 jobId로 다시 요청하면 SUCCEEDED 결과는 저장본을 재전송(replayed=true), 나머지만 다시 생성
+ * - 시작/이어하기 모두 job을 REQUESTED/FAILED → RUNNING으로 조건부 전이한 뒤 응답 (JobService.markRunning)
+ *   · 이미 RUNNING(다른 요청이 처리 중)이거나 SUCCEEDED면 409 → 같은 배치를 동시에 두 번 돌리지 않는다
+ * - 클라이언트가 중간에 끊으면 생성을 멈추고 job을 FAILED로 → 이어하기로 마저 처리한다
+ * - 모든 제품 성공 시 SUCCEEDED, 하나라도 실패하면 FAILED(AD_GUIDE_GENERATION_FAILED)
+ */
+@Slf4j
+@Service
+public class AdGuideBatchService {
+
+    private final ProductRepository productRepository;
+    private final EventCalendarRepository eventCalendarRepository;
+    private final TrendRuleEngine trendEngine;
+    private final AdCopyService adCopyService;
+    private final JobService jobService;
+    private final ObjectMapper objectMapper;
+    private final int concurrency;
+    private final int maxProducts;
+
+    public AdGuideBatchService(
+            ProductRepository productRepository,
+            EventCalendarRepository eventCalendarRepository,
+            TrendRuleEngine trendEngine,
+            AdCopyService adCopyService,
+            JobService jobService,
+            ObjectMapper objectMapper,
+            @Value("${app.ai.batch.concurrency:4}") int concurrency,
+            @Value("${app.ai.batch.max-products:200}") int maxProducts
+    ) {
+        this.productRepository = productRepository;
+        this.eventCalendarRepository = eventCalendarRepository;
+        this.trendEngine = trendEngine;
+        this.adCopyService = adCopyService;
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+        this.concurrency = concurrency;
+        this.maxProducts = maxProducts;
+    }
+
+    /**
+     * 실행 중인 배치: jobId는 응답 헤더로 먼저 내려가고 items는 구독 시 실행된다
+     */
+    public record Batch(UUID jobId, Flux<AdGuidesBatchItem> items) {
+    }
+
+    public Mono<Batch> start(AdGuidesBatchRequest req) {
+        List<Long> productIds = normalizeIds(req.productIds());
+        if (productIds.isEmpty()) {
+            return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED, "productIds is required"));
+        }
+        if (productIds.size() > maxProducts) {
+            return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED,
+                    "too many productIds (max " + maxProducts + ")"));
+        }
+
+        // baseDate를 확정해서 저장해야 다음 날 이어하기를 해도 같은 트렌드 기준으로 생성된다
+        AdGuidesRequest options = withBaseDate(req.request());
+
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.set("productIds", objectMapper.valueToTree(productIds));
+        payload.set("request", objectMapper.valueToTree(options));
+        payload.set("results", objectMapper.createObjectNode());
+
+        return jobService.createLocalJob(0L, JobType.AD_GUIDES, payload)
+                .flatMap(jobId -> jobService.markRunning(jobId)
+                        .thenReturn(new Batch(jobId, run(jobId, productIds, options, Map.of()))));
+    }
+
+    public Mono<Batch> resume(UUID jobId) {
+        return jobService.getJobDetail(jobId)
+                .flatMap(job -> {
+                    if (job.jobType() != JobType.AD_GUIDES || job.payload() == null) {
+                        return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED,
+                                "not an ad-guides batch job id=" + jobId));
+                    }
+                    JsonNode pl = job.payload();
+                    try {
+                        List<Long> productIds = new ArrayList<>();
+                        pl.path("productIds").forEach(n -> productIds.add(n.asLong()));
+                        AdGuidesRequest options = objectMapper.treeToValue(pl.path("request"), AdGuidesRequest.class);
+
+                        Map<Long, AdGuidesBatchItem> done = new HashMap<>();
+                        var results = pl.path("results").fields();
+                        while (results.hasNext()) {
+                            var e = results.next();
+                            AdGuidesBatchItem item = objectMapper.treeToValue(e.getValue(), AdGuidesBatchItem.class);
+                            if (item.status() == JobStatus.SUCCEEDED) {
+                                done.put(item.productId(), item);
+                            }
+                        }
+                        Batch batch = new Batch(jobId, run(jobId, productIds, withBaseDate(options), done));
+                        return jobService.markRunning(jobId).thenReturn(batch);
+                    } catch (Exception e) {
+                        return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED,
+                                "corrupted batch payload id=" + jobId));
+                    }
+                });
+    }
+
+    private Flux<AdGuidesBatchItem> run(UUID jobId, List<Long> productIds, AdGuidesRequest options,
+                                        Map<Long, AdGuidesBatchItem> done) {
+        List<AdGuidesBatchItem> replay = new ArrayList<>();
+        List<Long> pending = new ArrayList<>();
+        for (Long id : productIds) {
+            AdGuidesBatchItem prev = done.get(id);
+            if (prev != null) {
+                replay.add(prev.asReplayed());
+            } else {
+                pending.add(id);
+            }
+        }
+
+        return Flux.defer(() -> {
+            AtomicInteger failed = new AtomicInteger();
+            Flux<AdGuidesBatchItem> generated = pending.isEmpty()
+                    ? Flux.empty()
+                    : generate(jobId, pending, options)
+                    .doOnNext(item -> {
+                        if (item.status() == JobStatus.FAILED) failed.incrementAndGet();
+                    });
+
+            Mono<AdGuidesBatchItem> complete = Mono.defer(() -> {
+                int f = failed.get();
+                log.info("Ad guide batch finished. jobId={}, total={}, replayed={}, failed={}",
+                        jobId, productIds.size(), replay.size(), f);
+                return f == 0
+                        ? jobService.completeLocalJob(jobId, null, null)
+                        : jobService.completeLocalJob(jobId, ErrorCode.AD_GUIDE_GENERATION_FAILED.name(),
+                        f + "/" + productIds.size() + " products failed");
+            }).then(Mono.empty());
+
+            return Flux.concat(Flux.fromIterable(replay), generated, complete)
+                    // 끊긴 배치는 FAILED로 남겨야 이어하기(FAILED → RUNNING)가 가능하다
+                    .doOnCancel(() -> jobService.completeLocalJob(jobId,
+                                    ErrorCode.AD_GUIDE_GENERATION_FAILED.name(), "client disconnected")
+                            .subscribe(null, e -> log.warn("Ad guide batch cancel mark failed. jobId={}", jobId, e)));
+        });
+    }
+
+    /**
+     * 제품 1회 조회 + 이벤트 1회 조회 → 제품별 Gemini 호출을 bounded 병렬로 실행
+     */
+    private Flux<AdGuidesBatchItem> generate(UUID jobId, List<Long> productIds, AdGuidesRequest options) {
+        LocalDate date = options.baseDate();
+
+        Mono<Map<Long, Product>> productsMono = productRepository.findAllById(productIds)
+                .collectMap(Product::getId);
+        Mono<List<EventCalendarRepository.EventRow>> eventsMono = eventCalendarRepository.findNearest(date, 5)
+                .collectList();
+
+        return Mono.zip(productsMono, eventsMono)
+                .flatMapMany(tuple -> {
+                    Map<Long, Product> products = tuple.getT1();
+                    List<EventCalendarRepository.EventRow> events = tuple.getT2();
+
+                    return Flux.fromIterable(productIds)
+                            .flatMap(productId -> {
+                                Product product = products.get(productId);
+                                Mono<AdGuidesBatchItem> item = (product == null)
+                                        ? Mono.just(AdGuidesBatchItem.failed(jobId, productId,
+                                        ErrorCode.AD_PRODUCT_NOT_FOUND.name(),
+                                        ErrorCode.AD_PRODUCT_NOT_FOUND.defaultMessage()))
+                                        : generateOne(jobId, product, date, options, events);
+                                return item.flatMap(it -> jobService
+                                        .putResult(jobId, String.valueOf(productId), objectMapper.valueToTree(it))
+                                        .thenReturn(it));
+                            }, concurrency);
+                });
+    }
+
+    private Mono<AdGuidesBatchItem> generateOne(UUID jobId, Product product, LocalDate date,
+                                                AdGuidesRequest options,
+                                                List<EventCalendarRepository.EventRow> events) {
+        long productId = product.getId();
+        return Mono.defer(() -> {
+                    AdTrendsResponse trends = toTrends(productId, date, trendEngine.analyze(productId, date, events));
+                    AdGuideAiRequest aiReq = AdGuideAiRequest.from(productId, product, date, options, trends);
+                    return adCopyService.generateAdGuidesMono(aiReq);
+                })
+                .map(guides -> AdGuidesBatchItem.succeeded(jobId, productId, guides))
+                .onErrorResume(ex -> {
+                    ErrorCode code = (ex instanceof BusinessException be) ? be.errorCode()
+                            : ErrorCode.AD_GUIDE_GENERATION_FAILED;
+                    log.warn("Ad guide batch item failed. jobId={}, productId={}", jobId, productId, ex);
+                    return Mono.just(AdGuidesBatchItem.failed(jobId, productId, code.name(), code.defaultMessage()));
+                });
+    }
+
+    private static AdTrendsResponse toTrends(long productId, LocalDate date, TrendRuleEngine.TrendResult r) {
+        var keywords = r.trendKeywords().stream()
+                .map(k -> new AdTrendsResponse.TrendKeyword(k.name(), k.description()))
+                .toList();
+        return new AdTrendsResponse(productId, date, keywords, r.hashtags(), r.styleSummary());
+    }
+
+    private static AdGuidesRequest withBaseDate(AdGuidesRequest req) {
+        if (req == null) {
+            return new AdGuidesRequest(LocalDate.now(), null, null, null, null, null, null, null, null);
+        }
+        if (req.baseDate() != null) {
+            return req;
+        }
+        return new AdGuidesRequest(LocalDate.now(), req.title(), req.adGoal(), req.requestText(),
+                req.selectedKeywords(), req.adFocus(), req.adMessageFocus(), req.adMessageTarget(),
+                req.reviewText());
+    }
+
+    private static List<Long> normalizeIds(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        LinkedHashSet<Long> unique = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) unique.add(id);
+        }
+        return List.copyOf(unique);
+    }
+}
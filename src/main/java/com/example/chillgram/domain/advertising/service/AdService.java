@@ -23,10 +23,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Service
 @Slf4j
@@ -123,6 +123,22 @@ public class AdService {
                                                                 ex.getMessage()));
         }
 
+        /**
+         * 광고 가이드라인 스트리밍 생성 (SSE 용)
+         * - 제품/트렌드 조회는 createAdGuides와 동일, 가이드는 블록이 닫히는 즉시 1개씩 방출
+         */
+        public Flux<AdGuidesResponse.GuidelineOption> streamAdGuides(long productId, AdGuidesRequest req) {
+                final LocalDate date = (req.baseDate() != null) ? req.baseDate() : LocalDate.now();
+
+                return Mono.zip(requireProduct(productId), getAdTrends(productId, date))
+                                .flatMapMany(tuple -> adCopyService.streamAdGuides(
+                                                AdGuideAiRequest.from(productId, tuple.getT1(), date, req,
+                                                                tuple.getT2())))
+                                .onErrorMap(ex -> (ex instanceof ApiException) ? ex
+                                                : ApiException.of(ErrorCode.AD_GUIDE_GENERATION_FAILED,
+                                                                ex.getMessage()));
+        }
+
         public Mono<FinalCopyResponse> createAdCopies(long productId, FinalCopyRequest req) {
                 if (req.selectedGuideline() == null || req.selectedGuideline().isEmpty()) {
                         return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED,
@@ -133,14 +149,41 @@ public class AdService {
                                 .switchIfEmpty(Mono.error(
                                                 ApiException.of(ErrorCode.AD_PRODUCT_NOT_FOUND,
                                                                 "product not found id=" + productId)))
-                                .flatMap(product -> Mono.fromCallable(() -> adCopyService.generateFinalCopies(req))
-                                                .subscribeOn(Schedulers.boundedElastic()))
+                                .flatMap(product -> adCopyService.generateFinalCopiesMono(req))
                                 .onErrorMap(ex -> (ex instanceof ApiException) ? ex
                                                 : ApiException.of(ErrorCode.AD_COPY_GENERATION_FAILED,
                                                                 ex.getMessage()));
         }
 
         public Mono<AdCreateResponse> createProjectAndContents(long productId, long userId, AdCreateRequest req) {
+                return createProjectAndContents(productId, userId, req, null);
+        }
+
+        /**
+         * 광고 프로젝트 + content + job 생성
+         * - idempotencyKey(Idempotency-Key 헤더)가 있으면 같은 키 재요청은 새로 만들지 않고 처음 응답을 돌려준다
+         *   · job 멱등 키: ad:{userId}:{key}:{content index}
+         *   · 동시 재요청이 job insert에서 충돌하면 트랜잭션을 롤백(project/content 포함)하고 먼저 커밋된 결과를 돌려준다
+         */
+        public Mono<AdCreateResponse> createProjectAndContents(long productId, long userId, AdCreateRequest req,
+                        String idempotencyKey) {
+                if (idempotencyKey == null) {
+                        return createNewProjectAndContents(productId, userId, req, null);
+                }
+                int jobCount = req.selectedTypes() == null ? 0 : req.selectedTypes().size();
+
+                return replayAdCreate(userId, idempotencyKey, jobCount)
+                                .switchIfEmpty(Mono.defer(() -> createNewProjectAndContents(productId, userId, req,
+                                                idempotencyKey)))
+                                .onErrorResume(DuplicateAdRequest.class,
+                                                e -> replayAdCreate(userId, idempotencyKey, jobCount)
+                                                                .switchIfEmpty(Mono.error(ApiException.of(
+                                                                                ErrorCode.CONFLICT,
+                                                                                "duplicate request is in progress, retry"))));
+        }
+
+        private Mono<AdCreateResponse> createNewProjectAndContents(long productId, long userId, AdCreateRequest req,
+                        String idempotencyKey) {
 
                 return productRepository.existsById(productId)
                                 .flatMap(exists -> exists
@@ -177,18 +220,20 @@ public class AdService {
                                                         AdCreateResponse respWithCat = new AdCreateResponse(
                                                                         resp.projectId(), resp.contentIds(), cat);
 
-                                                        return publishJobs(productId, userId, req, respWithCat)
+                                                        return publishJobs(productId, userId, req, respWithCat,
+                                                                        idempotencyKey)
                                                                         .thenReturn(respWithCat);
                                                 }))
                                 .as(tx::transactional);
         }
 
         /**
-         * content 개수만큼 jobService.requestJob 호출(= outbox 발행)
+         * content 개수만큼 job 요청(= outbox 발행), jobService.requestJobs로 한 번에 insert
          * - contentIds와 selectedTypes를 같은 index로 매칭
          * - ✅ BANNER인 경우 payload에 bannerRatio(idx) 포함
          */
-        private Mono<Void> publishJobs(long productId, long userId, AdCreateRequest req, AdCreateResponse resp) {
+        private Mono<Void> publishJobs(long productId, long userId, AdCreateRequest req, AdCreateResponse resp,
+                        String idempotencyKey) {
 
                 List<Long> contentIds = resp.contentIds();
                 List<String> selectedTypes = req.selectedTypes();
@@ -199,8 +244,8 @@ public class AdService {
 
                 final int bannerRatio = bannerRatioIdx(req.bannerSize());
 
-                return Flux.range(0, n)
-                                .concatMap(i -> {
+                List<CreateJobRequest> jobReqs = IntStream.range(0, n)
+                                .mapToObj(i -> {
                                         long contentId = contentIds.get(i);
                                         String type = selectedTypes.get(i);
 
@@ -231,11 +276,48 @@ public class AdService {
                                                 payload.put("bannerRatio", bannerRatio); // 1~10, 없으면 0
                                         }
 
-                                        CreateJobRequest jobReq = new CreateJobRequest(jobType, payload);
-
-                                        return jobService.requestJob(resp.projectId(), jobReq, null).then();
+                                        return new CreateJobRequest(jobType, payload);
                                 })
-                                .then();
+                                .toList();
+
+                // job i의 멱등 키 = ad:{userId}:{key}:{i} (adJobKey)
+                String jobKeyPrefix = idempotencyKey == null ? null
+                                : "ad:%d:%s".formatted(userId, idempotencyKey);
+
+                return jobService.requestJobs(resp.projectId(), jobReqs, null, jobKeyPrefix)
+                                .flatMap(results -> idempotencyKey != null
+                                                && results.stream().anyMatch(JobService.JobRequested::replayed)
+                                                                // 같은 키로 먼저 커밋된 요청이 있음 → 이번 트랜잭션은 롤백
+                                                                ? Mono.error(new DuplicateAdRequest())
+                                                                : Mono.<Void>empty());
+        }
+
+        /**
+         * 같은 Idempotency-Key로 이미 만든 job들의 payload에서 처음 응답 복원 (없으면 empty)
+         */
+        private Mono<AdCreateResponse> replayAdCreate(long userId, String idempotencyKey, int jobCount) {
+                return Flux.range(0, jobCount)
+                                .concatMap(i -> jobService.findJobIdByIdempotencyKey(adJobKey(userId, idempotencyKey, i)))
+                                .concatMap(jobService::getJobDetail)
+                                .collectList()
+                                .filter(jobs -> !jobs.isEmpty())
+                                .map(jobs -> new AdCreateResponse(
+                                                jobs.get(0).payload().path("projectId").asLong(),
+                                                jobs.stream().map(j -> j.payload().path("contentId").asLong()).toList(),
+                                                jobs.get(0).payload().path("category").asText(null)));
+        }
+
+        private static String adJobKey(long userId, String idempotencyKey, int index) {
+                return idempotencyKey == null ? null : "ad:%d:%s:%d".formatted(userId, idempotencyKey, index);
+        }
+
+        /**
+         * publishJobs에서 같은 Idempotency-Key 요청이 먼저 커밋된 것을 발견 (트랜잭션 롤백용)
+         */
+        private static final class DuplicateAdRequest extends RuntimeException {
+                DuplicateAdRequest() {
+                        super("duplicate ad create request", null, false, false);
+                }
         }
 
         private JobEnums.JobType mapToJobType(String type) {
@@ -0,0 +1,36 @@
+package com.example.chillgram.domain.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Gemini hedged request 설정 (spring.ai.google.genai.hedge.*)
+ * - model: 헤지 요청에 쓸 모델 (비우면 기본 chat 모델로 한 번 더 요청)
+ * - percentile: 헤지 지연 = 기본 모델 최근 성공 latency의 이 백분위 (0~1)
+ * - initialDelay: 최근 샘플이 minSamples 미만일 때 사용할 지연
+ * - window/windowAge: 백분위 계산에 쓰는 최근 성공 latency (최대 window개, windowAge 이내만)
+ * - minDelay/maxDelay: 계산된 지연의 하한/상한
+ */
+@ConfigurationProperties(prefix = "spring.ai.google.genai.hedge")
+public record AiHedgeProperties(
+        boolean enabled,
+        String model,
+        double percentile,
+        long minSamples,
+        Duration initialDelay,
+        Duration minDelay,
+        Duration maxDelay,
+        Integer window,
+        Duration windowAge
+) {
+    public AiHedgeProperties {
+        if (percentile <= 0 || percentile >= 1) percentile = 0.95;
+        if (minSamples <= 0) minSamples = 20;
+        if (initialDelay == null) initialDelay = Duration.ofSeconds(8);
+        if (minDelay == null) minDelay = Duration.ofSeconds(2);
+        if (maxDelay == null) maxDelay = Duration.ofSeconds(20);
+        if (window == null || window <= 0) window = 200;
+        if (windowAge == null) windowAge = Duration.ofMinutes(10);
+    }
+}
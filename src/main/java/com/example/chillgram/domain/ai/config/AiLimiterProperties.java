@@ -0,0 +1,34 @@
+package com.example.chillgram.domain.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Gemini 호출 전용 실행 레인 설정 (app.ai.limiter.*)
+ * - initialLimit/minLimit/maxLimit: 동시 호출 수 한도 (AIMD로 min~max 사이에서 조정)
+ * - queueCapacity/queueTimeout: 한도 초과 시 대기열 길이와 최대 대기 시간 (초과하면 즉시 실패)
+ * - latencyThreshold: 이 시간보다 느린 응답은 혼잡 신호로 보고 한도를 줄인다
+ * - backoffRatio: 혼잡 시 한도에 곱하는 비율 (multiplicative decrease)
+ */
+@ConfigurationProperties(prefix = "app.ai.limiter")
+public record AiLimiterProperties(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        int queueCapacity,
+        Duration queueTimeout,
+        Duration latencyThreshold,
+        double backoffRatio
+) {
+    public AiLimiterProperties {
+        if (minLimit <= 0) minLimit = 1;
+        if (maxLimit < minLimit) maxLimit = Math.max(minLimit, 16);
+        if (initialLimit <= 0) initialLimit = Math.min(4, maxLimit);
+        initialLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        if (queueCapacity < 0) queueCapacity = 0;
+        if (queueTimeout == null) queueTimeout = Duration.ofSeconds(10);
+        if (latencyThreshold == null) latencyThreshold = Duration.ofSeconds(20);
+        if (backoffRatio <= 0 || backoffRatio >= 1) backoffRatio = 0.7;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.chillgram.domain.ai.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({AiLimiterProperties.class, AiHedgeProperties.class, JobTimeoutProperties.class,
+        JobLaneProperties.class})
+public class AiModuleConfig {}
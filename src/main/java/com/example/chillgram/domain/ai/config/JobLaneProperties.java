@@ -0,0 +1,45 @@
+package com.example.chillgram.domain.ai.config;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobLane;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 워커 큐 lane / 회사별 동시 작업 상한 설정 (app.jobs.lanes.*)
+ * - enabled: true면 {routing-key}.{lane}.{type} 큐로 발행 (false면 기존 단일 큐, 워커가 lane 큐를 구독한 뒤에 켠다)
+ * - interactive: INTERACTIVE lane으로 보낼 JobType (나머지는 BULK)
+ * - tenantMaxInFlight: lane별 회사당 진행 중 job 상한 (없으면 무제한)
+ * - permitLease: 상한 permit 최대 보유 시간 (결과 유실로 반납되지 않은 permit 자동 회수)
+ */
+@ConfigurationProperties(prefix = "app.jobs.lanes")
+public record JobLaneProperties(
+        boolean enabled,
+        Set<JobType> interactive,
+        Map<JobLane, Integer> tenantMaxInFlight,
+        Duration permitLease
+) {
+    public JobLaneProperties {
+        if (interactive == null) interactive = Set.of(JobType.BASIC, JobType.BANNER, JobType.SNS);
+        if (tenantMaxInFlight == null) tenantMaxInFlight = Map.of();
+        if (permitLease == null) permitLease = Duration.ofHours(2);
+    }
+
+    public JobLane lane(JobType jobType) {
+        return interactive.contains(jobType) ? JobLane.INTERACTIVE : JobLane.BULK;
+    }
+
+    /**
+     * 워커 큐 이름 (default exchange라 routing key = 큐 이름)
+     */
+    public String routingKey(String base, JobType jobType) {
+        if (!enabled) {
+            return base;
+        }
+        return base + "." + lane(jobType).name().toLowerCase(Locale.ROOT) + "." + jobType.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.chillgram.domain.ai.config;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * job 타임아웃 sweeper 설정 (app.jobs.timeout.*)
+ * - defaultDeadline: 마지막 상태 변경(updated_at) 후 이 시간 안에 결과가 없으면 기한 초과
+ * - deadlines: JobType별 기한 (예: VIDEO는 BANNER보다 길게)
+ * - maxAttempts: outbox 재발행 최대 횟수, 넘으면 FAILED(TIMEOUT)
+ * - backoff: n번째 재발행 후 추가 대기 = backoff * 2^(n-1)
+ * - batchSize: JobType별 1회 선점 행 수
+ */
+@ConfigurationProperties(prefix = "app.jobs.timeout")
+public record JobTimeoutProperties(
+        boolean enabled,
+        Duration defaultDeadline,
+        Map<JobType, Duration> deadlines,
+        int maxAttempts,
+        Duration backoff,
+        int batchSize
+) {
+    public JobTimeoutProperties {
+        if (defaultDeadline == null) defaultDeadline = Duration.ofMinutes(10);
+        if (deadlines == null) deadlines = Map.of();
+        if (maxAttempts < 0) maxAttempts = 0;
+        if (backoff == null) backoff = Duration.ofMinutes(1);
+        if (batchSize <= 0) batchSize = 100;
+    }
+
+    public Duration deadline(JobType jobType) {
+        return deadlines.getOrDefault(jobType, defaultDeadline);
+    }
+}
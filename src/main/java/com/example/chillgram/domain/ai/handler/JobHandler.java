@@ -2,59 +2,168 @@ package com.example.chillgram.domain.ai.handler;
 
 import com.example.chillgram.common.exception.ApiException;
 import com.example.chillgram.common.exception.ErrorCode;
-import com.example.chillgram.common.google.GcsFileStorage;
+import com.example.chillgram.common.google.FileStorage;
+import com.example.chillgram.common.security.AuthPrincipal;
 import com.example.chillgram.domain.advertising.dto.jobs.CreateJobRequest;
 import com.example.chillgram.domain.advertising.dto.jobs.JobEnums;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
 import com.example.chillgram.domain.advertising.dto.jobs.JobResultRequest;
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.example.chillgram.domain.ai.messaging.JobEventBroadcaster;
 import com.example.chillgram.domain.ai.service.JobService;
+import com.example.chillgram.domain.file.service.FileUrlResolver;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.http.codec.multipart.FormFieldPart;
 import org.springframework.http.codec.multipart.Part;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.SmartValidator;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JobHandler {
 
     private final ObjectMapper om;
     private final JobService jobService;
-    private final GcsFileStorage gcs;
+    private final FileStorage gcs;
+    private final FileUrlResolver fileUrls;
     private final SmartValidator validator;
     private final String callbackSecret;
+    private final JobEventBroadcaster jobEvents;
+    private final Duration heartbeat;
 
     public JobHandler(
             ObjectMapper om,
             JobService jobService,
             SmartValidator validator,
-            GcsFileStorage gcs,
-            @Value("${app.jobs.result-callback-secret}") String callbackSecret
+            FileStorage gcs,
+            FileUrlResolver fileUrls,
+            @Value("${app.jobs.result-callback-secret}") String callbackSecret,
+            JobEventBroadcaster jobEvents,
+            @Value("${app.jobs.events.heartbeat:15s}") Duration heartbeat
     ) {
         this.om = om;
         this.jobService = jobService;
         this.validator = validator;
         this.gcs = gcs;
+        this.fileUrls = fileUrls;
         this.callbackSecret = callbackSecret;
+        this.jobEvents = jobEvents;
+        this.heartbeat = heartbeat;
     }
 
+    /**
+     * job 상태 조회
+     * GET /api/jobs/{jobId}[?fields=status]
+     * - 기본: DB에서 payload까지 조회 (기존 응답 형태 유지)
+     * - fields=status: Redis 상태 캐시 (payload: null) - 폴링용 경량 응답
+     * - outputUri는 응답용 URL로 변환 (비공개 버킷이면 서명된 /api/files 경로)
+     */
     public Mono<ServerResponse> getJob(ServerRequest req) {
         UUID jobId = UUID.fromString(req.pathVariable("jobId"));
-        return jobService.getJob(jobId)
+        boolean statusOnly = req.queryParam("fields").filter("status"::equals).isPresent();
+        return (statusOnly ? jobService.getJob(jobId) : jobService.getJobDetail(jobId))
                 .flatMap(job -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(job));
+                        .bodyValue(withResponseUrl(job)));
+    }
+
+    private JobResponse withResponseUrl(JobResponse job) {
+        if (job.outputUri() == null) {
+            return job;
+        }
+        return new JobResponse(job.jobId(), job.projectId(), job.jobType(), job.status(), job.payload(),
+                fileUrls.toResponseUrl(job.outputUri()), job.errorCode(), job.errorMessage(),
+                job.requestedAt(), job.updatedAt());
+    }
+
+    /**
+     * job 상태 구독 (SSE, 폴링 대체)
+     * GET /api/jobs/{jobId}/events
+     * - event: status → JobStatusEvent. 첫 이벤트는 현재 상태 스냅샷, 이후 전이가 생길 때마다
+     * - 종료 상태(SUCCEEDED/FAILED)를 보내면 스트림 종료
+     * - 없는 job이면 404 (스트림 시작 전)
+     */
+    public Mono<ServerResponse> subscribeJob(ServerRequest req) {
+        UUID jobId = UUID.fromString(req.pathVariable("jobId"));
+
+        // 스냅샷 조회 중에 일어난 전이를 놓치지 않도록 live를 먼저 구독
+        Flux<JobStatusEvent> statuses = Flux.merge(
+                        jobEvents.events().filter(e -> e.jobId().equals(jobId)),
+                        jobService.getJob(jobId).map(JobStatusEvent::of))
+                .transform(JobHandler::dropStale)
+                .takeUntil(e -> e.status().isDone());
+
+        return sse(statuses);
+    }
+
+    /**
+     * 프로젝트 단위 job 상태 구독 (SSE)
+     * GET /api/jobs/projects/{projectId}/events
+     * - 진행 중 job 스냅샷을 먼저 보내고, 이후 프로젝트의 모든 job 전이를 보낸다 (클라이언트가 끊을 때까지)
+     */
+    public Mono<ServerResponse> subscribeProject(ServerRequest req) {
+        long projectId = Long.parseLong(req.pathVariable("projectId"));
+
+        Flux<JobStatusEvent> statuses = Flux.merge(
+                        jobEvents.events().filter(e -> e.projectId() == projectId),
+                        jobService.getInFlightJobs(projectId).map(JobStatusEvent::of))
+                .transform(JobHandler::dropStale);
+
+        return sse(statuses);
+    }
+
+    /**
+     * live와 스냅샷이 섞이면 스냅샷이 더 늦게 도착할 수 있음 → job별로 이미 보낸 것보다 오래된 상태는 버린다
+     */
+    private static Flux<JobStatusEvent> dropStale(Flux<JobStatusEvent> events) {
+        return Flux.defer(() -> {
+            Map<UUID, OffsetDateTime> latest = new ConcurrentHashMap<>();
+            return events.filter(e -> {
+                if (e.updatedAt() == null) {
+                    return true;
+                }
+                OffsetDateTime seen = latest.merge(e.jobId(), e.updatedAt(),
+                        (prev, next) -> next.isBefore(prev) ? prev : next);
+                return !e.updatedAt().isBefore(seen);
+            });
+        });
+    }
+
+    /**
+     * status 이벤트 + heartbeat 주석(프록시 idle timeout 방지). statuses가 끝나면 heartbeat도 멈춘다
+     */
+    private Mono<ServerResponse> sse(Flux<JobStatusEvent> statuses) {
+        Flux<ServerSentEvent<Object>> body = statuses.publish(s -> Flux.merge(
+                s.map(e -> ServerSentEvent.<Object>builder(e)
+                        .event("status")
+                        .build()),
+                Flux.interval(heartbeat)
+                        .map(i -> ServerSentEvent.<Object>builder().comment("heartbeat").build())
+                        .takeUntilOther(s.ignoreElements())));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(body, new ParameterizedTypeReference<ServerSentEvent<Object>>() {
+                });
     }
 
     public Mono<ServerResponse> postResult(ServerRequest req) {
@@ -85,8 +194,22 @@ public class JobHandler {
     /**
      * BASIC: 업로드한 입력 이미지를 GCS에 저장하고,
      * Worker에는 HTTPS inputUrl 전달
+     * - Idempotency-Key는 사용자 범위(basic:{userId}:)로 구분 → 다른 사용자가 같은 키를 보내도 서로의 job을 받지 않는다
      */
     public Mono<ServerResponse> createBasicImagesJob(ServerRequest req) {
+        return extractUserId(req).flatMap(userId -> {
+            final String idempotencyKey = idempotencyKey(req, "basic:" + userId + ":");
+            // 같은 Idempotency-Key 재요청이면 업로드 없이 원래 jobId 반환
+            Mono<UUID> existing = idempotencyKey == null ? Mono.empty()
+                    : jobService.findJobIdByIdempotencyKey(idempotencyKey);
+
+            return existing
+                    .flatMap(jobId -> jobIdResponse(jobId))
+                    .switchIfEmpty(Mono.defer(() -> createBasicImagesJob(req, idempotencyKey)));
+        });
+    }
+
+    private Mono<ServerResponse> createBasicImagesJob(ServerRequest req, String idempotencyKey) {
         return req.multipartData().flatMap(parts -> {
             Part payloadPart = parts.getFirst("payload");
             Part filePart = parts.getFirst("file");
@@ -127,17 +250,40 @@ public class JobHandler {
 
                         final CreateJobRequest jobReq = new CreateJobRequest(JobEnums.JobType.BASIC, jobPayload);
 
-                        return jobService.requestJob(0L, jobReq, req.exchange().getRequest().getId())
-                                .flatMap(realJobId -> ServerResponse.ok()
-                                        .contentType(MediaType.APPLICATION_JSON)
-                                        .bodyValue(Map.of("jobId", realJobId.toString())));
+                        return jobService.requestJobOnce(0L, jobReq, req.exchange().getRequest().getId(), idempotencyKey)
+                                .flatMap(requested -> jobIdResponse(requested.jobId()));
                     });
         });
     }
 
+    private Mono<ServerResponse> jobIdResponse(UUID jobId) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("jobId", jobId.toString()));
+    }
+
+    private static String idempotencyKey(ServerRequest req, String scope) {
+        return JobService.scopedIdempotencyKey(req.headers().firstHeader(JobService.IDEMPOTENCY_KEY_HEADER), scope);
+    }
+
+    /**
+     * JWT principal에서 userId 추출
+     */
+    private static Mono<Long> extractUserId(ServerRequest request) {
+        return request.principal()
+                .map(principal -> {
+                    if (principal instanceof UsernamePasswordAuthenticationToken auth
+                            && auth.getPrincipal() instanceof AuthPrincipal user) {
+                        return user.userId();
+                    }
+                    throw ApiException.of(ErrorCode.UNAUTHORIZED, "인증 정보를 확인할 수 없습니다.");
+                })
+                .switchIfEmpty(Mono.error(ApiException.of(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.")));
+    }
+
     /**
      * ✅ 프론트가 기대하는 JSON을 준다.
-     * - SUCCEEDED면 candidates[0].url 에 "공개 https URL"을 넣어준다.
+     * - SUCCEEDED면 candidates[0].url 에 응답용 URL(공개 https URL 또는 서명된 프록시 경로)을 넣어준다.
      */
     public Mono<ServerResponse> getBasicImagesResult(ServerRequest req) {
         UUID jobId = UUID.fromString(req.pathVariable("jobId"));
@@ -155,8 +301,8 @@ public class JobHandler {
                         return Mono.error(ApiException.of(ErrorCode.INTERNAL_ERROR, "outputUri missing"));
                     }
 
-                    // HTTPS 정규화 (이미 HTTPS면 pass-through)
-                    String publicUrl = gcs.toPublicUrl(out);
+                    // 공개 버킷이면 HTTPS 정규화, 비공개 버킷이면 서명된 프록시 경로
+                    String publicUrl = fileUrls.toResponseUrl(out);
 
                     var candidates = new ArrayList<Map<String, Object>>();
                     candidates.add(Map.of(
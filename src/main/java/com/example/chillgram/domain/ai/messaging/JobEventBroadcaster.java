@@ -0,0 +1,105 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * job 상태 전이 fan-out (Redis pub/sub)
+ * - publish: 상태를 바꾼 인스턴스가 채널에 JSON 1건 발행
+ * - 인스턴스마다 채널 구독 1개 → 로컬 multicast sink → SSE 구독자들이 jobId/projectId로 필터
+ *   (구독자 수와 무관하게 Redis 연결은 인스턴스당 1개)
+ * - Redis 발행 실패 시 자기 인스턴스 구독자에게만 직접 전달 (다른 인스턴스 구독자는 다음 이벤트/재구독 스냅샷으로 복구)
+ * - 유실 가능(best-effort): 상태의 원본은 job_task, 이벤트는 폴링을 대신하는 알림일 뿐
+ */
+@Slf4j
+@Component
+public class JobEventBroadcaster {
+
+    private final ReactiveStringRedisTemplate redis;
+    private final ObjectMapper om;
+    private final String channel;
+    private final Sinks.Many<JobStatusEvent> local = Sinks.many().multicast().directBestEffort();
+
+    private Disposable subscription;
+
+    public JobEventBroadcaster(
+            ReactiveStringRedisTemplate redis,
+            ObjectMapper om,
+            @Value("${app.jobs.events.channel:chillgram:job-events}") String channel
+    ) {
+        this.redis = redis;
+        this.om = om;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    void start() {
+        subscription = redis.listenToChannel(channel)
+                .doOnSubscribe(s -> log.info("job 이벤트 채널 구독. channel={}", channel))
+                // 정상 종료도 연결 끊김으로 보고 재구독
+                .concatWith(Mono.error(new IllegalStateException("job event subscription closed")))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(rs -> log.warn("job 이벤트 채널 구독 끊김, 재구독 시도 #{}",
+                                rs.totalRetries() + 1, rs.failure())))
+                .subscribe(msg -> decode(msg.getMessage()));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 상태 전이 발행. 실패해도 호출 측 흐름은 막지 않는다
+     */
+    public Mono<Void> publish(JobStatusEvent event) {
+        return Mono.fromCallable(() -> om.writeValueAsString(event))
+                .flatMap(json -> redis.convertAndSend(channel, json))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("job 이벤트 발행 실패, 로컬 구독자에게만 전달. jobId={}", event.jobId(), e);
+                    emit(event);
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> publishAll(Iterable<JobStatusEvent> events) {
+        return Flux.fromIterable(events).concatMap(this::publish).then();
+    }
+
+    /**
+     * 이 인스턴스가 받는 전체 이벤트 (hot, 구독 이후 이벤트만)
+     */
+    public Flux<JobStatusEvent> events() {
+        return local.asFlux();
+    }
+
+    private void decode(String json) {
+        try {
+            emit(om.readValue(json, JobStatusEvent.class));
+        } catch (Exception e) {
+            log.warn("job 이벤트 파싱 실패, 무시. body={}", json, e);
+        }
+    }
+
+    private void emit(JobStatusEvent event) {
+        // 구독자가 없거나 느린 구독자는 건너뛴다 (directBestEffort)
+        local.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lane별 큐 깊이/대기 시간 메트릭 (주기적으로 조회해 gauge로 노출)
+ * - jobs.lane.depth: 워커 큐에 쌓인 메시지 수 (RabbitMQ)
+ * - jobs.lane.waiting: 아직 결과가 없는 REQUESTED job 수 (DB)
+ * - jobs.lane.oldest_wait_seconds: 가장 오래 기다린 REQUESTED job의 대기 시간 (DB)
+ * - tag: lane, jobType (lane 비활성화 시 depth는 단일 큐 기준 lane=all)
+ */
+@Slf4j
+@Component
+public class JobLaneMetrics {
+
+    private final JobTaskRepository jobRepo;
+    private final AmqpAdmin amqpAdmin;
+    private final JobLaneProperties lanes;
+    private final String baseQueue;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+    public JobLaneMetrics(
+            JobTaskRepository jobRepo,
+            AmqpAdmin amqpAdmin,
+            JobLaneProperties lanes,
+            @Value("${app.jobs.routing-key}") String baseQueue,
+            MeterRegistry meterRegistry
+    ) {
+        this.jobRepo = jobRepo;
+        this.amqpAdmin = amqpAdmin;
+        this.lanes = lanes;
+        this.baseQueue = baseQueue;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.lanes.metrics-interval-ms:15000}")
+    public void refresh() {
+        refreshWaiting()
+                .then(refreshDepth())
+                .subscribe(null, e -> log.warn("lane 메트릭 갱신 실패", e));
+    }
+
+    Mono<Void> refreshWaiting() {
+        OffsetDateTime now = OffsetDateTime.now();
+        return jobRepo.countWaitingByType()
+                .collectMap(JobTaskRepository.WaitingJobs::jobType)
+                .doOnNext(byType -> Arrays.stream(JobType.values())
+                        .filter(JobType::usesWorker)
+                        .forEach(type -> {
+                            JobTaskRepository.WaitingJobs w = byType.get(type);
+                            gauge("jobs.lane.waiting", lanes.lane(type).name(), type.name())
+                                    .set(w == null ? 0 : w.waiting());
+                            gauge("jobs.lane.oldest_wait_seconds", lanes.lane(type).name(), type.name())
+                                    .set(w == null || w.oldest() == null ? 0
+                                            : Math.max(0, Duration.between(w.oldest(), now).toSeconds()));
+                        }))
+                .then();
+    }
+
+    /**
+     * 큐 조회는 블로킹 AMQP 호출이라 boundedElastic에서 실행
+     */
+    Mono<Void> refreshDepth() {
+        return Mono.fromRunnable(() -> {
+                    Map<String, String[]> queues = new HashMap<>();
+                    if (lanes.enabled()) {
+                        Arrays.stream(JobType.values())
+                                .filter(JobType::usesWorker)
+                                .forEach(type -> queues.put(lanes.routingKey(baseQueue, type),
+                                        new String[]{lanes.lane(type).name(), type.name()}));
+                    } else {
+                        queues.put(baseQueue, new String[]{"all", "all"});
+                    }
+                    queues.forEach((queue, tags) -> {
+                        QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                        if (info != null) {
+                            gauge("jobs.lane.depth", tags[0], tags[1]).set(info.getMessageCount());
+                        }
+                    });
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private AtomicLong gauge(String name, String lane, String jobType) {
+        return gauges.computeIfAbsent(name + "|" + lane + "|" + jobType, k -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                    .tag("lane", lane)
+                    .tag("jobType", jobType)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
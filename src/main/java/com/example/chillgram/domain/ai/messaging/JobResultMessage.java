@@ -0,0 +1,44 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobResultRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.UUID;
+
+/**
+ * job-results 큐 메시지 1건 (Worker → Spring)
+ */
+record JobResultMessage(UUID jobId, JobResultRequest result) {
+
+    /**
+     * @throws IllegalArgumentException 재시도해도 의미 없는 메시지 (JSON 오류, jobId 누락/형식 오류)
+     */
+    static JobResultMessage parse(ObjectMapper om, String body) {
+        final JsonNode n;
+        try {
+            n = om.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid JSON", e);
+        }
+
+        final String jobIdStr = n.path("jobId").asText("");
+        if (jobIdStr.isBlank()) {
+            throw new IllegalArgumentException("Missing jobId");
+        }
+
+        final UUID jobId;
+        try {
+            jobId = UUID.fromString(jobIdStr);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid UUID jobId=" + jobIdStr, e);
+        }
+
+        final boolean success = n.path("success").asBoolean(false);
+        final String outputUri = n.path("outputUri").isNull() ? null : n.path("outputUri").asText(null);
+        final String errorCode = n.path("errorCode").isNull() ? null : n.path("errorCode").asText(null);
+        final String errorMessage = n.path("errorMessage").isNull() ? null : n.path("errorMessage").asText(null);
+
+        return new JobResultMessage(jobId, new JobResultRequest(success, outputUri, errorCode, errorMessage));
+    }
+}
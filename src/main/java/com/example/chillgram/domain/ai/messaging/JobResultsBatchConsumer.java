@@ -0,0 +1,120 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobResultRequest;
+import com.example.chillgram.domain.ai.service.JobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * job 결과 배치 소비 (기본 모드)
+ * - 최대 result-batch.size건을 한 번에 받아 JobService.applyResults로 반영 (DB 왕복 수가 건수와 무관)
+ * - poison(파싱 불가, 없는 job, outputUri 누락, 반영 대상 없음)만 dead-letter 큐로 옮기고 나머지는 배치 단위로 ack
+ * - 반영 자체가 실패하면(DB 장애 등) 배치 전체를 requeue
+ * - 같은 배치에 같은 jobId가 여러 번 오면 첫 결과만 반영 (나머지는 applyResult와 같이 멱등 처리로 무시됨)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jobs.result-batch.enabled", havingValue = "true", matchIfMissing = true)
+public class JobResultsBatchConsumer {
+
+    static final String POISON_REASON_HEADER = "x-poison-reason";
+
+    private final ObjectMapper om;
+    private final JobService jobService;
+    private final RabbitTemplate rabbitTemplate;
+    private final String deadLetterQueue;
+    private final Duration applyTimeout;
+    private final Counter applied;
+    private final Counter deadLettered;
+
+    public JobResultsBatchConsumer(
+            ObjectMapper om,
+            JobService jobService,
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.jobs.result-dead-letter-queue}") String deadLetterQueue,
+            @Value("${app.jobs.result-batch.apply-timeout:30s}") Duration applyTimeout
+    ) {
+        this.om = om;
+        this.jobService = jobService;
+        this.rabbitTemplate = rabbitTemplate;
+        this.deadLetterQueue = deadLetterQueue;
+        this.applyTimeout = applyTimeout;
+        this.applied = Counter.builder("jobs.results.applied").register(meterRegistry);
+        this.deadLettered = Counter.builder("jobs.results.dead_lettered").register(meterRegistry);
+    }
+
+    @RabbitListener(queues = "${app.jobs.result-queue}", containerFactory = "jobResultsBatchContainerFactory")
+    public void onMessages(List<Message> messages, Channel channel) throws IOException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        long lastTag = messages.get(messages.size() - 1).getMessageProperties().getDeliveryTag();
+
+        Map<UUID, JobResultRequest> results = new LinkedHashMap<>();
+        Map<UUID, Message> sources = new LinkedHashMap<>();
+        List<Poison> poison = new ArrayList<>();
+
+        for (Message m : messages) {
+            String body = new String(m.getBody(), StandardCharsets.UTF_8);
+            try {
+                JobResultMessage msg = JobResultMessage.parse(om, body);
+                if (results.putIfAbsent(msg.jobId(), msg.result()) == null) {
+                    sources.put(msg.jobId(), m);
+                }
+            } catch (IllegalArgumentException e) {
+                poison.add(new Poison(m, e.getMessage()));
+            }
+        }
+
+        int rejectedCount;
+        try {
+            Map<UUID, String> rejected = jobService.applyResults(results).block(applyTimeout);
+            rejectedCount = rejected == null ? 0 : rejected.size();
+            if (rejected != null) {
+                rejected.forEach((jobId, reason) -> poison.add(new Poison(sources.get(jobId), reason)));
+            }
+            for (Poison p : poison) {
+                deadLetter(p);
+            }
+        } catch (RuntimeException e) {
+            log.error("job result batch apply failed, requeue. size={}", messages.size(), e);
+            channel.basicNack(lastTag, true, true);
+            return;
+        }
+
+        channel.basicAck(lastTag, true);
+        applied.increment(results.size() - rejectedCount);
+        deadLettered.increment(poison.size());
+    }
+
+    private void deadLetter(Poison p) {
+        log.warn("Poison job result -> {}. reason={}, body={}",
+                deadLetterQueue, p.reason(), new String(p.message().getBody(), StandardCharsets.UTF_8));
+        rabbitTemplate.send("", deadLetterQueue, MessageBuilder.fromMessage(p.message())
+                .setHeader(POISON_REASON_HEADER, p.reason())
+                .build());
+    }
+
+    private record Poison(Message message, String reason) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.ai.config.JobTimeoutProperties;
+import com.example.chillgram.domain.ai.service.JobService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * REQUESTED/RUNNING에서 멈춘 job 정리 (워커 장애, 메시지 유실 대비)
+ * - JobType별 기한(app.jobs.timeout.deadlines)을 넘긴 행을 재발행하거나 FAILED(TIMEOUT) 처리 (JobService.sweepOverdue)
+ * - 이전 회차가 아직 돌고 있으면 이번 회차는 건너뛴다
+ * - 메트릭: jobs.timeout.retried / jobs.timeout.failed (tag: jobType)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jobs.timeout.enabled", havingValue = "true", matchIfMissing = true)
+public class JobTimeoutSweeper {
+
+    private final JobService jobService;
+    private final JobTimeoutProperties props;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public JobTimeoutSweeper(JobService jobService, JobTimeoutProperties props, MeterRegistry meterRegistry) {
+        this.jobService = jobService;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.timeout.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        sweepAll()
+                .doFinally(s -> running.set(false))
+                .subscribe(null, e -> log.warn("job 타임아웃 정리 실패, 다음 회차에 재시도", e));
+    }
+
+    Mono<Void> sweepAll() {
+        return Flux.fromArray(JobType.values())
+                .concatMap(type -> jobService.sweepOverdue(type, props.deadline(type), props.maxAttempts(),
+                                props.backoff(), props.batchSize())
+                        .doOnNext(r -> {
+                            if (r.retried() + r.failed() == 0) {
+                                return;
+                            }
+                            counter("jobs.timeout.retried", type).increment(r.retried());
+                            counter("jobs.timeout.failed", type).increment(r.failed());
+                            log.warn("기한 초과 job 정리. jobType={}, deadline={}, retried={}, failed={}",
+                                    type, props.deadline(type), r.retried(), r.failed());
+                        }))
+                .then();
+    }
+
+    private Counter counter(String name, JobType type) {
+        return Counter.builder(name).tag("jobType", type.name()).register(meterRegistry);
+    }
+}
@@ -1,26 +1,150 @@
 package com.example.chillgram.domain.ai.messaging;
 
 import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * outbox_event 보관 기간(app.outbox.retention-minutes) 지난 행 정리
+ * - 일 단위 파티션 테이블이면: 앞으로 쓸 파티션을 미리 만들고, 기간이 통째로 지난 파티션은 drop
+ * - 남은 행(비파티션 테이블, 당일 파티션): id 기준 batch-size개씩 삭제, batch 사이 batch-pause 대기, 1회 최대 max-batches
+ * - 내장 relay 모드에서는 아직 발행 안 된(published_at is null) 행/파티션을 지우지 않는다
+ *   · app.outbox.cleanup.keep-unpublished (기본값 = app.outbox.relay.enabled)
+ *   · relay를 다른 인스턴스에서만 켠 경우에도 정리를 돌리는 모든 인스턴스에 true로 둔다
+ *     (false면 브로커 장애가 보관 기간보다 길 때 미발행 job 요청이 조용히 지워진다)
+ * - 이전 회차가 아직 돌고 있으면 이번 회차는 건너뛴다
+ * - 메트릭: outbox.cleanup.deleted(삭제 행 수), outbox.cleanup.run.deleted(회차별 분포), outbox.cleanup.partitions.dropped
+ */
+@Slf4j
 @Component
 public class OutboxCleanupScheduler {
 
     private final OutboxEventRepository outboxRepo;
     private final int retentionMinutes;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatches;
+    private final int partitionDaysAhead;
+    private final boolean publishedOnly;
+    private final Counter deleted;
+    private final DistributionSummary deletedPerRun;
+    private final Counter partitionsDropped;
+    private final AtomicBoolean running = new AtomicBoolean();
 
     public OutboxCleanupScheduler(
             OutboxEventRepository outboxRepo,
-            @Value("${app.outbox.retention-minutes:10080}") int retentionMinutes // default 7일
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.retention-minutes:10080}") int retentionMinutes, // default 7일
+            @Value("${app.outbox.cleanup.batch-size:1000}") int batchSize,
+            @Value("${app.outbox.cleanup.batch-pause:200ms}") Duration batchPause,
+            @Value("${app.outbox.cleanup.max-batches:100}") int maxBatches,
+            @Value("${app.outbox.cleanup.partition-days-ahead:3}") int partitionDaysAhead,
+            @Value("${app.outbox.cleanup.keep-unpublished:${app.outbox.relay.enabled:false}}") boolean publishedOnly
     ) {
         this.outboxRepo = outboxRepo;
         this.retentionMinutes = retentionMinutes;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatches = maxBatches;
+        this.partitionDaysAhead = partitionDaysAhead;
+        this.publishedOnly = publishedOnly;
+        this.deleted = Counter.builder("outbox.cleanup.deleted").register(meterRegistry);
+        this.deletedPerRun = DistributionSummary.builder("outbox.cleanup.run.deleted").register(meterRegistry);
+        this.partitionsDropped = Counter.builder("outbox.cleanup.partitions.dropped").register(meterRegistry);
     }
 
     @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:600000}")
     public void cleanup() {
-        outboxRepo.deleteOlderThanMinutes(retentionMinutes).subscribe();
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        cleanupOnce(OffsetDateTime.now(ZoneOffset.UTC))
+                .doFinally(s -> running.set(false))
+                .subscribe(null, e -> log.warn("outbox 정리 실패, 다음 회차에 재시도", e));
+    }
+
+    /**
+     * @return 이번 회차에 batch delete로 지운 행 수 (drop한 파티션의 행은 세지 않음)
+     */
+    Mono<Long> cleanupOnce(OffsetDateTime now) {
+        OffsetDateTime cutoff = now.minusMinutes(retentionMinutes);
+
+        return outboxRepo.isPartitioned()
+                .flatMap(partitioned -> partitioned
+                        ? maintainPartitions(now.toLocalDate(), cutoff)
+                        : Mono.<Void>empty())
+                .then(deleteInBatches(cutoff))
+                .doOnNext(n -> {
+                    deletedPerRun.record(n);
+                    if (n > 0) {
+                        log.info("outbox 정리. cutoff={}, deleted={}", cutoff, n);
+                    }
+                });
+    }
+
+    private Mono<Long> deleteInBatches(OffsetDateTime cutoff) {
+        return Flux.range(0, maxBatches)
+                .concatMap(i -> (i == 0 ? Mono.<Long>empty() : Mono.delay(batchPause).then(Mono.<Long>empty()))
+                        .then(outboxRepo.deleteBatchOlderThan(cutoff, publishedOnly, batchSize)))
+                .doOnNext(deleted::increment)
+                // batch가 덜 찼으면 더 지울 행이 없다
+                .takeUntil(n -> n < batchSize)
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 오늘부터 partitionDaysAhead일 뒤까지 파티션 생성 + 끝 시각이 cutoff 이전인 파티션 drop
+     */
+    private Mono<Void> maintainPartitions(LocalDate today, OffsetDateTime cutoff) {
+        LocalDate firstKept = cutoff.toLocalDate();
+
+        Mono<Void> create = Flux.range(0, partitionDaysAhead + 1)
+                .map(today::plusDays)
+                .concatMap(day -> outboxRepo.createDailyPartition(day)
+                        .onErrorResume(e -> {
+                            log.warn("outbox 파티션 생성 실패 (default 파티션에 같은 기간 행이 있으면 이관 필요). day={}, err={}",
+                                    day, e.toString());
+                            return Mono.empty();
+                        }))
+                .then();
+
+        Mono<Void> drop = outboxRepo.findDailyPartitions()
+                .map(OutboxEventRepository::partitionDay)
+                .filter(Objects::nonNull)
+                // [day, day+1) 전체가 cutoff 이전
+                .filter(day -> day.isBefore(firstKept))
+                .concatMap(this::dropPartition)
+                .then();
+
+        return create.then(drop);
+    }
+
+    private Mono<Void> dropPartition(LocalDate day) {
+        Mono<Boolean> pending = publishedOnly ? outboxRepo.hasUnpublished(day) : Mono.just(false);
+        return pending.flatMap(p -> {
+            if (p) {
+                log.warn("미발행 outbox 행이 남아 파티션 drop 보류. partition={}", OutboxEventRepository.partitionName(day));
+                return Mono.empty();
+            }
+            return outboxRepo.dropDailyPartition(day)
+                    .doOnSuccess(v -> {
+                        partitionsDropped.increment();
+                        log.info("outbox 파티션 drop. partition={}", OutboxEventRepository.partitionName(day));
+                    });
+        });
     }
-}
\ No newline at end of file
+}
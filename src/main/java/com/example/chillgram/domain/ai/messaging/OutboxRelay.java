@@ -0,0 +1,214 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 내장 outbox relay (Debezium 없이 outbox_event → RabbitMQ)
+ * - 트랜잭션 1개 안에서: 미발행 행 batch-size개 선점(FOR UPDATE SKIP LOCKED) → 발행 + publisher confirm 대기
+ *   → ack 받은 행만 published_at 일괄 update
+ * - nack/timeout/unroutable 행은 그대로 두고 다음 회차에 다시 발행 (at-least-once, 워커는 jobId로 멱등 처리)
+ * - 깨우는 조건: insert 시 pg_notify(LISTEN 전용 커넥션) + poll-interval 주기 폴링(알림 유실 대비)
+ * - 여러 인스턴스가 동시에 돌아도 SKIP LOCKED로 서로 다른 행을 가져간다
+ * - Debezium과 동시에 켜면 중복 발행되므로 app.outbox.relay.enabled는 Debezium이 없는 환경에서만 켠다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxRepo;
+    private final TransactionalOperator tx;
+    private final RabbitTemplate rabbitTemplate;
+    private final R2dbcProperties r2dbcProperties;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration confirmTimeout;
+    private final boolean listenEnabled;
+    private final Counter published;
+    private final Counter unconfirmed;
+
+    private Disposable loop;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxRepo,
+            TransactionalOperator tx,
+            RabbitTemplate rabbitTemplate,
+            R2dbcProperties r2dbcProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${app.outbox.relay.poll-interval:5s}") Duration pollInterval,
+            @Value("${app.outbox.relay.confirm-timeout:5s}") Duration confirmTimeout,
+            @Value("${app.outbox.relay.listen:true}") boolean listenEnabled
+    ) {
+        this.outboxRepo = outboxRepo;
+        this.tx = tx;
+        this.rabbitTemplate = rabbitTemplate;
+        this.r2dbcProperties = r2dbcProperties;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.confirmTimeout = confirmTimeout;
+        this.listenEnabled = listenEnabled;
+        this.published = Counter.builder("outbox.relay.published").register(meterRegistry);
+        this.unconfirmed = Counter.builder("outbox.relay.unconfirmed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        Flux<Object> wakeUps = Flux.merge(
+                Flux.interval(Duration.ZERO, pollInterval),
+                listenEnabled ? notifications() : Flux.empty());
+
+        // 처리 중에 들어온 알림은 1개로 합쳐서 다음 drain 1번으로 처리
+        loop = wakeUps
+                .onBackpressureLatest()
+                .concatMap(tick -> drain()
+                        .onErrorResume(e -> {
+                            log.warn("outbox relay 실패, 다음 회차에 재시도", e);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+        log.info("outbox relay 시작. batchSize={}, pollInterval={}, listen={}", batchSize, pollInterval, listenEnabled);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (loop != null) {
+            loop.dispose();
+        }
+    }
+
+    /**
+     * 미발행 행이 batch-size보다 적게 남을 때까지 반복 발행
+     */
+    Mono<Long> drain() {
+        return relayOnce()
+                .expand(n -> n >= batchSize ? relayOnce() : Mono.empty())
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 1 batch: 선점 → 발행/confirm → ack된 행만 published 처리 (한 트랜잭션)
+     *
+     * @return 이번 회차에 선점한 행 수
+     */
+    Mono<Long> relayOnce() {
+        return tx.transactional(outboxRepo.claimUnpublished(batchSize)
+                .collectList()
+                .flatMap(events -> events.isEmpty()
+                        ? Mono.just(0L)
+                        : publish(events)
+                                .flatMap(acked -> outboxRepo.markPublished(acked, OffsetDateTime.now()))
+                                .thenReturn((long) events.size())));
+    }
+
+    /**
+     * 전부 보낸 뒤 confirm을 한꺼번에 기다린다 (건별 왕복 대기 없음)
+     *
+     * @return broker가 ack한 이벤트 id
+     */
+    private Mono<List<UUID>> publish(List<OutboxEvent> events) {
+        return Mono.fromCallable(() -> {
+                    List<CorrelationData> pending = new ArrayList<>(events.size());
+                    for (OutboxEvent e : events) {
+                        CorrelationData cd = new CorrelationData(e.id().toString());
+                        rabbitTemplate.send("", e.routingKey(), toMessage(e), cd);
+                        pending.add(cd);
+                    }
+                    return pending;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(cd -> Mono.fromFuture(cd.getFuture())
+                        .timeout(confirmTimeout)
+                        .map(confirm -> confirm.isAck() && cd.getReturned() == null)
+                        .onErrorReturn(false)
+                        .doOnNext(ok -> {
+                            if (!ok) {
+                                unconfirmed.increment();
+                                log.warn("outbox 발행 미확인, 다음 회차에 재발행. id={}, reason={}",
+                                        cd.getId(), cd.getReturned() != null ? "returned" : "nack/timeout");
+                            }
+                        })
+                        .filter(Boolean::booleanValue)
+                        .map(ok -> UUID.fromString(cd.getId())))
+                .collectList()
+                .doOnNext(acked -> published.increment(acked.size()));
+    }
+
+    private static Message toMessage(OutboxEvent e) {
+        return MessageBuilder.withBody(e.payload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(e.id().toString())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setHeader("eventType", e.eventType())
+                .setHeader("aggregateId", String.valueOf(e.aggregateId()))
+                .build();
+    }
+
+    /**
+     * LISTEN 전용 커넥션 (풀 밖에서 1개 생성, 끊기면 backoff 후 재연결)
+     */
+    private Flux<Object> notifications() {
+        ConnectionFactory listenerFactory = ConnectionFactories.get(ConnectionFactoryOptions
+                .parse(r2dbcProperties.getUrl())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, r2dbcProperties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, r2dbcProperties.getPassword())
+                .build());
+
+        return Flux.usingWhen(
+                        listenerFactory.create(),
+                        conn -> {
+                            PostgresqlConnection pg = (PostgresqlConnection) conn;
+                            return pg.createStatement("LISTEN " + OutboxEventRepository.NOTIFY_CHANNEL)
+                                    .execute()
+                                    .flatMap(PostgresqlResult::getRowsUpdated)
+                                    .thenMany(pg.getNotifications())
+                                    .<Object>map(n -> n)
+                                    // 정상 종료도 연결 끊김으로 보고 재연결
+                                    .concatWith(Mono.error(new IllegalStateException("LISTEN connection closed")));
+                        },
+                        Connection::close)
+                .doOnSubscribe(s -> log.info("outbox LISTEN 연결. channel={}", OutboxEventRepository.NOTIFY_CHANNEL))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(rs -> log.warn("outbox LISTEN 연결 끊김, 재연결 시도 #{}", rs.totalRetries() + 1,
+                                rs.failure())));
+    }
+}
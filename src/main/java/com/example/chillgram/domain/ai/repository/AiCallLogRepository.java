@@ -0,0 +1,79 @@
+package com.example.chillgram.domain.ai.repository;
+
+import com.example.chillgram.domain.ai.service.AiCallRecord;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 호출별 사용량 로그 (ad_generation_log 옆 테이블)
+ * - 스키마: db/migration/V1__ai_call_log.sql
+ */
+@Repository
+public class AiCallLogRepository {
+
+    private final DatabaseClient db;
+
+    public AiCallLogRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /**
+     * 배열 바인딩 + unnest로 N건을 statement 1번에 적재
+     */
+    public Mono<Long> insertBatch(List<AiCallRecord> records) {
+        int n = records.size();
+        Long[] companyIds = new Long[n];
+        Long[] productIds = new Long[n];
+        String[] ops = new String[n];
+        String[] models = new String[n];
+        String[] promptHashes = new String[n];
+        Integer[] promptTokens = new Integer[n];
+        Integer[] completionTokens = new Integer[n];
+        Long[] latencyMs = new Long[n];
+        String[] outcomes = new String[n];
+        Boolean[] parseSuccess = new Boolean[n];
+        Long[] createdAtMs = new Long[n];
+
+        for (int i = 0; i < n; i++) {
+            AiCallRecord r = records.get(i);
+            companyIds[i] = r.companyId();
+            productIds[i] = r.productId();
+            ops[i] = r.op();
+            models[i] = r.model();
+            promptHashes[i] = r.promptHash();
+            promptTokens[i] = r.promptTokens();
+            completionTokens[i] = r.completionTokens();
+            latencyMs[i] = TimeUnit.NANOSECONDS.toMillis(r.latencyNanos());
+            outcomes[i] = r.outcome();
+            parseSuccess[i] = r.parseSuccess();
+            createdAtMs[i] = r.createdAtMillis();
+        }
+
+        return db.sql("""
+                insert into ai_call_log(company_id, product_id, op, model, prompt_hash, prompt_tokens,
+                                        completion_tokens, latency_ms, outcome, parse_success, created_at)
+                select c, p, o, m, h, pt, ct, l, oc, ps, to_timestamp(ca / 1000.0)
+                from unnest(cast(:companyIds as bigint[]), cast(:productIds as bigint[]), cast(:ops as text[]),
+                            cast(:models as text[]), cast(:promptHashes as text[]), cast(:promptTokens as int[]),
+                            cast(:completionTokens as int[]), cast(:latencyMs as bigint[]), cast(:outcomes as text[]),
+                            cast(:parseSuccess as boolean[]), cast(:createdAtMs as bigint[]))
+                     as t(c, p, o, m, h, pt, ct, l, oc, ps, ca)
+                """)
+                .bind("companyIds", companyIds)
+                .bind("productIds", productIds)
+                .bind("ops", ops)
+                .bind("models", models)
+                .bind("promptHashes", promptHashes)
+                .bind("promptTokens", promptTokens)
+                .bind("completionTokens", completionTokens)
+                .bind("latencyMs", latencyMs)
+                .bind("outcomes", outcomes)
+                .bind("parseSuccess", parseSuccess)
+                .bind("createdAtMs", createdAtMs)
+                .fetch().rowsUpdated();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.chillgram.domain.ai.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Worker 결과의 content/project 반영을 set 기반 update로 처리 (결과 배치 반영용)
+ * - 각 메서드는 (id, url[, ratio]) 배열을 unnest로 묶어 update 1번, 실제로 갱신된 id를 반환
+ * - 단건 경로(ContentService.applyMediaResult 등)와 같은 컬럼만 바꾼다
+ */
+@Repository
+public class JobSideEffectRepository {
+
+    private final DatabaseClient db;
+
+    public JobSideEffectRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /**
+     * SNS/VIDEO/BANNER 결과: gcs_img_url (+ bannerRatio가 있으면 banner_ratio)
+     */
+    public Flux<Long> applyContentMedia(List<Long> contentIds, List<String> urls, List<Integer> bannerRatios) {
+        if (contentIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return db.sql("""
+                update content c
+                set gcs_img_url = v.url,
+                    banner_ratio = coalesce(v.ratio, c.banner_ratio)
+                from unnest(cast(:ids as bigint[]), cast(:urls as text[]), cast(:ratios as int[])) as v(id, url, ratio)
+                where c.content_id = v.id
+                returning c.content_id
+                """)
+                .bind("ids", contentIds.toArray(Long[]::new))
+                .bind("urls", urls.toArray(String[]::new))
+                .bind("ratios", bannerRatios.toArray(Integer[]::new))
+                .map((row, meta) -> row.get("content_id", Long.class))
+                .all();
+    }
+
+    /**
+     * DIELINE → content 목업 결과: gcs_img_url + status=ACTIVE (Content.updateMockup과 동일)
+     */
+    public Flux<Long> applyContentMockup(List<Long> contentIds, List<String> urls, LocalDateTime now) {
+        if (contentIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return db.sql("""
+                update content c
+                set gcs_img_url = v.url,
+                    status = 'ACTIVE',
+                    updated_at = :now
+                from unnest(cast(:ids as bigint[]), cast(:urls as text[])) as v(id, url)
+                where c.content_id = v.id
+                returning c.content_id
+                """)
+                .bind("ids", contentIds.toArray(Long[]::new))
+                .bind("urls", urls.toArray(String[]::new))
+                .bind("now", now)
+                .map((row, meta) -> row.get("content_id", Long.class))
+                .all();
+    }
+
+    /**
+     * DIELINE → project 목업 결과: mockup_result_url (Project.applyMockupResult와 동일)
+     */
+    public Flux<Long> applyProjectMockup(List<Long> projectIds, List<String> urls, LocalDateTime now) {
+        if (projectIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return db.sql("""
+                update project p
+                set mockup_result_url = v.url,
+                    updated_at = :now
+                from unnest(cast(:ids as bigint[]), cast(:urls as text[])) as v(id, url)
+                where p.project_id = v.id
+                returning p.project_id
+                """)
+                .bind("ids", projectIds.toArray(Long[]::new))
+                .bind("urls", urls.toArray(String[]::new))
+                .bind("now", now)
+                .map((row, meta) -> row.get("project_id", Long.class))
+                .all();
+    }
+}
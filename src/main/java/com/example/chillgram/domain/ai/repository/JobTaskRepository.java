@@ -5,13 +5,27 @@ import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
 import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Row;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * job_task (job 요청/상태/결과)
+ * - attempt: 타임아웃 재발행 횟수 (JobTimeoutSweeper)
+ * - (status, updated_at) 인덱스: 진행 중 job 중 기한 초과 행을 범위 스캔으로 찾는다
+ * - idempotency_key: 클라이언트 Idempotency-Key(호출 측에서 범위를 붙인 값), 영구 unique
+ * - dedup_key: projectId + jobType + payload 해시, 진행 중(REQUESTED/RUNNING)인 동안만 unique
+ *   (끝난 뒤 같은 내용으로 다시 요청하는 건 새 job)
+ * - 스키마: db/migration/V3__job_task_attempt.sql, V4__job_task_idempotency.sql
+ */
 @Repository
 public class JobTaskRepository {
 
@@ -37,6 +51,57 @@ public class JobTaskRepository {
                 .fetch().rowsUpdated().then();
     }
 
+    /**
+     * 여러 job 멱등 insert (unnest, 쿼리 1번)
+     * - idempotency_key/dedup_key가 이미 있는 행(같은 batch 안에서 겹치는 행 포함)은 건너뛴다
+     *
+     * @return 새로 insert 된 jobId
+     */
+    public Flux<UUID> insertRequestedAll(List<NewJob> jobs, OffsetDateTime now) {
+        if (jobs.isEmpty()) {
+            return Flux.empty();
+        }
+        return db.sql("""
+                insert into job_task(job_id, project_id, job_type, status, payload, requested_at, updated_at,
+                                     idempotency_key, dedup_key)
+                select v.job_id, v.project_id, v.job_type, :status, cast(v.payload as jsonb), :now, :now,
+                       v.idempotency_key, v.dedup_key
+                from unnest(cast(:jobIds as uuid[]), cast(:projectIds as bigint[]), cast(:jobTypes as text[]),
+                            cast(:payloads as text[]), cast(:idempotencyKeys as text[]), cast(:dedupKeys as text[]))
+                     as v(job_id, project_id, job_type, payload, idempotency_key, dedup_key)
+                on conflict do nothing
+                returning job_id
+                """)
+                .bind("jobIds", jobs.stream().map(NewJob::jobId).toArray(UUID[]::new))
+                .bind("projectIds", jobs.stream().map(NewJob::projectId).toArray(Long[]::new))
+                .bind("jobTypes", jobs.stream().map(j -> j.jobType().name()).toArray(String[]::new))
+                .bind("payloads", jobs.stream().map(j -> j.payload().toString()).toArray(String[]::new))
+                .bind("idempotencyKeys", jobs.stream().map(NewJob::idempotencyKey).toArray(String[]::new))
+                .bind("dedupKeys", jobs.stream().map(NewJob::dedupKey).toArray(String[]::new))
+                .bind("status", JobStatus.REQUESTED.name())
+                .bind("now", now)
+                .map((row, meta) -> row.get("job_id", UUID.class))
+                .all();
+    }
+
+    /**
+     * 멱등 키로 기존 job 찾기 (idempotency_key 우선, dedup_key는 진행 중인 job만)
+     */
+    public Mono<UUID> findIdByKeys(String idempotencyKey, String dedupKey) {
+        return db.sql("""
+                select job_id from job_task where idempotency_key = :idempotencyKey
+                union all
+                select job_id from job_task where dedup_key = :dedupKey and status in (:requested, :running)
+                limit 1
+                """)
+                .bind("idempotencyKey", idempotencyKey == null ? "" : idempotencyKey)
+                .bind("dedupKey", dedupKey == null ? "" : dedupKey)
+                .bind("requested", JobStatus.REQUESTED.name())
+                .bind("running", JobStatus.RUNNING.name())
+                .map((row, meta) -> row.get("job_id", UUID.class))
+                .one();
+    }
+
     public Mono<JobResponse> findById(UUID jobId) {
         return db.sql("""
                 select job_id, project_id, job_type, status, payload, output_uri, error_code, error_message, requested_at, updated_at
@@ -44,27 +109,105 @@ public class JobTaskRepository {
                 where job_id = :jobId
                 """)
                 .bind("jobId", jobId)
-                .map((row, meta) -> {
-                    var payloadStr = row.get("payload", String.class);
-                    JsonNode payload = null;
-                    try { payload = payloadStr == null ? null : om.readTree(payloadStr); } catch (Exception ignored) {}
-
-                    return new JobResponse(
-                            row.get("job_id", UUID.class),
-                            row.get("project_id", Long.class),
-                            JobType.valueOf(row.get("job_type", String.class)),
-                            JobStatus.valueOf(row.get("status", String.class)),
-                            payload,
-                            row.get("output_uri", String.class),
-                            row.get("error_code", String.class),
-                            row.get("error_message", String.class),
-                            row.get("requested_at", OffsetDateTime.class),
-                            row.get("updated_at", OffsetDateTime.class)
-                    );
-                })
+                .map((row, meta) -> toResponse(row))
                 .one();
     }
 
+    /**
+     * 여러 job을 쿼리 1번으로 조회 (결과 배치 반영용)
+     */
+    public Flux<JobResponse> findAllByIds(Collection<UUID> jobIds) {
+        return db.sql("""
+                select job_id, project_id, job_type, status, payload, output_uri, error_code, error_message, requested_at, updated_at
+                from job_task
+                where job_id = any(:jobIds)
+                """)
+                .bind("jobIds", jobIds.toArray(UUID[]::new))
+                .map((row, meta) -> toResponse(row))
+                .all();
+    }
+
+    /**
+     * 프로젝트의 진행 중(REQUESTED/RUNNING) job 목록 (구독 시작 시 스냅샷용)
+     */
+    public Flux<JobResponse> findInFlightByProject(long projectId) {
+        return db.sql("""
+                select job_id, project_id, job_type, status, payload, output_uri, error_code, error_message, requested_at, updated_at
+                from job_task
+                where project_id = :projectId and status in (:requested, :running)
+                order by requested_at
+                """)
+                .bind("projectId", projectId)
+                .bind("requested", JobStatus.REQUESTED.name())
+                .bind("running", JobStatus.RUNNING.name())
+                .map((row, meta) -> toResponse(row))
+                .all();
+    }
+
+    private JobResponse toResponse(Row row) {
+        var payloadStr = row.get("payload", String.class);
+        JsonNode payload = null;
+        try { payload = payloadStr == null ? null : om.readTree(payloadStr); } catch (Exception ignored) {}
+
+        return new JobResponse(
+                row.get("job_id", UUID.class),
+                row.get("project_id", Long.class),
+                JobType.valueOf(row.get("job_type", String.class)),
+                JobStatus.valueOf(row.get("status", String.class)),
+                payload,
+                row.get("output_uri", String.class),
+                row.get("error_code", String.class),
+                row.get("error_message", String.class),
+                row.get("requested_at", OffsetDateTime.class),
+                row.get("updated_at", OffsetDateTime.class)
+        );
+    }
+
+    /**
+     * 서버 내 처리 작업 (재)시작: REQUESTED/FAILED → RUNNING 조건부 전이 (이어하기 용)
+     * - 이미 RUNNING(다른 요청이 처리 중)이거나 SUCCEEDED면 바꾸지 않고 empty
+     * - 행 잠금 후 조건을 다시 보므로 동시에 두 요청이 와도 한쪽만 성공한다
+     */
+    public Mono<JobResponse> markRunning(UUID jobId, OffsetDateTime now) {
+        return db.sql("""
+                update job_task
+                set status = :running,
+                    error_code = null,
+                    error_message = null,
+                    updated_at = :now
+                where job_id = :jobId and status in (:requested, :failed)
+                returning job_id, project_id, job_type, status, payload, output_uri, error_code, error_message, requested_at, updated_at
+                """)
+                .bind("running", JobStatus.RUNNING.name())
+                .bind("requested", JobStatus.REQUESTED.name())
+                .bind("failed", JobStatus.FAILED.name())
+                .bind("now", now)
+                .bind("jobId", jobId)
+                .map((row, meta) -> toResponse(row))
+                .one();
+    }
+
+    /**
+     * payload.results[key] = value (부분 결과 누적)
+     * - 행 단위 update라 같은 job에 대한 동시 호출도 서로 덮어쓰지 않는다
+     */
+    public Mono<Long> putResult(UUID jobId, String key, JsonNode value, OffsetDateTime now) {
+        return db.sql("""
+                update job_task
+                set payload = jsonb_set(
+                        coalesce(payload, '{}'::jsonb),
+                        '{results}',
+                        coalesce(payload -> 'results', '{}'::jsonb) || jsonb_build_object(:key, cast(:value as jsonb))),
+                    updated_at = :now
+                where job_id = :jobId
+                """)
+                .bind("key", key)
+                .bind("value", value.toString())
+                .bind("now", now)
+                .bind("jobId", jobId)
+                .fetch().rowsUpdated();
+    }
+
     public Mono<Long> markSucceeded(UUID jobId, String outputUri, OffsetDateTime now) {
         return db.sql("""
                 update job_task
@@ -103,4 +246,139 @@ public class JobTaskRepository {
                 .bind("running", JobStatus.RUNNING.name())
                 .fetch().rowsUpdated();
     }
-}
\ No newline at end of file
+
+    /**
+     * markSucceeded 배치판: (jobId, outputUri) 쌍을 unnest로 묶어 update 1번
+     */
+    public Mono<Long> markSucceededAll(List<UUID> jobIds, List<String> outputUris, OffsetDateTime now) {
+        if (jobIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return db.sql("""
+                update job_task j
+                set status = :succeeded,
+                    output_uri = v.output_uri,
+                    error_code = null,
+                    error_message = null,
+                    updated_at = :now
+                from unnest(cast(:jobIds as uuid[]), cast(:outputUris as text[])) as v(job_id, output_uri)
+                where j.job_id = v.job_id and j.status in (:requested, :running)
+                """)
+                .bind("succeeded", JobStatus.SUCCEEDED.name())
+                .bind("jobIds", jobIds.toArray(UUID[]::new))
+                .bind("outputUris", outputUris.toArray(String[]::new))
+                .bind("now", now)
+                .bind("requested", JobStatus.REQUESTED.name())
+                .bind("running", JobStatus.RUNNING.name())
+                .fetch().rowsUpdated();
+    }
+
+    /**
+     * markFailed 배치판
+     */
+    public Mono<Long> markFailedAll(List<UUID> jobIds, List<String> errorCodes, List<String> errorMessages,
+                                    OffsetDateTime now) {
+        if (jobIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return db.sql("""
+                update job_task j
+                set status = :failed,
+                    output_uri = null,
+                    error_code = v.error_code,
+                    error_message = v.error_message,
+                    updated_at = :now
+                from unnest(cast(:jobIds as uuid[]), cast(:errorCodes as text[]), cast(:errorMessages as text[]))
+                     as v(job_id, error_code, error_message)
+                where j.job_id = v.job_id and j.status in (:requested, :running)
+                """)
+                .bind("failed", JobStatus.FAILED.name())
+                .bind("jobIds", jobIds.toArray(UUID[]::new))
+                .bind("errorCodes", errorCodes.toArray(String[]::new))
+                .bind("errorMessages", errorMessages.toArray(String[]::new))
+                .bind("now", now)
+                .bind("requested", JobStatus.REQUESTED.name())
+                .bind("running", JobStatus.RUNNING.name())
+                .fetch().rowsUpdated();
+    }
+
+    /**
+     * 기한 초과 진행 중 job 선점 (호출 측 트랜잭션 안에서 사용)
+     * - updated_at < cutoff: (status, updated_at) 인덱스 범위
+     * - 재발행된 job은 backoff * 2^(attempt-1) 만큼 더 기다린 뒤에 다시 대상이 된다
+     * - FOR UPDATE SKIP LOCKED: 여러 인스턴스의 sweeper가 같은 행을 잡지 않는다
+     */
+    public Flux<OverdueJob> claimOverdue(JobType jobType, OffsetDateTime cutoff, Duration backoff, int limit) {
+        return db.sql("""
+                select job_id, project_id, job_type, status, payload, output_uri, error_code, error_message,
+                       requested_at, updated_at, attempt
+                from job_task
+                where status in (:requested, :running)
+                  and updated_at < :cutoff
+                  and job_type = :jobType
+                  and updated_at + case when attempt > 0
+                                        then make_interval(secs => :backoffSec * power(2, least(attempt - 1, 10)))
+                                        else interval '0' end < :cutoff
+                order by updated_at
+                limit :limit
+                for update skip locked
+                """)
+                .bind("requested", JobStatus.REQUESTED.name())
+                .bind("running", JobStatus.RUNNING.name())
+                .bind("cutoff", cutoff)
+                .bind("jobType", jobType.name())
+                .bind("backoffSec", (double) backoff.toSeconds())
+                .bind("limit", limit)
+                .map((row, meta) -> new OverdueJob(toResponse(row), row.get("attempt", Integer.class)))
+                .all();
+    }
+
+    /**
+     * 타임아웃 재발행: REQUESTED로 되돌리고 attempt + 1 (기한은 now부터 다시 계산)
+     */
+    public Mono<Long> markRetried(List<UUID> jobIds, OffsetDateTime now) {
+        if (jobIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return db.sql("""
+                update job_task
+                set status = :requested,
+                    attempt = attempt + 1,
+                    updated_at = :now
+                where job_id = any(:jobIds) and status in (:requested, :running)
+                """)
+                .bind("jobIds", jobIds.toArray(UUID[]::new))
+                .bind("now", now)
+                .bind("requested", JobStatus.REQUESTED.name())
+                .bind("running", JobStatus.RUNNING.name())
+                .fetch().rowsUpdated();
+    }
+
+    /**
+     * JobType별 대기(REQUESTED) 건수와 가장 오래 기다린 시각 (lane 메트릭용, (status, updated_at) 인덱스)
+     */
+    public Flux<WaitingJobs> countWaitingByType() {
+        return db.sql("""
+                select job_type, count(*) as waiting, min(updated_at) as oldest
+                from job_task
+                where status = :requested
+                group by job_type
+                """)
+                .bind("requested", JobStatus.REQUESTED.name())
+                .map((row, meta) -> new WaitingJobs(
+                        JobType.valueOf(row.get("job_type", String.class)),
+                        row.get("waiting", Long.class),
+                        row.get("oldest", OffsetDateTime.class)))
+                .all();
+    }
+
+    public record NewJob(UUID jobId, long projectId, JobType jobType, JsonNode payload,
+                         String idempotencyKey, String dedupKey) {
+    }
+
+    public record OverdueJob(JobResponse job, int attempt) {
+    }
+
+    public record WaitingJobs(JobType jobType, long waiting, OffsetDateTime oldest) {
+    }
+}
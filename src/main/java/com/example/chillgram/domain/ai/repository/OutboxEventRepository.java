@@ -3,14 +3,34 @@ package com.example.chillgram.domain.ai.repository;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * outbox_event (job 요청 이벤트)
+ * - Debezium 또는 내장 OutboxRelay가 routing_key로 발행
+ * - 내장 relay는 발행 후 published_at을 채운다 (Debezium 모드에서는 null 유지)
+ * - 정리(OutboxCleanupScheduler): 일 단위 파티션이면 기간 지난 파티션을 drop, 남은 행은 id 기준 batch delete
+ * - 스키마: db/migration/V2__outbox_event_published_at.sql, V4_1__outbox_event_created_at.sql
+ *   (일 단위 파티션 전환은 선택 - V4_1 파일의 주석 DDL을 운영자가 실행)
+ */
 @Repository
 public class OutboxEventRepository {
 
+    /**
+     * insert 시 NOTIFY 채널 (OutboxRelay가 LISTEN, 트랜잭션 커밋 시점에 전달됨)
+     */
+    public static final String NOTIFY_CHANNEL = "outbox_event";
+
+    private static final String PARTITION_PREFIX = "outbox_event_p";
+
     private final DatabaseClient db;
 
     public OutboxEventRepository(DatabaseClient db) {
@@ -27,9 +47,13 @@ public class OutboxEventRepository {
             OffsetDateTime now
     ) {
         return db.sql("""
-                insert into outbox_event(id, aggregate_type, aggregate_id, event_type, routing_key, payload, created_at)
-                values (:id, :aggregateType, :aggregateId, :eventType, :routingKey, cast(:payload as jsonb), :now)
-                """)
+                with ins as (
+                    insert into outbox_event(id, aggregate_type, aggregate_id, event_type, routing_key, payload, created_at)
+                    values (:id, :aggregateType, :aggregateId, :eventType, :routingKey, cast(:payload as jsonb), :now)
+                    returning id
+                )
+                select pg_notify('%s', id::text) from ins
+                """.formatted(NOTIFY_CHANNEL))
                 .bind("id", id)
                 .bind("aggregateType", aggregateType)
                 .bind("aggregateId", aggregateId)
@@ -37,16 +61,173 @@ public class OutboxEventRepository {
                 .bind("routingKey", routingKey)
                 .bind("payload", payload.toString())
                 .bind("now", now)
-                .fetch().rowsUpdated()
+                .fetch().first()
+                .then();
+    }
+
+    /**
+     * 같은 aggregateType/eventType 이벤트 여러 건 insert (unnest, 쿼리 1번). 리스트는 같은 index끼리 한 행
+     */
+    public Mono<Void> insertOutboxAll(
+            String aggregateType,
+            String eventType,
+            List<UUID> ids,
+            List<UUID> aggregateIds,
+            List<String> routingKeys,
+            List<JsonNode> payloads,
+            OffsetDateTime now
+    ) {
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return db.sql("""
+                with ins as (
+                    insert into outbox_event(id, aggregate_type, aggregate_id, event_type, routing_key, payload, created_at)
+                    select v.id, :aggregateType, v.aggregate_id, :eventType, v.routing_key, cast(v.payload as jsonb), :now
+                    from unnest(cast(:ids as uuid[]), cast(:aggregateIds as uuid[]), cast(:routingKeys as text[]),
+                                cast(:payloads as text[])) as v(id, aggregate_id, routing_key, payload)
+                    returning id
+                )
+                select pg_notify('%s', id::text) from ins
+                """.formatted(NOTIFY_CHANNEL))
+                .bind("ids", ids.toArray(UUID[]::new))
+                .bind("aggregateIds", aggregateIds.toArray(UUID[]::new))
+                .bind("routingKeys", routingKeys.toArray(String[]::new))
+                .bind("payloads", payloads.stream().map(JsonNode::toString).toArray(String[]::new))
+                .bind("aggregateType", aggregateType)
+                .bind("eventType", eventType)
+                .bind("now", now)
+                .fetch().all()
                 .then();
     }
 
-    public Mono<Long> deleteOlderThanMinutes(int minutes) {
+    /**
+     * 미발행 이벤트 선점 (호출 측 트랜잭션 안에서 사용)
+     * - FOR UPDATE SKIP LOCKED: 다른 인스턴스가 잡고 있는 행은 건너뛰므로 여러 relay가 겹치지 않는다
+     */
+    public Flux<OutboxEvent> claimUnpublished(int limit) {
+        return db.sql("""
+                select id, aggregate_id, event_type, routing_key, cast(payload as text) as payload
+                from outbox_event
+                where published_at is null
+                order by created_at
+                limit :limit
+                for update skip locked
+                """)
+                .bind("limit", limit)
+                .map((row, meta) -> new OutboxEvent(
+                        row.get("id", UUID.class),
+                        row.get("aggregate_id", UUID.class),
+                        row.get("event_type", String.class),
+                        row.get("routing_key", String.class),
+                        row.get("payload", String.class)))
+                .all();
+    }
+
+    public Mono<Long> markPublished(List<UUID> ids, OffsetDateTime now) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return db.sql("""
+                update outbox_event
+                set published_at = :now
+                where id = any(:ids)
+                """)
+                .bind("ids", ids.toArray(UUID[]::new))
+                .bind("now", now)
+                .fetch().rowsUpdated();
+    }
+
+    /**
+     * cutoff 이전 행을 최대 limit개 삭제 (id 기준, 한 번에 잡는 lock/WAL 크기를 제한)
+     * - publishedOnly: 내장 relay 모드에서는 아직 발행 안 된 행을 남긴다
+     * - 다른 인스턴스가 지우는 중인 행은 건너뛴다 (SKIP LOCKED)
+     * - 바깥 created_at 조건은 파티션 테이블에서 pruning용
+     */
+    public Mono<Long> deleteBatchOlderThan(OffsetDateTime cutoff, boolean publishedOnly, int limit) {
         return db.sql("""
                 delete from outbox_event
-                where created_at < now() - (:minutes || ' minutes')::interval
+                where created_at < :cutoff
+                  and id in (
+                      select id from outbox_event
+                      where created_at < :cutoff
+                        and (published_at is not null or not :publishedOnly)
+                      order by created_at
+                      limit :limit
+                      for update skip locked
+                  )
                 """)
-                .bind("minutes", minutes)
+                .bind("cutoff", cutoff)
+                .bind("publishedOnly", publishedOnly)
+                .bind("limit", limit)
                 .fetch().rowsUpdated();
     }
-}
\ No newline at end of file
+
+    public Mono<Boolean> isPartitioned() {
+        return db.sql("select relkind = 'p' as partitioned from pg_class where relname = 'outbox_event'")
+                .map((row, meta) -> Boolean.TRUE.equals(row.get("partitioned", Boolean.class)))
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * 일 단위 파티션 이름 (outbox_event_pYYYYMMDD). default 파티션 등 다른 이름은 포함하지 않는다
+     */
+    public Flux<String> findDailyPartitions() {
+        return db.sql("""
+                select c.relname
+                from pg_inherits i
+                join pg_class c on c.oid = i.inhrelid
+                join pg_class p on p.oid = i.inhparent
+                where p.relname = 'outbox_event'
+                  and c.relname ~ '^outbox_event_p[0-9]{8}$'
+                order by c.relname
+                """)
+                .map((row, meta) -> row.get("relname", String.class))
+                .all();
+    }
+
+    /**
+     * [day 00:00Z, day+1 00:00Z) 파티션 생성 (이미 있으면 no-op)
+     */
+    public Mono<Void> createDailyPartition(LocalDate day) {
+        return db.sql("""
+                create table if not exists %s partition of outbox_event
+                for values from ('%s 00:00:00+00') to ('%s 00:00:00+00')
+                """.formatted(partitionName(day), day, day.plusDays(1)))
+                .then();
+    }
+
+    public Mono<Boolean> hasUnpublished(LocalDate day) {
+        return db.sql("select exists(select 1 from %s where published_at is null) as pending"
+                        .formatted(partitionName(day)))
+                .map((row, meta) -> Boolean.TRUE.equals(row.get("pending", Boolean.class)))
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Void> dropDailyPartition(LocalDate day) {
+        return db.sql("drop table if exists " + partitionName(day)).then();
+    }
+
+    public static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * @return 일 단위 파티션 이름이 아니면 null
+     */
+    public static LocalDate partitionDay(String name) {
+        if (name == null || !name.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(name.substring(PARTITION_PREFIX.length()), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public record OutboxEvent(UUID id, UUID aggregateId, String eventType, String routingKey, String payload) {
+    }
+}
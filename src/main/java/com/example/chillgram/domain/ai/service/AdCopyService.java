@@ -7,34 +7,53 @@ import com.example.chillgram.domain.ai.dto.FinalCopyResponse;
 import com.example.chillgram.domain.ai.dto.GuidelineRequest;
 import com.example.chillgram.domain.ai.dto.GuidelineResponse;
 import com.example.chillgram.domain.ai.dto.VisualGuideOption;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Gemini 기반 광고 가이드라인 및 최종 카피 생성 서비스 (2-Step Flow)
+ * - Mono/Flux API는 reactiveChatClient(Gemini SSE, non-blocking)가 있으면 그쪽으로 호출하고
+ *   없으면 기본 ChatClient를 AI 전용 레인(ai-call)에서 블로킹 호출
  */
 @Slf4j
 @Service
 public class AdCopyService {
 
     private final ChatClient chatClient;
+    private final ChatClient reactiveClient;
     private final ObjectMapper objectMapper;
-
-    public AdCopyService(ObjectProvider<ChatClient> chatClientProvider, ObjectMapper objectMapper) {
+    private final AiResponseCache responseCache;
+    private final AiSingleFlight singleFlight;
+    private final AiCallLimiter callLimiter;
+    private final AiHedgedCaller hedgedCaller;
+    private final AiUsageRecorder usage;
+    private final PromptPrefixCache promptCache;
+
+    public AdCopyService(ObjectProvider<ChatClient> chatClientProvider, ObjectMapper objectMapper,
+            AiResponseCache responseCache, AiSingleFlight singleFlight, AiCallLimiter callLimiter,
+            AiHedgedCaller hedgedCaller, AiUsageRecorder usage, ObjectProvider<PromptPrefixCache> promptCacheProvider,
+            @Qualifier("reactiveChatClient") ObjectProvider<ChatClient> reactiveClientProvider) {
         this.chatClient = chatClientProvider.getIfAvailable();
+        this.reactiveClient = reactiveClientProvider.getIfAvailable();
         this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.singleFlight = singleFlight;
+        this.callLimiter = callLimiter;
+        this.hedgedCaller = hedgedCaller;
+        this.usage = usage;
+        this.promptCache = promptCacheProvider.getIfAvailable();
     }
 
     private void checkAiEnabled() {
@@ -44,29 +63,143 @@ public class AdCopyService {
         }
     }
 
+    /**
+     * 정적 system + 요청별 user 프롬프트로 요청 구성
+     * - 프롬프트 캐시 핸들이 있으면 system을 보내지 않고 cachedContentName으로 참조
+     * - 모델 override(헤지) 호출은 캐시가 다른 모델용이므로 system 인라인
+     */
+    private ChatClient.ChatClientRequestSpec prompt(ChatClient client, String op, String system, String user,
+            String model) {
+        String handle = (promptCache == null || model != null) ? null : promptCache.handle(op, system);
+        ChatClient.ChatClientRequestSpec spec = client.prompt().user(user);
+        if (handle != null) {
+            return spec.options(GoogleGenAiChatOptions.builder()
+                    .cachedContentName(handle)
+                    .useCachedContent(true)
+                    .build());
+        }
+        spec = spec.system(system);
+        if (model != null) {
+            spec = spec.options(GoogleGenAiChatOptions.builder().model(model).build());
+        }
+        return spec;
+    }
+
+    /**
+     * 사용량 기록(AiUsageAdvisor)용 record를 요청에 싣는다. record가 없으면(null) untracked로 집계
+     */
+    private static ChatClient.ChatClientRequestSpec tracked(ChatClient.ChatClientRequestSpec spec, AiCallRecord rec) {
+        return rec == null ? spec : spec.advisors(a -> a.param(AiUsageAdvisor.RECORD_PARAM, rec));
+    }
+
+    /**
+     * 모델 응답 텍스트 1건 (호출 한도 적용)
+     * - reactiveChatClient가 있으면 SSE 청크를 모아서 반환 → 응답 대기 중 스레드를 점유하지 않음
+     * - 없으면 블로킹 ChatClient를 AI 전용 레인에서 호출
+     */
+    private Mono<String> complete(String op, String system, String user, String model, AiCallRecord rec) {
+        if (reactiveClient != null) {
+            return callLimiter.executeAsync(() -> tracked(prompt(reactiveClient, op, system, user, model), rec)
+                    .stream().content()
+                    .collect(Collectors.joining()));
+        }
+        return callLimiter.execute(() -> {
+            checkAiEnabled();
+            return Objects.requireNonNullElse(
+                    tracked(prompt(chatClient, op, system, user, model), rec).call().content(), "");
+        });
+    }
+
+    /**
+     * 모델 응답 청크 스트림 (호출 한도 적용, 스트림이 끝날 때까지 슬롯 점유)
+     */
+    private Flux<String> streamContent(String op, String system, String user, AiCallRecord rec) {
+        if (reactiveClient != null) {
+            return callLimiter.streamAsync(() -> tracked(prompt(reactiveClient, op, system, user, null), rec)
+                    .stream().content());
+        }
+        return callLimiter.stream(() -> {
+            checkAiEnabled();
+            return tracked(prompt(chatClient, op, system, user, null), rec).stream().content();
+        });
+    }
+
     // =========================================================
     // 1단계: 광고 가이드라인 5개 생성 (ad-guides)
     // =========================================================
 
+    /**
+     * 광고 가이드라인 생성 (single-flight + 캐시 적용)
+     * - 동시에 들어온 동일 요청은 1건의 조회/호출을 공유
+     * - 동일 제품 + 동일 프롬프트는 Redis 캐시에서 바로 반환
+     * - 파싱 실패 fallback 응답은 캐시하지 않음
+     */
     public Mono<AdGuidesResponse> generateAdGuidesMono(AdGuideAiRequest request) {
-        return Mono.fromCallable(() -> generateAdGuides(request))
-                .subscribeOn(Schedulers.boundedElastic());
+        return Mono.defer(() -> {
+            String prompt = buildAdGuidesPrompt(request);
+            String hash = responseCache.promptHash(AdPromptTemplates.AD_GUIDES_SYSTEM, prompt);
+            return singleFlight.execute("ad-guides", request.productId() + ":" + hash,
+                    () -> responseCache.getOrLoad(
+                            "ad-guides",
+                            request.productId(),
+                            hash,
+                            new TypeReference<AdGuidesResponse>() {
+                            },
+                            res -> !LlmResponseParser.isFallback(res),
+                            usage.track("ad-guides", request.productId(), hash,
+                                    res -> !LlmResponseParser.isFallback(res),
+                                    rec -> complete("ad-guides", AdPromptTemplates.AD_GUIDES_SYSTEM, prompt, null, rec)
+                                            .map(this::parseAdGuides))));
+        });
     }
 
-    public AdGuidesResponse generateAdGuides(AdGuideAiRequest request) {
-        checkAiEnabled();
+    private AdGuidesResponse parseAdGuides(String response) {
+        log.info("광고 가이드라인 생성 응답: {}", response);
 
+        return LlmResponseParser.parseAdGuides(response);
+    }
+
+    /**
+     * 광고 가이드라인 스트리밍 생성.
+     * - ChatClient stream()으로 청크를 받아 [GUIDE_END]가 닫히는 즉시 가이드 1개씩 방출
+     * - 블록이 하나도 없으면 generateAdGuidesMono와 동일하게 raw 텍스트 fallback 1개 방출
+     * - GenAI SDK 스트림(블로킹 Iterator)으로 fallback 된 경우에만 AI 전용 레인에서 구독
+     */
+    public Flux<AdGuidesResponse.GuidelineOption> streamAdGuides(AdGuideAiRequest request) {
+        return Flux.defer(() -> {
+            String prompt = buildAdGuidesPrompt(request);
+            return usage.trackStream("ad-guides-stream", request.productId(),
+                    responseCache.promptHash(AdPromptTemplates.AD_GUIDES_SYSTEM, prompt),
+                    rec -> Flux.defer(() -> {
+                        GuideBlockStreamParser parser = new GuideBlockStreamParser();
+
+                        return streamContent("ad-guides", AdPromptTemplates.AD_GUIDES_SYSTEM, prompt, rec)
+                                .concatMapIterable(parser::feed)
+                                .index()
+                                .map(t -> LlmResponseParser.parseGuideBlock(t.getT2(), t.getT1().intValue() + 1))
+                                .concatWith(Mono.fromSupplier(() -> parser.emittedCount() == 0
+                                        ? LlmResponseParser.fallbackGuide(parser.remainder())
+                                        : null))
+                                .doOnComplete(() -> {
+                                    usage.parsed(rec, parser.emittedCount() > 0);
+                                    log.info("광고 가이드라인 스트리밍 완료: {}건", parser.emittedCount());
+                                });
+                    }));
+        });
+    }
+
+    /**
+     * 요청별 user 프롬프트 (역할/출력 포맷은 AdPromptTemplates.AD_GUIDES_SYSTEM)
+     * - 메시지 초점/광고 목표 지침은 고른 값에 해당하는 것만 싣는다
+     */
+    private String buildAdGuidesPrompt(AdGuideAiRequest request) {
         String focusInstruction = buildFocusInstruction(
                 request.adMessageFocus(),
                 String.join(", ", request.trendKeywords()),
                 request.reviewText());
         String targetInstruction = buildTargetInstruction(request.adMessageTarget());
 
-        String prompt = """
-                당신은 한국 시장의 퍼포먼스 마케터이자 카피라이터입니다.
-                아래 입력을 바탕으로 '광고 가이드라인'을 작성하세요.
-                반드시 지정된 포맷을 지키세요. 포맷을 어기면 실패로 간주됩니다.
-
+        return """
                 [입력 정보]
                 - 제품명: %s
                 - 프로젝트 제목: %s
@@ -79,22 +212,6 @@ public class AdCopyService {
                 %s
 
                 %s
-
-                [출력 형식]
-                [GUIDE_START]
-                ID: (고유 ID)
-                Title: (직관적인 가이드라인 제목, 예: 제품 중심 홍보)
-                Summary: (핵심 전략 요약)
-                Badge: (유형 배지, 예: 전환형, 브랜딩형)
-                Score: (추천 점수 0-100)
-                Rationale: (점수 산정 근거 또는 추천 이유)
-                KeyPoints:
-                - Tone: (톤앤매너 키워드)
-                - Structure: (구조적 특징)
-                - CTA: (행동 유도 전략)
-                [GUIDE_END]
-
-                총 5개의 가이드라인을 생성하세요.
                 """.formatted(
                 request.productName(),
                 request.projectTitle(),
@@ -105,11 +222,6 @@ public class AdCopyService {
                 request.styleSummary(),
                 focusInstruction,
                 targetInstruction);
-
-        String response = chatClient.prompt().user(prompt).call().content();
-        log.info("광고 가이드라인 생성 응답: {}", response);
-
-        return parseAdGuidesResponse(response);
     }
 
     // ── focus(0~4)에 따라 트렌드 vs 리뷰 가중치 조절 ──
@@ -156,69 +268,33 @@ public class AdCopyService {
         };
     }
 
-    private AdGuidesResponse parseAdGuidesResponse(String response) {
-        List<AdGuidesResponse.GuidelineOption> guides = new ArrayList<>();
-        String clean = (response == null ? "" : response).replaceAll("\\*\\*", "");
-
-        Matcher blockMatcher = Pattern.compile("(?s)\\[GUIDE_START\\](.*?)\\[GUIDE_END\\]").matcher(clean);
-
-        int index = 1;
-        String recommendedId = null;
-        int highestScore = -1;
-
-        while (blockMatcher.find()) {
-            String block = blockMatcher.group(1);
-
-            String id = extractValue(block, "ID");
-            if (id.isBlank())
-                id = "guide-" + index;
-            String title = extractValue(block, "Title");
-            String summary = extractValue(block, "Summary");
-            String badge = extractValue(block, "Badge");
-            int score;
-            try {
-                score = Integer.parseInt(extractValue(block, "Score").replaceAll("[^0-9]", ""));
-            } catch (NumberFormatException e) {
-                score = 50;
-            }
-            String rationale = extractValue(block, "Rationale");
-
-            Map<String, Object> keyPoints = new HashMap<>();
-            String tone = extractValue(block, "Tone");
-            String structure = extractValue(block, "Structure");
-            String cta = extractValue(block, "CTA");
-            if (!tone.isBlank())
-                keyPoints.put("tone", List.of(tone));
-            if (!structure.isBlank())
-                keyPoints.put("structure", structure);
-            if (!cta.isBlank())
-                keyPoints.put("cta", cta);
-
-            guides.add(new AdGuidesResponse.GuidelineOption(id, title, summary, badge, score, rationale, keyPoints));
-
-            if (score > highestScore) {
-                highestScore = score;
-                recommendedId = id;
-            }
-            index++;
-        }
-
-        if (guides.isEmpty()) {
-            guides.add(new AdGuidesResponse.GuidelineOption(
-                    "guide-1", "가이드라인", clean.trim(), "", 50, "", Map.of()));
-            recommendedId = "guide-1";
-        }
-
-        return new AdGuidesResponse(recommendedId, guides);
-    }
-
     // =========================================================
     // 2단계: 최종 카피 5개 생성 (ad-copies)
     // =========================================================
 
-    public FinalCopyResponse generateFinalCopies(FinalCopyRequest request) {
-        checkAiEnabled();
+    public Mono<FinalCopyResponse> generateFinalCopiesMono(FinalCopyRequest request) {
+        return Mono.defer(() -> {
+            String prompt = buildFinalCopyPrompt(request);
+            String hash = responseCache.promptHash(AdPromptTemplates.FINAL_COPY_SYSTEM, prompt);
+            return singleFlight.execute(
+                    "final-copies",
+                    hash,
+                    () -> hedgedCaller.execute("final-copies",
+                            model -> usage.track("final-copies", null, hash,
+                                    res -> !LlmResponseParser.isFallback(res),
+                                    rec -> complete("final-copies", AdPromptTemplates.FINAL_COPY_SYSTEM,
+                                            prompt, model, rec)
+                                            .map(this::parseFinalCopies))));
+        });
+    }
+
+    private FinalCopyResponse parseFinalCopies(String response) {
+        log.info("최종 카피 생성 응답: {}", response);
+
+        return LlmResponseParser.parseFinalCopies(response);
+    }
 
+    private String buildFinalCopyPrompt(FinalCopyRequest request) {
         String guidelineJson;
         try {
             guidelineJson = objectMapper.writeValueAsString(request.selectedGuideline());
@@ -226,73 +302,10 @@ public class AdCopyService {
             guidelineJson = String.valueOf(request.selectedGuideline());
         }
 
-        String prompt = """
-                당신은 전문 카피라이터입니다.
-                다음 선택된 가이드라인을 바탕으로 5개의 광고 카피를 작성하세요.
-
+        return """
                 [선택된 가이드라인]
                 %s
-
-                [출력 형식]
-                [COPY_START]
-                Title: (카피 제목/컨셉명)
-                Body: (광고 본문 카피, 줄바꿈 포함 가능)
-                [COPY_END]
-
-                총 5개의 카피를 생성하세요.
                 """.formatted(guidelineJson);
-
-        String response = chatClient.prompt()
-                .system("당신은 한국어만 사용하는 AI입니다. 모든 응답을 한국어로 작성하세요.")
-                .user(prompt).call().content();
-        log.info("최종 카피 생성 응답: {}", response);
-
-        return parseFinalCopyResponse(response);
-    }
-
-    private FinalCopyResponse parseFinalCopyResponse(String response) {
-        List<FinalCopyResponse.CopyOption> copies = new ArrayList<>();
-        String clean = (response == null ? "" : response).replaceAll("\\*\\*", "");
-
-        Matcher blockMatcher = Pattern.compile("(?s)\\[COPY_START\\](.*?)\\[COPY_END\\]").matcher(clean);
-
-        int index = 1;
-        while (blockMatcher.find()) {
-            String block = blockMatcher.group(1);
-            String id = "copy-" + index;
-            String title = extractValue(block, "Title");
-            Matcher bodyMatcher = Pattern.compile("(?s)Body\\s*:\\s*(.*?)$").matcher(block.trim());
-            String body = bodyMatcher.find() ? bodyMatcher.group(1).trim() : "";
-
-            copies.add(new FinalCopyResponse.CopyOption(id, title, body));
-            index++;
-        }
-
-        if (copies.isEmpty()) {
-            copies.add(new FinalCopyResponse.CopyOption("copy-1", "광고 카피", clean.trim()));
-        }
-
-        String recommendedId = copies.get(0).id();
-        return new FinalCopyResponse(recommendedId, copies);
-    }
-
-    private String extractByTag(String text, String tag) {
-        Pattern pattern = Pattern.compile("(?s)\\[" + tag + "\\](.*?)\\[/" + tag + "\\]");
-        Matcher matcher = pattern.matcher(text);
-        return matcher.find() ? matcher.group(1).trim() : "";
-    }
-
-    private String extractSectionFallback(String text, String sectionName) {
-        Pattern pattern = Pattern.compile("(?i)" + sectionName + ":?\\s*(.*?)(?=\\n\\d\\.|\\n\\[|\\n\\n|$)",
-                Pattern.DOTALL);
-        Matcher matcher = pattern.matcher(text);
-        return matcher.find() ? matcher.group(1).trim().replaceAll("^[:\\s]+", "") : "";
-    }
-
-    private String extractValue(String block, String key) {
-        Pattern pattern = Pattern.compile("(?i)" + Pattern.quote(key) + ":?\\s*([^\n]+)");
-        Matcher matcher = pattern.matcher(block);
-        return matcher.find() ? matcher.group(1).trim() : "";
     }
 
     // =========================================================
@@ -300,81 +313,104 @@ public class AdCopyService {
     // =========================================================
 
     public Mono<List<VisualGuideOption>> generateVisualGuidesMono(AdGuideAiRequest req) {
-        return Mono.fromCallable(() -> {
-            checkAiEnabled();
-            String prompt = buildWeightedPrompt(req)
-                    + "\n\n[출력 포맷]\n반드시 아래 형식을 지키고, 모든 값은 한국어로 작성하세요. 생각 과정은 생략하세요.\n\n[OPTION 1]\n제품: ...\n장소: ...\n역동적 효과: ...\n글자 재질: ...\n스타일: ...\n(위 포맷으로 5개 옵션 작성)";
-
-            log.info("Visual Guides Prompt: {}", prompt);
-            String response = chatClient.prompt()
-                    .system("당신은 한국어만 사용하는 AI입니다. 모든 응답을 반드시 한국어로 작성하세요. 영어로 응답하지 마세요.")
-                    .user(prompt).call().content();
-            log.info("Visual Guides Response: {}", response);
-
-            return parseVisualGuides(response);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return Mono.defer(() -> {
+            String prompt = buildWeightedPrompt(req);
+
+            String hash = responseCache.promptHash(AdPromptTemplates.VISUAL_GUIDES_SYSTEM, prompt);
+            Mono<List<VisualGuideOption>> call = usage.track("visual-guides", req.productId(), hash,
+                    options -> !options.isEmpty(),
+                    rec -> {
+                        log.info("Visual Guides Prompt: {}", prompt);
+                        return complete("visual-guides", AdPromptTemplates.VISUAL_GUIDES_SYSTEM, prompt, null, rec)
+                                .map(response -> {
+                                    log.info("Visual Guides Response: {}", response);
+                                    return LlmResponseParser.parseVisualGuides(response);
+                                });
+                    });
+
+            return responseCache.getOrLoad(
+                    "visual-guides",
+                    req.productId(),
+                    hash,
+                    new TypeReference<List<VisualGuideOption>>() {
+                    },
+                    options -> !options.isEmpty(),
+                    call);
+        });
     }
 
     // =========================================================
     // 신규: 2단계 광고 카피 베리에이션 생성
     // =========================================================
 
+    /**
+     * 카피 베리에이션은 선택 옵션 + 타겟만으로 프롬프트가 결정되므로 제품 인덱스 없이 캐시
+     */
     public Mono<List<String>> generateCopyVariationsMono(VisualGuideOption option, Integer target) {
-        return Mono.fromCallable(() -> {
-            checkAiEnabled();
+        return Mono.defer(() -> {
             String prompt = buildCopyPrompt(option, target);
 
-            log.info("Copy Variations Prompt: {}", prompt);
-            String response = chatClient.prompt()
-                    .system("당신은 한국어만 사용하는 AI입니다. 모든 응답을 반드시 한국어로 작성하세요. 영어로 응답하지 마세요.")
-                    .user(prompt).call().content();
-            log.info("Copy Variations Response: {}", response);
-
-            return parseCopyVariations(response);
-        }).subscribeOn(Schedulers.boundedElastic());
+            String hash = responseCache.promptHash(AdPromptTemplates.COPY_VARIATIONS_SYSTEM, prompt);
+            Mono<List<String>> call = usage.track("copy-variations", null, hash,
+                    copies -> !copies.isEmpty(),
+                    rec -> {
+                        log.info("Copy Variations Prompt: {}", prompt);
+                        return complete("copy-variations", AdPromptTemplates.COPY_VARIATIONS_SYSTEM, prompt, null, rec)
+                                .map(response -> {
+                                    log.info("Copy Variations Response: {}", response);
+                                    return LlmResponseParser.parseCopyVariations(response);
+                                });
+                    });
+
+            return responseCache.getOrLoad(
+                    "copy-variations",
+                    null,
+                    hash,
+                    new TypeReference<List<String>>() {
+                    },
+                    copies -> !copies.isEmpty(),
+                    call);
+        });
     }
 
     // =========================================================
     // Helper Methods
     // =========================================================
 
+    /**
+     * 비주얼 가이드 user 프롬프트 (역할/출력 포맷은 AdPromptTemplates.VISUAL_GUIDES_SYSTEM)
+     * - 반영 비중 지침은 focus에 해당하는 것만 싣는다
+     */
     private String buildWeightedPrompt(AdGuideAiRequest req) {
         String emphasisInstruction;
         int focus = req.adMessageFocus() != null ? req.adMessageFocus() : 2; // Default to balance
 
         if (focus <= 1) { // 0, 1: 트렌드 중심
             emphasisInstruction = """
-                        [중요] **트렌드 정보**를 80% 비중으로 반영하세요.
-                        제품의 실제 후기는 20%만 참고하여 자연스럽게 녹여내세요.
-                        최신 유행하는 밈(Meme)이나 챌린지 스타일을 적극 차용하세요.
+                    [반영 비중] **트렌드 정보**를 80% 비중으로 반영하세요.
+                    제품의 실제 후기는 20%만 참고하여 자연스럽게 녹여내세요.
+                    최신 유행하는 밈(Meme)이나 챌린지 스타일을 적극 차용하세요.
                     """;
         } else if (focus >= 3) { // 3, 4: 제품/리뷰 중심
             emphasisInstruction = """
-                        [중요] **고객 리뷰(제품 특징)**를 80% 비중으로 반영하세요.
-                        트렌드는 20%만 사용하여 톤앤매너를 맞추는 정도로만 활용하세요.
-                        리뷰에서 언급된 구체적인 효능, 맛, 장점을 강력하게 어필하세요.
+                    [반영 비중] **고객 리뷰(제품 특징)**를 80% 비중으로 반영하세요.
+                    트렌드는 20%만 사용하여 톤앤매너를 맞추는 정도로만 활용하세요.
+                    리뷰에서 언급된 구체적인 효능, 맛, 장점을 강력하게 어필하세요.
                     """;
         } else { // 2: 균형
             emphasisInstruction = """
-                        [중요] 트렌드와 고객 리뷰를 50:50으로 균형 있게 반영하세요.
+                    [반영 비중] 트렌드와 고객 리뷰를 50:50으로 균형 있게 반영하세요.
                     """;
         }
 
         return """
-                    당신은 비주얼 디렉터입니다.
-                    아래 지침에 따라 5개의 서로 다른 광고 가이드라인을 작성하세요.
-                    모든 필드(제품, 장소, 효과, 재질, 스타일)는 반드시 한국어로 작성해야 합니다.
-
-                    %s
-
-                    [입력 데이터]
-                    - 제품명: %s
-                    - 요청사항: %s
-                    - 트렌드: %s
-                    - 리뷰:
-                    %s
-
-                    각 옵션은 '[OPTION N]'으로 시작해야 하며, 서론이나 결론 없이 지정된 데이터만 출력하세요.
+                %s
+                [입력 데이터]
+                - 제품명: %s
+                - 요청사항: %s
+                - 트렌드: %s
+                - 리뷰:
+                %s
                 """.formatted(
                 emphasisInstruction,
                 req.productName(),
@@ -385,21 +421,13 @@ public class AdCopyService {
 
     private String buildCopyPrompt(VisualGuideOption option, Integer target) {
         return """
-                    아래 비주얼 가이드라인에 어울리는 광고 카피 5개를 작성하세요.
-
-                    [규칙]
-                    - 각 카피는 처음부터 10자 이내로 구상하여 작성 (긴 문장을 자르지 말고, 10자 안에 담길 수 있는 강렬한 문구를 새로 만들 것)
-                    - 군더더기 설명 없이 임팩트 있는 한 마디만
-                    - 모든 카피는 반드시 한국어로 작성
-                    - 서론/설명/Thinking 없이 [COPY 1] ~ [COPY 5] 내용만 출력
-
-                    [비주얼 가이드라인]
-                    - 제품: %s
-                    - 장소: %s
-                    - 효과: %s
-                    - 스타일: %s
+                [비주얼 가이드라인]
+                - 제품: %s
+                - 장소: %s
+                - 효과: %s
+                - 스타일: %s
 
-                    [카피 목표]: %s
+                [카피 목표]: %s
                 """.formatted(
                 option.product(),
                 option.place(),
@@ -420,66 +448,4 @@ public class AdCopyService {
             default -> "구매 전환 유도";
         };
     }
-
-    private List<VisualGuideOption> parseVisualGuides(String response) {
-        List<VisualGuideOption> options = new ArrayList<>();
-        String clean = (response == null ? "" : response).replaceAll("\\*\\*", "");
-        String[] blocks = clean.split("\\[OPTION\\s+\\d+\\]");
-
-        int id = 1;
-        for (String block : blocks) {
-            if (block.isBlank())
-                continue;
-            String product = extractGuideField(block, "제품");
-            String place = extractGuideField(block, "장소");
-            String effect = extractGuideField(block, "역동적 효과");
-            String texture = extractGuideField(block, "글자 재질");
-            String style = extractGuideField(block, "스타일");
-
-            if (!product.isEmpty() || !place.isEmpty()) {
-                options.add(new VisualGuideOption(id++, product, place, effect, texture, style));
-            }
-        }
-
-        // Fallback: 파싱 실패 시 raw 텍스트를 넣지 않고 빈 리스트 반환
-        if (options.isEmpty()) {
-            log.warn("Visual guide parsing failed. Raw response: {}", clean);
-        }
-        return options;
-    }
-
-    private String extractGuideField(String block, String key) {
-        Pattern p = Pattern.compile("(?s)(?:" + key + ")\\s*:\\s*(.*?)(?=\\n(?:제품|장소|역동적 효과|글자 재질|스타일)\\s*:|$)");
-        Matcher m = p.matcher(block);
-        return m.find() ? m.group(1).trim() : "";
-    }
-
-    private List<String> parseCopyVariations(String response) {
-        if (response == null)
-            return List.of();
-        String clean = response.replaceAll("\\*\\*", "");
-
-        List<String> copies = new ArrayList<>();
-        Matcher m = Pattern.compile("\\[COPY\\s+\\d+\\]\\s*(.*?)(?=\\[COPY|$)", Pattern.DOTALL).matcher(clean);
-
-        while (m.find()) {
-            copies.add(m.group(1).trim());
-        }
-
-        if (copies.isEmpty()) {
-            // Fallback: 줄바꿈으로 시도 (thinking 잔여 텍스트 필터링)
-            String[] lines = clean.split("\n");
-            for (String line : lines) {
-                String l = line.replaceAll("^\\d+[.\\)]\\s*", "").replaceAll("^-\\s*", "").trim();
-                if (!l.isBlank() && l.length() > 5 && !l.toLowerCase().startsWith("okay")
-                        && !l.toLowerCase().startsWith("my thought"))
-                    copies.add(l);
-            }
-            if (copies.isEmpty()) {
-                log.warn("Copy variation parsing failed. Raw response: {}", clean);
-            }
-        }
-
-        return copies;
-    }
 }
@@ -0,0 +1,238 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.domain.ai.config.AiLimiterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출 전용 실행 레인 (bulkhead + AIMD 동시성 한도)
+ * - 블로킹 ChatClient 호출을 공용 boundedElastic 대신 전용 스케줄러(ai-call)에서 실행
+ *   → Gemini가 느려져도 GCS 업로드/Secret Manager 등 다른 블로킹 작업이 굶지 않는다
+ * - non-blocking 호출(executeAsync/streamAsync)은 스레드를 옮기지 않고 한도만 적용
+ * - 동시 실행 수는 limit 이하, 초과분은 queueCapacity 만큼만 대기 (queueTimeout 경과 시 실패)
+ * - 대기열까지 가득 차면 즉시 AD_GUIDE_GENERATION_FAILED
+ *
+ * AIMD
+ * - 성공 & latency <= latencyThreshold → limit += 1/limit (대략 limit 건 성공마다 +1)
+ * - latency > latencyThreshold 또는 실패 → limit *= backoffRatio
+ * - limit은 minLimit ~ maxLimit 범위로 고정
+ * - 스트리밍은 첫 청크까지의 시간을 latency로 사용
+ */
+@Slf4j
+@Component
+public class AiCallLimiter {
+
+    private final AiLimiterProperties props;
+    private final Scheduler scheduler;
+    private final Counter rejected;
+
+    // 아래 상태는 모두 this 락으로 보호
+    private final ArrayDeque<MonoSink<Permit>> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+
+    public AiCallLimiter(AiLimiterProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.limit = props.initialLimit();
+        this.scheduler = Schedulers.newBoundedElastic(
+                props.maxLimit(), Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "ai-call");
+
+        this.rejected = Counter.builder("ai.limiter.rejected").register(meterRegistry);
+        Gauge.builder("ai.limiter.limit", this, AiCallLimiter::currentLimit).register(meterRegistry);
+        Gauge.builder("ai.limiter.inflight", this, AiCallLimiter::inFlight).register(meterRegistry);
+        Gauge.builder("ai.limiter.queued", this, AiCallLimiter::queued).register(meterRegistry);
+    }
+
+    /**
+     * 블로킹 AI 호출을 레인에 태운다.
+     * - 취소 시 슬롯은 바로 반환하지만 한도 조정에는 반영하지 않는다
+     */
+    public <T> Mono<T> execute(Callable<T> call) {
+        return acquire().flatMap(permit -> Mono.fromCallable(call)
+                .subscribeOn(scheduler)
+                .doOnSuccess(v -> permit.release(true))
+                .doOnError(e -> permit.release(false))
+                .doOnCancel(permit::cancel));
+    }
+
+    /**
+     * 블로킹 Iterator 기반 스트림을 레인에 태운다. (스트림이 끝날 때까지 슬롯 1개 점유)
+     */
+    public <T> Flux<T> stream(Supplier<Flux<T>> source) {
+        return acquire().flatMapMany(permit -> Flux.defer(source)
+                .subscribeOn(scheduler)
+                .doOnNext(v -> permit.markFirstSignal())
+                .doOnComplete(() -> permit.release(true))
+                .doOnError(e -> permit.release(false))
+                .doOnCancel(permit::cancel));
+    }
+
+    /**
+     * non-blocking AI 호출에 한도만 적용한다. (스케줄러 전환 없음, 대기 중에도 스레드를 점유하지 않음)
+     */
+    public <T> Mono<T> executeAsync(Supplier<Mono<T>> call) {
+        return acquire().flatMap(permit -> Mono.defer(call)
+                .doOnSuccess(v -> permit.release(true))
+                .doOnError(e -> permit.release(false))
+                .doOnCancel(permit::cancel));
+    }
+
+    /**
+     * non-blocking 스트림에 한도만 적용한다. (스트림이 끝날 때까지 슬롯 1개 점유)
+     */
+    public <T> Flux<T> streamAsync(Supplier<Flux<T>> source) {
+        return acquire().flatMapMany(permit -> Flux.defer(source)
+                .doOnNext(v -> permit.markFirstSignal())
+                .doOnComplete(() -> permit.release(true))
+                .doOnError(e -> permit.release(false))
+                .doOnCancel(permit::cancel));
+    }
+
+    /**
+     * 슬롯 획득
+     * - 여유 있으면 즉시, 없으면 대기열 (가득 차면 즉시 실패)
+     * - 대기 중 취소/타임아웃 시 대기열에서 제거
+     */
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+            String rejectReason = null;
+            boolean granted = false;
+            synchronized (this) {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                    granted = true;
+                } else if (queue.size() >= props.queueCapacity()) {
+                    rejectReason = "queue full (inFlight=%d, limit=%d)".formatted(inFlight, (int) limit);
+                } else {
+                    queue.addLast(sink);
+                }
+            }
+            // 락 밖에서 신호 (downstream 구독이 락을 잡은 채 실행되지 않도록)
+            if (granted) {
+                sink.success(new Permit());
+                return;
+            }
+            if (rejectReason != null) {
+                rejected.increment();
+                sink.error(overflow(rejectReason));
+                return;
+            }
+
+            Disposable timeout = Schedulers.parallel().schedule(() -> {
+                if (dequeue(sink)) {
+                    rejected.increment();
+                    sink.error(overflow("queue timeout " + props.queueTimeout()));
+                }
+            }, props.queueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            sink.onDispose(timeout);
+            sink.onCancel(() -> dequeue(sink));
+        }).doOnDiscard(Permit.class, Permit::cancel); // 획득 직후 취소되어 버려진 슬롯 반환
+    }
+
+    private void onRelease(long latencyNanos, boolean success, boolean sample) {
+        MonoSink<Permit> next;
+        synchronized (this) {
+            double before = limit;
+            if (!sample) {
+                // 취소: 한도 조정 없이 슬롯만 반환
+            } else if (success && latencyNanos <= props.latencyThreshold().toNanos()) {
+                limit = Math.min(props.maxLimit(), limit + 1.0 / limit);
+            } else {
+                limit = Math.max(props.minLimit(), limit * props.backoffRatio());
+            }
+            if ((int) before != (int) limit) {
+                log.info("AI 동시 호출 한도 변경: {} -> {} (latencyMs={}, success={})",
+                        (int) before, (int) limit, TimeUnit.NANOSECONDS.toMillis(latencyNanos), success);
+            }
+
+            inFlight--;
+            if (inFlight < (int) limit && !queue.isEmpty()) {
+                next = queue.pollFirst();
+                inFlight++;
+            } else {
+                next = null;
+            }
+        }
+        if (next != null) {
+            next.success(new Permit());
+        }
+    }
+
+    private synchronized boolean dequeue(MonoSink<Permit> sink) {
+        return queue.remove(sink);
+    }
+
+    private ApiException overflow(String detail) {
+        return ApiException.of(ErrorCode.AD_GUIDE_GENERATION_FAILED, "AI 호출 한도 초과: " + detail);
+    }
+
+    /**
+     * 지금 요청하면 대기 없이 슬롯을 받을 수 있는지 (헤지처럼 생략 가능한 추가 호출 판단용)
+     */
+    public synchronized boolean hasFreePermit() {
+        return inFlight < (int) limit && queue.isEmpty();
+    }
+
+    public synchronized int currentLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * 실행 슬롯 1개. release는 여러 번 호출돼도 1번만 반영된다.
+     */
+    private final class Permit {
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile long firstSignalNanos = -1;
+
+        void markFirstSignal() {
+            if (firstSignalNanos < 0) {
+                firstSignalNanos = System.nanoTime() - start;
+            }
+        }
+
+        void release(boolean success) {
+            if (released.compareAndSet(false, true)) {
+                long latency = firstSignalNanos >= 0 ? firstSignalNanos : System.nanoTime() - start;
+                onRelease(latency, success, true);
+            }
+        }
+
+        void cancel() {
+            if (released.compareAndSet(false, true)) {
+                onRelease(0, true, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.ai.repository.AiCallLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ai_call_log 비동기 배치 적재
+ * - 호출 경로에서는 메모리 큐에 넣기만 한다 (가득 차면 버리고 ai.usage.log.dropped 증가)
+ * - flush-interval 마다 batch-size 단위로 묶어 insert (이전 flush가 끝나기 전에는 다시 돌지 않음)
+ * - 종료 시 남은 건을 한 번 더 flush
+ */
+@Slf4j
+@Component
+public class AiCallLogWriter {
+
+    private final AiCallLogRepository repository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<AiCallRecord> queue;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Counter dropped;
+    private final Counter written;
+
+    public AiCallLogWriter(
+            AiCallLogRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.usage.log.enabled:true}") boolean enabled,
+            @Value("${app.ai.usage.log.batch-size:200}") int batchSize,
+            @Value("${app.ai.usage.log.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.dropped = Counter.builder("ai.usage.log.dropped").register(meterRegistry);
+        this.written = Counter.builder("ai.usage.log.written").register(meterRegistry);
+        Gauge.builder("ai.usage.log.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public void enqueue(AiCallRecord record) {
+        if (enabled && !queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ai.usage.log.flush-interval-ms:2000}")
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        drain().doFinally(s -> flushing.set(false)).subscribe();
+    }
+
+    private Mono<Void> drain() {
+        return Flux.<List<AiCallRecord>>generate(sink -> {
+                    List<AiCallRecord> batch = new ArrayList<>(batchSize);
+                    queue.drainTo(batch, batchSize);
+                    if (batch.isEmpty()) {
+                        sink.complete();
+                    } else {
+                        sink.next(batch);
+                    }
+                })
+                .concatMap(batch -> repository.insertBatch(batch)
+                        .doOnNext(written::increment)
+                        .onErrorResume(e -> {
+                            // 사용량 로그는 관측용이라 재시도하지 않고 버린다
+                            dropped.increment(batch.size());
+                            log.warn("ai_call_log insert failed. dropped={}", batch.size(), e);
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        try {
+            drain().block(Duration.ofSeconds(5));
+        } catch (Exception e) {
+            log.warn("ai_call_log final flush failed. remaining={}", queue.size(), e);
+        }
+    }
+}
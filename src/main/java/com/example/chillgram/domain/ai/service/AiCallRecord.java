@@ -0,0 +1,136 @@
+package com.example.chillgram.domain.ai.service;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+
+/**
+ * Gemini 호출 1건의 사용량 기록 (ai_call_log 1행)
+ * - 호출 측(AiUsageRecorder.track)이 생성해 ChatClient advisor 파라미터로 넘기고,
+ *   AiUsageAdvisor가 모델/토큰/latency를 채운다
+ * - 호출 결과(outcome/parseSuccess)와 모델 응답이 모두 도착해야 1번 완료된다
+ *   (헤지 패배 등으로 취소돼도 이미 나간 요청의 토큰까지 기록하기 위함)
+ */
+public final class AiCallRecord {
+
+    private final String op;
+    private final Long companyId;
+    private final Long productId;
+    private final String promptHash;
+    private final long startNanos = System.nanoTime();
+    private final long createdAtMillis = System.currentTimeMillis();
+
+    // 아래 상태는 모두 this 락으로 보호
+    private String model;
+    private Integer promptTokens;
+    private Integer completionTokens;
+    private long modelLatencyNanos = -1;
+    private String outcome;
+    private Boolean parseSuccess;
+    private boolean modelStarted;
+    private boolean modelDone;
+    private boolean completed;
+
+    public AiCallRecord(String op, Long companyId, Long productId, String promptHash) {
+        this.op = op;
+        this.companyId = companyId;
+        this.productId = productId;
+        this.promptHash = promptHash;
+    }
+
+    synchronized void modelStarted() {
+        modelStarted = true;
+    }
+
+    /**
+     * advisor: 모델 응답 도착 (response가 null이면 실패)
+     */
+    synchronized void modelFinished(long latencyNanos, ChatResponse response, String requestedModel) {
+        modelLatencyNanos = latencyNanos;
+        modelDone = true;
+        if (response != null && response.getMetadata() != null) {
+            String m = response.getMetadata().getModel();
+            if (m != null && !m.isBlank()) {
+                model = m;
+            }
+            Usage usage = response.getMetadata().getUsage();
+            if (usage != null) {
+                promptTokens = usage.getPromptTokens();
+                completionTokens = usage.getCompletionTokens();
+            }
+        }
+        if (model == null) {
+            model = requestedModel;
+        }
+    }
+
+    /**
+     * 호출 측 결과 확정. 최초 1회만 반영
+     */
+    synchronized void outcome(String outcome, Boolean parseSuccess) {
+        if (this.outcome == null) {
+            this.outcome = outcome;
+            this.parseSuccess = parseSuccess;
+        }
+    }
+
+    /**
+     * 결과와 모델 응답이 모두 모였으면 완료 처리 (true는 최초 1번만)
+     */
+    synchronized boolean tryComplete() {
+        if (completed || outcome == null || (modelStarted && !modelDone)) {
+            return false;
+        }
+        completed = true;
+        if (modelLatencyNanos < 0) {
+            modelLatencyNanos = System.nanoTime() - startNanos;
+        }
+        return true;
+    }
+
+    public String op() {
+        return op;
+    }
+
+    public Long companyId() {
+        return companyId;
+    }
+
+    public Long productId() {
+        return productId;
+    }
+
+    public String promptHash() {
+        return promptHash;
+    }
+
+    public long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    public synchronized String model() {
+        return model == null ? "unknown" : model;
+    }
+
+    public synchronized Integer promptTokens() {
+        return promptTokens;
+    }
+
+    public synchronized Integer completionTokens() {
+        return completionTokens;
+    }
+
+    /**
+     * 모델 호출 latency (advisor 미경유 시 기록 생성 이후 경과 시간)
+     */
+    public synchronized long latencyNanos() {
+        return Math.max(modelLatencyNanos, 0);
+    }
+
+    public synchronized String outcome() {
+        return outcome;
+    }
+
+    public synchronized Boolean parseSuccess() {
+        return parseSuccess;
+    }
+}
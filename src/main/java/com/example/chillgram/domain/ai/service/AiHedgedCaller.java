@@ -0,0 +1,226 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.ai.config.AiHedgeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Gemini hedged request
+ * - 기본 모델 요청 후 헤지 지연(최근 성공 latency 백분위) 안에 응답이 없으면 헤지 모델로 한 번 더 요청
+ *   · 백분위는 op별 최근 window개, windowAge 이내 샘플로 직접 계산한다
+ *     (Micrometer 백분위는 시간이 지나면 비어 0이 되므로 지연 계산에 쓰지 않는다 → 한가한 뒤 모든 요청이 헤지되는 문제)
+ *   (기본 요청이 그 전에 실패하면 즉시 헤지)
+ * - 헤지 발사 시점에 AiCallLimiter 슬롯 여유가 없으면 헤지하지 않는다
+ *   (헤지도 슬롯 1개를 쓰므로, 혼잡할 때 헤지가 대기열을 늘려 다른 요청을 밀어내지 않게)
+ * - 먼저 성공한 쪽을 채택하고 나머지는 취소 (둘 다 실패하면 기본 모델 쪽 에러 전달)
+ * - 헤지 비활성(enabled=false)이어도 모델별 latency는 기록한다
+ * - 경쟁에서 져서 취소된 쪽도 취소 시점까지의 latency를 outcome=cancelled로 기록한다
+ *   진 기본 요청은 지연 계산 창에도 넣는다 (실제 latency의 하한값, 빠른 응답만 남아 지연이 짧아지지 않게)
+ *
+ * 메트릭 (actuator /actuator/metrics)
+ * - ai.call.latency{op, model, outcome}: 모델별 latency 히스토그램 (p50/p90/p95/p99)
+ * - ai.hedge.fired{op}: 헤지 요청 발사 수
+ * - ai.hedge.skipped{op}: 한도 슬롯이 없어 헤지를 생략한 수
+ * - ai.hedge.wins{op, winner=primary|hedge}: 헤지 경쟁에서 이긴 쪽
+ */
+@Slf4j
+@Component
+public class AiHedgedCaller {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.95, 0.99};
+
+    private final AiHedgeProperties props;
+    private final AiCallLimiter limiter;
+    private final MeterRegistry meterRegistry;
+    private final String primaryModel;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    public AiHedgedCaller(
+            AiHedgeProperties props,
+            AiCallLimiter limiter,
+            MeterRegistry meterRegistry,
+            @Value("${spring.ai.google.genai.chat.options.model:gemini-2.5-flash}") String primaryModel
+    ) {
+        this.props = props;
+        this.limiter = limiter;
+        this.meterRegistry = meterRegistry;
+        this.primaryModel = primaryModel;
+    }
+
+    /**
+     * @param call 모델명 → 호출 Mono. 기본 모델이면 null이 전달된다 (옵션 override 없이 호출)
+     */
+    public <T> Mono<T> execute(String op, Function<String, Mono<T>> call) {
+        if (!props.enabled()) {
+            return timed(op, primaryModel, Mono.defer(() -> call.apply(null)), () -> false);
+        }
+
+        String hedgeModel = hedgeModel();
+        return Mono.defer(() -> {
+            Duration delay = hedgeDelay(op);
+            AtomicReference<String> winner = new AtomicReference<>();
+            // 기본 요청이 지연 전에 실패하면 기다리지 않고 바로 헤지
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+            Mono<Attempt<T>> first = timed(op, primaryModel, Mono.defer(() -> call.apply(null)),
+                    () -> "hedge".equals(winner.get()))
+                    .doOnError(e -> primaryFailed.tryEmitEmpty())
+                    .map(v -> new Attempt<>(v, "primary"))
+                    .doOnNext(a -> winner.compareAndSet(null, a.winner()));
+            Mono<T> hedge = timed(op, hedgeModel, Mono.defer(() -> call.apply(
+                    hedgeModel.equals(primaryModel) ? null : hedgeModel)), () -> "primary".equals(winner.get()));
+            Mono<Attempt<T>> second = Mono.firstWithSignal(Mono.delay(delay).then(), primaryFailed.asMono())
+                    .then(Mono.defer(() -> {
+                        if (!limiter.hasFreePermit()) {
+                            Counter.builder("ai.hedge.skipped").tag("op", op).register(meterRegistry).increment();
+                            log.info("AI 헤지 생략 (한도 슬롯 없음). op={}, inFlight={}, limit={}",
+                                    op, limiter.inFlight(), limiter.currentLimit());
+                            return Mono.<T>empty();
+                        }
+                        Counter.builder("ai.hedge.fired").tag("op", op).register(meterRegistry).increment();
+                        log.info("AI 헤지 요청 발사. op={}, model={}, delayMs={}", op, hedgeModel, delay.toMillis());
+                        return hedge;
+                    }))
+                    .map(v -> new Attempt<>(v, "hedge"))
+                    .doOnNext(a -> winner.compareAndSet(null, a.winner()));
+
+            return Mono.firstWithValue(first, second)
+                    .doOnNext(a -> Counter.builder("ai.hedge.wins")
+                            .tag("op", op)
+                            .tag("winner", a.winner())
+                            .register(meterRegistry)
+                            .increment())
+                    .map(Attempt::value)
+                    .onErrorMap(NoSuchElementException.class, AiHedgedCaller::primaryError);
+        });
+    }
+
+    public String hedgeModel() {
+        return (props.model() == null || props.model().isBlank()) ? primaryModel : props.model();
+    }
+
+    /**
+     * 헤지 지연 = 기본 모델 최근 성공 latency의 설정 백분위, min~max로 고정
+     * - 최근 샘플(windowAge 이내)이 minSamples 미만이면 initialDelay (한가한 뒤 첫 요청 포함)
+     */
+    Duration hedgeDelay(String op) {
+        Duration delay = props.initialDelay();
+        LatencyWindow window = windows.get(op);
+        long p = window == null ? -1 : window.percentile(props.percentile(),
+                meterRegistry.config().clock().monotonicTime() - props.windowAge().toNanos(), props.minSamples());
+        if (p > 0) {
+            delay = Duration.ofNanos(p);
+        }
+        if (delay.compareTo(props.minDelay()) < 0) return props.minDelay();
+        if (delay.compareTo(props.maxDelay()) > 0) return props.maxDelay();
+        return delay;
+    }
+
+    /**
+     * @param lost 취소 시점에 상대 요청이 이미 채택됐는지 (헤지 경쟁에서 진 경우)
+     */
+    private <T> Mono<T> timed(String op, String model, Mono<T> source, BooleanSupplier lost) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return source
+                    .doOnSuccess(v -> {
+                        long elapsed = System.nanoTime() - start;
+                        timer(op, model, "success").record(elapsed, TimeUnit.NANOSECONDS);
+                        recordWindow(op, model, elapsed);
+                    })
+                    .doOnError(e -> timer(op, model, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnCancel(() -> {
+                        long elapsed = System.nanoTime() - start;
+                        timer(op, model, "cancelled").record(elapsed, TimeUnit.NANOSECONDS);
+                        if (lost.getAsBoolean()) {
+                            recordWindow(op, model, elapsed);
+                        }
+                    });
+        });
+    }
+
+    private void recordWindow(String op, String model, long elapsedNanos) {
+        if (model.equals(primaryModel)) {
+            windows.computeIfAbsent(op, k -> new LatencyWindow(props.window()))
+                    .record(elapsedNanos, meterRegistry.config().clock().monotonicTime());
+        }
+    }
+
+    private Timer timer(String op, String model, String outcome) {
+        return Timer.builder("ai.call.latency")
+                .tag("op", op)
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // firstWithValue는 양쪽 모두 실패 시 NoSuchElementException(cause=Composite)로 감싼다
+    private static Throwable primaryError(NoSuchElementException e) {
+        List<Throwable> errors = Exceptions.unwrapMultiple(e.getCause());
+        return errors.isEmpty() || errors.get(0) == null ? e : errors.get(0);
+    }
+
+    private record Attempt<T>(T value, String winner) {
+    }
+
+    /**
+     * 최근 latency 링 버퍼 (기록 시각과 함께, 가득 차면 가장 오래된 것부터 덮어쓴다)
+     */
+    static final class LatencyWindow {
+
+        private final long[] latencies;
+        private final long[] recordedAt;
+        private int next;
+        private int size;
+
+        LatencyWindow(int capacity) {
+            this.latencies = new long[capacity];
+            this.recordedAt = new long[capacity];
+        }
+
+        synchronized void record(long latencyNanos, long now) {
+            latencies[next] = latencyNanos;
+            recordedAt[next] = now;
+            next = (next + 1) % latencies.length;
+            size = Math.min(size + 1, latencies.length);
+        }
+
+        /**
+         * since 이후 샘플의 백분위 (nanos). 샘플이 minSamples 미만이면 -1
+         */
+        synchronized long percentile(double percentile, long since, long minSamples) {
+            long[] recent = new long[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (recordedAt[i] >= since) {
+                    recent[n++] = latencies[i];
+                }
+            }
+            if (n == 0 || n < minSamples) {
+                return -1;
+            }
+            Arrays.sort(recent, 0, n);
+            int rank = (int) Math.ceil(percentile * n) - 1;
+            return recent[Math.max(0, Math.min(n - 1, rank))];
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.auth.constant.AuthConst;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * LLM 응답 캐시(Redis)
+ * - 저장 위치: Redis
+ * - 키 규칙: ai:resp:{op}:{productId|-}:{sha256(정규화 프롬프트)}
+ * - 인덱스: ai:resp:idx:{productId} (SET, 제품 수정 시 해당 제품 캐시 일괄 삭제용)
+ * - 저장 값: 파싱 완료된 DTO(JSON)
+ * - TTL: app.ai.cache.ttl-seconds (인덱스도 저장할 때마다 같은 TTL로 연장)
+ * - 명령은 모두 키 1개짜리 (항목과 인덱스는 slot이 달라 Redis Cluster에서 한 스크립트로 묶을 수 없음)
+ *   · 저장: SADD/EXPIRE 인덱스 → SET 항목 (인덱스가 먼저라 항목만 남고 인덱스에서 빠지는 경우가 없다)
+ *   · 무효화: SMEMBERS 인덱스 → 항목마다 UNLINK → 읽은 항목만 SREM (그 사이 추가된 항목은 인덱스에 남음)
+ * - Redis 장애 시 캐시를 건너뛰고 원래 호출로 진행 (캐시 때문에 생성이 실패하지 않게)
+ */
+@Slf4j
+@Component
+public class AiResponseCache {
+
+    private static final String PREFIX = "ai:resp:";
+
+    // 무효화 시 UNLINK를 한 번에 몇 개씩 동시에 보낼지
+    private static final int EVICT_CONCURRENCY = 16;
+
+    private final ReactiveStringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public AiResponseCache(
+            ReactiveStringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            @Value("${app.ai.cache.enabled:true}") boolean enabled,
+            @Value("${app.ai.cache.ttl-seconds:21600}") long ttlSeconds
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 프롬프트 해시
+     * - 줄 단위 trim + 연속 공백 1칸 + 연속 빈 줄 제거 후 SHA-256
+     * - 들여쓰기/공백만 다른 동일 프롬프트는 같은 해시가 된다
+     */
+    public String promptHash(String systemPrompt, String userPrompt) {
+        return AuthConst.sha256Hex(canonicalize(systemPrompt) + "\u0000" + canonicalize(userPrompt));
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 실행 → 결과 저장
+     * - productId가 null이면 제품 인덱스에 넣지 않는다 (제품 데이터가 프롬프트에 없는 경우)
+     * - cacheable이 false인 결과(파싱 실패 fallback 등)는 저장하지 않는다
+     */
+    public <T> Mono<T> getOrLoad(
+            String op,
+            Long productId,
+            String promptHash,
+            TypeReference<T> type,
+            Predicate<T> cacheable,
+            Mono<T> loader
+    ) {
+        if (!enabled) {
+            return loader;
+        }
+        String key = key(op, productId, promptHash);
+
+        Mono<T> cached = redis.opsForValue().get(key)
+                .flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, type)))
+                .doOnNext(v -> log.info("AI 응답 캐시 hit. key={}", key))
+                .onErrorResume(e -> {
+                    log.warn("AI 응답 캐시 조회 실패, 원 호출로 진행. key={}, err={}", key, e.toString());
+                    return Mono.empty();
+                });
+
+        return cached.switchIfEmpty(Mono.defer(() -> loader
+                .flatMap(value -> (cacheable.test(value)
+                        ? put(key, productId, value)
+                        : Mono.<Void>empty())
+                        .thenReturn(value))));
+    }
+
+    /**
+     * 제품 단위 캐시 무효화 (제품 정보 수정 시)
+     */
+    public Mono<Void> evictProduct(long productId) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        String indexKey = indexKey(productId);
+        return redis.opsForSet().members(indexKey)
+                .collectList()
+                .filter(keys -> !keys.isEmpty())
+                .flatMap(keys -> Flux.fromIterable(keys)
+                        .flatMap(key -> redis.unlink(key), EVICT_CONCURRENCY)
+                        .then(redis.opsForSet().remove(indexKey, keys.toArray()))
+                        .doOnSuccess(n -> log.info("AI 응답 캐시 무효화. productId={}, entries={}", productId, keys.size())))
+                .onErrorResume(e -> {
+                    log.warn("AI 응답 캐시 무효화 실패. productId={}, err={}", productId, e.toString());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private <T> Mono<Void> put(String key, Long productId, T value) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(value))
+                .flatMap(json -> index(key, productId)
+                        .then(redis.opsForValue().set(key, json, ttl))
+                        .then())
+                .onErrorResume(e -> {
+                    log.warn("AI 응답 캐시 저장 실패. key={}, err={}", key, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> index(String key, Long productId) {
+        if (productId == null) {
+            return Mono.empty();
+        }
+        String indexKey = indexKey(productId);
+        return redis.opsForSet().add(indexKey, key)
+                .then(redis.expire(indexKey, ttl))
+                .then();
+    }
+
+    private String key(String op, Long productId, String promptHash) {
+        return PREFIX + "%s:%s:%s".formatted(op, productId == null ? "-" : productId, promptHash);
+    }
+
+    private String indexKey(long productId) {
+        return PREFIX + "idx:%d".formatted(productId);
+    }
+
+    static String canonicalize(String prompt) {
+        if (prompt == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(prompt.length());
+        for (String line : prompt.split("\\R")) {
+            String normalized = line.strip().replaceAll("\\s+", " ");
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append('\n');
+            }
+            sb.append(normalized);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.chillgram.domain.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 AI 요청 single-flight (인스턴스 내부)
+ * - 같은 키(op + 프롬프트 해시)로 동시에 들어온 요청은 진행 중인 1개의 upstream Mono를 공유
+ * - upstream 종료(성공/실패) 시 레지스트리에서 제거 → 이후 요청은 새로 호출(또는 Redis 캐시 hit)
+ * - 공유 Mono는 취소되지 않는다. (구독자 1명이 끊어도 나머지를 위해 끝까지 진행)
+ *
+ * 메트릭
+ * - ai.singleflight.upstream.calls{op}: 실제 upstream 호출 수
+ * - ai.singleflight.saved.calls{op}: 합류로 절약한 호출 수
+ * - ai.singleflight.coalesced{op}: upstream 1건당 합류한 추가 호출자 수 분포
+ */
+@Slf4j
+@Component
+public class AiSingleFlight {
+
+    private final ConcurrentHashMap<String, Flight<?>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public AiSingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Mono<T> execute(String op, String key, Supplier<Mono<T>> upstream) {
+        String flightKey = op + ":" + key;
+        return Mono.defer(() -> {
+            @SuppressWarnings("unchecked")
+            Flight<T> flight = (Flight<T>) inFlight.compute(flightKey, (k, existing) -> {
+                Flight<?> f = (existing != null) ? existing : newFlight(op, k, upstream);
+                f.callers++;
+                return f;
+            });
+            return flight.shared;
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> Flight<T> newFlight(String op, String flightKey, Supplier<Mono<T>> upstream) {
+        Flight<T> flight = new Flight<>();
+        flight.shared = Mono.defer(upstream)
+                .doFinally(signal -> {
+                    // compute와 같은 락 구간에서 제거/집계해야 callers 값이 정확하다
+                    int[] callers = {1};
+                    inFlight.compute(flightKey, (k, f) -> {
+                        if (f != flight) {
+                            return f;
+                        }
+                        callers[0] = flight.callers;
+                        return null;
+                    });
+                    record(op, callers[0]);
+                })
+                .cache();
+        return flight;
+    }
+
+    private void record(String op, int callers) {
+        int saved = Math.max(0, callers - 1);
+        Counter.builder("ai.singleflight.upstream.calls").tag("op", op).register(meterRegistry).increment();
+        Counter.builder("ai.singleflight.saved.calls").tag("op", op).register(meterRegistry).increment(saved);
+        DistributionSummary.builder("ai.singleflight.coalesced").tag("op", op).register(meterRegistry).record(saved);
+        if (saved > 0) {
+            log.info("AI single-flight 합류. op={}, saved={}", op, saved);
+        }
+    }
+
+    private static final class Flight<T> {
+        private Mono<T> shared;
+        private int callers; // compute 락 안에서만 변경
+    }
+}
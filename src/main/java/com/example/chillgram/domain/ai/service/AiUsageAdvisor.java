@@ -0,0 +1,106 @@
+package com.example.chillgram.domain.ai.service;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ChatClient 기본 advisor: 모델 호출 구간의 latency/모델명/토큰 수를 AiCallRecord에 기록
+ * - 호출 측은 .advisors(a -> a.param(RECORD_PARAM, record))로 record를 넘긴다
+ * - record 없이 들어온 호출도 op=untracked로 집계한다
+ * - 모델 호출 바로 앞(가장 안쪽)에서 동작하도록 order는 LOWEST_PRECEDENCE 직전
+ */
+@Component
+public class AiUsageAdvisor implements CallAdvisor, StreamAdvisor {
+
+    public static final String RECORD_PARAM = "chillgram.ai.call-record";
+
+    private final AiUsageRecorder recorder;
+
+    public AiUsageAdvisor(AiUsageRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+        AiCallRecord tracked = trackedRecord(request);
+        AiCallRecord rec = tracked != null ? tracked : untracked();
+        rec.modelStarted();
+        long start = System.nanoTime();
+        ChatResponse response = null;
+        try {
+            ChatClientResponse res = chain.nextCall(request);
+            response = res.chatResponse();
+            return res;
+        } finally {
+            rec.modelFinished(System.nanoTime() - start, response, requestedModel(request));
+            if (response == null) {
+                recorder.complete(rec, "error", false);
+            } else if (tracked == null) {
+                recorder.complete(rec, "success", null);
+            }
+            recorder.modelDone(rec);
+        }
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+        return Flux.defer(() -> {
+            AiCallRecord tracked = trackedRecord(request);
+            AiCallRecord rec = tracked != null ? tracked : untracked();
+            rec.modelStarted();
+            long start = System.nanoTime();
+            // Gemini는 usage를 누적값으로 내려주므로 마지막으로 받은 usage를 사용
+            AtomicReference<ChatResponse> lastWithUsage = new AtomicReference<>();
+            return chain.nextStream(request)
+                    .doOnNext(res -> {
+                        ChatResponse r = res.chatResponse();
+                        if (r != null && r.getMetadata() != null && r.getMetadata().getUsage() != null
+                                && r.getMetadata().getUsage().getPromptTokens() != null
+                                && r.getMetadata().getUsage().getPromptTokens() > 0) {
+                            lastWithUsage.set(r);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        rec.modelFinished(System.nanoTime() - start, lastWithUsage.get(), requestedModel(request));
+                        if (tracked == null) {
+                            recorder.complete(rec, signal == SignalType.ON_COMPLETE ? "success"
+                                    : signal == SignalType.CANCEL ? "cancelled" : "error", null);
+                        }
+                        recorder.modelDone(rec);
+                    });
+        });
+    }
+
+    private static AiCallRecord trackedRecord(ChatClientRequest request) {
+        return request.context().get(RECORD_PARAM) instanceof AiCallRecord rec ? rec : null;
+    }
+
+    private static AiCallRecord untracked() {
+        return new AiCallRecord("untracked", null, null, null);
+    }
+
+    private static String requestedModel(ChatClientRequest request) {
+        return request.prompt().getOptions() == null ? null : request.prompt().getOptions().getModel();
+    }
+
+    @Override
+    public String getName() {
+        return "AiUsageAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+}
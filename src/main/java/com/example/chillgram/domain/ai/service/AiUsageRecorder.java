@@ -0,0 +1,127 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.common.security.AuthPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Gemini 호출 사용량 집계 (토큰/latency/모델/op/파싱 성공)
+ * - track: 호출 1건마다 AiCallRecord를 만들어 advisor에 넘기고, 결과가 확정되면 메트릭 기록 + ai_call_log 적재
+ * - companyId는 요청 SecurityContext의 AuthPrincipal에서 가져온다 (비로그인/내부 호출은 "none")
+ *   single-flight/캐시로 공유된 호출은 실제로 upstream을 호출한 요청의 회사로 집계된다
+ *
+ * 메트릭 (actuator /actuator/metrics)
+ * - ai.usage.latency{op, model, company, outcome}: 모델 호출 latency
+ * - ai.usage.tokens{op, model, company, type=prompt|completion}: 토큰 누적
+ * - ai.usage.parse{op, model, company, result=success|failure}: 응답 파싱 결과
+ */
+@Component
+public class AiUsageRecorder {
+
+    private static final String NO_COMPANY = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final AiCallLogWriter logWriter;
+
+    public AiUsageRecorder(MeterRegistry meterRegistry, AiCallLogWriter logWriter) {
+        this.meterRegistry = meterRegistry;
+        this.logWriter = logWriter;
+    }
+
+    /**
+     * @param parsed 응답이 정상 파싱됐는지 (fallback 응답이면 false)
+     * @param call   record를 advisor 파라미터로 실어 호출하는 Mono
+     */
+    public <T> Mono<T> track(String op, Long productId, String promptHash, Predicate<T> parsed,
+                             Function<AiCallRecord, Mono<T>> call) {
+        return currentCompanyId().flatMap(companyId -> {
+            AiCallRecord rec = new AiCallRecord(op, companyId.orElse(null), productId, promptHash);
+            return call.apply(rec)
+                    .doOnSuccess(v -> complete(rec, "success", v != null && parsed.test(v)))
+                    .doOnError(e -> complete(rec, "error", false))
+                    .doOnCancel(() -> complete(rec, "cancelled", null));
+        });
+    }
+
+    /**
+     * 스트리밍 호출 추적. 파싱 결과는 스트림이 끝나기 전에 parsed(record, ok)로 알려준다 (기본 성공)
+     */
+    public <T> Flux<T> trackStream(String op, Long productId, String promptHash,
+                                   Function<AiCallRecord, Flux<T>> call) {
+        return currentCompanyId().flatMapMany(companyId -> {
+            AiCallRecord rec = new AiCallRecord(op, companyId.orElse(null), productId, promptHash);
+            return call.apply(rec)
+                    .doOnComplete(() -> complete(rec, "success", true))
+                    .doOnError(e -> complete(rec, "error", false))
+                    .doOnCancel(() -> complete(rec, "cancelled", null));
+        });
+    }
+
+    public void parsed(AiCallRecord rec, boolean ok) {
+        rec.outcome("success", ok);
+    }
+
+    void complete(AiCallRecord rec, String outcome, Boolean parseSuccess) {
+        rec.outcome(outcome, parseSuccess);
+        finishIfReady(rec);
+    }
+
+    /**
+     * advisor: 모델 응답 도착 후 호출. 호출 측 결과가 먼저 확정돼 있었으면 여기서 완료된다
+     */
+    void modelDone(AiCallRecord rec) {
+        finishIfReady(rec);
+    }
+
+    private void finishIfReady(AiCallRecord rec) {
+        if (!rec.tryComplete()) {
+            return;
+        }
+        Tags tags = Tags.of(
+                "op", rec.op(),
+                "model", rec.model(),
+                "company", rec.companyId() == null ? NO_COMPANY : String.valueOf(rec.companyId()));
+
+        Timer.builder("ai.usage.latency")
+                .tags(tags)
+                .tag("outcome", rec.outcome())
+                .register(meterRegistry)
+                .record(rec.latencyNanos(), TimeUnit.NANOSECONDS);
+
+        if (rec.promptTokens() != null) {
+            Counter.builder("ai.usage.tokens").tags(tags).tag("type", "prompt")
+                    .register(meterRegistry).increment(rec.promptTokens());
+        }
+        if (rec.completionTokens() != null) {
+            Counter.builder("ai.usage.tokens").tags(tags).tag("type", "completion")
+                    .register(meterRegistry).increment(rec.completionTokens());
+        }
+        if (rec.parseSuccess() != null) {
+            Counter.builder("ai.usage.parse").tags(tags)
+                    .tag("result", rec.parseSuccess() ? "success" : "failure")
+                    .register(meterRegistry).increment();
+        }
+
+        logWriter.enqueue(rec);
+    }
+
+    private static Mono<Optional<Long>> currentCompanyId() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication() != null
+                        && ctx.getAuthentication().getPrincipal() instanceof AuthPrincipal p
+                        ? Optional.of(p.companyId())
+                        : Optional.<Long>empty())
+                .defaultIfEmpty(Optional.empty());
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.auth.constant.AuthConst;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.google.genai.GoogleGenAiChatModel;
+import org.springframework.ai.google.genai.cache.CachedContentRequest;
+import org.springframework.ai.google.genai.cache.GoogleGenAiCachedContent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gemini cached content 기반 PromptPrefixCache
+ * - op + system 해시별로 cachedContents를 1개 만들고 만료 refreshBefore 전에 새로 만든다
+ * - 업로드는 boundedElastic에서 백그라운드로 수행하고, 같은 키는 동시에 1번만 올린다
+ *   → 첫 요청(및 생성 완료 전 요청)은 인라인 system으로 나간다
+ * - 생성 실패(최소 토큰 수 미달, 권한 등) 시 retryAfterFailure 뒤 재시도
+ * - 캐시는 생성한 모델에만 유효하므로 헤지 등 다른 모델 호출에는 사용하지 않는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.ai.prompt-cache.enabled", havingValue = "true")
+public class GeminiPromptPrefixCache implements PromptPrefixCache {
+
+    private final ObjectProvider<GoogleGenAiChatModel> chatModelProvider;
+    private final String model;
+    private final Duration ttl;
+    private final Duration refreshBefore;
+    private final Duration retryAfterFailure;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> creating = ConcurrentHashMap.newKeySet();
+
+    public GeminiPromptPrefixCache(
+            ObjectProvider<GoogleGenAiChatModel> chatModelProvider,
+            @Value("${spring.ai.google.genai.chat.options.model:gemini-2.5-flash}") String model,
+            @Value("${app.ai.prompt-cache.ttl:1h}") Duration ttl,
+            @Value("${app.ai.prompt-cache.refresh-before:5m}") Duration refreshBefore,
+            @Value("${app.ai.prompt-cache.retry-after-failure:10m}") Duration retryAfterFailure
+    ) {
+        this.chatModelProvider = chatModelProvider;
+        this.model = model;
+        this.ttl = ttl;
+        this.refreshBefore = refreshBefore;
+        this.retryAfterFailure = retryAfterFailure;
+    }
+
+    /**
+     * 현재 유효한 핸들을 바로 반환하고, 없거나 갱신 시점이 지났으면 백그라운드로 생성만 걸어둔다
+     * - non-blocking 호출 경로(이벤트 루프)에서 불리므로 여기서 업로드를 기다리지 않는다
+     */
+    @Override
+    public String handle(String op, String systemText) {
+        String key = op + ":" + AuthConst.sha256Hex(systemText);
+        Instant now = Instant.now();
+        Entry cur = entries.get(key);
+        if (cur == null || !now.isBefore(cur.nextAttemptAt())) {
+            refreshAsync(key, op, systemText);
+        }
+        return cur != null && cur.valid(now) ? cur.name() : null;
+    }
+
+    private void refreshAsync(String key, String op, String systemText) {
+        if (!creating.add(key)) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                entries.compute(key, (k, prev) -> create(op, systemText, prev));
+            } finally {
+                creating.remove(key);
+            }
+        });
+    }
+
+    private Entry create(String op, String systemText, Entry previous) {
+        Instant now = Instant.now();
+        GoogleGenAiChatModel chatModel = chatModelProvider.getIfAvailable();
+        if (chatModel == null) {
+            return Entry.failed(previous, now.plus(retryAfterFailure));
+        }
+        try {
+            GoogleGenAiCachedContent created = chatModel.getCachedContentService().create(
+                    CachedContentRequest.builder()
+                            .model(model)
+                            .displayName("chillgram-" + op)
+                            .systemInstruction(systemText)
+                            .ttl(ttl)
+                            .build());
+            Instant expireAt = created.getExpireTime() != null ? created.getExpireTime() : now.plus(ttl);
+            log.info("Gemini 프롬프트 캐시 생성. op={}, name={}, expireAt={}", op, created.getName(), expireAt);
+            return new Entry(created.getName(), expireAt, expireAt.minus(refreshBefore));
+        } catch (Exception e) {
+            log.warn("Gemini 프롬프트 캐시 생성 실패, {} 뒤 재시도 (그동안 기존 핸들 또는 인라인 system 사용). op={}",
+                    retryAfterFailure, op, e);
+            return Entry.failed(previous, now.plus(retryAfterFailure));
+        }
+    }
+
+    /**
+     * name == null 이면 핸들 없음 (nextAttemptAt 이후 재시도)
+     * - 갱신 실패 시 기존 핸들은 expireAt까지 계속 사용
+     */
+    private record Entry(String name, Instant expireAt, Instant nextAttemptAt) {
+        static Entry failed(Entry previous, Instant retryAt) {
+            return previous == null
+                    ? new Entry(null, null, retryAt)
+                    : new Entry(previous.name(), previous.expireAt(), retryAt);
+        }
+
+        boolean valid(Instant now) {
+            return name != null && now.isBefore(expireAt);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.metadata.ChatGenerationMetadata;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.ai.google.genai.common.GoogleGenAiSafetySetting;
+import org.springframework.ai.google.genai.common.GoogleGenAiThinkingLevel;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Gemini REST(streamGenerateContent?alt=sse)를 WebClient로 직접 호출하는 ChatModel
+ * - GenAI SDK 스트림은 블로킹 Iterator라 응답을 기다리는 동안 스레드 1개를 점유한다
+ *   → 이 모델은 Netty 이벤트 루프에서 SSE 청크를 받으므로 in-flight 요청 수와 스레드 수가 무관
+ * - 지원 범위: system/user/assistant 텍스트, cachedContentName,
+ *   model/temperature/topP/topK/maxOutputTokens/stopSequences/presence·frequencyPenalty/responseMimeType,
+ *   thinking(budget/level/includeThoughts), safetySettings
+ * - 옵션 = 설정 기본값(spring.ai.google.genai.chat.options.*) 위에 요청별 옵션을 덮어쓴 값
+ *   (SDK 기반 GoogleGenAiChatModel과 같은 설정으로 동작하도록. 요청에 없는 값은 설정값 유지)
+ * - 미지원(요청 본문에 넣지 않음): tool/function calling, googleSearchRetrieval, responseSchema, labels,
+ *   candidateCount(항상 1개)
+ * - 스트림 응답만 non-blocking. call()은 ChatModel 계약상 블로킹 (이벤트 루프에서 호출하지 말 것)
+ * - ChatModel bean이 둘이면 자동설정 ChatClient.Builder가 모호해지므로 bean으로 등록하지 않는다
+ *   (AiConfig의 reactiveChatClient 내부에서만 생성)
+ */
+public class GeminiSseChatModel implements ChatModel {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final GoogleGenAiChatOptions defaultOptions;
+
+    /**
+     * @param webClient      baseUrl(https://generativelanguage.googleapis.com/v1beta) + x-goog-api-key 헤더가 설정된 클라이언트
+     * @param defaultOptions 설정 기본값 (model 필수)
+     */
+    public GeminiSseChatModel(WebClient webClient, ObjectMapper objectMapper, GoogleGenAiChatOptions defaultOptions) {
+        if (defaultOptions.getModel() == null) {
+            throw new IllegalArgumentException("default model is required");
+        }
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.defaultOptions = defaultOptions.copy();
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        return stream(prompt)
+                .collectList()
+                .map(GeminiSseChatModel::aggregate)
+                .block();
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> {
+            GoogleGenAiChatOptions options = merge(prompt.getOptions());
+            String model = options.getModel();
+            return webClient.post()
+                    .uri("/models/{model}:streamGenerateContent?alt=sse", model)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody(prompt, options))
+                    .retrieve()
+                    .bodyToFlux(SSE)
+                    .filter(event -> event.data() != null && !event.data().isBlank())
+                    .map(event -> toChatResponse(event.data(), model));
+        });
+    }
+
+    @Override
+    public ChatOptions getDefaultOptions() {
+        return defaultOptions.copy();
+    }
+
+    // =========================================================
+    // 요청/응답 변환
+    // =========================================================
+
+    /**
+     * 설정 기본값 + 요청별 옵션 (요청 쪽 null이 아닌 값만 덮어씀)
+     */
+    private GoogleGenAiChatOptions merge(ChatOptions options) {
+        GoogleGenAiChatOptions merged = defaultOptions.copy();
+        if (options == null) {
+            return merged;
+        }
+        if (options.getModel() != null) merged.setModel(options.getModel());
+        if (options.getTemperature() != null) merged.setTemperature(options.getTemperature());
+        if (options.getTopP() != null) merged.setTopP(options.getTopP());
+        if (options.getTopK() != null) merged.setTopK(options.getTopK());
+        if (options.getMaxTokens() != null) merged.setMaxOutputTokens(options.getMaxTokens());
+        if (options.getStopSequences() != null) merged.setStopSequences(options.getStopSequences());
+        if (options.getPresencePenalty() != null) merged.setPresencePenalty(options.getPresencePenalty());
+        if (options.getFrequencyPenalty() != null) merged.setFrequencyPenalty(options.getFrequencyPenalty());
+        if (options instanceof GoogleGenAiChatOptions g) {
+            if (g.getResponseMimeType() != null) merged.setResponseMimeType(g.getResponseMimeType());
+            if (g.getThinkingBudget() != null) merged.setThinkingBudget(g.getThinkingBudget());
+            if (g.getThinkingLevel() != null) merged.setThinkingLevel(g.getThinkingLevel());
+            if (g.getIncludeThoughts() != null) merged.setIncludeThoughts(g.getIncludeThoughts());
+            if (g.getSafetySettings() != null && !g.getSafetySettings().isEmpty()) {
+                merged.setSafetySettings(g.getSafetySettings());
+            }
+            if (g.getCachedContentName() != null) merged.setCachedContentName(g.getCachedContentName());
+            if (g.getUseCachedContent() != null) merged.setUseCachedContent(g.getUseCachedContent());
+        }
+        return merged;
+    }
+
+    private ObjectNode requestBody(Prompt prompt, GoogleGenAiChatOptions options) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode contents = body.putArray("contents");
+        StringBuilder system = new StringBuilder();
+
+        for (Message m : prompt.getInstructions()) {
+            if (m.getMessageType() == MessageType.SYSTEM) {
+                system.append(system.isEmpty() ? "" : "\n").append(m.getText());
+            } else if (m.getMessageType() == MessageType.USER || m.getMessageType() == MessageType.ASSISTANT) {
+                ObjectNode content = contents.addObject();
+                content.put("role", m.getMessageType() == MessageType.USER ? "user" : "model");
+                content.putArray("parts").addObject().put("text", m.getText());
+            }
+        }
+        if (!system.isEmpty()) {
+            body.putObject("systemInstruction").putArray("parts").addObject().put("text", system.toString());
+        }
+        if (options.getCachedContentName() != null && Boolean.TRUE.equals(options.getUseCachedContent())) {
+            body.put("cachedContent", options.getCachedContentName());
+        }
+
+        ObjectNode config = objectMapper.createObjectNode();
+        if (options.getTemperature() != null) config.put("temperature", options.getTemperature());
+        if (options.getTopP() != null) config.put("topP", options.getTopP());
+        if (options.getTopK() != null) config.put("topK", options.getTopK());
+        if (options.getMaxOutputTokens() != null) config.put("maxOutputTokens", options.getMaxOutputTokens());
+        if (options.getStopSequences() != null && !options.getStopSequences().isEmpty()) {
+            ArrayNode stops = config.putArray("stopSequences");
+            options.getStopSequences().forEach(stops::add);
+        }
+        if (options.getPresencePenalty() != null) config.put("presencePenalty", options.getPresencePenalty());
+        if (options.getFrequencyPenalty() != null) config.put("frequencyPenalty", options.getFrequencyPenalty());
+        if (options.getResponseMimeType() != null) config.put("responseMimeType", options.getResponseMimeType());
+
+        ObjectNode thinking = objectMapper.createObjectNode();
+        if (options.getThinkingBudget() != null) thinking.put("thinkingBudget", options.getThinkingBudget());
+        if (options.getThinkingLevel() != null
+                && options.getThinkingLevel() != GoogleGenAiThinkingLevel.THINKING_LEVEL_UNSPECIFIED) {
+            thinking.put("thinkingLevel", options.getThinkingLevel().name());
+        }
+        if (options.getIncludeThoughts() != null) thinking.put("includeThoughts", options.getIncludeThoughts());
+        if (!thinking.isEmpty()) {
+            config.set("thinkingConfig", thinking);
+        }
+        if (!config.isEmpty()) {
+            body.set("generationConfig", config);
+        }
+
+        if (options.getSafetySettings() != null && !options.getSafetySettings().isEmpty()) {
+            ArrayNode safety = body.putArray("safetySettings");
+            for (GoogleGenAiSafetySetting setting : options.getSafetySettings()) {
+                ObjectNode node = safety.addObject();
+                if (setting.getCategory() != null) node.put("category", setting.getCategory().name());
+                if (setting.getThreshold() != null) node.put("threshold", setting.getThreshold().name());
+            }
+        }
+        return body;
+    }
+
+    /**
+     * SSE 청크 1개 → ChatResponse (thought 파트 제외, usage는 Gemini가 누적값으로 내려줌)
+     */
+    private ChatResponse toChatResponse(String data, String requestedModel) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Gemini SSE 청크 파싱 실패", e);
+        }
+
+        JsonNode candidate = root.path("candidates").path(0);
+        StringBuilder text = new StringBuilder();
+        for (JsonNode part : candidate.path("content").path("parts")) {
+            if (!part.path("thought").asBoolean(false) && part.hasNonNull("text")) {
+                text.append(part.get("text").asText());
+            }
+        }
+
+        ChatGenerationMetadata.Builder generationMeta = ChatGenerationMetadata.builder();
+        if (candidate.hasNonNull("finishReason")) {
+            generationMeta.finishReason(candidate.get("finishReason").asText());
+        }
+
+        ChatResponseMetadata.Builder meta = ChatResponseMetadata.builder()
+                .model(root.path("modelVersion").asText(requestedModel));
+        JsonNode usage = root.path("usageMetadata");
+        if (usage.isObject()) {
+            meta.usage(new DefaultUsage(
+                    usage.path("promptTokenCount").asInt(0),
+                    usage.path("candidatesTokenCount").asInt(0)));
+        }
+
+        return new ChatResponse(
+                List.of(new Generation(new AssistantMessage(text.toString()), generationMeta.build())),
+                meta.build());
+    }
+
+    private static ChatResponse aggregate(List<ChatResponse> chunks) {
+        StringBuilder text = new StringBuilder();
+        ChatResponse last = null;
+        for (ChatResponse chunk : chunks) {
+            if (chunk.getResult() != null && chunk.getResult().getOutput().getText() != null) {
+                text.append(chunk.getResult().getOutput().getText());
+            }
+            last = chunk;
+        }
+        if (last == null) {
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(""))));
+        }
+        return new ChatResponse(
+                List.of(new Generation(new AssistantMessage(text.toString()), last.getResult().getMetadata())),
+                last.getMetadata());
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.chillgram.domain.ai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 응답용 [GUIDE_START]...[GUIDE_END] 증분 파서.
+ * - LLM 청크를 feed()로 누적하고, 닫힌 블록이 생길 때마다 블록 본문을 즉시 돌려준다.
+ * - 태그가 청크 경계에서 잘려도 누적 버퍼 기준으로 찾으므로 안전하다.
+ * - 구독 1건당 1개 인스턴스를 사용한다. (thread-safe 아님)
+ */
+public class GuideBlockStreamParser {
+
+    private static final String START = "[GUIDE_START]";
+    private static final String END = "[GUIDE_END]";
+
+    private final StringBuilder buffer = new StringBuilder();
+    private int emitted;
+
+    /**
+     * 청크를 누적하고 이번에 닫힌 블록 본문들을 반환한다. (없으면 빈 리스트)
+     */
+    public List<String> feed(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return List.of();
+        }
+        buffer.append(chunk);
+
+        List<String> blocks = new ArrayList<>();
+        while (true) {
+            int start = buffer.indexOf(START);
+            if (start < 0) {
+                break;
+            }
+            int end = buffer.indexOf(END, start + START.length());
+            if (end < 0) {
+                break;
+            }
+            blocks.add(buffer.substring(start + START.length(), end).replace("**", ""));
+            buffer.delete(0, end + END.length());
+        }
+        emitted += blocks.size();
+        return blocks;
+    }
+
+    public int emittedCount() {
+        return emitted;
+    }
+
+    /**
+     * 아직 블록으로 닫히지 않은 잔여 텍스트. (블록이 하나도 없을 때는 전체 응답)
+     */
+    public String remainder() {
+        return buffer.toString().replace("**", "").trim();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.chillgram.domain.ai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * job 멱등 키 → jobId (Redis, DB unique index 앞의 fast path)
+ * - 키 규칙: job:idem:key:{idempotencyKey} (클라이언트 Idempotency-Key만, TTL app.jobs.idempotency.key-ttl)
+ * - payload에서 파생한 dedup 키는 여기 기록하지 않는다 → DB unique index(진행 중인 job끼리만)로만 판단
+ *   (Redis에 두면 끝난/실패한 job까지 TTL 동안 돌려줘 DB 판단과 어긋나고, 실패 직후 재시도가 실패한 jobId를 받는다)
+ * - 커밋된 job만 기록 (JobService가 커밋 후 호출) → 여기서 찾은 jobId는 항상 존재한다
+ * - Redis 장애 시 DB unique index로만 판단
+ */
+@Slf4j
+@Component
+public class JobIdempotencyStore {
+
+    private static final String PREFIX = "job:idem:key:";
+
+    private final ReactiveStringRedisTemplate redis;
+    private final Duration keyTtl;
+
+    public JobIdempotencyStore(
+            ReactiveStringRedisTemplate redis,
+            @Value("${app.jobs.idempotency.key-ttl:24h}") Duration keyTtl
+    ) {
+        this.redis = redis;
+        this.keyTtl = keyTtl;
+    }
+
+    public Mono<UUID> find(String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return Mono.empty();
+        }
+        return redis.opsForValue().get(PREFIX + idempotencyKey)
+                .map(UUID::fromString)
+                .onErrorResume(e -> {
+                    log.warn("job 멱등 키 조회 실패, DB로 진행. err={}", e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 여러 건 조회 (MGET 1번, 키가 하나도 없으면 Redis를 부르지 않음)
+     *
+     * @return 찾은 job의 index → jobId
+     */
+    public Mono<Map<Integer, UUID>> findAll(List<String> idempotencyKeys) {
+        if (idempotencyKeys.stream().allMatch(Objects::isNull)) {
+            return Mono.just(Map.of());
+        }
+        // 키가 없는 자리는 존재하지 않는 키로 채워 index를 맞춘다
+        List<String> keys = idempotencyKeys.stream()
+                .map(k -> PREFIX + Objects.requireNonNullElse(k, ""))
+                .toList();
+        return redis.opsForValue().multiGet(keys)
+                .map(values -> {
+                    Map<Integer, UUID> found = new HashMap<>();
+                    for (int i = 0; i < values.size(); i++) {
+                        if (values.get(i) != null) {
+                            found.put(i, UUID.fromString(values.get(i)));
+                        }
+                    }
+                    return found;
+                })
+                .onErrorResume(e -> {
+                    log.warn("job 멱등 키 조회 실패, DB로 진행. err={}", e.toString());
+                    return Mono.just(Map.of());
+                })
+                .defaultIfEmpty(Map.of());
+    }
+
+    public Mono<Void> remember(String idempotencyKey, UUID jobId) {
+        if (idempotencyKey == null) {
+            return Mono.empty();
+        }
+        return redis.opsForValue().set(PREFIX + idempotencyKey, jobId.toString(), keyTtl)
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("job 멱등 키 저장 실패. jobId={}, err={}", jobId, e.toString());
+                    return Mono.empty();
+                });
+    }
+}
@@ -2,14 +2,20 @@ package com.example.chillgram.domain.ai.service;
 
 import com.example.chillgram.common.exception.ApiException;
 import com.example.chillgram.common.exception.ErrorCode;
-import com.example.chillgram.common.google.GcsFileStorage;
+import com.example.chillgram.common.google.FileStorage;
 import com.example.chillgram.domain.advertising.dto.jobs.CreateJobRequest;
 import com.example.chillgram.domain.advertising.dto.jobs.JobEnums;
 import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
 import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
 import com.example.chillgram.domain.advertising.dto.jobs.JobResultRequest;
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.messaging.JobEventBroadcaster;
+import com.example.chillgram.domain.ai.repository.JobSideEffectRepository;
 import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository.NewJob;
 import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import com.example.chillgram.domain.auth.constant.AuthConst;
 import com.example.chillgram.domain.project.repository.ProjectRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,16 +23,40 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Slf4j
 public class JobService {
 
+    /** job 생성 요청의 클라이언트 멱등 키 헤더 */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 200;
+
+    /** 기한 안에 결과가 오지 않아 실패 처리된 job의 errorCode */
+    public static final String TIMEOUT = "TIMEOUT";
+
     private final JobTaskRepository jobRepo;
     private final OutboxEventRepository outboxRepo;
     private final TransactionalOperator tx;
@@ -35,7 +65,13 @@ public class JobService {
 
     private final com.example.chillgram.domain.content.service.ContentService contentService;
     private final ProjectRepository projectRepository;
-    private final GcsFileStorage gcs;
+    private final FileStorage gcs;
+    private final JobSideEffectRepository sideEffectRepo;
+    private final JobEventBroadcaster events;
+    private final JobStatusCache statusCache;
+    private final JobLaneProperties lanes;
+    private final TenantJobLimiter tenantLimiter;
+    private final JobIdempotencyStore idempotencyStore;
 
     public JobService(
             JobTaskRepository jobRepo,
@@ -45,7 +81,13 @@ public class JobService {
             @Value("${app.jobs.routing-key}") String jobsRoutingKey,
             com.example.chillgram.domain.content.service.ContentService contentService,
             ProjectRepository projectRepository,
-            GcsFileStorage gcs
+            FileStorage gcs,
+            JobSideEffectRepository sideEffectRepo,
+            JobEventBroadcaster events,
+            JobStatusCache statusCache,
+            JobLaneProperties lanes,
+            TenantJobLimiter tenantLimiter,
+            JobIdempotencyStore idempotencyStore
     ) {
         this.jobRepo = jobRepo;
         this.outboxRepo = outboxRepo;
@@ -55,40 +97,389 @@ public class JobService {
         this.contentService = contentService;
         this.projectRepository = projectRepository;
         this.gcs = gcs;
+        this.sideEffectRepo = sideEffectRepo;
+        this.events = events;
+        this.statusCache = statusCache;
+        this.lanes = lanes;
+        this.tenantLimiter = tenantLimiter;
+        this.idempotencyStore = idempotencyStore;
     }
 
+    /**
+     * 워커 작업 요청 (멱등 키는 payload 해시로 파생, requestJobOnce 참고)
+     */
     public Mono<UUID> requestJob(long projectId, CreateJobRequest req, String traceId) {
-        UUID jobId = UUID.randomUUID();
-        UUID outboxId = UUID.randomUUID();
+        return requestJobOnce(projectId, req, traceId, null).map(JobRequested::jobId);
+    }
+
+    /**
+     * 워커 작업 요청: job_task + outbox 한 트랜잭션
+     * - 같은 요청이 반복되면 새 job/outbox 없이 원래 jobId를 돌려준다 (replayed=true)
+     *   · idempotencyKey: 클라이언트 Idempotency-Key (호출 측에서 사용자/용도 범위를 붙여서 전달), null 가능
+     *   · dedupKey: projectId + jobType + payload 해시 (항상 적용, 진행 중인 job끼리만)
+     *   · idempotencyKey: Redis fast path → DB unique index / dedupKey: DB unique index(insert on conflict do nothing)만
+     * - routing key(큐)는 JobType의 lane으로 결정 (app.jobs.lanes.*)
+     * - lane에 회사별 상한이 있으면 먼저 permit을 얻고, 넘으면 JOB_QUOTA_EXCEEDED (permit은 종료 상태가 될 때 반납)
+     * - 상태 캐시/멱등 키 기록은 커밋 후 (호출 측 트랜잭션에 참여 중이면 그 커밋 후)
+     */
+    public Mono<JobRequested> requestJobOnce(long projectId, CreateJobRequest req, String traceId, String idempotencyKey) {
+        return submit(projectId, List.of(req), traceId, Collections.singletonList(idempotencyKey))
+                .map(results -> results.get(0));
+    }
+
+    /**
+     * 워커 작업 여러 건 요청 (requestJobOnce와 같은 규칙, job_task/outbox insert를 각각 쿼리 1번으로)
+     * - idempotencyKey가 있으면 i번째 job의 키는 {idempotencyKey}:{i}
+     * - 회사별 상한은 새로 만드는 job 전체에 대해 확인, 하나라도 넘으면 아무것도 만들지 않는다
+     *
+     * @return reqs와 같은 순서
+     */
+    public Mono<List<JobRequested>> requestJobs(long projectId, List<CreateJobRequest> reqs, String traceId,
+                                                String idempotencyKey) {
+        if (reqs.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        List<String> idempotencyKeys = IntStream.range(0, reqs.size())
+                .mapToObj(i -> idempotencyKey == null ? null : idempotencyKey + ":" + i)
+                .toList();
+        return submit(projectId, reqs, traceId, idempotencyKeys);
+    }
+
+    private Mono<List<JobRequested>> submit(long projectId, List<CreateJobRequest> reqs, String traceId,
+                                            List<String> idempotencyKeys) {
+        List<String> dedupKeys = reqs.stream()
+                .map(r -> AuthConst.sha256Hex(projectId + "|" + r.jobType().name() + "|" + r.payload()))
+                .toList();
+
+        return idempotencyStore.findAll(idempotencyKeys)
+                .flatMap(cached -> {
+                    List<NewJob> fresh = new ArrayList<>();
+                    for (int i = 0; i < reqs.size(); i++) {
+                        if (!cached.containsKey(i)) {
+                            CreateJobRequest r = reqs.get(i);
+                            fresh.add(new NewJob(UUID.randomUUID(), projectId, r.jobType(), r.payload(),
+                                    idempotencyKeys.get(i), dedupKeys.get(i)));
+                        }
+                    }
+                    Mono<List<JobRequested>> created = fresh.isEmpty()
+                            ? Mono.just(List.of())
+                            : createJobs(projectId, fresh, traceId);
+
+                    return created.map(results -> {
+                        List<JobRequested> merged = new ArrayList<>(reqs.size());
+                        Iterator<JobRequested> next = results.iterator();
+                        for (int i = 0; i < reqs.size(); i++) {
+                            UUID existing = cached.get(i);
+                            merged.add(existing != null ? new JobRequested(existing, true) : next.next());
+                        }
+                        return merged;
+                    });
+                });
+    }
+
+    /**
+     * @return fresh와 같은 순서. 키 충돌로 insert 되지 않은 job은 먼저 만들어진 jobId (replayed=true)
+     */
+    private Mono<List<JobRequested>> createJobs(long projectId, List<NewJob> fresh, String traceId) {
         OffsetDateTime now = OffsetDateTime.now();
+        List<UUID> jobIds = fresh.stream().map(NewJob::jobId).toList();
+
+        Mono<List<JobRequested>> insert = Mono.defer(() -> tx.transactional(
+                jobRepo.insertRequestedAll(fresh, now)
+                        .collect(Collectors.toSet())
+                        .flatMap(inserted -> {
+                            List<NewJob> created = fresh.stream().filter(j -> inserted.contains(j.jobId())).toList();
+                            return outboxRepo.insertOutboxAll(
+                                            "JOB",
+                                            "JOB_REQUESTED",
+                                            created.stream().map(j -> UUID.randomUUID()).toList(),
+                                            created.stream().map(NewJob::jobId).toList(),
+                                            created.stream().map(j -> lanes.routingKey(jobsRoutingKey, j.jobType())).toList(),
+                                            created.stream().<JsonNode>map(j -> jobRequestedEvent(j.jobId(), projectId,
+                                                    j.jobType(), j.payload(), now, traceId)).toList(),
+                                            now)
+                                    .then(created.isEmpty() ? Mono.empty() : afterCommit(() -> statusCache
+                                            .putAll(created.stream()
+                                                    .map(j -> requested(j.jobId(), projectId, j.jobType(), now))
+                                                    .toList())
+                                            .then(Flux.fromIterable(created)
+                                                    .concatMap(j -> idempotencyStore.remember(
+                                                            j.idempotencyKey(), j.jobId()))
+                                                    .then())))
+                                    .then(Flux.fromIterable(fresh)
+                                            .concatMap(j -> inserted.contains(j.jobId())
+                                                    ? Mono.just(new JobRequested(j.jobId(), false))
+                                                    : findDuplicate(j))
+                                            .collectList());
+                        })
+        )).onErrorResume(e -> tenantLimiter.releaseAll(jobIds).then(Mono.error(e)));
+
+        return acquireTenantPermits(projectId, fresh)
+                .then(insert)
+                .flatMap(results -> {
+                    // 기존 job으로 합쳐진 요청의 permit 반납
+                    List<UUID> unused = IntStream.range(0, fresh.size())
+                            .filter(i -> results.get(i).replayed())
+                            .mapToObj(i -> fresh.get(i).jobId())
+                            .toList();
+                    return unused.isEmpty() ? Mono.just(results) : tenantLimiter.releaseAll(unused).thenReturn(results);
+                });
+    }
+
+    /**
+     * 동시에 들어온 같은 요청이 먼저 커밋됨 → 그 job을 돌려준다
+     */
+    private Mono<JobRequested> findDuplicate(NewJob job) {
+        return jobRepo.findIdByKeys(job.idempotencyKey(), job.dedupKey())
+                .map(existing -> new JobRequested(existing, true))
+                .switchIfEmpty(Mono.error(ApiException.of(ErrorCode.CONFLICT,
+                        "duplicate job request is no longer visible, retry")));
+    }
+
+    /**
+     * requestJobOnce 결과. replayed=true면 이미 있던 job (이번 호출로 outbox 발행 안 함)
+     */
+    public record JobRequested(UUID jobId, boolean replayed) {
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 바로 실행)
+     * - 롤백된 job이 캐시/멱등 키에 남지 않게 한다
+     */
+    private Mono<Void> afterCommit(Supplier<Mono<Void>> action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(sync -> {
+                    if (!sync.isSynchronizationActive()) {
+                        return action.get();
+                    }
+                    sync.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return action.get();
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> action.get());
+    }
+
+    /**
+     * Idempotency-Key 헤더 값 검증 + scope 접두어 (헤더가 없으면 null)
+     * - scope: API/사용자 범위. 다른 API나 다른 사용자의 같은 키와 섞이지 않게 한다
+     */
+    public static String scopedIdempotencyKey(String header, String scope) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String key = header.trim();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw ApiException.of(ErrorCode.VALIDATION_FAILED,
+                    "Idempotency-Key must be at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return scope + key;
+    }
+
+    /**
+     * Idempotency-Key로 만든 job 조회 (Redis → DB)
+     */
+    public Mono<UUID> findJobIdByIdempotencyKey(String idempotencyKey) {
+        return idempotencyStore.find(idempotencyKey)
+                .switchIfEmpty(Mono.defer(() -> jobRepo.findIdByKeys(idempotencyKey, null)));
+    }
+
+    private Mono<Void> acquireTenantPermits(long projectId, List<NewJob> jobs) {
+        List<NewJob> capped = jobs.stream()
+                .filter(j -> lanes.tenantMaxInFlight().containsKey(lanes.lane(j.jobType())))
+                .toList();
+        if (capped.isEmpty()) {
+            return Mono.empty();
+        }
+        return projectRepository.findById(projectId)
+                .filter(project -> project.getCompanyId() != null)
+                .flatMap(project -> Flux.fromIterable(capped)
+                        .concatMap(j -> {
+                            JobEnums.JobLane lane = lanes.lane(j.jobType());
+                            return tenantLimiter.tryAcquire(project.getCompanyId(), lane, j.jobId())
+                                    .flatMap(acquired -> acquired
+                                            ? Mono.<Void>empty()
+                                            : Mono.error(ApiException.of(ErrorCode.JOB_QUOTA_EXCEEDED,
+                                            "too many in-flight jobs. companyId=" + project.getCompanyId() + ", lane=" + lane)));
+                        })
+                        // 일부만 얻었으면 전부 반납 (얻지 못한 job의 반납은 no-op)
+                        .onErrorResume(e -> tenantLimiter.releaseAll(capped.stream().map(NewJob::jobId).toList())
+                                .then(Mono.error(e)))
+                        .then());
+    }
 
+    /**
+     * JOB_REQUESTED outbox payload (워커 계약)
+     */
+    private ObjectNode jobRequestedEvent(UUID jobId, long projectId, JobEnums.JobType jobType, JsonNode payload,
+                                         OffsetDateTime requestedAt, String traceId) {
         ObjectNode eventPayload = om.createObjectNode();
         eventPayload.put("jobId", jobId.toString());
         eventPayload.put("projectId", projectId);
-        eventPayload.put("jobType", req.jobType().name());
-        eventPayload.set("payload", req.payload());
-        eventPayload.put("requestedAt", now.toString());
+        eventPayload.put("jobType", jobType.name());
+        eventPayload.set("payload", payload);
+        eventPayload.put("requestedAt", requestedAt.toString());
         eventPayload.put("traceId", traceId == null ? "" : traceId);
+        return eventPayload;
+    }
+
+    /**
+     * 서버 내에서 직접 처리하는 작업 등록 (job_task만 기록, outbox/워커 미사용)
+     * - 진행 상황은 putResult로 payload.results에 누적 → jobId로 이어하기 가능
+     */
+    public Mono<UUID> createLocalJob(long projectId, JobEnums.JobType jobType, JsonNode payload) {
+        UUID jobId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        return jobRepo.insertRequested(jobId, projectId, jobType, payload, now)
+                .then(statusCache.put(requested(jobId, projectId, jobType, now)))
+                .thenReturn(jobId);
+    }
+
+    /**
+     * 서버 내 작업 (재)시작: REQUESTED/FAILED일 때만 RUNNING으로
+     * - 이미 RUNNING이거나 SUCCEEDED면 409 → 같은 배치가 동시에 두 번 돌거나 끝난 결과를 덮어쓰지 않는다
+     * - FAILED → RUNNING은 종료 상태에서 나오는 전이라 상태 캐시를 지운 뒤 기록
+     *   (안 지우면 캐시에 FAILED가 남아 ?fields=status 조회와 SSE 구독이 끝난 job으로 본다)
+     */
+    public Mono<Void> markRunning(UUID jobId) {
+        return jobRepo.markRunning(jobId, OffsetDateTime.now())
+                .switchIfEmpty(Mono.error(ApiException.of(ErrorCode.CONFLICT,
+                        "job is already running or succeeded id=" + jobId)))
+                .flatMap(job -> statusCache.evict(jobId).then(announce(job)));
+    }
+
+    public Mono<Void> putResult(UUID jobId, String key, JsonNode value) {
+        return jobRepo.putResult(jobId, key, value, OffsetDateTime.now()).then();
+    }
+
+    /**
+     * 서버 내 작업 종료. errorCode가 null이면 SUCCEEDED, 아니면 FAILED
+     */
+    public Mono<Void> completeLocalJob(UUID jobId, String errorCode, String errorMessage) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return (errorCode == null
+                ? jobRepo.markSucceeded(jobId, null, now)
+                : jobRepo.markFailed(jobId, errorCode, errorMessage, now))
+                .filter(updated -> updated > 0)
+                .flatMap(updated -> announceCurrent(jobId));
+    }
+
+    /**
+     * 방금 바뀐 상태를 다시 읽어 캐시 갱신 + 구독자에게 발행 (서버 내 작업용, 워커 결과는 applyResult에서 직접)
+     */
+    private Mono<Void> announceCurrent(UUID jobId) {
+        return jobRepo.findById(jobId).flatMap(this::announce);
+    }
+
+    /**
+     * 상태 전이 확정 후: 상태 캐시 write-through → 구독자에게 발행
+     */
+    private Mono<Void> announce(JobResponse job) {
+        return statusCache.put(job)
+                .then(job.status().isDone() ? tenantLimiter.release(job.jobId()) : Mono.empty())
+                .then(events.publish(JobStatusEvent.of(job)));
+    }
 
-        return tx.transactional(
-                jobRepo.insertRequested(jobId, projectId, req.jobType(), req.payload(), now)
-                        .then(outboxRepo.insertOutbox(
-                                outboxId,
-                                "JOB",
-                                jobId,
-                                "JOB_REQUESTED",
-                                jobsRoutingKey,
-                                eventPayload,
-                                now))
-                        .thenReturn(jobId)
-        );
+    private Mono<Void> announceAll(List<JobResponse> jobs) {
+        return statusCache.putAll(jobs)
+                .then(tenantLimiter.releaseAll(jobs.stream()
+                        .filter(j -> j.status().isDone())
+                        .map(JobResponse::jobId)
+                        .toList()))
+                .then(events.publishAll(jobs.stream().map(JobStatusEvent::of).toList()));
     }
 
+    /**
+     * job 상태 조회 (상태 캐시 read-through, payload는 null)
+     * - 폴링/구독 스냅샷용. payload가 필요하면 getJobDetail
+     */
     public Mono<JobResponse> getJob(UUID jobId) {
+        return statusCache.get(jobId)
+                .switchIfEmpty(Mono.defer(() -> jobRepo.findById(jobId)
+                        .flatMap(job -> statusCache.put(job).thenReturn(job))))
+                .switchIfEmpty(Mono.error(ApiException.of(ErrorCode.JOB_NOT_FOUND, "job not found id=" + jobId)));
+    }
+
+    /**
+     * payload까지 포함한 job 조회 (항상 DB)
+     */
+    public Mono<JobResponse> getJobDetail(UUID jobId) {
         return jobRepo.findById(jobId)
                 .switchIfEmpty(Mono.error(ApiException.of(ErrorCode.JOB_NOT_FOUND, "job not found id=" + jobId)));
     }
 
+    /**
+     * 프로젝트의 진행 중 job (구독 시작 스냅샷)
+     */
+    public Flux<JobResponse> getInFlightJobs(long projectId) {
+        return jobRepo.findInFlightByProject(projectId);
+    }
+
+    /**
+     * 기한 초과 job 정리 (JobTimeoutSweeper가 JobType별로 호출, 선점~반영까지 한 트랜잭션)
+     * - 워커 작업이고 attempt < maxAttempts: REQUESTED로 되돌리고 attempt + 1, outbox로 JOB_REQUESTED 재발행
+     *   (워커는 jobId로 멱등 처리, 늦게 온 첫 결과도 applyResult가 그대로 받는다)
+     * - 그 외: FAILED(TIMEOUT) + content 실패 처리
+     * - 커밋 후 상태 캐시 갱신 + 구독자에게 발행
+     */
+    public Mono<TimeoutSweep> sweepOverdue(JobEnums.JobType jobType, Duration deadline, int maxAttempts,
+                                           Duration backoff, int limit) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<JobResponse> transitions = new ArrayList<>();
+
+        Mono<TimeoutSweep> sweep = jobRepo.claimOverdue(jobType, now.minus(deadline), backoff, limit)
+                .collectList()
+                .flatMap(overdue -> {
+                    List<JobTaskRepository.OverdueJob> retry = new ArrayList<>();
+                    List<JobResponse> fail = new ArrayList<>();
+                    for (JobTaskRepository.OverdueJob o : overdue) {
+                        if (jobType.usesWorker() && o.attempt() < maxAttempts) {
+                            retry.add(o);
+                        } else {
+                            fail.add(o.job());
+                        }
+                    }
+
+                    String message = "no result within " + deadline;
+                    List<UUID> failedIds = fail.stream().map(JobResponse::jobId).toList();
+                    Mono<Long> failAll = Flux.fromIterable(fail)
+                            .filter(j -> j.payload() != null && j.payload().has("contentId"))
+                            .concatMap(j -> contentService.markContentFailed(j.payload().get("contentId").asLong()))
+                            .then(jobRepo.markFailedAll(failedIds,
+                                    failedIds.stream().map(id -> TIMEOUT).toList(),
+                                    failedIds.stream().map(id -> message).toList(),
+                                    now));
+
+                    Mono<Long> retryAll = Flux.fromIterable(retry)
+                            .concatMap(o -> {
+                                JobResponse j = o.job();
+                                ObjectNode event = jobRequestedEvent(j.jobId(), j.projectId(), j.jobType(), j.payload(),
+                                        j.requestedAt(), null);
+                                event.put("attempt", o.attempt() + 1);
+                                return outboxRepo.insertOutbox(UUID.randomUUID(), "JOB", j.jobId(), "JOB_REQUESTED",
+                                        lanes.routingKey(jobsRoutingKey, j.jobType()), event, now);
+                            })
+                            .then(jobRepo.markRetried(retry.stream().map(o -> o.job().jobId()).toList(), now));
+
+                    fail.forEach(j -> transitions.add(transitioned(j, JobStatus.FAILED, null, TIMEOUT, message, now)));
+                    retry.forEach(o -> transitions.add(transitioned(o.job(), JobStatus.REQUESTED, null, null, null, now)));
+
+                    return failAll.then(retryAll).thenReturn(new TimeoutSweep(retry.size(), fail.size()));
+                });
+
+        return tx.transactional(sweep)
+                .flatMap(result -> announceAll(transitions).thenReturn(result));
+    }
+
+    /**
+     * sweepOverdue 1회 결과: 재발행 수 / TIMEOUT 실패 처리 수
+     */
+    public record TimeoutSweep(int retried, int failed) {
+    }
+
     /**
      * Worker 결과 반영.
      * - outputUri: gcs.toPublicUrl로 https 정규화 후 저장
@@ -126,10 +517,12 @@ public class JobService {
                         }
 
                         return tx.transactional(
-                                failSideEffect
-                                        .then(jobRepo.markFailed(jobId, ec, em, now))
-                                        .then()
-                        ).then();
+                                        failSideEffect
+                                                .then(jobRepo.markFailed(jobId, ec, em, now))
+                                )
+                                .filter(updated -> updated > 0)
+                                .flatMap(updated -> announce(
+                                        transitioned(existing, JobStatus.FAILED, null, ec, em, now)));
                     }
 
                     // success=true 검증
@@ -183,10 +576,170 @@ public class JobService {
 
                     // ✅ 트랜잭션: sideEffect -> markSucceeded
                     return tx.transactional(
-                            sideEffect
-                                    .then(jobRepo.markSucceeded(jobId, normalized, now))
-                                    .then()
-                    ).then();
+                                    sideEffect
+                                            .then(jobRepo.markSucceeded(jobId, normalized, now))
+                            )
+                            .filter(updated -> updated > 0)
+                            .flatMap(updated -> announce(
+                                    transitioned(existing, JobStatus.SUCCEEDED, normalized, null, null, now)));
+                });
+    }
+
+    /**
+     * Worker 결과 배치 반영 (applyResult의 N건 버전)
+     * - job_task 조회 1번(job_id = any) → 대상별 set 기반 side-effect update → 상태 update, 한 트랜잭션
+     * - 재시도해도 성공할 수 없는 결과(없는 job, outputUri 누락, 반영 대상 content 없음)는 반영하지 않고
+     *   jobId → 사유로 반환 → 호출 측이 해당 메시지만 dead-letter
+     * - 이미 종료된 job은 applyResult와 같이 무시
+     * - 커밋 후 반영된 job들의 상태 캐시 갱신 + 상태 전이를 구독자에게 발행
+     */
+    public Mono<Map<UUID, String>> applyResults(Map<UUID, JobResultRequest> results) {
+        if (results.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+
+        return jobRepo.findAllByIds(results.keySet())
+                .collectMap(JobResponse::jobId)
+                .flatMap(jobs -> {
+                    ResultBatch batch = new ResultBatch();
+                    results.forEach((jobId, req) -> batch.add(jobId, req, jobs.get(jobId)));
+                    return tx.transactional(batch.apply(now))
+                            .then(Mono.defer(() -> announceAll(batch.transitions)))
+                            .thenReturn(batch.poison);
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * applyResults 1회분: 결과를 반영 대상별 배열로 분류해 두고 apply에서 한꺼번에 update
+     */
+    private final class ResultBatch {
+        private final Map<UUID, String> poison = new LinkedHashMap<>();
+        private final List<JobResponse> transitions = new ArrayList<>();
+
+        private final List<UUID> failedIds = new ArrayList<>();
+        private final List<String> failedCodes = new ArrayList<>();
+        private final List<String> failedMessages = new ArrayList<>();
+        private final List<Long> failedContentIds = new ArrayList<>();
+        private final List<JobResponse> failedJobs = new ArrayList<>();
+
+        // 성공 결과: 반영 대상(target/targetId)과 함께 보관 → 대상이 없으면 poison
+        private final List<Succeeded> succeeded = new ArrayList<>();
+        private final List<Long> mediaIds = new ArrayList<>();
+        private final List<String> mediaUrls = new ArrayList<>();
+        private final List<Integer> mediaRatios = new ArrayList<>();
+        private final List<Long> mockupContentIds = new ArrayList<>();
+        private final List<String> mockupContentUrls = new ArrayList<>();
+        private final List<Long> mockupProjectIds = new ArrayList<>();
+        private final List<String> mockupProjectUrls = new ArrayList<>();
+
+        void add(UUID jobId, JobResultRequest req, JobResponse existing) {
+            if (existing == null) {
+                poison.put(jobId, "job not found");
+                return;
+            }
+            // 멱등
+            if (existing.status() == JobStatus.SUCCEEDED || existing.status() == JobStatus.FAILED) {
+                return;
+            }
+            JsonNode pl = existing.payload();
+
+            if (!req.success()) {
+                failedIds.add(jobId);
+                failedCodes.add((req.errorCode() == null || req.errorCode().isBlank()) ? "WORKER_FAILED" : req.errorCode());
+                failedMessages.add(req.errorMessage() == null ? "" : req.errorMessage());
+                failedJobs.add(existing);
+                if (pl != null && pl.has("contentId")) {
+                    failedContentIds.add(pl.get("contentId").asLong());
+                }
+                return;
+            }
+
+            if (req.outputUri() == null || req.outputUri().isBlank()) {
+                poison.put(jobId, "outputUri is required when success=true");
+                return;
+            }
+            String normalized = gcs.toPublicUrl(req.outputUri());
+            Long contentId = (pl != null && pl.has("contentId")) ? pl.get("contentId").asLong() : null;
+            JobEnums.JobType type = existing.jobType();
+
+            if (type == JobEnums.JobType.DIELINE && pl != null && pl.has("projectId")) {
+                long projectId = pl.get("projectId").asLong();
+                mockupProjectIds.add(projectId);
+                mockupProjectUrls.add(normalized);
+                succeeded.add(new Succeeded(existing, normalized, Target.PROJECT_MOCKUP, projectId));
+            } else if (type == JobEnums.JobType.DIELINE && contentId != null) {
+                mockupContentIds.add(contentId);
+                mockupContentUrls.add(normalized);
+                succeeded.add(new Succeeded(existing, normalized, Target.CONTENT_MOCKUP, contentId));
+            } else if (contentId != null && type != JobEnums.JobType.DIELINE) {
+                mediaIds.add(contentId);
+                mediaUrls.add(normalized);
+                mediaRatios.add(type == JobEnums.JobType.BANNER && pl.has("bannerRatio")
+                        ? pl.get("bannerRatio").asInt() : null);
+                succeeded.add(new Succeeded(existing, normalized, Target.CONTENT_MEDIA, contentId));
+            } else {
+                log.warn("Job succeeded but no projectId/contentId in payload. jobId={}, type={}", jobId, type);
+                succeeded.add(new Succeeded(existing, normalized, Target.NONE, null));
+            }
+        }
+
+        Mono<Void> apply(OffsetDateTime now) {
+            LocalDateTime localNow = now.toLocalDateTime();
+            Set<Long> media = new HashSet<>();
+            Set<Long> contentMockups = new HashSet<>();
+            Set<Long> projectMockups = new HashSet<>();
+
+            return sideEffectRepo.applyContentMedia(mediaIds, mediaUrls, mediaRatios).doOnNext(media::add)
+                    .thenMany(sideEffectRepo.applyContentMockup(mockupContentIds, mockupContentUrls, localNow)
+                            .doOnNext(contentMockups::add))
+                    .thenMany(sideEffectRepo.applyProjectMockup(mockupProjectIds, mockupProjectUrls, localNow)
+                            .doOnNext(projectMockups::add))
+                    .thenMany(Flux.fromIterable(failedContentIds).concatMap(contentService::markContentFailed))
+                    .then(Mono.defer(() -> {
+                        List<UUID> ids = new ArrayList<>();
+                        List<String> uris = new ArrayList<>();
+                        for (Succeeded r : succeeded) {
+                            boolean applied = switch (r.target()) {
+                                case CONTENT_MEDIA -> media.contains(r.targetId());
+                                case CONTENT_MOCKUP -> contentMockups.contains(r.targetId());
+                                case PROJECT_MOCKUP, NONE -> true;
+                            };
+                            if (!applied) {
+                                poison.put(r.job().jobId(), "content not found id=" + r.targetId());
+                                continue;
+                            }
+                            if (r.target() == Target.PROJECT_MOCKUP && !projectMockups.contains(r.targetId())) {
+                                log.warn("Project not found when applying mockup result. projectId={}, jobId={}",
+                                        r.targetId(), r.job().jobId());
+                            }
+                            ids.add(r.job().jobId());
+                            uris.add(r.outputUri());
+                            transitions.add(transitioned(r.job(), JobStatus.SUCCEEDED, r.outputUri(), null, null, now));
+                        }
+                        for (int i = 0; i < failedJobs.size(); i++) {
+                            transitions.add(transitioned(failedJobs.get(i), JobStatus.FAILED, null,
+                                    failedCodes.get(i), failedMessages.get(i), now));
+                        }
+                        return jobRepo.markSucceededAll(ids, uris, now)
+                                .then(jobRepo.markFailedAll(failedIds, failedCodes, failedMessages, now));
+                    }))
+                    .then();
+        }
+    }
+
+    private enum Target { CONTENT_MEDIA, CONTENT_MOCKUP, PROJECT_MOCKUP, NONE }
+
+    private record Succeeded(JobResponse job, String outputUri, Target target, Long targetId) {
+    }
+
+    private static JobResponse transitioned(JobResponse job, JobStatus status, String outputUri,
+                                            String errorCode, String errorMessage, OffsetDateTime now) {
+        return new JobResponse(job.jobId(), job.projectId(), job.jobType(), status, job.payload(),
+                outputUri, errorCode, errorMessage, job.requestedAt(), now);
+    }
+
+    private static JobResponse requested(UUID jobId, long projectId, JobEnums.JobType jobType, OffsetDateTime now) {
+        return new JobResponse(jobId, projectId, jobType, JobStatus.REQUESTED, null, null, null, null, now, now);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * job 상태 캐시(Redis)
+ * - 저장 위치: Redis HASH
+ * - 키 규칙: job:status:{jobId}
+ * - 저장 값: projectId, jobType, status, outputUri, errorCode, errorMessage, requestedAt, updatedAt (payload는 저장하지 않음)
+ * - TTL: 종료 상태(SUCCEEDED/FAILED)는 app.jobs.status-cache.terminal-ttl, 진행 중은 in-flight-ttl
+ * - 기록은 Lua 1번(원자적): 이미 종료 상태로 기록된 job은 진행 중 상태로 덮어쓰지 않는다
+ *   (read-through로 읽은 옛 DB 값이 applyResult의 write-through보다 늦게 도착해도 안전)
+ *   → 종료 상태에서 다시 진행 중으로 가는 전이(배치 이어하기 FAILED → RUNNING)는 evict 후 기록
+ * - Redis 장애 시 캐시를 건너뛰고 DB로 진행
+ */
+@Slf4j
+@Component
+public class JobStatusCache {
+
+    private static final String PREFIX = "job:status:";
+
+    // Lua: 현재 종료 상태 + 새 값이 진행 중이면 skip, 아니면 HSET 전체 필드 + EXPIRE
+    private static final RedisScript<Long> PUT = RedisScript.of(
+            "local cur = redis.call('HGET', KEYS[1], 'status'); " +
+                    "if (cur == 'SUCCEEDED' or cur == 'FAILED') and ARGV[2] == '0' then return 0; end; " +
+                    "redis.call('HSET', KEYS[1], unpack(ARGV, 3)); " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]); " +
+                    "return 1;",
+            Long.class
+    );
+
+    private final ReactiveStringRedisTemplate redis;
+    private final boolean enabled;
+    private final Duration terminalTtl;
+    private final Duration inFlightTtl;
+
+    public JobStatusCache(
+            ReactiveStringRedisTemplate redis,
+            @Value("${app.jobs.status-cache.enabled:true}") boolean enabled,
+            @Value("${app.jobs.status-cache.terminal-ttl:24h}") Duration terminalTtl,
+            @Value("${app.jobs.status-cache.in-flight-ttl:60s}") Duration inFlightTtl
+    ) {
+        this.redis = redis;
+        this.enabled = enabled;
+        this.terminalTtl = terminalTtl;
+        this.inFlightTtl = inFlightTtl;
+    }
+
+    /**
+     * 캐시 조회 (payload는 항상 null). 없으면 empty
+     */
+    public Mono<JobResponse> get(UUID jobId) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return redis.<String, String>opsForHash().entries(key(jobId))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .filter(fields -> fields.containsKey("status"))
+                .map(fields -> toResponse(jobId, fields))
+                .onErrorResume(e -> {
+                    log.warn("job 상태 캐시 조회 실패, DB로 진행. jobId={}, err={}", jobId, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> put(JobResponse job) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        boolean terminal = job.status().isDone();
+        List<String> args = new ArrayList<>(18);
+        args.add(String.valueOf((terminal ? terminalTtl : inFlightTtl).toSeconds()));
+        args.add(terminal ? "1" : "0");
+        field(args, "projectId", String.valueOf(job.projectId()));
+        field(args, "jobType", job.jobType().name());
+        field(args, "status", job.status().name());
+        field(args, "outputUri", job.outputUri());
+        field(args, "errorCode", job.errorCode());
+        field(args, "errorMessage", job.errorMessage());
+        field(args, "requestedAt", job.requestedAt() == null ? null : job.requestedAt().toString());
+        field(args, "updatedAt", job.updatedAt() == null ? null : job.updatedAt().toString());
+
+        return redis.execute(PUT, List.of(key(job.jobId())), args)
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("job 상태 캐시 저장 실패. jobId={}, err={}", job.jobId(), e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 캐시 삭제 (종료 상태 → 진행 중 전이 직전, PUT이 종료 상태를 덮어쓰지 않으므로)
+     */
+    public Mono<Void> evict(UUID jobId) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return redis.delete(key(jobId))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("job 상태 캐시 삭제 실패. jobId={}, err={}", jobId, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> putAll(Iterable<JobResponse> jobs) {
+        return Flux.fromIterable(jobs).flatMap(this::put).then();
+    }
+
+    private static void field(List<String> args, String name, String value) {
+        args.add(name);
+        // null은 빈 문자열로 저장 (이전 값이 남지 않도록 항상 전체 필드 기록)
+        args.add(value == null ? "" : value);
+    }
+
+    private static JobResponse toResponse(UUID jobId, Map<String, String> f) {
+        return new JobResponse(
+                jobId,
+                Long.parseLong(f.get("projectId")),
+                JobType.valueOf(f.get("jobType")),
+                JobStatus.valueOf(f.get("status")),
+                null,
+                blankToNull(f.get("outputUri")),
+                blankToNull(f.get("errorCode")),
+                blankToNull(f.get("errorMessage")),
+                time(f.get("requestedAt")),
+                time(f.get("updatedAt"))
+        );
+    }
+
+    private static String blankToNull(String v) {
+        return v == null || v.isEmpty() ? null : v;
+    }
+
+    private static OffsetDateTime time(String v) {
+        return v == null || v.isEmpty() ? null : OffsetDateTime.parse(v);
+    }
+
+    private String key(UUID jobId) {
+        return PREFIX + jobId;
+    }
+}
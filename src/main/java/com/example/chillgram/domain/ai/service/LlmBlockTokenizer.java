@@ -0,0 +1,293 @@
+package com.example.chillgram.domain.ai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM 블록 응답 단일 패스 토크나이저
+ * - 정규식 없이 응답을 한 번 훑어 블록/필드의 위치(span)만 기록한다
+ * - 문자열은 실제 값을 꺼낼 때(value)만 잘라낸다
+ *
+ * 지원 포맷
+ * - [GUIDE_START]...[GUIDE_END], [COPY_START]...[COPY_END]  → delimited
+ * - [OPTION n] ..., [COPY n] ...                             → numbered (다음 헤더 또는 끝까지)
+ * - 블록 내부 "Key: value" 줄                                → fields
+ *   (줄 맨 앞 키 우선, 없으면 줄 중간/콜론 생략도 허용 → 기존 정규식 파서와 같은 관용)
+ */
+final class LlmBlockTokenizer {
+
+    private LlmBlockTokenizer() {
+    }
+
+    /**
+     * 텍스트 구간 [start, end)
+     */
+    record Span(int start, int end) {
+        boolean isEmpty() {
+            return end <= start;
+        }
+    }
+
+    /**
+     * "**" 마크다운 강조 제거. 없으면 원본 그대로 반환(복사 없음)
+     */
+    static String stripBold(String text) {
+        if (text == null) {
+            return "";
+        }
+        int i = text.indexOf("**");
+        if (i < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        int from = 0;
+        while (i >= 0) {
+            sb.append(text, from, i);
+            from = i + 2;
+            i = text.indexOf("**", from);
+        }
+        sb.append(text, from, text.length());
+        return sb.toString();
+    }
+
+    /**
+     * start ... end 태그 사이 본문 구간들 (닫히지 않은 마지막 블록은 무시)
+     */
+    static List<Span> delimitedBlocks(String text, String startTag, String endTag) {
+        List<Span> blocks = new ArrayList<>(8);
+        int from = 0;
+        while (true) {
+            int s = text.indexOf(startTag, from);
+            if (s < 0) {
+                break;
+            }
+            int bodyStart = s + startTag.length();
+            int e = text.indexOf(endTag, bodyStart);
+            if (e < 0) {
+                break;
+            }
+            blocks.add(new Span(bodyStart, e));
+            from = e + endTag.length();
+        }
+        return blocks;
+    }
+
+    /**
+     * "[PREFIX n]" 헤더 뒤 본문 구간들
+     * - 헤더: '[' + prefix + 공백 1개 이상 + 숫자 1개 이상 + ']'
+     * - 본문은 다음 "[PREFIX" 출현(번호 유무 무관) 또는 텍스트 끝까지
+     */
+    static List<Span> numberedBlocks(String text, String prefix) {
+        List<Span> blocks = new ArrayList<>(8);
+        String open = "[" + prefix;
+        int from = 0;
+        int bodyStart = -1;
+        while (true) {
+            int s = text.indexOf(open, from);
+            if (bodyStart >= 0) {
+                blocks.add(new Span(bodyStart, s < 0 ? text.length() : s));
+                bodyStart = -1;
+            }
+            if (s < 0) {
+                break;
+            }
+            int headerEnd = numberedHeaderEnd(text, s + open.length());
+            if (headerEnd > 0) {
+                bodyStart = headerEnd;
+                from = headerEnd;
+            } else {
+                from = s + open.length();
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * 첫 "[PREFIX n]" 헤더 위치 (없으면 -1)
+     */
+    static int firstNumberedHeader(String text, String prefix) {
+        String open = "[" + prefix;
+        int from = 0;
+        while (true) {
+            int s = text.indexOf(open, from);
+            if (s < 0 || numberedHeaderEnd(text, s + open.length()) > 0) {
+                return s;
+            }
+            from = s + open.length();
+        }
+    }
+
+    // 공백+ 숫자+ ']' 이면 ']' 다음 위치, 아니면 -1
+    private static int numberedHeaderEnd(String text, int i) {
+        int n = text.length();
+        int p = i;
+        while (p < n && Character.isWhitespace(text.charAt(p))) p++;
+        if (p == i) return -1;
+        int digits = p;
+        while (p < n && Character.isDigit(text.charAt(p))) p++;
+        if (p == digits || p >= n || text.charAt(p) != ']') return -1;
+        return p + 1;
+    }
+
+    /**
+     * 블록 안의 "Key: value" 필드 위치를 한 번에 찾는다.
+     * - 줄 앞의 공백/불릿('-', '*', '•')은 무시, 키 비교는 대소문자 무시
+     * - 같은 키가 여러 번 나오면 첫 번째만 사용
+     * - multiline=false: 값은 그 줄 끝까지 (콜론 뒤가 비어 있으면 다음 비어있지 않은 줄)
+     * - multiline=true : 값은 다음 키 줄 직전까지 이어진다
+     * - 줄 맨 앞 "Key:"가 없는 키는 기존 정규식처럼 느슨하게 찾는다 ("1. Title: ..", "### Score 85")
+     *   줄 중간의 키 허용, multiline=false면 콜론 생략 허용 / 다른 단어의 일부("Subtitle", "Identity")는 제외
+     *
+     * @return keys와 같은 순서의 값 구간 (없으면 null)
+     */
+    static Span[] fields(String text, Span block, boolean multiline, String... keys) {
+        Span[] found = new Span[keys.length];   // 줄 맨 앞 "Key:" (우선)
+        Span[] loose = new Span[keys.length];   // 느슨한 매칭 (found가 없을 때만 사용)
+        int missing = keys.length;              // found/loose 둘 다 없는 키 수
+        Span[] openIn = null;                   // 값이 이어지는 중인 키의 배열(found/loose)과 인덱스
+        int open = -1;
+        boolean pendingNextLine = false;
+
+        int lineStart = block.start();
+        while (lineStart < block.end()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0 || lineEnd > block.end()) {
+                lineEnd = block.end();
+            }
+
+            int keyIdx = -1;
+            int valueStart = -1;
+            Span[] hitIn = found;
+            int p = skipBullets(text, lineStart, lineEnd);
+            for (int k = 0; k < keys.length; k++) {
+                valueStart = keyValueStart(text, p, lineEnd, keys[k], true);
+                if (valueStart >= 0) {
+                    keyIdx = k;
+                    break;
+                }
+            }
+            if (keyIdx < 0 && missing > 0) {
+                hitIn = loose;
+                scan:
+                for (int i = p; i < lineEnd; i++) {
+                    if (i > 0 && Character.isLetterOrDigit(text.charAt(i - 1))) {
+                        continue;
+                    }
+                    for (int k = 0; k < keys.length; k++) {
+                        if (found[k] == null && loose[k] == null) {
+                            valueStart = keyValueStart(text, i, lineEnd, keys[k], multiline);
+                            if (valueStart >= 0) {
+                                keyIdx = k;
+                                break scan;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (keyIdx >= 0) {
+                openIn = null;
+                open = -1;
+                pendingNextLine = false;
+                if (hitIn[keyIdx] == null) {
+                    if (found[keyIdx] == null && loose[keyIdx] == null) {
+                        missing--;
+                    }
+                    hitIn[keyIdx] = new Span(valueStart, lineEnd);
+                    if (multiline || valueStart >= lineEnd) {
+                        openIn = hitIn;
+                        open = keyIdx;
+                        pendingNextLine = !multiline;
+                    }
+                }
+            } else if (open >= 0) {
+                Span cur = openIn[open];
+                if (multiline) {
+                    openIn[open] = new Span(cur.start(), lineEnd);
+                } else if (pendingNextLine && skipSpaces(text, lineStart, lineEnd) < lineEnd) {
+                    openIn[open] = new Span(lineStart, lineEnd);
+                    openIn = null;
+                    open = -1;
+                    pendingNextLine = false;
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        for (int k = 0; k < keys.length; k++) {
+            if (found[k] == null) {
+                found[k] = loose[k];
+            }
+        }
+        return found;
+    }
+
+    // i에서 key가 시작하면 값 시작 위치, 아니면 -1 (키 뒤가 글자/숫자면 다른 단어로 본다)
+    private static int keyValueStart(String text, int i, int lineEnd, String key, boolean requireColon) {
+        int e = i + key.length();
+        if (e > lineEnd || !text.regionMatches(true, i, key, 0, key.length())) {
+            return -1;
+        }
+        if (e < lineEnd && Character.isLetterOrDigit(text.charAt(e))) {
+            return -1;
+        }
+        int c = skipSpaces(text, e, lineEnd);
+        if (c < lineEnd && text.charAt(c) == ':') {
+            return skipSpaces(text, c + 1, lineEnd);
+        }
+        return requireColon ? -1 : c;
+    }
+
+    /**
+     * 구간 문자열 (앞뒤 공백 제거, 없으면 "")
+     */
+    static String value(String text, Span span) {
+        if (span == null) {
+            return "";
+        }
+        int s = span.start();
+        int e = span.end();
+        while (s < e && Character.isWhitespace(text.charAt(s))) s++;
+        while (e > s && Character.isWhitespace(text.charAt(e - 1))) e--;
+        return (s == e) ? "" : text.substring(s, e);
+    }
+
+    /**
+     * 구간 안의 숫자만 이어 붙인 정수 (숫자가 없거나 int 범위를 넘으면 fallback)
+     */
+    static int digitsAsInt(String text, Span span, int fallback) {
+        if (span == null) {
+            return fallback;
+        }
+        long v = 0;
+        boolean any = false;
+        for (int i = span.start(); i < span.end(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                v = v * 10 + (ch - '0');
+                any = true;
+                if (v > Integer.MAX_VALUE) {
+                    return fallback;
+                }
+            }
+        }
+        return any ? (int) v : fallback;
+    }
+
+    private static int skipSpaces(String text, int i, int end) {
+        while (i < end && (text.charAt(i) == ' ' || text.charAt(i) == '\t' || text.charAt(i) == '\r')) i++;
+        return i;
+    }
+
+    private static int skipBullets(String text, int i, int end) {
+        while (i < end) {
+            char ch = text.charAt(i);
+            if (ch == ' ' || ch == '\t' || ch == '-' || ch == '*' || ch == '•') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+}
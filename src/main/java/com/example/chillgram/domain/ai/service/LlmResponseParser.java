@@ -0,0 +1,217 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.AdGuidesResponse;
+import com.example.chillgram.domain.ai.dto.FinalCopyResponse;
+import com.example.chillgram.domain.ai.dto.VisualGuideOption;
+import com.example.chillgram.domain.ai.service.LlmBlockTokenizer.Span;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.chillgram.domain.ai.service.LlmBlockTokenizer.delimitedBlocks;
+import static com.example.chillgram.domain.ai.service.LlmBlockTokenizer.digitsAsInt;
+import static com.example.chillgram.domain.ai.service.LlmBlockTokenizer.fields;
+import static com.example.chillgram.domain.ai.service.LlmBlockTokenizer.firstNumberedHeader;
+import static com.example.chillgram.domain.ai.service.LlmBlockTokenizer.numberedBlocks;
+import static com.example.chillgram.domain.ai.service.LlmBlockTokenizer.stripBold;
+import static com.example.chillgram.domain.ai.service.LlmBlockTokenizer.value;
+
+/**
+ * Gemini 블록 응답 → DTO 파서 (LlmBlockTokenizer 기반, 정규식 미사용)
+ * - 응답당 "**" 제거 1회 + 단일 패스 스캔, 필드 문자열은 DTO에 들어갈 값만 생성
+ * - 파싱 실패 시 fallback 규칙은 기존 AdCopyService 동작과 동일
+ */
+@Slf4j
+public final class LlmResponseParser {
+
+    public static final String FALLBACK_GUIDE_TITLE = "가이드라인";
+    public static final String FALLBACK_COPY_TITLE = "광고 카피";
+
+    private static final String[] GUIDE_KEYS = {
+            "ID", "Title", "Summary", "Badge", "Score", "Rationale", "Tone", "Structure", "CTA"
+    };
+    private static final String[] VISUAL_KEYS = {"제품", "장소", "역동적 효과", "글자 재질", "스타일"};
+
+    private LlmResponseParser() {
+    }
+
+    // =========================================================
+    // 광고 가이드라인 ([GUIDE_START]...[GUIDE_END])
+    // =========================================================
+
+    public static AdGuidesResponse parseAdGuides(String response) {
+        String clean = stripBold(response);
+        List<Span> blocks = delimitedBlocks(clean, "[GUIDE_START]", "[GUIDE_END]");
+
+        List<AdGuidesResponse.GuidelineOption> guides = new ArrayList<>(Math.max(1, blocks.size()));
+        String recommendedId = null;
+        int highestScore = -1;
+
+        for (int i = 0; i < blocks.size(); i++) {
+            AdGuidesResponse.GuidelineOption guide = guideOf(clean, blocks.get(i), i + 1);
+            guides.add(guide);
+            if (guide.score() > highestScore) {
+                highestScore = guide.score();
+                recommendedId = guide.id();
+            }
+        }
+
+        if (guides.isEmpty()) {
+            AdGuidesResponse.GuidelineOption fallback = fallbackGuide(clean.trim());
+            guides.add(fallback);
+            recommendedId = fallback.id();
+        }
+        return new AdGuidesResponse(recommendedId, guides);
+    }
+
+    /**
+     * 가이드 블록 본문 1개 파싱 (스트리밍 경로에서 블록 단위로 사용)
+     */
+    public static AdGuidesResponse.GuidelineOption parseGuideBlock(String block, int index) {
+        return guideOf(block, new Span(0, block.length()), index);
+    }
+
+    public static AdGuidesResponse.GuidelineOption fallbackGuide(String rawText) {
+        return new AdGuidesResponse.GuidelineOption(
+                "guide-1", FALLBACK_GUIDE_TITLE, rawText, "", 50, "", Map.of());
+    }
+
+    public static boolean isFallback(AdGuidesResponse res) {
+        return res.guides().size() == 1 && FALLBACK_GUIDE_TITLE.equals(res.guides().get(0).title());
+    }
+
+    private static AdGuidesResponse.GuidelineOption guideOf(String text, Span block, int index) {
+        Span[] f = fields(text, block, false, GUIDE_KEYS);
+
+        String id = value(text, f[0]);
+        if (id.isBlank())
+            id = "guide-" + index;
+
+        Map<String, Object> keyPoints = new HashMap<>();
+        String tone = value(text, f[6]);
+        String structure = value(text, f[7]);
+        String cta = value(text, f[8]);
+        if (!tone.isBlank())
+            keyPoints.put("tone", List.of(tone));
+        if (!structure.isBlank())
+            keyPoints.put("structure", structure);
+        if (!cta.isBlank())
+            keyPoints.put("cta", cta);
+
+        return new AdGuidesResponse.GuidelineOption(
+                id,
+                value(text, f[1]),
+                value(text, f[2]),
+                value(text, f[3]),
+                digitsAsInt(text, f[4], 50),
+                value(text, f[5]),
+                keyPoints);
+    }
+
+    // =========================================================
+    // 최종 카피 ([COPY_START]...[COPY_END])
+    // =========================================================
+
+    public static FinalCopyResponse parseFinalCopies(String response) {
+        String clean = stripBold(response);
+        List<Span> blocks = delimitedBlocks(clean, "[COPY_START]", "[COPY_END]");
+
+        List<FinalCopyResponse.CopyOption> copies = new ArrayList<>(Math.max(1, blocks.size()));
+        for (int i = 0; i < blocks.size(); i++) {
+            Span block = blocks.get(i);
+            String title = value(clean, fields(clean, block, false, "Title")[0]);
+            String body = value(clean, fields(clean, block, true, "Body")[0]);
+            copies.add(new FinalCopyResponse.CopyOption("copy-" + (i + 1), title, body));
+        }
+
+        if (copies.isEmpty()) {
+            copies.add(new FinalCopyResponse.CopyOption("copy-1", FALLBACK_COPY_TITLE, clean.trim()));
+        }
+        return new FinalCopyResponse(copies.get(0).id(), copies);
+    }
+
+    public static boolean isFallback(FinalCopyResponse res) {
+        return res.copies().size() == 1 && FALLBACK_COPY_TITLE.equals(res.copies().get(0).title());
+    }
+
+    // =========================================================
+    // 비주얼 가이드 ([OPTION n])
+    // =========================================================
+
+    public static List<VisualGuideOption> parseVisualGuides(String response) {
+        String clean = stripBold(response);
+        // 헤더가 하나도 없으면 응답 전체를 블록 1개로 본다
+        List<Span> blocks = firstNumberedHeader(clean, "OPTION") < 0
+                ? List.of(new Span(0, clean.length()))
+                : numberedBlocks(clean, "OPTION");
+
+        List<VisualGuideOption> options = new ArrayList<>(blocks.size());
+        int id = 1;
+        for (Span block : blocks) {
+            Span[] f = fields(clean, block, true, VISUAL_KEYS);
+            String product = value(clean, f[0]);
+            String place = value(clean, f[1]);
+            if (!product.isEmpty() || !place.isEmpty()) {
+                options.add(new VisualGuideOption(id++, product, place,
+                        value(clean, f[2]), value(clean, f[3]), value(clean, f[4])));
+            }
+        }
+
+        // Fallback: 파싱 실패 시 raw 텍스트를 넣지 않고 빈 리스트 반환
+        if (options.isEmpty()) {
+            log.warn("Visual guide parsing failed. Raw response: {}", clean);
+        }
+        return options;
+    }
+
+    // =========================================================
+    // 카피 베리에이션 ([COPY n])
+    // =========================================================
+
+    public static List<String> parseCopyVariations(String response) {
+        if (response == null)
+            return List.of();
+        String clean = stripBold(response);
+
+        List<Span> blocks = numberedBlocks(clean, "COPY");
+        List<String> copies = new ArrayList<>(blocks.size());
+        for (Span block : blocks) {
+            copies.add(value(clean, block));
+        }
+
+        if (copies.isEmpty()) {
+            // Fallback: 줄바꿈으로 시도 (thinking 잔여 텍스트 필터링)
+            for (String line : clean.split("\n")) {
+                String l = stripListMarker(line);
+                if (!l.isBlank() && l.length() > 5 && !l.regionMatches(true, 0, "okay", 0, 4)
+                        && !l.regionMatches(true, 0, "my thought", 0, 10))
+                    copies.add(l);
+            }
+            if (copies.isEmpty()) {
+                log.warn("Copy variation parsing failed. Raw response: {}", clean);
+            }
+        }
+        return copies;
+    }
+
+    // "1. ", "2) ", "- " 같은 목록 표시 제거
+    private static String stripListMarker(String line) {
+        int i = 0;
+        int n = line.length();
+        while (i < n && Character.isDigit(line.charAt(i))) i++;
+        if (i > 0 && i < n && (line.charAt(i) == '.' || line.charAt(i) == ')')) {
+            i++;
+            while (i < n && Character.isWhitespace(line.charAt(i))) i++;
+        } else {
+            i = 0;
+        }
+        if (i < n && line.charAt(i) == '-') {
+            i++;
+            while (i < n && Character.isWhitespace(line.charAt(i))) i++;
+        }
+        return line.substring(i).trim();
+    }
+}
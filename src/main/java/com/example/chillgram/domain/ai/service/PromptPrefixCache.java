@@ -0,0 +1,15 @@
+package com.example.chillgram.domain.ai.service;
+
+/**
+ * 정적 system 프롬프트를 모델 쪽에 한 번 올려두고 핸들로 참조하기 위한 캐시
+ * - 핸들이 있으면 요청에는 user 프롬프트만 싣고 cachedContentName으로 system을 참조
+ * - 핸들이 없으면(null) system을 매 요청에 인라인으로 보낸다
+ * - non-blocking 호출 경로(이벤트 루프)에서도 불리므로 구현은 업로드를 기다리지 않아야 한다
+ */
+public interface PromptPrefixCache {
+
+    /**
+     * @return 캐시 핸들 (cachedContents/...), 사용할 수 없으면 null
+     */
+    String handle(String op, String systemText);
+}
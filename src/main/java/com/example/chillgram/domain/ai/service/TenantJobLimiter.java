@@ -0,0 +1,96 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobLane;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 회사별 진행 중 job 상한 (Redis)
+ * - 키 규칙: job:inflight:{companyId}:{lane} (ZSET, member=jobId, score=permit 만료 시각 ms)
+ *           job:inflight:owner:{jobId} (STRING, 반납 시 찾아갈 ZSET 키)
+ * - acquire: 만료 permit 정리 → 개수 < 상한이면 추가 (ZSET 1개만 다루는 Lua, 원자적) → 성공하면 owner 기록
+ * - release: job이 종료 상태가 되면 owner 키를 GETDEL → 그 ZSET에서 ZREM (permit 없는 job이면 no-op)
+ * - 명령/스크립트마다 키 1개만 다룬다 (Redis Cluster에서 두 키가 다른 slot이어도 동작, 스크립트 안에서 KEYS 밖 키 접근 없음)
+ *   · owner 기록 전에 죽으면 permit은 lease 후 회수, GETDEL로 동시 반납은 한쪽만 ZREM
+ * - 결과 유실 등으로 반납되지 않은 permit은 permitLease 후 자동 회수
+ * - Redis 장애 시 제한 없이 통과 (상한 때문에 요청이 실패하지 않게)
+ */
+@Slf4j
+@Component
+public class TenantJobLimiter {
+
+    private static final String PREFIX = "job:inflight:";
+
+    // KEYS[1]=zset / ARGV: now, leaseMs, max, jobId
+    private static final RedisScript<Long> ACQUIRE = RedisScript.of(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]); " +
+                    "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then return 0; end; " +
+                    "redis.call('ZADD', KEYS[1], tonumber(ARGV[1]) + tonumber(ARGV[2]), ARGV[4]); " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]); " +
+                    "return 1;",
+            Long.class
+    );
+
+    private final ReactiveStringRedisTemplate redis;
+    private final JobLaneProperties props;
+
+    public TenantJobLimiter(ReactiveStringRedisTemplate redis, JobLaneProperties props) {
+        this.redis = redis;
+        this.props = props;
+    }
+
+    /**
+     * @return permit을 얻었으면 true (lane 상한이 없으면 항상 true)
+     */
+    public Mono<Boolean> tryAcquire(long companyId, JobLane lane, UUID jobId) {
+        Integer max = props.tenantMaxInFlight().get(lane);
+        if (max == null || max <= 0) {
+            return Mono.just(true);
+        }
+        String key = PREFIX + "%d:%s".formatted(companyId, lane.name().toLowerCase(Locale.ROOT));
+        List<String> args = List.of(
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(props.permitLease().toMillis()),
+                String.valueOf(max),
+                jobId.toString());
+
+        return redis.execute(ACQUIRE, List.of(key), args)
+                .next()
+                .flatMap(r -> r == 1L
+                        ? redis.opsForValue().set(ownerKey(jobId), key, props.permitLease()).thenReturn(true)
+                        : Mono.just(false))
+                .defaultIfEmpty(true)
+                .onErrorResume(e -> {
+                    log.warn("회사별 작업 상한 확인 실패, 제한 없이 진행. companyId={}, err={}", companyId, e.toString());
+                    return Mono.just(true);
+                });
+    }
+
+    public Mono<Void> release(UUID jobId) {
+        return redis.opsForValue().getAndDelete(ownerKey(jobId))
+                .flatMap(key -> redis.opsForZSet().remove(key, jobId.toString()))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("회사별 작업 permit 반납 실패 (lease 만료 시 회수). jobId={}, err={}", jobId, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> releaseAll(Collection<UUID> jobIds) {
+        return Flux.fromIterable(jobIds).flatMap(this::release).then();
+    }
+
+    private static String ownerKey(UUID jobId) {
+        return PREFIX + "owner:" + jobId;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.chillgram.domain.content.service;
 
 import com.example.chillgram.common.exception.ApiException;
 import com.example.chillgram.common.exception.ErrorCode;
-import com.example.chillgram.common.google.GcsFileStorage;
 import com.example.chillgram.domain.content.dto.ContentAssetResponse;
 import com.example.chillgram.domain.content.dto.ContentResponse;
 import com.example.chillgram.domain.content.dto.ContentUpdateRequest;
@@ -10,6 +9,7 @@ import com.example.chillgram.domain.content.entity.Content;
 import com.example.chillgram.domain.content.entity.ContentAsset;
 import com.example.chillgram.domain.content.repository.ContentAssetRepository;
 import com.example.chillgram.domain.content.repository.ContentRepository;
+import com.example.chillgram.domain.file.service.FileUrlResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -21,14 +21,14 @@ public class ContentService {
 
     private final ContentRepository contentRepository;
     private final ContentAssetRepository contentAssetRepository;
-    private final GcsFileStorage gcs;
+    private final FileUrlResolver fileUrls;
 
     public ContentService(ContentRepository contentRepository,
                           ContentAssetRepository contentAssetRepository,
-                          GcsFileStorage gcs) {
+                          FileUrlResolver fileUrls) {
         this.contentRepository = contentRepository;
         this.contentAssetRepository = contentAssetRepository;
-        this.gcs = gcs;
+        this.fileUrls = fileUrls;
     }
 
     // ============================
@@ -113,7 +113,7 @@ public class ContentService {
 
     /**
      * SNS/VIDEO/DIELINE 등 결과물 URL -> gcs_img_url 저장
-     * (DB에는 gs:// 또는 bucket/key 형태를 저장하고, 응답에서 toPublicUrl로 http 변환)
+     * (DB에는 gs:// 또는 bucket/key 형태를 저장하고, 응답에서 FileUrlResolver로 변환)
      */
     public Mono<Void> applyMediaResult(Long contentId, String gcsUrl) {
         return contentRepository.findById(contentId)
@@ -209,7 +209,7 @@ public class ContentService {
     public Flux<com.example.chillgram.domain.product.dto.BaseImageResponse> getBaseImagesByProduct(Long productId) {
         return contentRepository.findBaseImagesByProductId(productId)
                 .map(content -> new com.example.chillgram.domain.product.dto.BaseImageResponse(
-                        gcs.toPublicUrl(content.getGcsImgUrl()),
+                        fileUrls.toResponseUrl(content.getGcsImgUrl()),
                         content.getContentType(),
                         content.getProjectId(),
                         content.getUpdatedAt()
@@ -217,7 +217,7 @@ public class ContentService {
     }
 
     // ============================
-    // Mapper (응답은 항상 http URL로 변환)
+    // Mapper (응답은 항상 FileUrlResolver로 변환: 공개 URL 또는 서명된 프록시 경로)
     // ============================
 
     private ContentResponse toResponse(Content c) {
@@ -227,8 +227,8 @@ public class ContentService {
                 c.getTitle(), c.getBody(), c.getStatus(), c.getTags(),
                 c.getViewCount(), c.getLikeCount(), c.getShareCount(),
                 c.getBannerRatio(),
-                gcs.toPublicUrl(c.getGcsImgUrl()),
-                gcs.toPublicUrl(c.getMockupImgUrl()),
+                fileUrls.toResponseUrl(c.getGcsImgUrl()),
+                fileUrls.toResponseUrl(c.getMockupImgUrl()),
                 c.getCreatedAt(), c.getUpdatedAt()
         );
     }
@@ -236,8 +236,8 @@ public class ContentService {
     private ContentAssetResponse toAssetResponse(ContentAsset a) {
         return new ContentAssetResponse(
                 a.getId(), a.getContentId(), a.getAssetType(),
-                gcs.toPublicUrl(a.getFileUrl()),
-                gcs.toPublicUrl(a.getThumbUrl()),
+                fileUrls.toResponseUrl(a.getFileUrl()),
+                fileUrls.toResponseUrl(a.getThumbUrl()),
                 a.getMimeType(),
                 a.getFileSize(), a.getWidth(), a.getHeight(),
                 a.getDurationMs(), a.getSortOrder(), a.getCreatedAt()
@@ -0,0 +1,136 @@
+package com.example.chillgram.domain.file.handler;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.common.google.FileStorage;
+import com.example.chillgram.domain.file.service.FileUrlSigner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 저장소 객체 다운로드 프록시 (비공개 버킷용, toPublicUrl 대신)
+ * - 설정 버킷의 객체만 (경로 = 객체 이름), 인증 필요 (SecurityConfig)
+ * - /api/files는 객체 단위 권한 = 서명 URL (FileUrlSigner, 소유 API가 발급) → 서명 없음/불일치/만료면 403
+ *   (로그인만으로 다른 회사 객체 이름을 넣어 받지 못하게, 객체 존재 여부도 알려주지 않음)
+ * - app.storage.type=local이면 LocalFileStorage 공개 URL(/local-storage/**)도 이 핸들러가 내려준다 (인증/서명 없음)
+ * - 본문은 저장소에서 읽는 대로 흘려보낸다 (버퍼링 없음, 클라이언트 속도에 맞춰 읽음)
+ * - Range: 단일 범위만 206, 여러 범위는 무시하고 200 전체
+ *   범위 밖이면 416 + Content-Range: bytes *&#47;{size}
+ * - ETag = 객체 generation, If-Range가 다르면 Range를 무시
+ */
+@Component
+public class FileHandler {
+
+    private final FileStorage fileStorage;
+    private final FileUrlSigner signer;
+
+    public FileHandler(FileStorage fileStorage, FileUrlSigner signer) {
+        this.fileStorage = fileStorage;
+        this.signer = signer;
+    }
+
+    /**
+     * GET /api/files/{*object}?exp=..&sig=..
+     */
+    public Mono<ServerResponse> download(ServerRequest req) {
+        String objectName = objectName(req);
+        if (objectName.isBlank()) {
+            return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED, "object name is required"));
+        }
+        if (!signer.verify(objectName,
+                req.queryParam(FileUrlSigner.EXPIRES_PARAM).orElse(null),
+                req.queryParam(FileUrlSigner.SIGNATURE_PARAM).orElse(null))) {
+            return Mono.error(ApiException.of(ErrorCode.FORBIDDEN, "invalid or expired file signature"));
+        }
+        return serve(req, objectName);
+    }
+
+    /**
+     * GET /local-storage/{*object} (app.storage.type=local 공개 URL)
+     */
+    public Mono<ServerResponse> downloadLocal(ServerRequest req) {
+        String objectName = objectName(req);
+        if (objectName.isBlank()) {
+            return Mono.error(ApiException.of(ErrorCode.VALIDATION_FAILED, "object name is required"));
+        }
+        return serve(req, objectName);
+    }
+
+    private static String objectName(ServerRequest req) {
+        String objectName = req.pathVariable("object");
+        return objectName.startsWith("/") ? objectName.substring(1) : objectName;
+    }
+
+    private Mono<ServerResponse> serve(ServerRequest req, String objectName) {
+        return fileStorage.stat(fileStorage.objectUri(objectName))
+                // 저장소가 거부한 이름 (로컬 root 밖 등)
+                .onErrorMap(IllegalArgumentException.class, e -> ApiException.of(ErrorCode.NOT_FOUND, "file not found"))
+                .switchIfEmpty(Mono.error(ApiException.of(ErrorCode.NOT_FOUND, "file not found")))
+                .flatMap(object -> respond(req, object));
+    }
+
+    private Mono<ServerResponse> respond(ServerRequest req, FileStorage.StoredObject object) {
+        String etag = object.generation() == null ? null : "\"" + object.generation() + "\"";
+        HttpRange range = singleRange(req, etag);
+        long size = object.size();
+
+        if (range == null) {
+            return ok(HttpStatus.OK, object, etag)
+                    .contentLength(size)
+                    .body(BodyInserters.fromDataBuffers(fileStorage.read(object, 0, -1)));
+        }
+
+        long start = range.getRangeStart(size);
+        long end = range.getRangeEnd(size);
+        if (size == 0 || start >= size || end < start) {
+            return ServerResponse.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+        long length = end - start + 1;
+        return ok(HttpStatus.PARTIAL_CONTENT, object, etag)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                .contentLength(length)
+                .body(BodyInserters.fromDataBuffers(fileStorage.read(object, start, length)));
+    }
+
+    private static ServerResponse.BodyBuilder ok(HttpStatus status, FileStorage.StoredObject object, String etag) {
+        ServerResponse.BodyBuilder builder = ServerResponse.status(status)
+                .contentType(MediaType.parseMediaType(object.contentType()))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CACHE_CONTROL, "private");
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder;
+    }
+
+    /**
+     * 적용할 단일 Range (없거나 여러 개, 형식 오류, If-Range 불일치면 null → 전체 응답)
+     */
+    private static HttpRange singleRange(ServerRequest req, String etag) {
+        List<HttpRange> ranges;
+        try {
+            ranges = req.headers().range();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1) {
+            return null;
+        }
+        String ifRange = req.headers().firstHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        return ranges.get(0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.chillgram.domain.file.router;
+
+import com.example.chillgram.domain.file.handler.FileHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springdoc.core.annotations.RouterOperation;
+import org.springdoc.core.annotations.RouterOperations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+public class FileRouter {
+
+    @Bean
+    @ConditionalOnProperty(name = "gcs.proxy.enabled", havingValue = "true")
+    @RouterOperations({
+            @RouterOperation(path = "/api/files/{object}", method = RequestMethod.GET, beanClass = FileHandler.class, beanMethod = "download", operation = @Operation(summary = "파일 다운로드 (프록시)", description = "저장소 객체를 스트리밍으로 내려줍니다. 객체를 소유한 API가 발급한 서명 URL(exp, sig)만 허용합니다. Range 요청(단일 범위)을 지원합니다.", tags = "File", parameters = {
+                    @Parameter(name = "object", description = "버킷 내 객체 이름 (예: qna/1/a.png)", in = ParameterIn.PATH, required = true),
+                    @Parameter(name = "exp", description = "서명 만료 시각 (epoch 초)", in = ParameterIn.QUERY, required = true),
+                    @Parameter(name = "sig", description = "서명 (HMAC-SHA256, base64url)", in = ParameterIn.QUERY, required = true)
+            }, responses = {
+                    @ApiResponse(responseCode = "200", description = "전체"),
+                    @ApiResponse(responseCode = "206", description = "부분 (Range)"),
+                    @ApiResponse(responseCode = "403", description = "서명 없음/불일치/만료"),
+                    @ApiResponse(responseCode = "404", description = "객체 없음"),
+                    @ApiResponse(responseCode = "416", description = "범위 밖")
+            }))
+    })
+    RouterFunction<ServerResponse> fileRoutes(FileHandler h) {
+        return RouterFunctions.route()
+                .GET("/api/files/{*object}", h::download)
+                .build();
+    }
+
+    /**
+     * LocalFileStorage 공개 URL (app.storage.local.public-base-url = http://{host}/local-storage)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+    RouterFunction<ServerResponse> localStorageRoutes(FileHandler h) {
+        return RouterFunctions.route()
+                .GET("/local-storage/{*object}", h::downloadLocal)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.chillgram.domain.file.service;
+
+import com.example.chillgram.common.google.FileStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 파일 URI/URL → 응답에 넣을 URL
+ * - 객체를 소유한 API(QnA 첨부, 목업/콘텐츠 이미지, job 결과)가 응답을 만들 때 호출
+ * - gcs.proxy.enabled=false (공개 버킷): FileStorage.toPublicUrl 그대로
+ * - gcs.proxy.enabled=true (비공개 버킷): 설정 버킷 객체면 서명된 /api/files 경로 (FileUrlSigner)
+ *   다른 버킷/외부 URL은 프록시가 내려줄 수 없으므로 그대로
+ * - DB에는 서명 URL을 저장하지 않는다 (만료됨) → 저장은 gs:// 또는 공개 URL, 응답 시점에 변환
+ */
+@Component
+public class FileUrlResolver {
+
+    private final FileStorage fileStorage;
+    private final FileUrlSigner signer;
+    private final boolean proxyEnabled;
+
+    public FileUrlResolver(
+            FileStorage fileStorage,
+            FileUrlSigner signer,
+            @Value("${gcs.proxy.enabled:false}") boolean proxyEnabled
+    ) {
+        this.fileStorage = fileStorage;
+        this.signer = signer;
+        this.proxyEnabled = proxyEnabled;
+    }
+
+    public String toResponseUrl(String uri) {
+        if (!proxyEnabled || uri == null || uri.isBlank()) {
+            return fileStorage.toPublicUrl(uri);
+        }
+        String objectName;
+        try {
+            objectName = fileStorage.objectName(uri);
+        } catch (IllegalArgumentException e) {
+            return fileStorage.toPublicUrl(uri);
+        }
+        return signer.signedPath(objectName);
+    }
+}
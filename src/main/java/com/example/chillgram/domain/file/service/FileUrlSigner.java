@@ -0,0 +1,100 @@
+package com.example.chillgram.domain.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 파일 프록시(GET /api/files/{*object}) 서명 URL 발급/검증
+ * - 객체를 소유한 API(소유권 확인을 마친 쪽)가 signedPath로 짧게 유효한 링크를 만들어 응답에 넣는다
+ * - sig = HMAC-SHA256(gcs.proxy.signing-secret, "{object}\n{exp}") (base64url), exp = 만료 epoch 초
+ * - 객체 이름과 만료 시각이 모두 서명에 들어가므로 다른 객체/연장된 만료로 바꿔 쓸 수 없다
+ * - 유효 시간: gcs.proxy.url-ttl (기본 15분)
+ * - gcs.proxy.enabled=true인데 키가 비었거나 예시 값(CHANGE_ME)이면 기동 실패 (누구나 아는 키로 서명하지 않게)
+ */
+@Component
+public class FileUrlSigner {
+
+    public static final String EXPIRES_PARAM = "exp";
+    public static final String SIGNATURE_PARAM = "sig";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String BASE_PATH = "/api/files/";
+    private static final String PLACEHOLDER_SECRET = "CHANGE_ME";
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    public FileUrlSigner(
+            @Value("${gcs.proxy.signing-secret:}") String secret,
+            @Value("${gcs.proxy.url-ttl:15m}") Duration ttl,
+            @Value("${gcs.proxy.enabled:false}") boolean proxyEnabled
+    ) {
+        boolean missing = secret == null || secret.isBlank() || PLACEHOLDER_SECRET.equals(secret.trim());
+        if (proxyEnabled && missing) {
+            throw new IllegalStateException("gcs.proxy.signing-secret must be set when gcs.proxy.enabled=true");
+        }
+        // 프록시를 끈 환경에서는 키 없이 떠도 된다 (서명/검증을 호출하면 실패)
+        this.key = missing ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    /**
+     * 지금부터 ttl 동안 유효한 프록시 경로 (/api/files/{object}?exp=..&sig=..)
+     */
+    public String signedPath(String objectName) {
+        return signedPath(objectName, Instant.now().plus(ttl));
+    }
+
+    public String signedPath(String objectName, Instant expiresAt) {
+        long exp = expiresAt.getEpochSecond();
+        return BASE_PATH + UriUtils.encodePath(objectName, StandardCharsets.UTF_8)
+                + "?" + EXPIRES_PARAM + "=" + exp
+                + "&" + SIGNATURE_PARAM + "=" + sign(objectName, exp);
+    }
+
+    /**
+     * 서명이 맞고 만료 전이면 true (형식 오류/누락, 키 미설정도 false)
+     */
+    public boolean verify(String objectName, String exp, String sig) {
+        if (key == null || exp == null || sig == null) {
+            return false;
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(exp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiresAt < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        // 길이/내용 비교에 걸리는 시간이 서명 값에 따라 달라지지 않게
+        return MessageDigest.isEqual(
+                sign(objectName, expiresAt).getBytes(StandardCharsets.US_ASCII),
+                sig.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String sign(String objectName, long exp) {
+        if (key == null) {
+            throw new IllegalStateException("gcs.proxy.signing-secret is not configured");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal((objectName + "\n" + exp).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,9 +2,10 @@ package com.example.chillgram.domain.product.service;
 
 import com.example.chillgram.common.exception.ApiException;
 import com.example.chillgram.common.exception.ErrorCode;
-import com.example.chillgram.common.google.GcsFileStorage;
+import com.example.chillgram.common.google.FileStorage;
 import com.example.chillgram.domain.advertising.dto.jobs.CreateJobRequest;
 import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.ai.service.AiResponseCache;
 import com.example.chillgram.domain.ai.service.JobService;
 import com.example.chillgram.domain.company.domain.Company;
 import com.example.chillgram.domain.company.repository.CompanyRepository;
@@ -38,6 +39,7 @@ import reactor.core.publisher.Mono;
 import lombok.extern.slf4j.Slf4j;
 
 import com.example.chillgram.domain.content.service.ContentService;
+import com.example.chillgram.domain.file.service.FileUrlResolver;
 
 @Service
 @Slf4j
@@ -47,24 +49,28 @@ public class ProductService {
         private final CompanyRepository companyRepository;
         private final AppUserRepository appUserRepository;
         private final JobService jobService;
-        private final GcsFileStorage gcs;
+        private final FileStorage gcs;
         private final ContentRepository contentRepo;
         private final ProjectRepository projectRepository;
         private final TransactionalOperator tx;
         private final ObjectMapper om;
         private final ContentService contentService;
+        private final AiResponseCache aiResponseCache;
+        private final FileUrlResolver fileUrls;
 
         public ProductService(
                         ProductRepository productRepository,
                         CompanyRepository companyRepository,
                         AppUserRepository appUserRepository,
                         JobService jobService,
-                        GcsFileStorage gcs,
+                        FileStorage gcs,
                         ContentRepository contentRepo,
                         ProjectRepository projectRepository,
                         TransactionalOperator tx,
                         ObjectMapper om,
-                        ContentService contentService) {
+                        ContentService contentService,
+                        AiResponseCache aiResponseCache,
+                        FileUrlResolver fileUrls) {
                 this.productRepository = productRepository;
                 this.companyRepository = companyRepository;
                 this.appUserRepository = appUserRepository;
@@ -75,6 +81,8 @@ public class ProductService {
                 this.tx = tx;
                 this.om = om;
                 this.contentService = contentService;
+                this.aiResponseCache = aiResponseCache;
+                this.fileUrls = fileUrls;
         }
 
         /**
@@ -258,6 +266,8 @@ public class ProductService {
                                                                 return res;
                                                         });
                                 })
+                                // 제품 정보가 프롬프트에 들어가므로 해당 제품의 AI 응답 캐시 무효화
+                                .flatMap(res -> aiResponseCache.evictProduct(id).thenReturn(res))
                                 .doOnSuccess(product -> log.info("Product updated: {}", product.getId()));
         }
 
@@ -369,13 +379,15 @@ public class ProductService {
                                                                                                                                 payload.put("contentId",
                                                                                                                                                 savedContent.getId());
                                                                                                                                 return jobService
-                                                                                                                                                .requestJob(projectId,
-                                                                                                                                                                jobReq,
+                                                                                                                                                .requestJobs(projectId,
+                                                                                                                                                                List.of(jobReq),
+                                                                                                                                                                null,
                                                                                                                                                                 null)
-                                                                                                                                                .map(jobId -> new com.example.chillgram.domain.product.dto.PackageMockupResponse(
-                                                                                                                                                                jobId,
+                                                                                                                                                .map(jobs -> new com.example.chillgram.domain.product.dto.PackageMockupResponse(
+                                                                                                                                                                jobs.get(0).jobId(),
                                                                                                                                                                 savedContent.getId(),
-                                                                                                                                                                stored.fileUrl()));
+                                                                                                                                                                fileUrls.toResponseUrl(
+                                                                                                                                                                                stored.gsUri())));
                                                                                                                         }))
                                                                                                         // 4.
                                                                                                         // 보상(Compensation):
@@ -3,7 +3,6 @@ package com.example.chillgram.domain.project.controller;
 import com.example.chillgram.common.exception.ApiException;
 import com.example.chillgram.common.exception.ErrorCode;
 import com.example.chillgram.common.google.FileStorage;
-import com.example.chillgram.common.google.GcsFileStorage;
 import com.example.chillgram.domain.advertising.dto.jobs.CreateJobRequest;
 import com.example.chillgram.domain.advertising.dto.jobs.JobEnums;
 import com.example.chillgram.domain.ai.service.JobService;
@@ -34,7 +33,7 @@ import java.util.Map;
 @Tag(name = "Project", description = "프로젝트 관리 API")
 public class ProjectController {
 
-    private final GcsFileStorage gcsFileStorage;
+    private final FileStorage gcsFileStorage;
     private final JobService jobService;
     private final ObjectMapper om;
     private final ProjectService projectService;
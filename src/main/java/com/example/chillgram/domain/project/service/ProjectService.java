@@ -2,6 +2,7 @@ package com.example.chillgram.domain.project.service;
 
 import com.example.chillgram.domain.product.repository.ProductRepository;
 import com.example.chillgram.domain.content.repository.ContentRepository;
+import com.example.chillgram.domain.file.service.FileUrlResolver;
 import com.example.chillgram.domain.project.dto.ProjectCreateRequest;
 import com.example.chillgram.domain.project.dto.ProjectResponse;
 import com.example.chillgram.domain.project.entity.Project;
@@ -21,14 +22,14 @@ public class ProjectService {
         private final ProjectRepository projectRepository;
         private final ContentRepository contentRepository;
         private final ProductRepository productRepository;
-        private final com.example.chillgram.common.google.GcsFileStorage gcs;
+        private final FileUrlResolver fileUrls;
 
         public ProjectService(ProjectRepository projectRepository, ContentRepository contentRepository,
-                        ProductRepository productRepository, com.example.chillgram.common.google.GcsFileStorage gcs) {
+                        ProductRepository productRepository, FileUrlResolver fileUrls) {
                 this.projectRepository = projectRepository;
                 this.contentRepository = contentRepository;
                 this.productRepository = productRepository;
-                this.gcs = gcs;
+                this.fileUrls = fileUrls;
         }
 
         /**
@@ -45,9 +46,9 @@ public class ProjectService {
                                                 pc.adMessageTarget(),
                                                 pc.contentCount(),
                                                 pc.createdAt(),
-                                                gcs.toPublicUrl(pc.userImgGcsUrl()),
-                                                gcs.toPublicUrl(pc.dielineGcsUrl()),
-                                                gcs.toPublicUrl(pc.mockupResultUrl())))
+                                                fileUrls.toResponseUrl(pc.userImgGcsUrl()),
+                                                fileUrls.toResponseUrl(pc.dielineGcsUrl()),
+                                                fileUrls.toResponseUrl(pc.mockupResultUrl())))
                                 .collectList();
         }
 
@@ -78,9 +79,9 @@ public class ProjectService {
                                                         resp.projectId(), resp.title(), resp.type(), resp.status(),
                                                         resp.adMessageFocus(), resp.adMessageTarget(),
                                                         resp.contentCount(), resp.createdAt(),
-                                                        gcs.toPublicUrl(resp.userImgGcsUrl()),
-                                                        gcs.toPublicUrl(resp.dielineGcsUrl()),
-                                                        gcs.toPublicUrl(resp.mockupResultUrl()));
+                                                        fileUrls.toResponseUrl(resp.userImgGcsUrl()),
+                                                        fileUrls.toResponseUrl(resp.dielineGcsUrl()),
+                                                        fileUrls.toResponseUrl(resp.mockupResultUrl()));
                                 });
         }
 
@@ -78,6 +78,10 @@ public class QaDetailResponse {
                 .build();
     }
 
+    public void setGcsImageUrl(String gcsImageUrl) {
+        this.gcsImageUrl = gcsImageUrl;
+    }
+
     public void setCreatedByName(String createdByName) {
         this.createdByName = createdByName;
     }
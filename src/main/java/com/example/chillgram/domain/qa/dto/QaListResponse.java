@@ -49,6 +49,10 @@ public class QaListResponse {
                 .build();
     }
 
+    public void setGcsImageUrl(String gcsImageUrl) {
+        this.gcsImageUrl = gcsImageUrl;
+    }
+
     public void setCreatedByName(String createdByName) {
         this.createdByName = createdByName;
     }
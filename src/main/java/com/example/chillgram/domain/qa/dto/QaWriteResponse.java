@@ -14,12 +14,15 @@ public record QaWriteResponse(
         @Schema(description = "상태") String status,
         @Schema(description = "작성일시") LocalDateTime createdAt,
         @Schema(description = "이미지 URL (GCS Public URL)") String gcsImageUrl) {
-    public static QaWriteResponse from(QaQuestion question) {
+    /**
+     * @param gcsImageUrl 응답용 이미지 URL (FileUrlResolver로 변환한 값)
+     */
+    public static QaWriteResponse from(QaQuestion question, String gcsImageUrl) {
         return new QaWriteResponse(
                 question.getQuestionId(),
                 question.getTitle(),
                 question.getStatus(),
                 question.getCreatedAt(),
-                question.getGcsImageUrl());
+                gcsImageUrl);
     }
 }
@@ -2,6 +2,7 @@ package com.example.chillgram.domain.qa.service;
 
 import com.example.chillgram.common.google.FileStorage;
 import com.example.chillgram.common.google.FileStorage.StoredFile;
+import com.example.chillgram.domain.file.service.FileUrlResolver;
 import com.example.chillgram.domain.qa.dto.QaAnswerResponse;
 import com.example.chillgram.domain.qa.dto.QaDetailResponse;
 import com.example.chillgram.domain.qa.dto.QaListResponse;
@@ -34,6 +35,7 @@ public class QaService {
         private final QaAnswerRepository qaAnswerRepository;
         private final com.example.chillgram.domain.user.repository.AppUserRepository appUserRepository;
         private final FileStorage fileStorage;
+        private final FileUrlResolver fileUrls;
 
         // ==================== 목록 조회 ====================
         @Transactional(readOnly = true)
@@ -88,6 +90,8 @@ public class QaService {
                                                                                         res.setCreatedByName(nameMap
                                                                                                         .getOrDefault(q.getCreatedBy(),
                                                                                                                         "알 수 없음"));
+                                                                                        res.setGcsImageUrl(fileUrls.toResponseUrl(
+                                                                                                        q.getGcsImageUrl()));
                                                                                         return res;
                                                                                 })
                                                                                 .collect(Collectors.toList());
@@ -130,6 +134,8 @@ public class QaService {
                                                                                                         .from(question, answers);
                                                                                         response.setCreatedByName(
                                                                                                         creatorName);
+                                                                                        response.setGcsImageUrl(fileUrls.toResponseUrl(
+                                                                                                        question.getGcsImageUrl()));
 
                                                                                         // 답변 DTO에도 이름 채워넣기
                                                                                         response.getAnswers().forEach(
@@ -274,11 +280,16 @@ public class QaService {
                                         }
                                         return Mono.just(savedQuestion);
                                 })
-                                .map(QaWriteResponse::from);
+                                .map(this::toWriteResponse);
                 // 작성자 이름은 createQuestion 응답(QaWriteResponse)에는 포함하지 않음 (요구사항 없음)
                 // 필요하다면 추가 가능
         }
 
+        // 첨부 URL은 응답 시점에 변환 (비공개 버킷이면 서명된 프록시 경로, DB에는 저장 URL 그대로)
+        private QaWriteResponse toWriteResponse(QaQuestion question) {
+                return QaWriteResponse.from(question, fileUrls.toResponseUrl(question.getGcsImageUrl()));
+        }
+
         // ==================== 첨부파일 저장 (GCS) ====================
         private Mono<StoredFile> saveAttachment(Long questionId, FilePart filePart) {
                 return fileStorage.store(filePart, "qna/" + questionId)
@@ -349,7 +360,7 @@ public class QaService {
                                         return Mono.just(builder.build());
                                 })
                                 .flatMap(qaQuestionRepository::save) // 최종 저장
-                                .map(QaWriteResponse::from)
+                                .map(this::toWriteResponse)
                                 .doOnSuccess(resp -> log.info("Question updated: id={}", questionId))
                                 .doOnError(e -> log.error("Failed to update question", e));
         }
@@ -0,0 +1,21 @@
+-- Gemini 호출별 사용량 로그 (AiCallLogRepository, ad_generation_log 옆 테이블)
+create table if not exists ai_call_log (
+    call_id           bigserial primary key,
+    company_id        bigint,
+    product_id        bigint,
+    op                varchar(40)  not null,
+    model             varchar(80)  not null,
+    prompt_hash       varchar(64),
+    prompt_tokens     integer,
+    completion_tokens integer,
+    latency_ms        bigint       not null,
+    outcome           varchar(16)  not null,
+    parse_success     boolean,
+    created_at        timestamptz  not null
+);
+
+create index if not exists idx_ai_call_log_created_at
+    on ai_call_log (created_at);
+
+create index if not exists idx_ai_call_log_op_latency
+    on ai_call_log (op, latency_ms desc);
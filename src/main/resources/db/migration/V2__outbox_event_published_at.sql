@@ -0,0 +1,8 @@
+-- 내장 outbox relay (OutboxRelay): 발행 후 published_at을 채운다 (Debezium 모드에서는 null 유지)
+-- 미발행 행만 created_at 순으로 claim → 부분 인덱스
+alter table outbox_event
+    add column if not exists published_at timestamptz;
+
+create index if not exists idx_outbox_event_unpublished
+    on outbox_event (created_at)
+    where published_at is null;
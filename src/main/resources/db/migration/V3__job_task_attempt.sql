@@ -0,0 +1,8 @@
+-- job 타임아웃 재발행 (JobTimeoutSweeper → JobTaskRepository.claimOverdue)
+-- attempt: 타임아웃 재발행 횟수
+-- (status, updated_at): 진행 중 job 중 기한 초과 행을 범위 스캔으로 찾는다
+alter table job_task
+    add column if not exists attempt int not null default 0;
+
+create index if not exists idx_job_task_status_updated
+    on job_task (status, updated_at);
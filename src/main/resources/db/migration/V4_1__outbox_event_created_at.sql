@@ -0,0 +1,12 @@
+-- outbox 정리 (OutboxCleanupScheduler): 기간 지난 행을 created_at 범위로 찾아 id 기준 batch delete
+create index if not exists idx_outbox_event_created_at
+    on outbox_event (created_at);
+
+-- (선택, 운영자가 수동 실행) created_at 일 단위 range 파티션 전환
+-- 파티션(outbox_event_pYYYYMMDD)은 cleanup이 미리 만든다. 테이블 교체라 데이터 이관과 함께 점검 시간에 진행
+-- create table outbox_event_partitioned (like outbox_event including defaults) partition by range (created_at);
+-- alter table outbox_event_partitioned add primary key (id, created_at);
+-- create index on outbox_event_partitioned (created_at) where published_at is null;
+-- create index on outbox_event_partitioned (created_at);
+-- create table outbox_event_default partition of outbox_event_partitioned default;
+-- 이관 후: alter table outbox_event rename to outbox_event_old; alter table outbox_event_partitioned rename to outbox_event;
@@ -0,0 +1,13 @@
+-- job 생성 멱등성 (JobTaskRepository.insertRequested / insertRequestedAll)
+-- idempotency_key: 클라이언트 Idempotency-Key(호출 측에서 범위를 붙인 값), 영구 unique
+-- dedup_key: projectId + jobType + payload 해시, 진행 중(REQUESTED/RUNNING)인 동안만 unique
+alter table job_task
+    add column if not exists idempotency_key text,
+    add column if not exists dedup_key text;
+
+create unique index if not exists ux_job_task_idempotency_key
+    on job_task (idempotency_key);
+
+create unique index if not exists ux_job_task_dedup_key_in_flight
+    on job_task (dedup_key)
+    where status in ('REQUESTED', 'RUNNING');
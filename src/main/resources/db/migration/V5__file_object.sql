@@ -0,0 +1,15 @@
+-- 업로드 내용 해시 → GCS 객체, 참조 수 (FileObjectRepository, gcs.upload.dedup.*)
+-- 키: (scope, sha256). scope = 객체 이름의 첫 경로 (gcs.upload.dedup.scopes)
+create table if not exists file_object (
+    scope      varchar(100) not null,
+    sha256     char(64)     not null,
+    gs_uri     text         not null,
+    mime_type  varchar(255),
+    file_size  bigint       not null,
+    ref_count  int          not null,
+    created_at timestamptz  not null,
+    primary key (scope, sha256)
+);
+
+create unique index if not exists ux_file_object_gs_uri
+    on file_object (gs_uri);
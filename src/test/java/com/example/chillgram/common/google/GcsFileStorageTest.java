@@ -0,0 +1,333 @@
+package com.example.chillgram.common.google;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DataBufferWrapper;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * GcsFileStorage 스트리밍 업로드 단위 테스트
+ *
+ * FilePart 버퍼가 WriteChannel로 그대로 흘러가고 바로 release 되는지, 실패 시 객체를 확정(close)하지 않는지 검증합니다.
+ * 병렬 분할 업로드는 InMemoryStorage로 part → compose 결과와 임시 part 정리를 검증합니다.
+ * 중복 제거는 같은 내용이면 쓰지 않고 기존 객체를 돌려주는지, 마지막 참조일 때만 지우는지 검증합니다.
+ */
+class GcsFileStorageTest {
+
+    private Storage storage;
+    private WriteChannel writer;
+    private ByteArrayOutputStream written;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = mock(Storage.class);
+        writer = mock(WriteChannel.class);
+        written = new ByteArrayOutputStream();
+        when(storage.writer(any(BlobInfo.class))).thenReturn(writer);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(inv -> {
+            ByteBuffer bb = inv.getArgument(0);
+            int n = bb.remaining();
+            byte[] b = new byte[n];
+            bb.get(b);
+            written.write(b);
+            return n;
+        });
+    }
+
+    private GcsFileStorage gcs() {
+        return new GcsFileStorage(storage, "bucket", "https://storage.example.com/bucket/",
+                new GcsUploadProperties(true, DataSize.ofKilobytes(300), null, null), null, null);
+    }
+
+    private static FilePart filePart(Flux<DataBuffer> content) {
+        FilePart part = mock(FilePart.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.IMAGE_PNG);
+        when(part.filename()).thenReturn("a.png");
+        when(part.headers()).thenReturn(headers);
+        when(part.content()).thenReturn(content);
+        return part;
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] 버퍼를 순서대로 WriteChannel에 쓰고 release 후 close")
+    void storeFixed_streamsBuffersAndCloses() throws IOException {
+        List<DataBuffer> buffers = List.of(
+                DefaultDataBufferFactory.sharedInstance.wrap("hello ".getBytes()),
+                DefaultDataBufferFactory.sharedInstance.wrap("world".getBytes()));
+        List<DataBuffer> released = new ArrayList<>();
+        Flux<DataBuffer> content = Flux.fromIterable(buffers)
+                .map(b -> new ReleaseTracking(b, released));
+
+        FileStorage.StoredFile stored = gcs().storeFixed(filePart(content), "p/1/a").block();
+
+        assertThat(written.toString()).isEqualTo("hello world");
+        assertThat(released).hasSize(2);
+        assertThat(stored.fileSize()).isEqualTo(11L);
+        assertThat(stored.gsUri()).isEqualTo("gs://bucket/p/1/a.png");
+        assertThat(stored.fileUrl()).isEqualTo("https://storage.example.com/bucket/p/1/a.png");
+        assertThat(stored.mimeType()).isEqualTo("image/png");
+        // 300KB → 256KB 배수로 올림
+        verify(writer).setChunkSize(512 * 1024);
+        verify(writer).close();
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] 업로드 도중 실패하면 close 하지 않아 객체가 확정되지 않음")
+    void storeFixed_doesNotCommitOnError() throws IOException {
+        Flux<DataBuffer> content = Flux.concat(
+                Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("partial".getBytes())),
+                Flux.error(new IllegalStateException("client gone")));
+
+        assertThatThrownBy(() -> gcs().storeFixed(filePart(content), "p/1/a").block())
+                .hasMessageContaining("client gone");
+        verify(writer, never()).close();
+    }
+
+    private static Flux<DataBuffer> chunks(byte[] bytes, int size) {
+        return Flux.range(0, (bytes.length + size - 1) / size)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(bytes, i * size, Math.min(bytes.length, (i + 1) * size))));
+    }
+
+    private static GcsFileStorage composite(InMemoryStorage fake, int threshold, int partSize) {
+        return new GcsFileStorage(fake.storage(), "bucket", "https://storage.example.com/bucket",
+                new GcsUploadProperties(true, null, new GcsUploadProperties.Composite(true,
+                        DataSize.ofBytes(threshold), DataSize.ofBytes(partSize), 3, 4), null), null, null);
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] threshold를 넘으면 part로 나눠 올린 뒤 compose하고 임시 part는 지움")
+    void storeFixed_compositeUploadComposesParts() {
+        InMemoryStorage fake = new InMemoryStorage();
+        byte[] bytes = new byte[10_000];
+        new Random(1).nextBytes(bytes);
+
+        // head 4000 + part 1000 × 6 → compose 1번
+        FileStorage.StoredFile stored = composite(fake, 4000, 1000)
+                .storeFixed(filePart(chunks(bytes, 700)), "p/1/a").block();
+
+        assertThat(stored.fileSize()).isEqualTo(10_000L);
+        assertThat(fake.content("bucket", "p/1/a.png")).isEqualTo(bytes);
+        assertThat(fake.contentType("bucket", "p/1/a.png")).isEqualTo("image/png");
+        assertThat(fake.names()).containsExactly("bucket/p/1/a.png");
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] part가 32개를 넘으면 중간 객체로 나눠 compose")
+    void storeFixed_compositeUploadComposesInRounds() {
+        InMemoryStorage fake = new InMemoryStorage();
+        byte[] bytes = new byte[7_000];
+        new Random(2).nextBytes(bytes);
+
+        // head 100 + part 100 × 69 = 70개 → 32+32+6 → 3개 → 최종
+        FileStorage.StoredFile stored = composite(fake, 100, 100)
+                .storeFixed(filePart(chunks(bytes, 333)), "p/1/a").block();
+
+        assertThat(stored.fileSize()).isEqualTo(7_000L);
+        assertThat(fake.content("bucket", "p/1/a.png")).isEqualTo(bytes);
+        assertThat(fake.names()).containsExactly("bucket/p/1/a.png");
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] threshold 안에서 끝나면 part 없이 단일 업로드")
+    void storeFixed_compositeBelowThresholdUploadsOnce() {
+        InMemoryStorage fake = new InMemoryStorage();
+        byte[] bytes = "small".getBytes();
+
+        FileStorage.StoredFile stored = composite(fake, 4000, 1000)
+                .storeFixed(filePart(chunks(bytes, 2)), "p/1/a").block();
+
+        assertThat(stored.fileSize()).isEqualTo(5L);
+        assertThat(fake.content("bucket", "p/1/a.png")).isEqualTo(bytes);
+        assertThat(fake.requestCount()).isEqualTo(1);
+    }
+
+    private static GcsFileStorage dedup(InMemoryStorage fake, FileObjectRepository repo, FileHashCache cache) {
+        return new GcsFileStorage(fake.storage(), "bucket", "https://storage.example.com/bucket",
+                new GcsUploadProperties(true, null, null,
+                        new GcsUploadProperties.Dedup(true, DataSize.ofBytes(1000), null, null)),
+                repo, cache);
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] 같은 내용이 색인돼 있으면 쓰지 않고 기존 객체를 반환")
+    void storeFixed_dedupHitSkipsWrite() {
+        InMemoryStorage fake = new InMemoryStorage();
+        FileObjectRepository repo = mock(FileObjectRepository.class);
+        FileHashCache cache = mock(FileHashCache.class);
+        when(cache.mightContain(eq("qna"), any())).thenReturn(Mono.just(true));
+        when(repo.acquire(eq("qna"), any())).thenReturn(Mono.just(
+                new FileObjectRepository.FileObject("gs://bucket/qna/1/old.png", "image/png", 5L)));
+
+        FileStorage.StoredFile stored = dedup(fake, repo, cache)
+                .storeFixed(filePart(chunks("hello".getBytes(), 2)), "qna/2/a").block();
+
+        assertThat(stored.gsUri()).isEqualTo("gs://bucket/qna/1/old.png");
+        assertThat(stored.fileUrl()).isEqualTo("https://storage.example.com/bucket/qna/1/old.png");
+        assertThat(fake.requestCount()).isZero();
+        // sha256("hello")
+        verify(repo).acquire("qna", "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824");
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] dedup.scopes 밖(lifecycle로 지워지는 tmp 등)은 색인을 보지도 남기지도 않고 그냥 업로드")
+    void storeFixed_dedupSkipsScopesOutsideAllowList() {
+        InMemoryStorage fake = new InMemoryStorage();
+        FileObjectRepository repo = mock(FileObjectRepository.class);
+        FileHashCache cache = mock(FileHashCache.class);
+        // 만료된 객체를 가리키는 stale 색인이 남아 있어도
+        when(cache.mightContain(any(), any())).thenReturn(Mono.just(true));
+        when(repo.acquire(any(), any())).thenReturn(Mono.just(
+                new FileObjectRepository.FileObject("gs://bucket/tmp/basic-input/expired.png", "image/png", 5L)));
+        byte[] bytes = "hello".getBytes();
+
+        FileStorage.StoredFile stored = dedup(fake, repo, cache)
+                .storeFixed(filePart(chunks(bytes, 2)), "tmp/basic-input/new").block();
+
+        assertThat(stored.gsUri()).isEqualTo("gs://bucket/tmp/basic-input/new.png");
+        assertThat(fake.content("bucket", "tmp/basic-input/new.png")).isEqualTo(bytes);
+        verifyNoInteractions(repo, cache);
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] 큰 파일은 올리면서 해시, 먼저 등록된 같은 내용이 있으면 방금 올린 객체를 지움")
+    void storeFixed_dedupLargeFileLosesRace() {
+        InMemoryStorage fake = new InMemoryStorage();
+        FileObjectRepository repo = mock(FileObjectRepository.class);
+        FileHashCache cache = mock(FileHashCache.class);
+        when(cache.remember(any(), any())).thenReturn(Mono.empty());
+        when(repo.register(eq("qna"), any(), any(), any())).thenReturn(Mono.just(
+                new FileObjectRepository.FileObject("gs://bucket/qna/1/old.png", "image/png", 3000L)));
+        byte[] bytes = new byte[3000];
+        new Random(3).nextBytes(bytes);
+
+        FileStorage.StoredFile stored = dedup(fake, repo, cache)
+                .storeFixed(filePart(chunks(bytes, 700)), "qna/2/a").block();
+
+        assertThat(stored.gsUri()).isEqualTo("gs://bucket/qna/1/old.png");
+        assertThat(fake.names()).isEmpty();
+        verify(repo, never()).acquire(any(), any());
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] delete는 참조가 남아 있으면 객체를 지우지 않고, 마지막 참조일 때만 지움")
+    void delete_removesObjectOnlyOnLastReference() {
+        InMemoryStorage fake = new InMemoryStorage();
+        fake.storage().create(BlobInfo.newBuilder("bucket", "qna/1/a.png").build(), new byte[]{1});
+        FileObjectRepository repo = mock(FileObjectRepository.class);
+        FileHashCache cache = mock(FileHashCache.class);
+        when(cache.forget(any(), any())).thenReturn(Mono.empty());
+        when(repo.release("gs://bucket/qna/1/a.png")).thenReturn(
+                Mono.just(new FileObjectRepository.Released(false, null, null)),
+                Mono.just(new FileObjectRepository.Released(true, "qna", "abc")));
+        GcsFileStorage gcs = dedup(fake, repo, cache);
+
+        gcs.delete("https://storage.googleapis.com/bucket/qna/1/a.png").block();
+        assertThat(fake.names()).containsExactly("bucket/qna/1/a.png");
+
+        gcs.delete("gs://bucket/qna/1/a.png").block();
+        assertThat(fake.names()).isEmpty();
+        verify(cache).forget("qna", "abc");
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] read는 offset/length 범위만 스트리밍으로 읽음")
+    void read_streamsRequestedRange() {
+        InMemoryStorage fake = new InMemoryStorage();
+        byte[] bytes = new byte[200_000];
+        new Random(4).nextBytes(bytes);
+        fake.storage().create(BlobInfo.newBuilder("bucket", "qna/1/a.png").build(), bytes);
+        GcsFileStorage gcs = composite(fake, 1000, 1000);
+        FileStorage.StoredObject object = new FileStorage.StoredObject("gs://bucket/qna/1/a.png", "image/png", bytes.length, null);
+
+        byte[] part = DataBufferUtils.join(gcs.read(object, 100_000, 70_000))
+                .map(buffer -> {
+                    byte[] out = new byte[buffer.readableByteCount()];
+                    buffer.read(out);
+                    return out;
+                }).block();
+
+        assertThat(part).isEqualTo(Arrays.copyOfRange(bytes, 100_000, 170_000));
+    }
+
+    /**
+     * release 호출을 기록하는 DataBuffer (DefaultDataBuffer는 release가 no-op)
+     */
+    private static final class ReleaseTracking extends DataBufferWrapper
+            implements PooledDataBuffer {
+
+        private final List<DataBuffer> released;
+
+        ReleaseTracking(DataBuffer delegate, List<DataBuffer> released) {
+            super(delegate);
+            this.released = released;
+        }
+
+        @Override
+        public boolean isAllocated() {
+            return !released.contains(this);
+        }
+
+        @Override
+        public PooledDataBuffer retain() {
+            return this;
+        }
+
+        @Override
+        public PooledDataBuffer touch(Object hint) {
+            return this;
+        }
+
+        @Override
+        public boolean release() {
+            released.add(this);
+            return true;
+        }
+    }
+
+    @Test
+    @DisplayName("🧪 [gcs] objectName은 gs:// URI와 공개 URL을 객체 이름으로, 다른 버킷은 거부")
+    void objectName_parsesOwnBucketOnly() {
+        GcsFileStorage gcs = gcs();
+
+        assertThat(gcs.objectName("gs://bucket/qna/1/a.png")).isEqualTo("qna/1/a.png");
+        assertThat(gcs.objectName("https://storage.example.com/bucket/qna/1/a.png")).isEqualTo("qna/1/a.png");
+        assertThat(gcs.objectName("https://storage.googleapis.com/bucket/qna/1/a.png")).isEqualTo("qna/1/a.png");
+        assertThatThrownBy(() -> gcs.objectName("gs://other/qna/1/a.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gcs.objectName("https://cdn.example.com/a.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.chillgram.common.google;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import reactor.core.publisher.Flux;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * LocalFileStorage 단위 테스트 (임시 디렉터리)
+ *
+ * GCS와 같은 gs:// URI로 저장/조회/범위 읽기/삭제가 되는지, root 밖 이름과 다른 버킷 URI를 거부하는지 검증합니다.
+ */
+class LocalFileStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorage local;
+
+    @BeforeEach
+    void setUp() {
+        local = new LocalFileStorage(root.toString(), "bucket", "http://localhost:8080/local-storage/");
+    }
+
+    private static FilePart filePart(byte[] bytes, int size) {
+        FilePart part = mock(FilePart.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.IMAGE_PNG);
+        when(part.filename()).thenReturn("a.png");
+        when(part.headers()).thenReturn(headers);
+        when(part.content()).thenReturn(Flux.range(0, (bytes.length + size - 1) / size)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(bytes, i * size, Math.min(bytes.length, (i + 1) * size)))));
+        return part;
+    }
+
+    private static byte[] join(Flux<DataBuffer> body) {
+        DataBuffer joined = DataBufferUtils.join(body).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        DataBufferUtils.release(joined);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("🧪 [local] gs:// URI로 저장 → stat/읽기/범위 읽기/삭제")
+    void store_read_delete() throws Exception {
+        byte[] bytes = new byte[200_000];
+        new Random(1).nextBytes(bytes);
+
+        FileStorage.StoredFile stored = local.storeFixed(filePart(bytes, 7_000), "qna/1/a").block();
+
+        assertThat(stored.gsUri()).isEqualTo("gs://bucket/qna/1/a.png");
+        assertThat(stored.fileUrl()).isEqualTo("http://localhost:8080/local-storage/qna/1/a.png");
+        assertThat(stored.fileSize()).isEqualTo(200_000L);
+        assertThat(Files.readAllBytes(root.resolve("qna/1/a.png"))).isEqualTo(bytes);
+        // 임시 파일은 남지 않는다
+        try (var files = Files.list(root.resolve("qna/1"))) {
+            assertThat(files).hasSize(1);
+        }
+
+        FileStorage.StoredObject object = local.stat(stored.fileUrl()).block();
+        assertThat(object.gsUri()).isEqualTo("gs://bucket/qna/1/a.png");
+        assertThat(object.contentType()).isEqualTo("image/png");
+        assertThat(object.size()).isEqualTo(200_000L);
+
+        assertThat(join(local.read(stored.gsUri()))).isEqualTo(bytes);
+        assertThat(join(local.read(object, 70_000, 100_000)))
+                .isEqualTo(Arrays.copyOfRange(bytes, 70_000, 170_000));
+
+        local.delete("https://storage.googleapis.com/bucket/qna/1/a.png").block();
+        assertThat(local.stat(stored.gsUri()).block()).isNull();
+    }
+
+    @Test
+    @DisplayName("🧪 [local] root 밖 이름과 다른 버킷 URI는 거부, toPublicUrl은 같은 버킷 gs://만 변환")
+    void rejects_outside_root() {
+        assertThatThrownBy(() -> local.stat("gs://bucket/../escape.png").block())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> local.stat("gs://other/qna/a.png").block())
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(local.toPublicUrl("gs://bucket/a/b.png")).isEqualTo("http://localhost:8080/local-storage/a/b.png");
+        assertThat(local.toPublicUrl("gs://other/a/b.png")).isEqualTo("gs://other/a/b.png");
+        assertThat(local.toPublicUrl("https://cdn.example.com/a.png")).isEqualTo("https://cdn.example.com/a.png");
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.chillgram.domain.advertising.service;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.domain.advertising.dto.AdGuidesBatchItem;
+import com.example.chillgram.domain.advertising.dto.AdGuidesBatchRequest;
+import com.example.chillgram.domain.advertising.dto.AdGuidesRequest;
+import com.example.chillgram.domain.advertising.dto.AdGuidesResponse;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import com.example.chillgram.domain.advertising.engine.TrendRuleEngine;
+import com.example.chillgram.domain.advertising.repository.EventCalendarRepository;
+import com.example.chillgram.domain.ai.dto.AdGuideAiRequest;
+import com.example.chillgram.domain.ai.service.AdCopyService;
+import com.example.chillgram.domain.ai.service.JobService;
+import com.example.chillgram.domain.product.entity.Product;
+import com.example.chillgram.domain.product.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AdGuideBatchService 단위 테스트
+ *
+ * 제품/이벤트 조회가 배치당 1회인지, 제품별 결과가 job_task에 누적되는지, 이어하기 시 성공분을 재생성하지 않는지,
+ * 이미 실행 중/성공한 job은 다시 돌리지 않고 끊긴 배치는 이어하기 가능한 FAILED로 남는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdGuideBatchServiceTest {
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private EventCalendarRepository eventCalendarRepository;
+    @Mock
+    private TrendRuleEngine trendEngine;
+    @Mock
+    private AdCopyService adCopyService;
+    @Mock
+    private JobService jobService;
+
+    private ObjectMapper objectMapper;
+    private AdGuideBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new AdGuideBatchService(productRepository, eventCalendarRepository, trendEngine,
+                adCopyService, jobService, objectMapper, 2, 10);
+    }
+
+    @Test
+    @DisplayName("🧪 [배치] 제품/이벤트는 1회 조회, 없는 제품은 FAILED 항목으로 내려주고 job은 FAILED 처리")
+    void start_fetchesOnce_andStreamsPerProduct() {
+        stubJobWrites();
+        when(jobService.createLocalJob(eq(0L), eq(JobType.AD_GUIDES), any())).thenReturn(Mono.just(JOB_ID));
+        when(productRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(Flux.just(product(1L), product(3L)));
+        when(eventCalendarRepository.findNearest(BASE_DATE, 5)).thenReturn(Flux.empty());
+        when(trendEngine.analyze(anyLong(), eq(BASE_DATE), any()))
+                .thenReturn(new TrendRuleEngine.TrendResult(List.of(), List.of(), ""));
+        when(adCopyService.generateAdGuidesMono(any(AdGuideAiRequest.class))).thenReturn(Mono.just(guides()));
+
+        AdGuideBatchService.Batch batch = service.start(
+                new AdGuidesBatchRequest(List.of(1L, 2L, 3L, 1L), request())).block();
+
+        assertThat(batch.jobId()).isEqualTo(JOB_ID);
+        List<AdGuidesBatchItem> items = batch.items().collectList().block();
+
+        assertThat(items).extracting(AdGuidesBatchItem::productId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(items).filteredOn(i -> i.productId() == 2L).singleElement()
+                .satisfies(i -> {
+                    assertThat(i.status()).isEqualTo(JobStatus.FAILED);
+                    assertThat(i.errorCode()).isEqualTo(ErrorCode.AD_PRODUCT_NOT_FOUND.name());
+                });
+
+        verify(productRepository, times(1)).findAllById(List.of(1L, 2L, 3L));
+        verify(eventCalendarRepository, times(1)).findNearest(BASE_DATE, 5);
+        verify(jobService, times(3)).putResult(eq(JOB_ID), anyString(), any());
+        verify(jobService).completeLocalJob(eq(JOB_ID), eq(ErrorCode.AD_GUIDE_GENERATION_FAILED.name()), anyString());
+    }
+
+    @Test
+    @DisplayName("🧪 [배치] 이어하기: 성공분은 저장본 재전송, 나머지만 생성 후 SUCCEEDED")
+    void resume_replaysSucceeded_andGeneratesRest() {
+        stubJobWrites();
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.set("productIds", objectMapper.valueToTree(List.of(1L, 2L)));
+        payload.set("request", objectMapper.valueToTree(request()));
+        payload.set("results", objectMapper.valueToTree(Map.of(
+                "1", AdGuidesBatchItem.succeeded(JOB_ID, 1L, guides()),
+                "2", AdGuidesBatchItem.failed(JOB_ID, 2L, "AI_CALL_FAILED", "x"))));
+        when(jobService.getJobDetail(JOB_ID)).thenReturn(Mono.just(new JobResponse(JOB_ID, 0L, JobType.AD_GUIDES,
+                JobStatus.RUNNING, payload, null, null, null, OffsetDateTime.now(), OffsetDateTime.now())));
+        when(productRepository.findAllById(List.of(2L))).thenReturn(Flux.just(product(2L)));
+        when(eventCalendarRepository.findNearest(BASE_DATE, 5)).thenReturn(Flux.empty());
+        when(trendEngine.analyze(anyLong(), eq(BASE_DATE), any()))
+                .thenReturn(new TrendRuleEngine.TrendResult(List.of(), List.of(), ""));
+        when(adCopyService.generateAdGuidesMono(any(AdGuideAiRequest.class))).thenReturn(Mono.just(guides()));
+
+        List<AdGuidesBatchItem> items = service.resume(JOB_ID).block().items().collectList().block();
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).productId()).isEqualTo(1L);
+        assertThat(items.get(0).replayed()).isTrue();
+        assertThat(items.get(1).productId()).isEqualTo(2L);
+        assertThat(items.get(1).status()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(items.get(1).replayed()).isFalse();
+
+        verify(adCopyService, times(1)).generateAdGuidesMono(any(AdGuideAiRequest.class));
+        verify(jobService).completeLocalJob(eq(JOB_ID), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("🧪 [배치] 이어하기: 이미 RUNNING/SUCCEEDED라 RUNNING 전이가 거절되면 409, 생성하지 않음")
+    void resume_conflict_doesNotRun() {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.set("productIds", objectMapper.valueToTree(List.of(1L)));
+        payload.set("request", objectMapper.valueToTree(request()));
+        payload.set("results", objectMapper.createObjectNode());
+        when(jobService.getJobDetail(JOB_ID)).thenReturn(Mono.just(new JobResponse(JOB_ID, 0L, JobType.AD_GUIDES,
+                JobStatus.RUNNING, payload, null, null, null, OffsetDateTime.now(), OffsetDateTime.now())));
+        when(jobService.markRunning(JOB_ID)).thenReturn(Mono.error(ApiException.of(ErrorCode.CONFLICT, "running")));
+
+        assertThatThrownBy(() -> service.resume(JOB_ID).block())
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.errorCode()).isEqualTo(ErrorCode.CONFLICT));
+
+        verify(productRepository, never()).findAllById(anyList());
+        verify(adCopyService, never()).generateAdGuidesMono(any(AdGuideAiRequest.class));
+    }
+
+    @Test
+    @DisplayName("🧪 [배치] 클라이언트가 끊으면 job을 FAILED로 남겨 이어하기 가능하게")
+    void cancel_marksFailedForResume() {
+        when(jobService.markRunning(JOB_ID)).thenReturn(Mono.empty());
+        when(jobService.completeLocalJob(eq(JOB_ID), any(), any())).thenReturn(Mono.empty());
+        when(jobService.createLocalJob(eq(0L), eq(JobType.AD_GUIDES), any())).thenReturn(Mono.just(JOB_ID));
+        when(productRepository.findAllById(List.of(1L))).thenReturn(Flux.just(product(1L)));
+        when(eventCalendarRepository.findNearest(BASE_DATE, 5)).thenReturn(Flux.empty());
+        when(trendEngine.analyze(anyLong(), eq(BASE_DATE), any()))
+                .thenReturn(new TrendRuleEngine.TrendResult(List.of(), List.of(), ""));
+        when(adCopyService.generateAdGuidesMono(any(AdGuideAiRequest.class))).thenReturn(Mono.never());
+
+        AdGuideBatchService.Batch batch = service.start(new AdGuidesBatchRequest(List.of(1L), request())).block();
+        batch.items().subscribe().dispose();
+
+        verify(jobService).markRunning(JOB_ID);
+        verify(jobService).completeLocalJob(JOB_ID, ErrorCode.AD_GUIDE_GENERATION_FAILED.name(), "client disconnected");
+    }
+
+    @Test
+    @DisplayName("🧪 [배치] productIds 누락/초과는 VALIDATION_FAILED, job 미생성")
+    void start_rejectsInvalidIds() {
+        assertThat(service.start(new AdGuidesBatchRequest(List.of(), request()))
+                .onErrorResume(e -> Mono.empty()).blockOptional()).isEmpty();
+        List<Long> tooMany = java.util.stream.LongStream.rangeClosed(1, 11).boxed().toList();
+        assertThat(service.start(new AdGuidesBatchRequest(tooMany, request()))
+                .onErrorResume(e -> Mono.empty()).blockOptional()).isEmpty();
+
+        verify(jobService, never()).createLocalJob(anyLong(), any(), any());
+    }
+
+    private void stubJobWrites() {
+        when(jobService.markRunning(JOB_ID)).thenReturn(Mono.empty());
+        when(jobService.putResult(eq(JOB_ID), anyString(), any())).thenReturn(Mono.empty());
+        when(jobService.completeLocalJob(eq(JOB_ID), any(), any())).thenReturn(Mono.empty());
+    }
+
+    private static AdGuidesRequest request() {
+        return new AdGuidesRequest(BASE_DATE, "봄 시즌", "인지도", null, List.of(), null, 2, 0, null);
+    }
+
+    private static Product product(long id) {
+        return Product.builder().id(id).companyId(1L).name("제품" + id).category("과자").build();
+    }
+
+    private static AdGuidesResponse guides() {
+        return new AdGuidesResponse("guide-1", List.of(new AdGuidesResponse.GuidelineOption(
+                "guide-1", "타이틀", "요약", "", 80, "", Map.of())));
+    }
+}
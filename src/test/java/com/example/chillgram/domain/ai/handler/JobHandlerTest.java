@@ -0,0 +1,197 @@
+package com.example.chillgram.domain.ai.handler;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.google.FileStorage;
+import com.example.chillgram.common.security.AuthPrincipal;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.messaging.JobEventBroadcaster;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import com.example.chillgram.domain.ai.service.JobService;
+import com.example.chillgram.domain.ai.service.JobStatusCache;
+import com.example.chillgram.domain.file.service.FileUrlResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.validation.SmartValidator;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobHandler 단위 테스트 (BASIC 이미지 job 생성의 Idempotency-Key 범위)
+ *
+ * 같은 Idempotency-Key라도 사용자마다 다른 키로 조회되어, 다른 사용자의 jobId를 돌려주지 않는지 검증합니다.
+ * 실패한 배치를 이어한 직후 SSE 구독이 캐시에 남은 FAILED로 바로 끝나지 않는지도 검증합니다.
+ */
+class JobHandlerTest {
+
+    private JobService jobService;
+    private JobHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        jobService = mock(JobService.class);
+        handler = new JobHandler(new ObjectMapper(), jobService, mock(SmartValidator.class), mock(FileStorage.class),
+                mock(FileUrlResolver.class), "secret", mock(JobEventBroadcaster.class), Duration.ofSeconds(15));
+    }
+
+    private static MockServerRequest basicRequest(long userId, String idempotencyKey) {
+        return MockServerRequest.builder()
+                .principal(new UsernamePasswordAuthenticationToken(new AuthPrincipal(userId, 10L, "USER"), null, List.of()))
+                .header(JobService.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(Mono.just(new LinkedMultiValueMap<String, Part>()));
+    }
+
+    @Test
+    @DisplayName("🧪 [멱등 키] 같은 Idempotency-Key 재요청이면 본인 job을 업로드 없이 반환")
+    void sameUser_returnsExistingJob() {
+        UUID jobId = UUID.randomUUID();
+        when(jobService.findJobIdByIdempotencyKey("basic:1:k")).thenReturn(Mono.just(jobId));
+
+        StepVerifier.create(handler.createBasicImagesJob(basicRequest(1L, "k")))
+                .assertNext(res -> assertThat(res.statusCode()).isEqualTo(HttpStatus.OK))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("🧪 [멱등 키] 다른 사용자가 같은 Idempotency-Key를 보내면 남의 job이 아니라 새 요청으로 처리")
+    void otherUser_doesNotSeeForeignJob() {
+        when(jobService.findJobIdByIdempotencyKey("basic:1:k")).thenReturn(Mono.just(UUID.randomUUID()));
+        when(jobService.findJobIdByIdempotencyKey("basic:2:k")).thenReturn(Mono.empty());
+
+        // 새 요청 경로로 들어가 multipart 검증에서 실패 (user 1의 jobId로 200 응답하지 않음)
+        StepVerifier.create(handler.createBasicImagesJob(basicRequest(2L, "k")))
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(ApiException.class)
+                        .hasMessageContaining("payload part required"))
+                .verify();
+
+        verify(jobService).findJobIdByIdempotencyKey("basic:2:k");
+        verify(jobService, never()).findJobIdByIdempotencyKey("basic:1:k");
+    }
+
+    @Test
+    @DisplayName("🧪 [멱등 키] 인증 정보가 없으면 조회 전에 UNAUTHORIZED")
+    void noPrincipal_unauthorized() {
+        Mono<ServerResponse> res = handler.createBasicImagesJob(MockServerRequest.builder()
+                .header(JobService.IDEMPOTENCY_KEY_HEADER, "k")
+                .body(Mono.just(new LinkedMultiValueMap<String, Part>())));
+
+        StepVerifier.create(res)
+                .expectError(ApiException.class)
+                .verify();
+        verify(jobService, never()).findJobIdByIdempotencyKey(anyString());
+    }
+
+    @Test
+    @DisplayName("🧪 [job 구독] FAILED로 캐시된 job을 이어하면 구독은 RUNNING을 받고 열린 채 유지")
+    void resume_thenSubscribe_seesRunning() {
+        UUID jobId = UUID.randomUUID();
+        JobTaskRepository jobRepo = mock(JobTaskRepository.class);
+        JobEventBroadcaster events = mock(JobEventBroadcaster.class);
+        InMemoryStatusCache statusCache = new InMemoryStatusCache();
+        JobService service = new JobService(jobRepo, null, null, new ObjectMapper(), "chillgram.jobs",
+                null, null, null, null, events, statusCache, new JobLaneProperties(false, null, null, null), null, null);
+        JobHandler subscribing = new JobHandler(new ObjectMapper(), service, mock(SmartValidator.class),
+                mock(FileStorage.class), mock(FileUrlResolver.class), "secret", events, Duration.ofHours(1));
+
+        OffsetDateTime failedAt = OffsetDateTime.now().minusMinutes(1);
+        statusCache.put(job(jobId, JobStatus.FAILED, failedAt)).block();
+        when(jobRepo.markRunning(eq(jobId), any())).thenReturn(Mono.just(job(jobId, JobStatus.RUNNING, OffsetDateTime.now())));
+        when(events.publish(any())).thenReturn(Mono.empty());
+        when(events.events()).thenReturn(Flux.never());
+
+        service.markRunning(jobId).block();
+
+        assertThat(service.getJob(jobId).block().status()).isEqualTo(JobStatus.RUNNING);
+
+        ServerResponse res = subscribing.subscribeJob(MockServerRequest.builder()
+                .pathVariable("jobId", jobId.toString())
+                .build()).block();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        Mono<Void> written = res.writeTo(exchange, new ServerResponse.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return HandlerStrategies.withDefaults().messageWriters();
+            }
+
+            @Override
+            public List<ViewResolver> viewResolvers() {
+                return List.of();
+            }
+        }).cache();
+        written.subscribe();
+
+        String body = exchange.getResponse().getBody()
+                .map(buf -> buf.toString(StandardCharsets.UTF_8))
+                .scan("", String::concat)
+                .filter(text -> text.contains("\n\n"))
+                .blockFirst(Duration.ofSeconds(5));
+        assertThat(body).contains("event:status").contains("RUNNING").doesNotContain("FAILED");
+        // 종료 상태를 받았다면 takeUntil로 응답이 끝났을 것
+        StepVerifier.create(written).expectSubscription().expectNoEvent(Duration.ofMillis(200)).thenCancel().verify();
+    }
+
+    private static JobResponse job(UUID jobId, JobStatus status, OffsetDateTime updatedAt) {
+        return new JobResponse(jobId, 0L, JobType.AD_GUIDES, status, null, null, null, null, updatedAt, updatedAt);
+    }
+
+    /**
+     * Redis PUT 스크립트와 같은 규칙(종료 상태를 진행 중으로 덮어쓰지 않음)의 메모리 캐시
+     */
+    private static final class InMemoryStatusCache extends JobStatusCache {
+
+        private final Map<UUID, JobResponse> entries = new ConcurrentHashMap<>();
+
+        InMemoryStatusCache() {
+            super(null, true, Duration.ofHours(24), Duration.ofSeconds(60));
+        }
+
+        @Override
+        public Mono<JobResponse> get(UUID jobId) {
+            return Mono.fromSupplier(() -> entries.get(jobId));
+        }
+
+        @Override
+        public Mono<Void> put(JobResponse job) {
+            return Mono.fromRunnable(() -> entries.merge(job.jobId(), job,
+                    (cur, next) -> cur.status().isDone() && !next.status().isDone() ? cur : next));
+        }
+
+        @Override
+        public Mono<Void> evict(UUID jobId) {
+            return Mono.fromRunnable(() -> entries.remove(jobId));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveSubscription.ChannelMessage;
+import org.springframework.data.redis.connection.ReactiveSubscription.Message;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobEventBroadcaster 단위 테스트
+ *
+ * Redis 채널로 들어온 상태 전이를 로컬 구독자에게 전달하고, Redis 발행이 실패하면 자기 인스턴스 구독자에게라도 전달하는지 검증합니다.
+ */
+class JobEventBroadcasterTest {
+
+    private static final String CHANNEL = "chillgram:job-events";
+
+    private final ObjectMapper om = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Sinks.Many<Message<String, String>> channel = Sinks.many().multicast().directBestEffort();
+    private ReactiveStringRedisTemplate redis;
+    private JobEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(ReactiveStringRedisTemplate.class);
+        doReturn(channel.asFlux()).when(redis).listenToChannel(CHANNEL);
+        broadcaster = new JobEventBroadcaster(redis, om, CHANNEL);
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("🧪 [job 이벤트] 다른 인스턴스가 발행한 전이를 로컬 구독자에게 전달")
+    void redisMessage_isDeliveredToLocalSubscribers() throws Exception {
+        JobStatusEvent event = event(JobStatus.SUCCEEDED);
+        String json = om.writeValueAsString(event);
+
+        StepVerifier.create(broadcaster.events().take(1))
+                .then(() -> channel.tryEmitNext(new ChannelMessage<>(CHANNEL, "not-json")))
+                .then(() -> channel.tryEmitNext(new ChannelMessage<>(CHANNEL, json)))
+                .expectNextMatches(e -> e.jobId().equals(event.jobId()) && e.status() == JobStatus.SUCCEEDED)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("🧪 [job 이벤트] Redis 발행 실패 시 자기 인스턴스 구독자에게 직접 전달")
+    void publishFailure_fallsBackToLocalDelivery() {
+        when(redis.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.error(new IllegalStateException("down")));
+        JobStatusEvent event = event(JobStatus.FAILED);
+
+        StepVerifier.create(broadcaster.events().take(1))
+                .then(() -> broadcaster.publish(event).block(Duration.ofSeconds(1)))
+                .expectNext(event)
+                .verifyComplete();
+    }
+
+    private static JobStatusEvent event(JobStatus status) {
+        return new JobStatusEvent(UUID.randomUUID(), 7L, JobType.BANNER, status,
+                "https://b/banner.png", null, null, OffsetDateTime.parse("2026-03-01T10:00:00+09:00"));
+    }
+}
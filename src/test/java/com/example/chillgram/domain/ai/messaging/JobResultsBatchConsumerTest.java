@@ -0,0 +1,105 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobResultRequest;
+import com.example.chillgram.domain.ai.service.JobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobResultsBatchConsumer 단위 테스트
+ *
+ * 배치 전체를 applyResults 1번으로 반영하고, poison 메시지만 dead-letter 큐로 보낸 뒤 배치 단위로 ack 하는지 검증합니다.
+ */
+class JobResultsBatchConsumerTest {
+
+    private static final String DLQ = "chillgram.job-results.dlq";
+
+    private JobService jobService;
+    private RabbitTemplate rabbit;
+    private Channel channel;
+    private JobResultsBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        jobService = mock(JobService.class);
+        rabbit = mock(RabbitTemplate.class);
+        channel = mock(Channel.class);
+        consumer = new JobResultsBatchConsumer(new ObjectMapper(), jobService, rabbit, new SimpleMeterRegistry(),
+                DLQ, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("🧪 [결과 배치] 1번에 반영, 파싱 불가/반영 거부 메시지만 DLQ로 보내고 배치 ack")
+    void onMessages_appliesOnce_deadLettersOnlyPoison() throws Exception {
+        UUID ok = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(jobService.applyResults(anyMap())).thenReturn(Mono.just(Map.of(missing, "job not found")));
+
+        consumer.onMessages(List.of(
+                message(1, "{\"jobId\":\"" + ok + "\",\"success\":true,\"outputUri\":\"gs://b/o.png\"}"),
+                message(2, "{\"jobId\":\"not-a-uuid\"}"),
+                message(3, "{\"jobId\":\"" + missing + "\",\"success\":false}"),
+                message(4, "{\"jobId\":\"" + ok + "\",\"success\":true,\"outputUri\":\"gs://b/dup.png\"}")), channel);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<UUID, JobResultRequest>> applied = ArgumentCaptor.forClass(Map.class);
+        verify(jobService, times(1)).applyResults(applied.capture());
+        assertThat(applied.getValue()).containsOnlyKeys(ok, missing);
+
+        ArgumentCaptor<Message> dead = ArgumentCaptor.forClass(Message.class);
+        verify(rabbit, times(2)).send(eq(""), eq(DLQ), dead.capture());
+        assertThat(dead.getAllValues())
+                .extracting(m -> (String) m.getMessageProperties().getHeader(JobResultsBatchConsumer.POISON_REASON_HEADER))
+                .containsExactly("Invalid UUID jobId=not-a-uuid", "job not found");
+
+        verify(channel).basicAck(4, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("🧪 [결과 배치] 반영 실패(DB 장애 등) 시 배치 전체 requeue")
+    void onMessages_applyFails_requeuesWholeBatch() throws Exception {
+        when(jobService.applyResults(anyMap())).thenReturn(Mono.error(new IllegalStateException("db down")));
+
+        consumer.onMessages(List.of(
+                message(7, "{\"jobId\":\"" + UUID.randomUUID() + "\",\"success\":false}"),
+                message(8, "{\"jobId\":\"" + UUID.randomUUID() + "\",\"success\":false}")), channel);
+
+        verify(channel).basicNack(8, true, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(rabbit, never()).send(any(), any(), any(Message.class));
+    }
+
+    private static Message message(long deliveryTag, String body) {
+        MessageProperties props = new MessageProperties();
+        props.setDeliveryTag(deliveryTag);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), props);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OutboxCleanupScheduler 단위 테스트
+ *
+ * batch가 덜 찰 때까지 나눠 지우는지, 파티션 테이블이면 기간이 통째로 지난 파티션만 drop 하는지 검증합니다.
+ */
+class OutboxCleanupSchedulerTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 10, 17, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private OutboxEventRepository repo;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(OutboxEventRepository.class);
+        registry = new SimpleMeterRegistry();
+        when(repo.createDailyPartition(any())).thenReturn(Mono.empty());
+        when(repo.dropDailyPartition(any())).thenReturn(Mono.empty());
+    }
+
+    private OutboxCleanupScheduler scheduler(boolean publishedOnly) {
+        // retention 1일, batch 2건, 1회 최대 5 batch, 파티션 1일 앞까지
+        return new OutboxCleanupScheduler(repo, registry, 24 * 60, 2, Duration.ZERO, 5, 1, publishedOnly);
+    }
+
+    @Test
+    @DisplayName("🧪 [outbox] batch가 덜 찰 때까지 나눠 삭제하고 회차 삭제 수를 기록")
+    void cleanupOnce_deletesInBatchesUntilShort() {
+        when(repo.isPartitioned()).thenReturn(Mono.just(false));
+        when(repo.deleteBatchOlderThan(any(), anyBoolean(), eq(2)))
+                .thenReturn(Mono.just(2L), Mono.just(2L), Mono.just(1L));
+
+        Long deleted = scheduler(false).cleanupOnce(NOW).block();
+
+        assertThat(deleted).isEqualTo(5);
+        verify(repo, times(3)).deleteBatchOlderThan(eq(NOW.minusDays(1)), eq(false), eq(2));
+        verify(repo, never()).createDailyPartition(any());
+        assertThat(registry.get("outbox.cleanup.deleted").counter().count()).isEqualTo(5);
+        assertThat(registry.get("outbox.cleanup.run.deleted").summary().totalAmount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("🧪 [outbox] 파티션 테이블이면 다음 파티션 생성 + cutoff 이전 파티션만 drop")
+    void cleanupOnce_partitioned_dropsExpiredPartitions() {
+        when(repo.isPartitioned()).thenReturn(Mono.just(true));
+        when(repo.findDailyPartitions()).thenReturn(Flux.just(
+                "outbox_event_p20261015", "outbox_event_p20261016", "outbox_event_p20261017"));
+        when(repo.deleteBatchOlderThan(any(), anyBoolean(), anyInt())).thenReturn(Mono.just(0L));
+
+        scheduler(false).cleanupOnce(NOW).block();
+
+        verify(repo).createDailyPartition(LocalDate.of(2026, 10, 17));
+        verify(repo).createDailyPartition(LocalDate.of(2026, 10, 18));
+        // cutoff = 10/16 12:00 → 10/15 파티션만 전체가 지났다
+        verify(repo).dropDailyPartition(LocalDate.of(2026, 10, 15));
+        verify(repo, times(1)).dropDailyPartition(any());
+        assertThat(registry.get("outbox.cleanup.partitions.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("🧪 [outbox] relay 모드에서는 미발행 행이 남은 파티션을 drop 하지 않는다")
+    void cleanupOnce_relayMode_keepsPartitionWithUnpublished() {
+        when(repo.isPartitioned()).thenReturn(Mono.just(true));
+        when(repo.findDailyPartitions()).thenReturn(Flux.just("outbox_event_p20261014", "outbox_event_p20261015"));
+        when(repo.hasUnpublished(LocalDate.of(2026, 10, 14))).thenReturn(Mono.just(true));
+        when(repo.hasUnpublished(LocalDate.of(2026, 10, 15))).thenReturn(Mono.just(false));
+        when(repo.deleteBatchOlderThan(any(), anyBoolean(), anyInt())).thenReturn(Mono.just(0L));
+
+        scheduler(true).cleanupOnce(NOW).block();
+
+        verify(repo, never()).dropDailyPartition(LocalDate.of(2026, 10, 14));
+        verify(repo).dropDailyPartition(LocalDate.of(2026, 10, 15));
+        verify(repo).deleteBatchOlderThan(any(), eq(true), eq(2));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.chillgram.domain.ai.messaging;
+
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OutboxRelay 단위 테스트
+ *
+ * 선점한 batch를 발행하고 broker가 ack한 행만 published 처리하는지, batch가 가득 차면 이어서 drain 하는지 검증합니다.
+ */
+class OutboxRelayTest {
+
+    private OutboxEventRepository repo;
+    private RabbitTemplate rabbit;
+    private SimpleMeterRegistry registry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(OutboxEventRepository.class);
+        rabbit = mock(RabbitTemplate.class);
+        registry = new SimpleMeterRegistry();
+        TransactionalOperator tx = mock(TransactionalOperator.class);
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(repo.markPublished(anyList(), any())).thenAnswer(inv -> Mono.just((long) inv.<List<?>>getArgument(0).size()));
+
+        relay = new OutboxRelay(repo, tx, rabbit, new R2dbcProperties(), registry,
+                2, Duration.ofSeconds(5), Duration.ofMillis(200), false);
+    }
+
+    @Test
+    @DisplayName("🧪 [outbox] nack 받은 행은 published 처리하지 않고 다음 회차로 남긴다")
+    void relayOnce_marksOnlyAckedRows() {
+        OutboxEvent ok = event();
+        OutboxEvent nacked = event();
+        when(repo.claimUnpublished(anyInt())).thenReturn(Flux.just(ok, nacked));
+        confirmAllExcept(Set.of(nacked.id()));
+
+        Long claimed = relay.relayOnce().block();
+
+        assertThat(claimed).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> ids = ArgumentCaptor.forClass(List.class);
+        verify(repo).markPublished(ids.capture(), any());
+        assertThat(ids.getValue()).containsExactly(ok.id());
+        verify(rabbit, times(2)).send(eq(""), eq("chillgram.jobs"), any(Message.class), any(CorrelationData.class));
+        assertThat(registry.get("outbox.relay.published").counter().count()).isEqualTo(1);
+        assertThat(registry.get("outbox.relay.unconfirmed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("🧪 [outbox] batch가 가득 차면 남은 행이 없을 때까지 이어서 발행")
+    void drain_repeatsWhileBatchIsFull() {
+        List<OutboxEvent> events = IntStream.range(0, 5).mapToObj(i -> event()).toList();
+        when(repo.claimUnpublished(2)).thenReturn(
+                Flux.fromIterable(events.subList(0, 2)),
+                Flux.fromIterable(events.subList(2, 4)),
+                Flux.fromIterable(events.subList(4, 5)));
+        confirmAllExcept(Set.of());
+
+        Long total = relay.drain().block();
+
+        assertThat(total).isEqualTo(5);
+        verify(repo, times(3)).claimUnpublished(2);
+        verify(repo, times(3)).markPublished(anyList(), any());
+    }
+
+    private void confirmAllExcept(Set<UUID> nacked) {
+        doAnswer(inv -> {
+            CorrelationData cd = inv.getArgument(3);
+            cd.getFuture().complete(new CorrelationData.Confirm(!nacked.contains(UUID.fromString(cd.getId())), null));
+            return null;
+        }).when(rabbit).send(eq(""), any(String.class), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static OutboxEvent event() {
+        UUID jobId = UUID.randomUUID();
+        return new OutboxEvent(UUID.randomUUID(), jobId, "JOB_REQUESTED", "chillgram.jobs",
+                "{\"jobId\":\"" + jobId + "\"}");
+    }
+}
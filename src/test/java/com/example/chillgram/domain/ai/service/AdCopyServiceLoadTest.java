@@ -0,0 +1,158 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.AdGuidesResponse;
+import com.example.chillgram.domain.ai.config.AiHedgeProperties;
+import com.example.chillgram.domain.ai.config.AiLimiterProperties;
+import com.example.chillgram.domain.ai.dto.AdGuideAiRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AdCopyService non-blocking 경로 부하 테스트 (로컬 가짜 Gemini SSE 서버)
+ *
+ * 동시 생성 요청을 수백 건까지 늘려도 JVM 스레드 수가 요청 수에 비례해 늘지 않는지(=요청당 스레드 점유 없음) 검증합니다.
+ */
+class AdCopyServiceLoadTest {
+
+    private static final int[] CONCURRENCY = {50, 200, 400};
+    private static final Duration CHUNK_INTERVAL = Duration.ofMillis(150);
+    private static final List<String> CHUNKS = List.of(
+            "[GUIDE_START]\\nID: g1\\nTitle: 제품 중심\\n",
+            "Score: 90\\n[GUIDE_END]\\n[GUIDE_START]\\nID: g2\\n",
+            "Title: 트렌드 중심\\nScore: 80\\n[GUIDE_END]\\n");
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private DisposableServer server;
+    private ConnectionProvider pool;
+    private AdCopyService service;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((req, res) -> req.receive().then().thenMany(res
+                        .header("Content-Type", "text/event-stream")
+                        .sendString(Flux.range(0, CHUNKS.size())
+                                .delayElements(CHUNK_INTERVAL)
+                                .map(AdCopyServiceLoadTest::sseChunk))))
+                .bindNow();
+
+        pool = ConnectionProvider.builder("load-test").maxConnections(1000).build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.port() + "/v1beta")
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(pool)))
+                .build();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AiUsageRecorder usage = new AiUsageRecorder(registry,
+                new AiCallLogWriter(null, registry, false, 100, 100));
+        ChatClient reactiveClient = ChatClient.builder(
+                        new GeminiSseChatModel(webClient, new ObjectMapper(),
+                                GoogleGenAiChatOptions.builder().model("gemini-test").build()))
+                .defaultAdvisors(new AiUsageAdvisor(usage))
+                .build();
+        AiCallLimiter limiter = new AiCallLimiter(new AiLimiterProperties(1000, 1, 1000, 1000,
+                Duration.ofSeconds(30), Duration.ofSeconds(30), 0.7), registry);
+
+        service = new AdCopyService(
+                provider(null),
+                new ObjectMapper(),
+                new AiResponseCache(null, new ObjectMapper(), false, 0),
+                new AiSingleFlight(registry),
+                limiter,
+                new AiHedgedCaller(new AiHedgeProperties(false, null, 0, 0, null, null, null, null, null),
+                        limiter, registry, "gemini-test"),
+                usage,
+                provider(null),
+                provider(reactiveClient));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+        pool.disposeLater().block();
+    }
+
+    @Test
+    @DisplayName("🧪 [부하] 동시 생성 50 → 400건에서도 스레드 수는 평평하게 유지")
+    void concurrentGenerations_doNotGrowThreadCount() {
+        runRound(20); // 이벤트 루프/커넥션 워밍업
+
+        Map<Integer, Integer> peakThreads = new LinkedHashMap<>();
+        for (int n : CONCURRENCY) {
+            threads.resetPeakThreadCount();
+            long start = System.nanoTime();
+
+            List<AdGuidesResponse> results = runRound(n);
+
+            long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            peakThreads.put(n, threads.getPeakThreadCount());
+
+            assertThat(results)
+                    .as("concurrency=%d elapsedMs=%d peakThreads=%d", n, elapsedMs, peakThreads.get(n))
+                    .hasSize(n)
+                    .allSatisfy(r -> assertThat(r.guides()).hasSize(2));
+        }
+
+        int smallest = peakThreads.get(CONCURRENCY[0]);
+        int largest = peakThreads.get(CONCURRENCY[CONCURRENCY.length - 1]);
+        assertThat(largest - smallest)
+                .as("peak threads by concurrency: %s", peakThreads)
+                .isLessThan(16);
+    }
+
+    private List<AdGuidesResponse> runRound(int n) {
+        return Flux.range(0, n)
+                .flatMap(i -> service.generateAdGuidesMono(request(i)), n)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+    }
+
+    private static String sseChunk(int i) {
+        String usage = i == CHUNKS.size() - 1
+                ? ",\"usageMetadata\":{\"promptTokenCount\":120,\"candidatesTokenCount\":40}"
+                : "";
+        return "data: {\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\"" + CHUNKS.get(i)
+                + "\"}]}}],\"modelVersion\":\"gemini-test\"" + usage + "}\n\n";
+    }
+
+    private static AdGuideAiRequest request(long productId) {
+        return new AdGuideAiRequest(productId, "바삭칩", LocalDate.of(2026, 3, 1), "봄 캠페인", "", "",
+                List.of("봄"), "", 2, 0, "바삭하고 고소해요", List.of("벚꽃"), List.of("#봄간식"), "산뜻한", "", "",
+                List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T value) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(value);
+        return provider;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.ai.dto.AdGuideAiRequest;
+import com.example.chillgram.domain.ai.config.AiLimiterProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AdCopyService 프롬프트 구성 테스트 (로컬 ChatModel을 reactiveChatClient로 + 로컬 프롬프트 캐시)
+ *
+ * 정적 system / 요청별 user 분리와, 캐시 핸들이 있을 때 system 대신 cachedContentName으로 참조하는지 검증합니다.
+ * 메시지 초점 지침은 고른 값과 트렌드/리뷰 유무에 맞는 문구만 user 프롬프트에 실리는지 검증합니다.
+ */
+class AdCopyServicePromptTest {
+
+    private static final String GUIDE_RESPONSE = """
+            [GUIDE_START]
+            ID: g1
+            Title: 제품 중심
+            Score: 90
+            [GUIDE_END]
+            """;
+
+    private final List<Prompt> prompts = new ArrayList<>();
+    private final ChatModel chatModel = new ChatModel() {
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            prompts.add(prompt);
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(GUIDE_RESPONSE))));
+        }
+
+        @Override
+        public Flux<ChatResponse> stream(Prompt prompt) {
+            return Flux.defer(() -> Flux.just(call(prompt)));
+        }
+    };
+
+    @Test
+    @DisplayName("🧪 [프롬프트] 캐시 없음: 정적 system + 요청별 user 프롬프트")
+    void noPromptCache_sendsStaticSystemInline() {
+        AdCopyService service = service(null);
+
+        service.generateAdGuidesMono(request(0, 4)).block();
+        service.generateAdGuidesMono(request(4, 1)).block();
+
+        assertThat(prompts).hasSize(2);
+        String system0 = text(prompts.get(0), MessageType.SYSTEM);
+        assertThat(system0).isEqualTo(AdPromptTemplates.AD_GUIDES_SYSTEM);
+        assertThat(text(prompts.get(1), MessageType.SYSTEM)).isEqualTo(system0);
+
+        String user = text(prompts.get(1), MessageType.USER);
+        assertThat(user).contains("【메시지 초점: 제품 특징 중심】", "【광고 목표: 공감】", "바삭칩");
+        assertThat(user).doesNotContain("[GUIDE_START]");
+        // 고르지 않은 초점/목표 지침은 system에도 user에도 없다
+        assertThat(system0).doesNotContain("트렌드 중심", "제품 특징 중심", "공감");
+        assertThat(user).doesNotContain("트렌드 중심", "광고 목표: 행동");
+    }
+
+    @Test
+    @DisplayName("🧪 [프롬프트] 초점 0(트렌드 중심)/4(제품 특징 중심)는 트렌드·리뷰 유무에 따라 해당 지침만 user에 싣는다")
+    void focusExtremes_sendOnlyMatchingGuidance() {
+        AdCopyService service = service(null);
+
+        service.generateAdGuidesMono(request(0, 0)).block();
+        service.generateAdGuidesMono(request(4, 0)).block();
+        service.generateAdGuidesMono(request(0, 0, "", List.of())).block();
+        service.generateAdGuidesMono(request(4, 0, "", List.of("벚꽃"))).block();
+
+        String trendFocus = text(prompts.get(0), MessageType.USER);
+        assertThat(trendFocus)
+                .contains("【메시지 초점: 트렌드 중심】", "트렌드 키워드를 핵심 축으로 활용하세요: 벚꽃",
+                        "(참고) 소비자 리뷰: 바삭하고 고소해요")
+                .doesNotContain("제품 특징 중심");
+
+        String reviewFocus = text(prompts.get(1), MessageType.USER);
+        assertThat(reviewFocus)
+                .contains("【메시지 초점: 제품 특징 중심】", "소비자 리뷰를 핵심 축으로 활용하세요: 바삭하고 고소해요",
+                        "(참고) 트렌드: 벚꽃")
+                .doesNotContain("트렌드 중심");
+
+        assertThat(text(prompts.get(2), MessageType.USER))
+                .contains("최신 시장 트렌드를 반영한 가이드라인을 작성하세요.")
+                .doesNotContain("소비자 리뷰:");
+        assertThat(text(prompts.get(3), MessageType.USER))
+                .contains("제품의 핵심 특징과 장점을 중심으로 가이드라인을 작성하세요.", "(참고) 트렌드: 벚꽃");
+    }
+
+    @Test
+    @DisplayName("🧪 [프롬프트] 캐시 핸들 있음: system 생략, cachedContentName 참조, 업로드는 1회")
+    void promptCache_referencesHandleInsteadOfSystem() {
+        LocalPromptPrefixCache cache = new LocalPromptPrefixCache();
+        AdCopyService service = service(cache);
+
+        service.generateAdGuidesMono(request(2, 0)).block();
+        service.generateAdGuidesMono(request(3, 2)).block();
+
+        assertThat(cache.uploads()).isEqualTo(1);
+        for (Prompt p : prompts) {
+            assertThat(text(p, MessageType.SYSTEM)).isNull();
+            assertThat(p.getOptions()).isInstanceOfSatisfying(GoogleGenAiChatOptions.class, o -> {
+                assertThat(o.getCachedContentName()).isEqualTo("cachedContents/local-ad-guides");
+                assertThat(o.getUseCachedContent()).isTrue();
+            });
+        }
+    }
+
+    /**
+     * 운영과 같은 reactive 경로 (reactiveChatClient + 호출 한도/single-flight, 응답 캐시는 끔)
+     */
+    private AdCopyService service(PromptPrefixCache cache) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        return new AdCopyService(
+                provider(null),
+                new ObjectMapper(),
+                new AiResponseCache(null, new ObjectMapper(), false, 0),
+                new AiSingleFlight(registry),
+                new AiCallLimiter(new AiLimiterProperties(4, 1, 4, 16,
+                        Duration.ofSeconds(5), Duration.ofSeconds(5), 0.7), registry),
+                null,
+                new AiUsageRecorder(registry, new AiCallLogWriter(null, registry, false, 100, 100)),
+                provider(cache),
+                provider(ChatClient.create(chatModel)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T value) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(value);
+        return provider;
+    }
+
+    private static String text(Prompt prompt, MessageType type) {
+        return prompt.getInstructions().stream()
+                .filter(m -> m.getMessageType() == type)
+                .map(m -> m.getText())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static AdGuideAiRequest request(int focus, int target) {
+        return request(focus, target, "바삭하고 고소해요", List.of("벚꽃"));
+    }
+
+    private static AdGuideAiRequest request(int focus, int target, String reviewText, List<String> trendKeywords) {
+        return new AdGuideAiRequest(1L, "바삭칩", LocalDate.of(2026, 3, 1), "봄 캠페인", "", "", List.of("봄"),
+                "", focus, target, reviewText, trendKeywords, List.of("#봄간식"), "산뜻한", "", "",
+                List.of());
+    }
+
+    /**
+     * 테스트용 로컬 stand-in: system 텍스트별로 가짜 핸들을 1번만 발급
+     */
+    static final class LocalPromptPrefixCache implements PromptPrefixCache {
+        private final Map<String, String> handles = new HashMap<>();
+        private int uploads;
+
+        @Override
+        public synchronized String handle(String op, String systemText) {
+            return handles.computeIfAbsent(op + systemText, k -> {
+                uploads++;
+                return "cachedContents/local-" + op;
+            });
+        }
+
+        synchronized int uploads() {
+            return uploads;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.domain.ai.config.AiLimiterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * AiCallLimiter 단위 테스트
+ *
+ * 한도/대기열 초과 시 즉시 실패하고, 슬롯 반환 후 대기 요청이 실행되는지 검증합니다.
+ */
+class AiCallLimiterTest {
+
+    private AiCallLimiter limiter;
+
+    @AfterEach
+    void tearDown() {
+        if (limiter != null) {
+            limiter.shutdown();
+        }
+    }
+
+    private AiCallLimiter limiter(int limit, int queueCapacity) {
+        AiLimiterProperties props = new AiLimiterProperties(limit, limit, limit, queueCapacity,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), 0.5);
+        limiter = new AiCallLimiter(props, new SimpleMeterRegistry());
+        return limiter;
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 레인] 한도 + 대기열이 가득 차면 AD_GUIDE_GENERATION_FAILED로 즉시 실패")
+    void execute_overflow_failsFast() throws Exception {
+        AiCallLimiter limiter = limiter(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Disposable running = limiter.execute(() -> release.await(5, TimeUnit.SECONDS)).subscribe();
+        await().atMost(Duration.ofSeconds(2)).until(() -> limiter.inFlight() == 1);
+        Disposable queued = limiter.execute(() -> "queued").subscribe();
+        assertThat(limiter.queued()).isEqualTo(1);
+
+        StepVerifier.create(limiter.execute(() -> "overflow"))
+                .expectErrorSatisfies(e -> assertThat(((ApiException) e).errorCode())
+                        .isEqualTo(ErrorCode.AD_GUIDE_GENERATION_FAILED))
+                .verify(Duration.ofSeconds(1));
+
+        release.countDown();
+        await().atMost(Duration.ofSeconds(2)).until(() -> limiter.inFlight() == 0 && limiter.queued() == 0);
+        running.dispose();
+        queued.dispose();
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 레인] 대기 중인 요청은 앞 요청이 끝나면 실행")
+    void execute_queuedRunsAfterRelease() {
+        AiCallLimiter limiter = limiter(1, 4);
+        Sinks.One<String> held = Sinks.one();
+        Disposable running = limiter.executeAsync(held::asMono).subscribe();
+        await().atMost(Duration.ofSeconds(2)).until(() -> limiter.inFlight() == 1);
+
+        StepVerifier.create(limiter.execute(() -> "b"))
+                .then(() -> {
+                    // 앞 요청이 슬롯을 잡고 있는 동안은 대기열에 있다
+                    assertThat(limiter.inFlight()).isEqualTo(1);
+                    assertThat(limiter.queued()).isEqualTo(1);
+                })
+                .expectNoEvent(Duration.ofMillis(200))
+                .then(() -> held.tryEmitValue("a"))
+                .expectNext("b")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> limiter.inFlight() == 0 && limiter.queued() == 0);
+        running.dispose();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.ai.config.AiHedgeProperties;
+import com.example.chillgram.domain.ai.config.AiLimiterProperties;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AiHedgedCaller 단위 테스트 (가상 시간)
+ *
+ * 헤지 지연 전후로 어느 쪽 응답이 채택되는지, 헤지 메트릭이 기록되는지 검증합니다.
+ * 헤지 지연은 최근 샘플로만 계산하고, 한가한 뒤에는 initialDelay로 돌아가는지 검증합니다.
+ * 한도 슬롯이 없으면 헤지를 생략하고, 경쟁에서 진 요청의 latency도 기록하는지 검증합니다.
+ */
+class AiHedgedCallerTest {
+
+    private MockClock clock;
+    private SimpleMeterRegistry registry;
+    private AiHedgedCaller caller;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MockClock();
+        registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        caller = caller(20, limiter(100));
+    }
+
+    private AiHedgedCaller caller(long minSamples, AiCallLimiter limiter) {
+        AiHedgeProperties props = new AiHedgeProperties(true, "flash-lite", 0.95, minSamples,
+                Duration.ofSeconds(3), Duration.ofSeconds(1), Duration.ofSeconds(10), 50, Duration.ofMinutes(10));
+        return new AiHedgedCaller(props, limiter, registry, "flash");
+    }
+
+    private AiCallLimiter limiter(int limit) {
+        return new AiCallLimiter(new AiLimiterProperties(limit, limit, limit, 10,
+                Duration.ofSeconds(30), Duration.ofSeconds(60), 0.7), registry);
+    }
+
+    @Test
+    @DisplayName("🧪 [헤지] 기본 모델이 지연보다 느리면 헤지 모델 응답 채택")
+    void execute_slowPrimary_hedgeWins() {
+        List<String> requestedModels = new ArrayList<>();
+
+        StepVerifier.withVirtualTime(() -> caller.execute("final-copies", model -> {
+                    requestedModels.add(String.valueOf(model));
+                    return model == null
+                            ? Mono.just("primary").delayElement(Duration.ofSeconds(30))
+                            : Mono.just("hedge").delayElement(Duration.ofSeconds(1));
+                }))
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(requestedModels).containsExactly("null", "flash-lite");
+        assertThat(registry.get("ai.hedge.wins").tag("winner", "hedge").counter().count()).isEqualTo(1.0);
+        // 진 기본 요청도 취소 시점까지의 latency를 기록
+        assertThat(registry.get("ai.call.latency").tag("model", "flash").tag("outcome", "cancelled")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("ai.call.latency").tag("model", "flash-lite").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("🧪 [헤지] 헤지에 져서 취소된 기본 요청 latency도 지연 계산 창에 들어감")
+    void execute_lostPrimary_recordedInWindow() {
+        AiHedgedCaller caller = caller(1, limiter(100));
+        assertThat(caller.hedgeDelay("final-copies")).isEqualTo(Duration.ofSeconds(3));
+
+        StepVerifier.withVirtualTime(() -> caller.execute("final-copies", model -> model == null
+                        ? Mono.just("primary").delayElement(Duration.ofSeconds(30))
+                        : Mono.just("hedge")))
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        // 샘플 1개(취소 시점까지, 실제 시간 수 ms) → initialDelay가 아닌 백분위 지연(minDelay로 고정)
+        assertThat(caller.hedgeDelay("final-copies")).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("🧪 [헤지] 한도 슬롯이 없으면 헤지를 생략하고 기본 요청 결과/에러를 그대로 전달")
+    void execute_limiterFull_skipsHedge() {
+        AiCallLimiter limiter = limiter(1);
+        AiHedgedCaller caller = caller(20, limiter);
+        List<String> requestedModels = new ArrayList<>();
+
+        StepVerifier.withVirtualTime(() -> caller.execute("final-copies", model -> {
+                    requestedModels.add(String.valueOf(model));
+                    return limiter.executeAsync(() -> Mono.just("primary").delayElement(Duration.ofSeconds(30)));
+                }))
+                .thenAwait(Duration.ofSeconds(30))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(requestedModels).containsExactly("null");
+        assertThat(registry.get("ai.hedge.skipped").counter().count()).isEqualTo(1.0);
+        assertThat(registry.find("ai.hedge.fired").counter()).isNull();
+
+        StepVerifier.withVirtualTime(() -> caller.execute("final-copies", model -> limiter.executeAsync(
+                        () -> Mono.<String>error(new IllegalStateException("503"))
+                                .delaySubscription(Duration.ofSeconds(5)))))
+                .thenAwait(Duration.ofSeconds(5))
+                .expectErrorMessage("503")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("🧪 [헤지] 기본 모델이 지연 안에 응답하면 헤지 요청을 보내지 않음")
+    void execute_fastPrimary_noHedge() {
+        List<String> requestedModels = new ArrayList<>();
+
+        StepVerifier.withVirtualTime(() -> caller.execute("final-copies", model -> {
+                    requestedModels.add(String.valueOf(model));
+                    return Mono.just("primary").delayElement(Duration.ofSeconds(1));
+                }))
+                .thenAwait(Duration.ofSeconds(2))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(requestedModels).containsExactly("null");
+        assertThat(registry.find("ai.hedge.fired").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("🧪 [헤지] 기본 요청이 먼저 실패하면 지연 없이 바로 헤지")
+    void execute_primaryFails_hedgesImmediately() {
+        StepVerifier.withVirtualTime(() -> caller.execute("final-copies", model -> model == null
+                        ? Mono.<String>error(new IllegalStateException("503"))
+                        : Mono.just("hedge")))
+                .expectNext("hedge")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("🧪 [헤지] 최근 샘플이 충분하면 백분위 지연, 한가한 뒤(windowAge 경과)에는 initialDelay")
+    void hedgeDelay_idleFallsBackToInitialDelay() {
+        assertThat(caller.hedgeDelay("final-copies")).isEqualTo(Duration.ofSeconds(3));
+
+        for (int i = 0; i < 20; i++) {
+            caller.execute("final-copies", model -> Mono.just("ok").delayElement(Duration.ofMillis(5))).block();
+        }
+        // p95 ≈ 5ms → minDelay로 고정
+        assertThat(caller.hedgeDelay("final-copies")).isEqualTo(Duration.ofSeconds(1));
+
+        clock.add(Duration.ofMinutes(11));
+
+        assertThat(caller.hedgeDelay("final-copies")).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("🧪 [헤지] latency 창은 최근 window개만 보고 백분위를 계산")
+    void latencyWindow_percentileOfRecentSamples() {
+        AiHedgedCaller.LatencyWindow window = new AiHedgedCaller.LatencyWindow(10);
+        for (int i = 1; i <= 100; i++) {
+            window.record(i, i);
+        }
+
+        // 남은 샘플 91~100
+        assertThat(window.percentile(0.5, 0, 10)).isEqualTo(95);
+        assertThat(window.percentile(0.95, 0, 10)).isEqualTo(100);
+        assertThat(window.percentile(0.95, 0, 11)).isEqualTo(-1);
+        // 96 이후만 → 5개
+        assertThat(window.percentile(0.5, 96, 5)).isEqualTo(98);
+        assertThat(window.percentile(0.5, 96, 6)).isEqualTo(-1);
+    }
+}
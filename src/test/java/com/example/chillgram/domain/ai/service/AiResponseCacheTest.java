@@ -0,0 +1,161 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AiResponseCache 단위 테스트
+ *
+ * 공백만 다른 프롬프트가 같은 해시가 되는지, hit 시 loader를 건너뛰고 miss 시 결과를 저장하는지,
+ * 저장하면 안 되는 결과(fallback)는 건너뛰는지, 제품 단위 무효화가 인덱스로 항목을 지우는지,
+ * 스크립트 없이 키 1개짜리 명령만 쓰는지(Redis Cluster) 검증합니다.
+ */
+class AiResponseCacheTest {
+
+    private static final TypeReference<Map<String, String>> TYPE = new TypeReference<>() {
+    };
+
+    private ReactiveStringRedisTemplate redis;
+    private ReactiveValueOperations<String, String> values;
+    private ReactiveSetOperations<String, String> sets;
+    private AiResponseCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(ReactiveStringRedisTemplate.class);
+        values = mock(ReactiveValueOperations.class);
+        sets = mock(ReactiveSetOperations.class);
+        doReturn(values).when(redis).opsForValue();
+        doReturn(sets).when(redis).opsForSet();
+        when(values.set(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+        when(sets.add(anyString(), any(String[].class))).thenReturn(Mono.just(1L));
+        when(redis.expire(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+        cache = new AiResponseCache(redis, new ObjectMapper(), true, 600);
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 캐시] 들여쓰기/공백/빈 줄만 다른 프롬프트는 같은 해시")
+    void promptHash_ignoresWhitespace() {
+        String a = cache.promptHash("system\n  rule one\n\n\nrule   two", "user  prompt");
+        String b = cache.promptHash("  system  \nrule one\nrule two\n", "user prompt\n\n");
+
+        assertThat(a).isEqualTo(b).hasSize(64);
+        assertThat(AiResponseCache.canonicalize("  a \t b\r\n\r\n c  ")).isEqualTo("a b\nc");
+        assertThat(AiResponseCache.canonicalize(null)).isEmpty();
+        // system/user 경계가 다르면 다른 해시
+        assertThat(cache.promptHash("ab", "c")).isNotEqualTo(cache.promptHash("a", "bc"));
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 캐시] hit이면 loader를 실행하지 않고 캐시 값을 반환")
+    void getOrLoad_hit() {
+        when(values.get("ai:resp:guide:7:h")).thenReturn(Mono.just("{\"title\":\"cached\"}"));
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<String, String> result = cache.getOrLoad("guide", 7L, "h", TYPE, v -> true,
+                Mono.fromCallable(() -> {
+                    calls.incrementAndGet();
+                    return Map.of("title", "fresh");
+                })).block();
+
+        assertThat(result).containsEntry("title", "cached");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 캐시] miss면 loader 결과를 반환하고 제품 인덱스와 함께 저장")
+    void getOrLoad_missStores() {
+        when(values.get("ai:resp:guide:7:h")).thenReturn(Mono.empty());
+
+        Map<String, String> result = cache.getOrLoad("guide", 7L, "h", TYPE, v -> true,
+                Mono.just(Map.of("title", "fresh"))).block();
+
+        assertThat(result).containsEntry("title", "fresh");
+        // 인덱스 먼저 (항목만 있고 인덱스에 없는 상태가 생기지 않게)
+        var order = inOrder(sets, redis, values);
+        order.verify(sets).add("ai:resp:idx:7", "ai:resp:guide:7:h");
+        order.verify(redis).expire("ai:resp:idx:7", Duration.ofSeconds(600));
+        order.verify(values).set("ai:resp:guide:7:h", "{\"title\":\"fresh\"}", Duration.ofSeconds(600));
+        verify(redis, never()).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 캐시] productId 없으면 인덱스 없이 SET, cacheable=false면 저장하지 않음")
+    void getOrLoad_nonCacheableBypass() {
+        when(values.get(anyString())).thenReturn(Mono.empty());
+
+        cache.getOrLoad("copy", null, "h1", TYPE, v -> true, Mono.just(Map.of("k", "v"))).block();
+        verify(values).set(eq("ai:resp:copy:-:h1"), eq("{\"k\":\"v\"}"), eq(Duration.ofSeconds(600)));
+        verify(sets, never()).add(anyString(), any(String[].class));
+
+        Map<String, String> fallback = cache.getOrLoad("copy", 7L, "h2", TYPE, v -> !v.containsKey("fallback"),
+                Mono.just(Map.of("fallback", "1"))).block();
+
+        assertThat(fallback).containsEntry("fallback", "1");
+        verify(values, never()).set(eq("ai:resp:copy:7:h2"), anyString(), any(Duration.class));
+        verify(sets, never()).add(eq("ai:resp:idx:7"), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 캐시] Redis 조회 실패 시 loader로 진행")
+    void getOrLoad_redisDownFallsThrough() {
+        when(values.get(anyString())).thenReturn(Mono.error(new IllegalStateException("redis down")));
+
+        Map<String, String> result = cache.getOrLoad("guide", 7L, "h", TYPE, v -> true,
+                Mono.just(Map.of("title", "fresh"))).block();
+
+        assertThat(result).containsEntry("title", "fresh");
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 캐시] evictProduct는 인덱스 항목을 하나씩 UNLINK하고, 읽은 항목만 인덱스에서 제거")
+    void evictProduct_unlinksEachEntry() {
+        when(sets.members("ai:resp:idx:7")).thenReturn(Flux.just("ai:resp:guide:7:a", "ai:resp:copy:7:b"));
+        when(redis.unlink(any(String[].class))).thenReturn(Mono.just(1L));
+        when(sets.remove(anyString(), any(Object[].class))).thenReturn(Mono.just(2L));
+
+        cache.evictProduct(7L).block();
+
+        verify(redis).unlink("ai:resp:guide:7:a");
+        verify(redis).unlink("ai:resp:copy:7:b");
+        verify(sets).remove("ai:resp:idx:7", "ai:resp:guide:7:a", "ai:resp:copy:7:b");
+        verify(redis, never()).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    @DisplayName("🧪 [AI 캐시] 인덱스가 비어 있으면 UNLINK/SREM 없음")
+    void evictProduct_emptyIndex() {
+        when(sets.members("ai:resp:idx:8")).thenReturn(Flux.empty());
+
+        cache.evictProduct(8L).block();
+
+        verify(redis, never()).unlink(any(String[].class));
+        verify(sets, never()).remove(anyString(), any(Object[].class));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.chillgram.domain.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AiSingleFlight 단위 테스트
+ *
+ * 동시 동일 요청이 upstream 1건을 공유하고, 종료 후에는 새로 호출되는지 검증합니다.
+ */
+class AiSingleFlightTest {
+
+    private SimpleMeterRegistry registry;
+    private AiSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        singleFlight = new AiSingleFlight(registry);
+    }
+
+    @Test
+    @DisplayName("🧪 [single-flight] 진행 중인 동일 키 요청 3건은 upstream 1회만 호출")
+    void execute_coalescesConcurrentCalls() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+
+        Flux<String> callers = Flux.range(0, 3)
+                .flatMap(i -> singleFlight.execute("ad-guides", "1:hash", () -> {
+                    upstreamCalls.incrementAndGet();
+                    return result.asMono();
+                }));
+
+        StepVerifier.create(callers)
+                .then(() -> {
+                    assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+                    result.tryEmitValue("guides");
+                })
+                .expectNext("guides", "guides", "guides")
+                .verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(registry.get("ai.singleflight.saved.calls").tag("op", "ad-guides").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("🧪 [single-flight] 끝난 요청은 공유하지 않고 다음 요청에서 다시 호출")
+    void execute_afterCompletion_callsAgain() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(singleFlight.execute("final-copies", "hash",
+                            () -> Mono.fromCallable(upstreamCalls::incrementAndGet)))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("🧪 [single-flight] upstream 실패도 합류한 호출자 모두에게 전달되고 레지스트리에서 제거")
+    void execute_errorPropagatesAndClears() {
+        Sinks.One<String> result = Sinks.one();
+
+        Flux<String> callers = Flux.range(0, 2)
+                .flatMap(i -> singleFlight.execute("ad-guides", "k", result::asMono));
+
+        StepVerifier.create(callers)
+                .then(() -> result.tryEmitError(new IllegalStateException("boom")))
+                .verifyError(IllegalStateException.class);
+
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.common.security.AuthPrincipal;
+import com.example.chillgram.domain.ai.repository.AiCallLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AiUsageRecorder 단위 테스트
+ *
+ * 토큰/파싱 메트릭이 회사 태그로 기록되는지, 취소된 호출도 모델 응답이 도착한 뒤 1번만 적재되는지 검증합니다.
+ */
+class AiUsageRecorderTest {
+
+    private SimpleMeterRegistry registry;
+    private AiCallLogRepository repository;
+    private AiUsageRecorder recorder;
+    private AiCallLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        repository = mock(AiCallLogRepository.class);
+        when(repository.insertBatch(anyList())).thenAnswer(inv -> Mono.just((long) inv.<List<?>>getArgument(0).size()));
+        writer = new AiCallLogWriter(repository, registry, true, 100, 100);
+        recorder = new AiUsageRecorder(registry, writer);
+    }
+
+    @Test
+    @DisplayName("🧪 [사용량] 토큰/파싱 결과를 op·model·company 태그로 기록하고 배치 적재")
+    void track_recordsTokensAndParse_taggedByCompany() {
+        var auth = new UsernamePasswordAuthenticationToken(new AuthPrincipal(1L, 42L, "USER"), null, List.of());
+
+        String result = recorder.track("ad-guides", 7L, "hash", r -> false,
+                        rec -> Mono.fromCallable(() -> simulateModel(rec, 120, 30)))
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth))
+                .block();
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(registry.get("ai.usage.tokens").tag("company", "42").tag("type", "prompt")
+                .tag("model", "gemini-test").counter().count()).isEqualTo(120);
+        assertThat(registry.get("ai.usage.tokens").tag("type", "completion").counter().count()).isEqualTo(30);
+        assertThat(registry.get("ai.usage.parse").tag("op", "ad-guides").tag("result", "failure")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("ai.usage.latency").tag("outcome", "success").timer().count()).isEqualTo(1);
+
+        writer.flush();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AiCallRecord>> rows = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertBatch(rows.capture());
+        assertThat(rows.getValue()).singleElement().satisfies(r -> {
+            assertThat(r.companyId()).isEqualTo(42L);
+            assertThat(r.productId()).isEqualTo(7L);
+            assertThat(r.parseSuccess()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("🧪 [사용량] 취소된 호출은 모델 응답 도착 후에 토큰 포함해서 1번만 기록")
+    void track_cancelled_waitsForModelResponse() {
+        Sinks.One<String> never = Sinks.one();
+        AiCallRecord[] holder = new AiCallRecord[1];
+
+        recorder.track("final-copies", null, "hash", r -> true, rec -> {
+                    holder[0] = rec;
+                    rec.modelStarted();
+                    return never.asMono();
+                })
+                .subscribe()
+                .dispose();
+
+        assertThat(registry.find("ai.usage.latency").timer()).isNull();
+
+        holder[0].modelFinished(1_000_000, response(50, 0), null);
+        recorder.modelDone(holder[0]);
+        recorder.modelDone(holder[0]);
+
+        assertThat(registry.get("ai.usage.latency").tag("outcome", "cancelled").tag("company", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("ai.usage.tokens").tag("type", "prompt").counter().count()).isEqualTo(50);
+        assertThat(registry.find("ai.usage.parse").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("🧪 [사용량] 적재 비활성화 시 큐에 쌓지 않음")
+    void writer_disabled_skipsInsert() {
+        AiCallLogWriter disabled = new AiCallLogWriter(repository, new SimpleMeterRegistry(), false, 100, 100);
+        AiUsageRecorder r = new AiUsageRecorder(new SimpleMeterRegistry(), disabled);
+
+        r.track("copy-variations", null, "hash", v -> true, rec -> Mono.just("x")).block();
+        disabled.flush();
+
+        verify(repository, never()).insertBatch(anyList());
+    }
+
+    private String simulateModel(AiCallRecord rec, int promptTokens, int completionTokens) {
+        rec.modelStarted();
+        rec.modelFinished(5_000_000, response(promptTokens, completionTokens), null);
+        recorder.modelDone(rec);
+        return "ok";
+    }
+
+    private static ChatResponse response(int promptTokens, int completionTokens) {
+        return new ChatResponse(List.of(), ChatResponseMetadata.builder()
+                .model("gemini-test")
+                .usage(new DefaultUsage(promptTokens, completionTokens))
+                .build());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.ai.google.genai.common.GoogleGenAiSafetySetting;
+import org.springframework.ai.google.genai.common.GoogleGenAiSafetySetting.HarmBlockMethod;
+import org.springframework.ai.google.genai.common.GoogleGenAiSafetySetting.HarmBlockThreshold;
+import org.springframework.ai.google.genai.common.GoogleGenAiSafetySetting.HarmCategory;
+import org.springframework.ai.google.genai.common.GoogleGenAiThinkingLevel;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GeminiSseChatModel 요청 본문 테스트 (로컬 가짜 Gemini SSE 서버)
+ *
+ * 설정 기본값(spring.ai.google.genai.chat.options.*)이 매 요청에 실리고, 요청별 옵션은 그 위에 덮어쓰는지 검증합니다.
+ */
+class GeminiSseChatModelTest {
+
+    private static final String CHUNK = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"ok\"}]}}]}\n\n";
+
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private final List<JsonNode> bodies = new CopyOnWriteArrayList<>();
+    private final ObjectMapper om = new ObjectMapper();
+    private DisposableServer server;
+    private GeminiSseChatModel model;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((req, res) -> req.receive().aggregate().asString()
+                        .flatMap(body -> Mono.fromCallable(() -> {
+                            paths.add(req.uri());
+                            bodies.add(om.readTree(body));
+                            return body;
+                        }))
+                        .thenMany(res.header("Content-Type", "text/event-stream").sendString(Mono.just(CHUNK))))
+                .bindNow();
+
+        GoogleGenAiChatOptions defaults = GoogleGenAiChatOptions.builder()
+                .model("gemini-default")
+                .temperature(0.2)
+                .topK(20)
+                .maxOutputTokens(2048)
+                .thinkingLevel(GoogleGenAiThinkingLevel.HIGH)
+                .includeThoughts(false)
+                .safetySettings(List.of(new GoogleGenAiSafetySetting(HarmCategory.HARM_CATEGORY_HARASSMENT,
+                        HarmBlockThreshold.BLOCK_ONLY_HIGH, HarmBlockMethod.HARM_BLOCK_METHOD_UNSPECIFIED)))
+                .build();
+        model = new GeminiSseChatModel(
+                WebClient.create("http://127.0.0.1:" + server.port() + "/v1beta"), om, defaults);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("🧪 [Gemini SSE] 요청 옵션이 없으면 설정 기본값(model/generationConfig/thinking/safety)을 그대로 보냄")
+    void noRequestOptions_sendsConfiguredDefaults() {
+        ChatResponse res = model.call(new Prompt(List.of(new SystemMessage("sys"), new UserMessage("hi"))));
+
+        assertThat(res.getResult().getOutput().getText()).isEqualTo("ok");
+        assertThat(paths).containsExactly("/v1beta/models/gemini-default:streamGenerateContent?alt=sse");
+        JsonNode body = bodies.get(0);
+        JsonNode config = body.path("generationConfig");
+        assertThat(config.path("temperature").asDouble()).isEqualTo(0.2);
+        assertThat(config.path("topK").asInt()).isEqualTo(20);
+        assertThat(config.path("maxOutputTokens").asInt()).isEqualTo(2048);
+        assertThat(config.path("thinkingConfig").path("thinkingLevel").asText()).isEqualTo("HIGH");
+        assertThat(config.path("thinkingConfig").path("includeThoughts").asBoolean(true)).isFalse();
+        assertThat(body.path("safetySettings").path(0).path("category").asText()).isEqualTo("HARM_CATEGORY_HARASSMENT");
+        assertThat(body.path("safetySettings").path(0).path("threshold").asText()).isEqualTo("BLOCK_ONLY_HIGH");
+        assertThat(body.path("systemInstruction").path("parts").path(0).path("text").asText()).isEqualTo("sys");
+    }
+
+    @Test
+    @DisplayName("🧪 [Gemini SSE] 요청 옵션(헤지 model, cachedContent)은 덮어쓰고 나머지 설정값은 유지")
+    void requestOptions_overrideOnlyWhatTheySet() {
+        model.call(new Prompt(List.of(new UserMessage("hi")), GoogleGenAiChatOptions.builder()
+                .model("gemini-hedge")
+                .cachedContentName("cachedContents/abc")
+                .useCachedContent(true)
+                .build()));
+
+        assertThat(paths).containsExactly("/v1beta/models/gemini-hedge:streamGenerateContent?alt=sse");
+        JsonNode body = bodies.get(0);
+        assertThat(body.path("cachedContent").asText()).isEqualTo("cachedContents/abc");
+        assertThat(body.path("generationConfig").path("temperature").asDouble()).isEqualTo(0.2);
+        assertThat(body.path("generationConfig").path("thinkingConfig").path("thinkingLevel").asText())
+                .isEqualTo("HIGH");
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.chillgram.domain.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GuideBlockStreamParser 단위 테스트
+ *
+ * 청크 경계에서 태그가 잘려도 블록이 정확히 1번씩 방출되는지 검증합니다.
+ */
+class GuideBlockStreamParserTest {
+
+    @Test
+    @DisplayName("🧪 [스트리밍 파싱] 태그가 청크 경계에서 잘려도 닫히는 시점에 블록 방출")
+    void feed_splitTags() {
+        GuideBlockStreamParser parser = new GuideBlockStreamParser();
+
+        assertThat(parser.feed("intro [GUIDE_ST")).isEmpty();
+        assertThat(parser.feed("ART]\n제목: **A**\n[GUIDE_")).isEmpty();
+        assertThat(parser.feed("END][GUIDE_START]제목: B")).containsExactly("\n제목: A\n");
+        assertThat(parser.feed("[GUIDE_END]")).containsExactly("제목: B");
+        assertThat(parser.emittedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("🧪 [스트리밍 파싱] 한 청크에 여러 블록이 있으면 순서대로 모두 방출")
+    void feed_multipleBlocksInOneChunk() {
+        GuideBlockStreamParser parser = new GuideBlockStreamParser();
+
+        List<String> blocks = parser.feed("[GUIDE_START]1[GUIDE_END] [GUIDE_START]2[GUIDE_END]");
+
+        assertThat(blocks).containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("🧪 [스트리밍 파싱] 블록이 하나도 없으면 잔여 텍스트를 그대로 보관")
+    void remainder_noBlocks() {
+        GuideBlockStreamParser parser = new GuideBlockStreamParser();
+
+        parser.feed("형식을 **무시한** ");
+        parser.feed("응답");
+
+        assertThat(parser.emittedCount()).isZero();
+        assertThat(parser.remainder()).isEqualTo("형식을 무시한 응답");
+    }
+}
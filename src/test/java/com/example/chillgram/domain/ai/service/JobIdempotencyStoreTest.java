@@ -0,0 +1,78 @@
+package com.example.chillgram.domain.ai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobIdempotencyStore 단위 테스트
+ *
+ * 클라이언트 Idempotency-Key만 Redis에 기록/조회하고, 키가 없는 요청(payload dedup)은 Redis를 거치지 않는지 검증합니다.
+ */
+class JobIdempotencyStoreTest {
+
+    private ReactiveStringRedisTemplate redis;
+    private ReactiveValueOperations<String, String> values;
+    private JobIdempotencyStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(ReactiveStringRedisTemplate.class);
+        values = mock(ReactiveValueOperations.class);
+        doReturn(values).when(redis).opsForValue();
+        store = new JobIdempotencyStore(redis, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("🧪 [멱등 키] 키 없는 요청은 Redis 조회/저장 없이 DB 판단으로")
+    void noClientKey_skipsRedis() {
+        assertThat(store.findAll(Arrays.asList(null, null)).block()).isEmpty();
+        store.remember(null, UUID.randomUUID()).block();
+
+        verify(values, never()).multiGet(anyList());
+        verify(values, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("🧪 [멱등 키] 클라이언트 키는 MGET으로 찾고, 키 없는 자리는 index만 맞춤")
+    void clientKey_foundByIndex() {
+        UUID jobId = UUID.randomUUID();
+        when(values.multiGet(List.of("job:idem:key:", "job:idem:key:basic:1:k")))
+                .thenReturn(Mono.just(Arrays.asList(null, jobId.toString())));
+
+        Map<Integer, UUID> found = store.findAll(Arrays.asList(null, "basic:1:k")).block();
+
+        assertThat(found).containsExactly(Map.entry(1, jobId));
+    }
+
+    @Test
+    @DisplayName("🧪 [멱등 키] 커밋된 job은 key-ttl로 기록, Redis 실패는 무시")
+    void remember_setsWithTtl() {
+        UUID jobId = UUID.randomUUID();
+        when(values.set(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        store.remember("basic:1:k", jobId).block();
+
+        verify(values).set("job:idem:key:basic:1:k", jobId.toString(), Duration.ofHours(24));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.common.google.FileStorage;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResultRequest;
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.messaging.JobEventBroadcaster;
+import com.example.chillgram.domain.ai.repository.JobSideEffectRepository;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import com.example.chillgram.domain.content.service.ContentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobService.applyResults 단위 테스트
+ *
+ * job 조회 1번 + 대상별 set update로 반영하고, 재시도해도 안 되는 결과만 사유와 함께 돌려주는지 검증합니다.
+ */
+class JobServiceApplyResultsTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private JobTaskRepository jobRepo;
+    private JobSideEffectRepository sideEffects;
+    private JobEventBroadcaster events;
+    private JobStatusCache statusCache;
+    private JobService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo = mock(JobTaskRepository.class);
+        sideEffects = mock(JobSideEffectRepository.class);
+        events = mock(JobEventBroadcaster.class);
+        when(events.publishAll(any())).thenReturn(Mono.empty());
+        statusCache = mock(JobStatusCache.class);
+        when(statusCache.putAll(any())).thenReturn(Mono.empty());
+        TenantJobLimiter limiter = mock(TenantJobLimiter.class);
+        when(limiter.releaseAll(any())).thenReturn(Mono.empty());
+        TransactionalOperator tx = mock(TransactionalOperator.class);
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        FileStorage gcs = mock(FileStorage.class);
+        when(gcs.toPublicUrl(anyString())).thenAnswer(inv -> inv.getArgument(0, String.class).replace("gs://", "https://"));
+        ContentService contentService = mock(ContentService.class);
+        when(contentService.markContentFailed(any())).thenReturn(Mono.empty());
+
+        when(jobRepo.markSucceededAll(anyList(), anyList(), any())).thenReturn(Mono.just(0L));
+        when(jobRepo.markFailedAll(anyList(), anyList(), anyList(), any())).thenReturn(Mono.just(0L));
+
+        service = new JobService(jobRepo, null, tx, om, "chillgram.jobs", contentService, null, gcs, sideEffects, events, statusCache,
+                new JobLaneProperties(false, null, null, null), limiter,
+                mock(JobIdempotencyStore.class));
+    }
+
+    @Test
+    @DisplayName("🧪 [결과 배치] 대상별 set update 후 반영된 job만 성공 처리, 없는 job/content는 poison")
+    void applyResults_setBasedUpdates_returnsPoison() {
+        UUID banner = UUID.randomUUID();
+        UUID dieline = UUID.randomUUID();
+        UUID orphan = UUID.randomUUID();
+        UUID failed = UUID.randomUUID();
+        UUID done = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+
+        when(jobRepo.findAllByIds(anyCollection())).thenReturn(Flux.just(
+                job(banner, JobType.BANNER, JobStatus.REQUESTED, "{\"contentId\":10,\"bannerRatio\":2}"),
+                job(dieline, JobType.DIELINE, JobStatus.RUNNING, "{\"projectId\":5}"),
+                job(orphan, JobType.SNS, JobStatus.REQUESTED, "{\"contentId\":99}"),
+                job(failed, JobType.VIDEO, JobStatus.RUNNING, "{\"contentId\":11}"),
+                job(done, JobType.SNS, JobStatus.SUCCEEDED, "{\"contentId\":12}")));
+        when(sideEffects.applyContentMedia(anyList(), anyList(), anyList())).thenReturn(Flux.just(10L));
+        when(sideEffects.applyContentMockup(anyList(), anyList(), any())).thenReturn(Flux.empty());
+        when(sideEffects.applyProjectMockup(anyList(), anyList(), any())).thenReturn(Flux.just(5L));
+
+        Map<UUID, JobResultRequest> results = new LinkedHashMap<>();
+        results.put(banner, ok("gs://b/banner.png"));
+        results.put(dieline, ok("gs://b/mockup.png"));
+        results.put(orphan, ok("gs://b/orphan.png"));
+        results.put(failed, new JobResultRequest(false, null, null, "boom"));
+        results.put(done, ok("gs://b/again.png"));
+        results.put(unknown, ok("gs://b/x.png"));
+
+        Map<UUID, String> poison = service.applyResults(results).block();
+
+        assertThat(poison).containsOnlyKeys(orphan, unknown);
+        verify(jobRepo, times(1)).findAllByIds(anyCollection());
+        verify(sideEffects).applyContentMedia(List.of(10L, 99L),
+                List.of("https://b/banner.png", "https://b/orphan.png"), Arrays.asList(2, null));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> succeeded = ArgumentCaptor.forClass(List.class);
+        verify(jobRepo).markSucceededAll(succeeded.capture(), eq(List.of("https://b/banner.png", "https://b/mockup.png")), any());
+        assertThat(succeeded.getValue()).containsExactly(banner, dieline);
+        verify(jobRepo).markFailedAll(eq(List.of(failed)), eq(List.of("WORKER_FAILED")), eq(List.of("boom")), any());
+        verify(jobRepo, never()).findById(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<JobStatusEvent>> published = ArgumentCaptor.forClass(Iterable.class);
+        verify(events).publishAll(published.capture());
+        assertThat(published.getValue())
+                .extracting(JobStatusEvent::jobId, JobStatusEvent::status)
+                .containsExactly(
+                        tuple(banner, JobStatus.SUCCEEDED),
+                        tuple(dieline, JobStatus.SUCCEEDED),
+                        tuple(failed, JobStatus.FAILED));
+    }
+
+    private JobResponse job(UUID id, JobType type, JobStatus status, String payload) {
+        try {
+            return new JobResponse(id, 1L, type, status, om.readTree(payload), null, null, null,
+                    OffsetDateTime.now(), OffsetDateTime.now());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JobResultRequest ok(String uri) {
+        return new JobResultRequest(true, uri, null, null);
+    }
+}
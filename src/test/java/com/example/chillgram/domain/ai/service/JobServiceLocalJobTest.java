@@ -0,0 +1,85 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.messaging.JobEventBroadcaster;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobService 서버 내 작업(AD_GUIDES 배치 등) 상태 전이 단위 테스트
+ *
+ * REQUESTED/FAILED에서만 RUNNING으로 바뀌고, 이미 실행 중이거나 성공한 job은 409로 거절하는지 검증합니다.
+ */
+class JobServiceLocalJobTest {
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    private JobTaskRepository jobRepo;
+    private JobStatusCache statusCache;
+    private JobEventBroadcaster events;
+    private JobService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo = mock(JobTaskRepository.class);
+        statusCache = mock(JobStatusCache.class);
+        events = mock(JobEventBroadcaster.class);
+        when(statusCache.put(any())).thenReturn(Mono.empty());
+        when(statusCache.evict(any())).thenReturn(Mono.empty());
+        when(events.publish(any())).thenReturn(Mono.empty());
+        service = new JobService(jobRepo, null, null, new ObjectMapper(), "chillgram.jobs", null, null, null, null,
+                events, statusCache, new JobLaneProperties(false, null, null, null), null, null);
+    }
+
+    @Test
+    @DisplayName("🧪 [로컬 job] FAILED/REQUESTED → RUNNING 전이되면 캐시 비우고 갱신 + 구독자에게 발행")
+    void markRunning_transitions() {
+        JobResponse running = job(JobStatus.RUNNING);
+        when(jobRepo.markRunning(eq(JOB_ID), any())).thenReturn(Mono.just(running));
+
+        service.markRunning(JOB_ID).block();
+
+        verify(statusCache).evict(JOB_ID);
+        verify(statusCache).put(running);
+        verify(events).publish(JobStatusEvent.of(running));
+    }
+
+    @Test
+    @DisplayName("🧪 [로컬 job] 이미 RUNNING/SUCCEEDED라 바뀐 행이 없으면 409 CONFLICT, 발행 없음")
+    void markRunning_conflict() {
+        when(jobRepo.markRunning(eq(JOB_ID), any())).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> service.markRunning(JOB_ID).block())
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.errorCode()).isEqualTo(ErrorCode.CONFLICT));
+        verify(statusCache, never()).put(any());
+        verify(events, never()).publish(any());
+    }
+
+    private static JobResponse job(JobStatus status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new JobResponse(JOB_ID, 0L, JobType.AD_GUIDES, status, null, null, null, null, now, now);
+    }
+}
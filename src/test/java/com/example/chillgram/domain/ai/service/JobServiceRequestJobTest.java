@@ -0,0 +1,169 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.domain.advertising.dto.jobs.CreateJobRequest;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobLane;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.messaging.JobEventBroadcaster;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository.NewJob;
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import com.example.chillgram.domain.project.entity.Project;
+import com.example.chillgram.domain.project.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobService.requestJob lane/회사별 상한/멱등 단위 테스트
+ *
+ * JobType의 lane 큐로 발행하고, 회사별 상한을 넘으면 job을 만들지 않고 JOB_QUOTA_EXCEEDED로 거절하는지,
+ * 같은 요청이 반복되면 outbox 발행 없이 원래 jobId를 돌려주는지 검증합니다.
+ */
+class JobServiceRequestJobTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private JobTaskRepository jobRepo;
+    private OutboxEventRepository outboxRepo;
+    private TenantJobLimiter limiter;
+    private JobIdempotencyStore idempotencyStore;
+    private JobService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo = mock(JobTaskRepository.class);
+        outboxRepo = mock(OutboxEventRepository.class);
+        limiter = mock(TenantJobLimiter.class);
+        idempotencyStore = mock(JobIdempotencyStore.class);
+        ProjectRepository projectRepo = mock(ProjectRepository.class);
+        JobStatusCache statusCache = mock(JobStatusCache.class);
+        TransactionalOperator tx = mock(TransactionalOperator.class);
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        // 충돌 없음: 넘겨받은 job 전부 insert
+        when(jobRepo.insertRequestedAll(anyList(), any())).thenAnswer(inv -> Flux.fromIterable(
+                inv.<List<NewJob>>getArgument(0)).map(NewJob::jobId));
+        when(outboxRepo.insertOutboxAll(any(), any(), anyList(), anyList(), anyList(), anyList(), any()))
+                .thenReturn(Mono.empty());
+        when(statusCache.putAll(any())).thenReturn(Mono.empty());
+        when(limiter.releaseAll(any())).thenReturn(Mono.empty());
+        when(idempotencyStore.findAll(anyList())).thenReturn(Mono.just(Map.of()));
+        when(idempotencyStore.remember(any(), any())).thenReturn(Mono.empty());
+        when(projectRepo.findById(5L)).thenReturn(Mono.just(Project.builder().id(5L).companyId(42L).build()));
+
+        JobLaneProperties lanes = new JobLaneProperties(true, Set.of(JobType.BASIC, JobType.BANNER),
+                Map.of(JobLane.BULK, 2), Duration.ofHours(2));
+        service = new JobService(jobRepo, outboxRepo, tx, om, "chillgram.jobs", null, projectRepo, null, null,
+                mock(JobEventBroadcaster.class), statusCache, lanes, limiter, idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("🧪 [lane] BULK 작업은 회사 permit을 얻은 뒤 lane 큐로 발행")
+    void requestJob_routesToLaneQueue() {
+        when(limiter.tryAcquire(eq(42L), eq(JobLane.BULK), any())).thenReturn(Mono.just(true));
+
+        UUID jobId = service.requestJob(5L, new CreateJobRequest(JobType.VIDEO, om.createObjectNode()), null).block();
+
+        assertThat(jobId).isNotNull();
+        verify(outboxRepo).insertOutboxAll(eq("JOB"), eq("JOB_REQUESTED"), anyList(), eq(List.of(jobId)),
+                eq(List.of("chillgram.jobs.bulk.video")), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("🧪 [lane] 회사별 상한을 넘으면 job을 만들지 않고 JOB_QUOTA_EXCEEDED")
+    void requestJob_overTenantLimit_isRejected() {
+        when(limiter.tryAcquire(eq(42L), eq(JobLane.BULK), any())).thenReturn(Mono.just(false));
+
+        assertThatThrownBy(() -> service.requestJob(5L,
+                new CreateJobRequest(JobType.DIELINE, om.createObjectNode()), null).block())
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.errorCode()).isEqualTo(ErrorCode.JOB_QUOTA_EXCEEDED));
+        verify(jobRepo, never()).insertRequestedAll(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("🧪 [lane] 상한이 없는 INTERACTIVE lane은 permit 없이 바로 발행")
+    void requestJob_interactiveWithoutLimit_skipsPermit() {
+        UUID jobId = service.requestJob(5L, new CreateJobRequest(JobType.BASIC, om.createObjectNode()), null).block();
+
+        verify(limiter, never()).tryAcquire(anyLong(), any(), any());
+        verify(outboxRepo).insertOutboxAll(any(), any(), anyList(), eq(List.of(jobId)),
+                eq(List.of("chillgram.jobs.interactive.basic")), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("🧪 [idempotency] Redis에 같은 키가 있으면 DB/outbox 없이 원래 jobId 반환")
+    void requestJobOnce_redisHit_returnsOriginal() {
+        UUID original = UUID.randomUUID();
+        when(idempotencyStore.findAll(eq(List.of("basic:k1")))).thenReturn(Mono.just(Map.of(0, original)));
+
+        JobService.JobRequested r = service.requestJobOnce(5L,
+                new CreateJobRequest(JobType.BASIC, om.createObjectNode()), null, "basic:k1").block();
+
+        assertThat(r).isEqualTo(new JobService.JobRequested(original, true));
+        verify(jobRepo, never()).insertRequestedAll(anyList(), any());
+        verify(outboxRepo, never()).insertOutboxAll(any(), any(), anyList(), anyList(), anyList(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("🧪 [idempotency] unique index 충돌이면 outbox 없이 먼저 만든 jobId 반환 + permit 반납")
+    void requestJobOnce_uniqueConflict_returnsOriginal() {
+        UUID original = UUID.randomUUID();
+        when(limiter.tryAcquire(eq(42L), eq(JobLane.BULK), any())).thenReturn(Mono.just(true));
+        when(jobRepo.insertRequestedAll(anyList(), any())).thenReturn(Flux.empty());
+        when(jobRepo.findIdByKeys(eq("ad:1:k1:0"), any())).thenReturn(Mono.just(original));
+
+        JobService.JobRequested r = service.requestJobOnce(5L,
+                new CreateJobRequest(JobType.VIDEO, om.createObjectNode()), null, "ad:1:k1:0").block();
+
+        assertThat(r).isEqualTo(new JobService.JobRequested(original, true));
+        verify(outboxRepo).insertOutboxAll(any(), any(), eq(List.of()), eq(List.of()), eq(List.of()), eq(List.of()), any());
+        verify(limiter).releaseAll(argThat(ids -> ids.size() == 1 && !ids.contains(original)));
+    }
+
+    @Test
+    @DisplayName("🧪 [bulk] 여러 job을 insert 1번 + outbox 1번으로 요청, 멱등 키는 {key}:{index}")
+    void requestJobs_insertsAllAtOnce() {
+        List<CreateJobRequest> reqs = List.of(
+                new CreateJobRequest(JobType.BASIC, om.createObjectNode().put("n", 1)),
+                new CreateJobRequest(JobType.BANNER, om.createObjectNode().put("n", 2)),
+                new CreateJobRequest(JobType.BASIC, om.createObjectNode().put("n", 3)));
+
+        List<JobService.JobRequested> results = service.requestJobs(5L, reqs, null, "ad:1:k1").block();
+
+        assertThat(results).hasSize(3).noneMatch(JobService.JobRequested::replayed);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NewJob>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(jobRepo).insertRequestedAll(jobs.capture(), any());
+        assertThat(jobs.getValue()).extracting(NewJob::idempotencyKey)
+                .containsExactly("ad:1:k1:0", "ad:1:k1:1", "ad:1:k1:2");
+        assertThat(jobs.getValue()).extracting(NewJob::jobId)
+                .containsExactlyElementsOf(results.stream().map(JobService.JobRequested::jobId).toList());
+        verify(outboxRepo).insertOutboxAll(eq("JOB"), eq("JOB_REQUESTED"), anyList(),
+                eq(results.stream().map(JobService.JobRequested::jobId).toList()), anyList(), anyList(), any());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import com.example.chillgram.domain.advertising.dto.jobs.JobStatusEvent;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import com.example.chillgram.domain.ai.messaging.JobEventBroadcaster;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository;
+import com.example.chillgram.domain.ai.repository.JobTaskRepository.OverdueJob;
+import com.example.chillgram.domain.ai.repository.OutboxEventRepository;
+import com.example.chillgram.domain.content.service.ContentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobService.sweepOverdue 단위 테스트
+ *
+ * 기한 초과 job을 attempt 한도 안에서는 outbox로 재발행하고, 한도를 넘거나 서버 내 작업이면 TIMEOUT 실패 처리하는지 검증합니다.
+ */
+class JobServiceTimeoutTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private JobTaskRepository jobRepo;
+    private OutboxEventRepository outboxRepo;
+    private ContentService contentService;
+    private JobEventBroadcaster events;
+    private JobService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo = mock(JobTaskRepository.class);
+        outboxRepo = mock(OutboxEventRepository.class);
+        contentService = mock(ContentService.class);
+        events = mock(JobEventBroadcaster.class);
+        JobStatusCache statusCache = mock(JobStatusCache.class);
+        TransactionalOperator tx = mock(TransactionalOperator.class);
+        when(tx.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(contentService.markContentFailed(any())).thenReturn(Mono.empty());
+        when(outboxRepo.insertOutbox(any(), any(), any(), any(), any(), any(), any())).thenReturn(Mono.empty());
+        when(jobRepo.markFailedAll(anyList(), anyList(), anyList(), any())).thenReturn(Mono.just(0L));
+        when(jobRepo.markRetried(anyList(), any())).thenReturn(Mono.just(0L));
+        when(statusCache.putAll(any())).thenReturn(Mono.empty());
+        TenantJobLimiter limiter = mock(TenantJobLimiter.class);
+        when(limiter.releaseAll(any())).thenReturn(Mono.empty());
+        when(events.publishAll(any())).thenReturn(Mono.empty());
+
+        service = new JobService(jobRepo, outboxRepo, tx, om, "chillgram.jobs", contentService, null, null, null,
+                events, statusCache, new JobLaneProperties(false, null, null, null), limiter,
+                mock(JobIdempotencyStore.class));
+    }
+
+    @Test
+    @DisplayName("🧪 [타임아웃] attempt 한도 안이면 재발행, 넘으면 TIMEOUT 실패 + content 실패 처리")
+    void sweepOverdue_retriesUnderLimit_failsOverLimit() throws Exception {
+        UUID fresh = UUID.randomUUID();
+        UUID exhausted = UUID.randomUUID();
+        when(jobRepo.claimOverdue(eq(JobType.VIDEO), any(), any(), anyInt())).thenReturn(Flux.just(
+                new OverdueJob(job(fresh, JobType.VIDEO, "{\"contentId\":10}"), 0),
+                new OverdueJob(job(exhausted, JobType.VIDEO, "{\"contentId\":11}"), 2)));
+
+        JobService.TimeoutSweep result = service.sweepOverdue(JobType.VIDEO, Duration.ofMinutes(30), 2,
+                Duration.ofMinutes(1), 100).block();
+
+        assertThat(result).isEqualTo(new JobService.TimeoutSweep(1, 1));
+        ArgumentCaptor<JsonNode> event = ArgumentCaptor.forClass(JsonNode.class);
+        verify(outboxRepo).insertOutbox(any(), eq("JOB"), eq(fresh), eq("JOB_REQUESTED"), eq("chillgram.jobs"),
+                event.capture(), any());
+        assertThat(event.getValue().path("attempt").asInt()).isEqualTo(1);
+        assertThat(event.getValue().path("payload").path("contentId").asLong()).isEqualTo(10);
+        verify(jobRepo).markRetried(eq(List.of(fresh)), any());
+        verify(jobRepo).markFailedAll(eq(List.of(exhausted)), eq(List.of(JobService.TIMEOUT)), anyList(), any());
+        verify(contentService).markContentFailed(11L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<JobStatusEvent>> published = ArgumentCaptor.forClass(Iterable.class);
+        verify(events).publishAll(published.capture());
+        assertThat(published.getValue())
+                .extracting(JobStatusEvent::jobId, JobStatusEvent::status)
+                .containsExactlyInAnyOrder(tuple(fresh, JobStatus.REQUESTED), tuple(exhausted, JobStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("🧪 [타임아웃] 서버 내 작업(AD_GUIDES)은 재발행하지 않고 바로 TIMEOUT")
+    void sweepOverdue_localJobIsNeverRetried() throws Exception {
+        UUID local = UUID.randomUUID();
+        when(jobRepo.claimOverdue(eq(JobType.AD_GUIDES), any(), any(), anyInt())).thenReturn(Flux.just(
+                new OverdueJob(job(local, JobType.AD_GUIDES, "{\"productIds\":[1]}"), 0)));
+
+        JobService.TimeoutSweep result = service.sweepOverdue(JobType.AD_GUIDES, Duration.ofMinutes(30), 2,
+                Duration.ofMinutes(1), 100).block();
+
+        assertThat(result).isEqualTo(new JobService.TimeoutSweep(0, 1));
+        verify(outboxRepo, never()).insertOutbox(any(), any(), any(), any(), any(), any(), any());
+        verify(jobRepo).markFailedAll(eq(List.of(local)), eq(List.of(JobService.TIMEOUT)), anyList(), any());
+    }
+
+    private JobResponse job(UUID id, JobType type, String payload) throws Exception {
+        OffsetDateTime at = OffsetDateTime.now().minusHours(1);
+        return new JobResponse(id, 1L, type, JobStatus.REQUESTED, om.readTree(payload), null, null, null, at, at);
+    }
+}
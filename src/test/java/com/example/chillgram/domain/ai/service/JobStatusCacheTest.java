@@ -0,0 +1,107 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobStatus;
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobType;
+import com.example.chillgram.domain.advertising.dto.jobs.JobResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobStatusCache 단위 테스트
+ *
+ * 상태에 따라 TTL을 다르게 기록하고, 캐시 HASH를 payload 없는 JobResponse로 복원하는지 검증합니다.
+ */
+class JobStatusCacheTest {
+
+    private static final OffsetDateTime AT = OffsetDateTime.parse("2026-03-01T10:00:00+09:00");
+
+    private ReactiveStringRedisTemplate redis;
+    private JobStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(ReactiveStringRedisTemplate.class);
+        when(redis.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(1L));
+        cache = new JobStatusCache(redis, true, Duration.ofHours(24), Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("🧪 [job 상태 캐시] 종료 상태는 긴 TTL, 진행 중은 짧은 TTL로 전체 필드 기록")
+    void put_usesTtlByStatus() {
+        UUID running = UUID.randomUUID();
+        UUID done = UUID.randomUUID();
+
+        cache.put(job(running, JobStatus.RUNNING, null)).block();
+        cache.put(job(done, JobStatus.SUCCEEDED, "https://b/out.png")).block();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(redis).execute(any(RedisScript.class), eq(List.of("job:status:" + running)), args.capture());
+        assertThat(args.getValue()).startsWith("60", "0")
+                .containsSequence("status", "RUNNING")
+                .containsSequence("outputUri", "");
+        verify(redis).execute(any(RedisScript.class), eq(List.of("job:status:" + done)), args.capture());
+        assertThat(args.getValue()).startsWith("86400", "1")
+                .containsSequence("outputUri", "https://b/out.png");
+    }
+
+    @Test
+    @DisplayName("🧪 [job 상태 캐시] HASH → payload 없는 JobResponse, 빈 값은 null")
+    void get_mapsHashToResponse() {
+        UUID jobId = UUID.randomUUID();
+        ReactiveHashOperations<String, Object, Object> hash = mock(ReactiveHashOperations.class);
+        doReturn(hash).when(redis).opsForHash();
+        when(hash.entries("job:status:" + jobId)).thenReturn(Flux.fromIterable(List.<Map.Entry<Object, Object>>of(
+                new SimpleEntry<>("projectId", "7"),
+                new SimpleEntry<>("jobType", "BASIC"),
+                new SimpleEntry<>("status", "FAILED"),
+                new SimpleEntry<>("outputUri", ""),
+                new SimpleEntry<>("errorCode", "WORKER_FAILED"),
+                new SimpleEntry<>("errorMessage", "boom"),
+                new SimpleEntry<>("requestedAt", AT.toString()),
+                new SimpleEntry<>("updatedAt", AT.plusMinutes(1).toString()))));
+
+        JobResponse job = cache.get(jobId).block();
+
+        assertThat(job).isEqualTo(new JobResponse(jobId, 7L, JobType.BASIC, JobStatus.FAILED, null,
+                null, "WORKER_FAILED", "boom", AT, AT.plusMinutes(1)));
+    }
+
+    private static JobResponse job(UUID jobId, JobStatus status, String outputUri) {
+        return new JobResponse(jobId, 7L, JobType.BASIC, status, null, outputUri, null, null, AT, AT);
+    }
+
+    @Test
+    @DisplayName("🧪 [job 상태 캐시] evict는 job 키 1개 삭제, Redis 실패는 무시")
+    void evict_deletesKey() {
+        UUID jobId = UUID.randomUUID();
+        when(redis.delete("job:status:" + jobId)).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        cache.evict(jobId).block();
+
+        verify(redis).delete("job:status:" + jobId);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.AdGuidesResponse;
+import com.example.chillgram.domain.ai.dto.FinalCopyResponse;
+import com.example.chillgram.domain.ai.dto.VisualGuideOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LlmResponseParser 단위 테스트
+ *
+ * 단일 패스 파서가 기존 정규식 파서와 같은 결과/fallback 규칙을 지키는지 검증합니다.
+ * (번호/헤딩이 붙은 키, 콜론 생략 같은 실제 모델 출력 형태 포함)
+ */
+class LlmResponseParserTest {
+
+    @Test
+    @DisplayName("🧪 [가이드 파싱] 굵게 표시/불릿이 섞인 블록에서 필드와 추천 ID 추출")
+    void parseAdGuides() {
+        String response = """
+                서론 텍스트
+                [GUIDE_START]
+                **ID:** g-a
+                **Title:** 제품 중심
+                Score: 점수 70점
+                KeyPoints:
+                - **Tone:** 유쾌함
+                - CTA: 지금 구매
+                [GUIDE_END]
+                [GUIDE_START]
+                Title: 공감형
+                Score: 88
+                [GUIDE_END]
+                """;
+
+        AdGuidesResponse res = LlmResponseParser.parseAdGuides(response);
+
+        assertThat(res.guides()).hasSize(2);
+        AdGuidesResponse.GuidelineOption first = res.guides().get(0);
+        assertThat(first.id()).isEqualTo("g-a");
+        assertThat(first.title()).isEqualTo("제품 중심");
+        assertThat(first.score()).isEqualTo(70);
+        assertThat(first.key_points()).containsEntry("tone", List.of("유쾌함")).containsEntry("cta", "지금 구매");
+        assertThat(res.guides().get(1).id()).isEqualTo("guide-2");
+        assertThat(res.recommendedGuideId()).isEqualTo("guide-2");
+    }
+
+    @Test
+    @DisplayName("🧪 [가이드 파싱] 번호/헤딩 뒤의 키, 콜론 생략도 기존 정규식처럼 인식하고 다른 단어 속 키는 무시")
+    void parseAdGuides_looseKeys() {
+        String response = """
+                [GUIDE_START]
+                1. ID: g-num
+                ### Title: 제품 중심
+                Subtitle: 부제는 Title이 아님
+                Score 85점
+                | Badge: 추천 |
+                Identity: 브랜드 정체성
+                Rationale: 리뷰 반응이 좋음
+                [GUIDE_END]
+                [GUIDE_START]
+                Subtitle: 부제만 있음
+                Identity: 아이디 아님
+                [GUIDE_END]
+                """;
+
+        AdGuidesResponse res = LlmResponseParser.parseAdGuides(response);
+
+        AdGuidesResponse.GuidelineOption first = res.guides().get(0);
+        assertThat(first.id()).isEqualTo("g-num");
+        assertThat(first.title()).isEqualTo("제품 중심");
+        assertThat(first.score()).isEqualTo(85);
+        assertThat(first.badge()).isEqualTo("추천 |");
+        assertThat(first.rationale()).isEqualTo("리뷰 반응이 좋음");
+        AdGuidesResponse.GuidelineOption second = res.guides().get(1);
+        assertThat(second.id()).isEqualTo("guide-2");
+        assertThat(second.title()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("🧪 [가이드 파싱] 블록이 없으면 raw 텍스트 fallback 1개 + 점수 누락 시 50점")
+    void parseAdGuides_fallback() {
+        AdGuidesResponse res = LlmResponseParser.parseAdGuides("  형식을 **무시한** 응답 ");
+
+        assertThat(LlmResponseParser.isFallback(res)).isTrue();
+        assertThat(res.guides().get(0).summary()).isEqualTo("형식을 무시한 응답");
+        assertThat(LlmResponseParser.parseGuideBlock("Title: t", 3).score()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("🧪 [카피 파싱] Body는 여러 줄, Title은 한 줄")
+    void parseFinalCopies() {
+        FinalCopyResponse res = LlmResponseParser.parseFinalCopies("""
+                [COPY_START]
+                Title: 맵부심 테스트
+                Body: 첫 줄
+                둘째 줄
+                [COPY_END]
+                """);
+
+        assertThat(res.copies()).hasSize(1);
+        assertThat(res.copies().get(0).title()).isEqualTo("맵부심 테스트");
+        assertThat(res.copies().get(0).body()).isEqualTo("첫 줄\n둘째 줄");
+    }
+
+    @Test
+    @DisplayName("🧪 [비주얼 파싱] 값은 다음 키 줄 전까지 이어지고, 제품/장소 없는 블록은 제외")
+    void parseVisualGuides() {
+        List<VisualGuideOption> options = LlmResponseParser.parseVisualGuides("""
+                [OPTION 1]
+                제품: 면발 클로즈업
+                장소: 자취방
+                역동적 효과: 슬로모션,
+                김이 피어오름
+                스타일: 시네마틱
+                [OPTION 2]
+                스타일: 제품/장소 없음
+                """);
+
+        assertThat(options).hasSize(1);
+        assertThat(options.get(0).effect()).isEqualTo("슬로모션,\n김이 피어오름");
+        assertThat(options.get(0).texture()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("🧪 [비주얼/카피 파싱] 번호 목록 안의 키도 인식하고, 값은 다음 키 줄 전에서 끊김")
+    void parseNumberedFields() {
+        List<VisualGuideOption> options = LlmResponseParser.parseVisualGuides("""
+                [OPTION 1]
+                1. 제품: 면발 클로즈업
+                2. 장소: 자취방
+                3. 스타일: 시네마틱
+                """);
+        FinalCopyResponse copies = LlmResponseParser.parseFinalCopies("""
+                [COPY_START]
+                1) Title: 맵부심 테스트
+                2) Body: 첫 줄
+                둘째 줄
+                [COPY_END]
+                """);
+
+        assertThat(options).hasSize(1);
+        assertThat(options.get(0).product()).isEqualTo("면발 클로즈업");
+        assertThat(options.get(0).place()).isEqualTo("자취방");
+        assertThat(options.get(0).style()).isEqualTo("시네마틱");
+        assertThat(copies.copies().get(0).title()).isEqualTo("맵부심 테스트");
+        assertThat(copies.copies().get(0).body()).isEqualTo("첫 줄\n둘째 줄");
+    }
+
+    @Test
+    @DisplayName("🧪 [베리에이션 파싱] [COPY n] 블록, 없으면 줄 단위 fallback")
+    void parseCopyVariations() {
+        assertThat(LlmResponseParser.parseCopyVariations("[COPY 1] 맵부심 인증각\n[COPY 2] **꾸덕하게 맵게**"))
+                .containsExactly("맵부심 인증각", "꾸덕하게 맵게");
+        assertThat(LlmResponseParser.parseCopyVariations("Okay, here you go\n1. 밤 11시의 정답\n- 한 입이면 끝이야"))
+                .containsExactly("밤 11시의 정답", "한 입이면 끝이야");
+    }
+}
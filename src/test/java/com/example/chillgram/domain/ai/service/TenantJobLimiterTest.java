@@ -0,0 +1,94 @@
+package com.example.chillgram.domain.ai.service;
+
+import com.example.chillgram.domain.advertising.dto.jobs.JobEnums.JobLane;
+import com.example.chillgram.domain.ai.config.JobLaneProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TenantJobLimiter 단위 테스트
+ *
+ * 스크립트/명령이 키 1개씩만 다루는지(Redis Cluster), permit 반납이 owner 키로 ZSET을 찾아 제거하는지 검증합니다.
+ */
+class TenantJobLimiterTest {
+
+    private ReactiveStringRedisTemplate redis;
+    private ReactiveValueOperations<String, String> values;
+    private ReactiveZSetOperations<String, String> zset;
+    private TenantJobLimiter limiter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(ReactiveStringRedisTemplate.class);
+        values = mock(ReactiveValueOperations.class);
+        zset = mock(ReactiveZSetOperations.class);
+        doReturn(values).when(redis).opsForValue();
+        doReturn(zset).when(redis).opsForZSet();
+        when(values.set(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+        limiter = new TenantJobLimiter(redis, new JobLaneProperties(true, null,
+                Map.of(JobLane.BULK, 2), Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("🧪 [회사 상한] acquire 스크립트는 ZSET 키 1개만 넘기고, 성공하면 owner를 따로 기록")
+    void tryAcquire_singleKeyScript() {
+        UUID jobId = UUID.randomUUID();
+        when(redis.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(1L));
+
+        assertThat(limiter.tryAcquire(7L, JobLane.BULK, jobId).block()).isTrue();
+
+        verify(redis).execute(any(RedisScript.class), eq(List.of("job:inflight:7:bulk")), anyList());
+        verify(values).set("job:inflight:owner:" + jobId, "job:inflight:7:bulk", Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("🧪 [회사 상한] 상한이면 false, owner는 기록하지 않음")
+    void tryAcquire_full() {
+        UUID jobId = UUID.randomUUID();
+        when(redis.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(0L));
+
+        assertThat(limiter.tryAcquire(7L, JobLane.BULK, jobId).block()).isFalse();
+
+        verify(values, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("🧪 [회사 상한] release는 owner GETDEL → 그 ZSET에서 ZREM, permit 없으면 no-op")
+    void release_removesFromOwnerZset() {
+        UUID held = UUID.randomUUID();
+        UUID none = UUID.randomUUID();
+        when(values.getAndDelete("job:inflight:owner:" + held)).thenReturn(Mono.just("job:inflight:7:bulk"));
+        when(values.getAndDelete("job:inflight:owner:" + none)).thenReturn(Mono.empty());
+        when(zset.remove(anyString(), any())).thenReturn(Mono.just(1L));
+
+        limiter.releaseAll(List.of(held, none)).block();
+
+        verify(zset).remove("job:inflight:7:bulk", held.toString());
+        verify(zset, never()).remove(anyString(), eq(none.toString()));
+        verify(redis, never()).execute(any(RedisScript.class), anyList(), anyList());
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.chillgram.domain.file;
+
+import com.example.chillgram.common.exception.ApiException;
+import com.example.chillgram.common.exception.ErrorCode;
+import com.example.chillgram.common.google.FileStorage;
+import com.example.chillgram.domain.file.handler.FileHandler;
+import com.example.chillgram.domain.file.service.FileUrlSigner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파일 프록시 Handler 단위 테스트
+ *
+ * Range 헤더에 따라 200/206/416과 Content-Range, 저장소에서 읽는 범위가 맞는지,
+ * 서명이 없거나 다른 객체/만료된 서명이면 저장소를 보지 않고 403인지 검증합니다.
+ */
+class FileHandlerTest {
+
+    private static final FileStorage.StoredObject OBJECT =
+            new FileStorage.StoredObject("gs://bucket/qna/1/a.png", "image/png", 1000, 7L);
+
+    private FileStorage storage;
+    private FileUrlSigner signer;
+    private FileHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(FileStorage.class);
+        when(storage.objectUri("qna/1/a.png")).thenReturn(OBJECT.gsUri());
+        when(storage.stat(OBJECT.gsUri())).thenReturn(Mono.just(OBJECT));
+        when(storage.read(any(FileStorage.StoredObject.class), anyLong(), anyLong())).thenReturn(Flux.empty());
+        signer = new FileUrlSigner("test-secret", Duration.ofMinutes(15), true);
+        handler = new FileHandler(storage, signer);
+    }
+
+    /**
+     * 서명 경로(/api/files/{object}?exp=..&sig=..) → 라우터가 넘기는 것과 같은 요청
+     */
+    private static MockServerRequest.Builder request(String signedPath) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(signedPath).build();
+        MockServerRequest.Builder req = MockServerRequest.builder()
+                .pathVariable("object", uri.getPath().substring("/api/files".length()));
+        uri.getQueryParams().forEach((name, values) -> req.queryParam(name, values.get(0)));
+        return req;
+    }
+
+    private ServerResponse download(String range) {
+        MockServerRequest.Builder req = request(signer.signedPath("qna/1/a.png"));
+        if (range != null) {
+            req.header(HttpHeaders.RANGE, range);
+        }
+        return handler.download(req.build()).block();
+    }
+
+    private void assertForbidden(MockServerRequest req) {
+        assertThatThrownBy(() -> handler.download(req).block())
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.errorCode()).isEqualTo(ErrorCode.FORBIDDEN));
+    }
+
+    @Test
+    @DisplayName("🧪 [file] Range 없으면 200 전체")
+    void download_full() {
+        ServerResponse res = download(null);
+
+        assertThat(res.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.headers().getContentLength()).isEqualTo(1000L);
+        assertThat(res.headers().getETag()).isEqualTo("\"7\"");
+        verify(storage).read(OBJECT, 0, -1);
+    }
+
+    @Test
+    @DisplayName("🧪 [file] 단일 Range면 206 + Content-Range, 해당 범위만 읽음")
+    void download_range() {
+        ServerResponse res = download("bytes=100-199");
+
+        assertThat(res.statusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(res.headers().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/1000");
+        assertThat(res.headers().getContentLength()).isEqualTo(100L);
+        verify(storage).read(OBJECT, 100, 100);
+    }
+
+    @Test
+    @DisplayName("🧪 [file] 범위 밖이면 416 + Content-Range: bytes */size")
+    void download_unsatisfiable() {
+        ServerResponse res = download("bytes=5000-");
+
+        assertThat(res.statusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(res.headers().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1000");
+    }
+
+    @Test
+    @DisplayName("🧪 [file] 서명 없음/다른 객체의 서명/만료된 서명이면 403, 저장소 조회 없음")
+    void download_rejectsUnsignedOrForeignObject() {
+        // 로그인만 하고 다른 회사 객체 이름을 넣은 요청
+        assertForbidden(MockServerRequest.builder().pathVariable("object", "/qna/1/a.png").build());
+
+        // 자기 객체(qna/2/mine.png)로 받은 서명을 남의 객체에 붙인 요청
+        String mine = signer.signedPath("qna/2/mine.png");
+        assertForbidden(request(mine.replace("qna/2/mine.png", "qna/1/a.png")).build());
+
+        assertForbidden(request(signer.signedPath("qna/1/a.png", Instant.now().minusSeconds(1))).build());
+
+        verify(storage, never()).stat(anyString());
+    }
+
+    @Test
+    @DisplayName("🧪 [file] /local-storage(로컬 개발 공개 URL)는 서명 없이 내려줌")
+    void downloadLocal_noSignature() {
+        ServerResponse res = handler.downloadLocal(MockServerRequest.builder()
+                .pathVariable("object", "/qna/1/a.png").build()).block();
+
+        assertThat(res.statusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
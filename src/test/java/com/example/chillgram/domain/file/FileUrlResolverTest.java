@@ -0,0 +1,87 @@
+package com.example.chillgram.domain.file;
+
+import com.example.chillgram.common.google.FileStorage;
+import com.example.chillgram.domain.file.service.FileUrlResolver;
+import com.example.chillgram.domain.file.service.FileUrlSigner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 응답용 파일 URL 변환 / 서명 키 설정 단위 테스트
+ *
+ * 프록시를 켜면 설정 버킷 객체가 검증을 통과하는 서명 경로로 바뀌고, 다른 버킷/외부 URL은 그대로인지,
+ * 프록시를 켰는데 서명 키가 비었거나 예시 값이면 기동 시점에 실패하는지 검증합니다.
+ */
+class FileUrlResolverTest {
+
+    private static final String GS_URI = "gs://bucket/qna/1/a.png";
+
+    private FileStorage storage;
+    private FileUrlSigner signer;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(FileStorage.class);
+        signer = new FileUrlSigner("test-secret", Duration.ofMinutes(15), true);
+    }
+
+    @Test
+    @DisplayName("🧪 [파일 URL] 프록시 꺼짐(공개 버킷)이면 toPublicUrl 그대로")
+    void proxyDisabled_publicUrl() {
+        when(storage.toPublicUrl(GS_URI)).thenReturn("https://storage.example.com/bucket/qna/1/a.png");
+
+        String url = new FileUrlResolver(storage, signer, false).toResponseUrl(GS_URI);
+
+        assertThat(url).isEqualTo("https://storage.example.com/bucket/qna/1/a.png");
+        verify(storage, never()).objectName(GS_URI);
+    }
+
+    @Test
+    @DisplayName("🧪 [파일 URL] 프록시 켜짐이면 설정 버킷 객체는 검증을 통과하는 서명된 /api/files 경로")
+    void proxyEnabled_signedPath() {
+        when(storage.objectName(GS_URI)).thenReturn("qna/1/a.png");
+
+        String url = new FileUrlResolver(storage, signer, true).toResponseUrl(GS_URI);
+
+        UriComponents uri = UriComponentsBuilder.fromUriString(url).build();
+        assertThat(uri.getPath()).isEqualTo("/api/files/qna/1/a.png");
+        assertThat(signer.verify("qna/1/a.png",
+                uri.getQueryParams().getFirst(FileUrlSigner.EXPIRES_PARAM),
+                uri.getQueryParams().getFirst(FileUrlSigner.SIGNATURE_PARAM))).isTrue();
+    }
+
+    @Test
+    @DisplayName("🧪 [파일 URL] 프록시 켜짐이어도 다른 버킷/외부 URL은 서명하지 않고 그대로")
+    void proxyEnabled_foreignUrlPassesThrough() {
+        String external = "https://cdn.example.com/a.png";
+        when(storage.objectName(external)).thenThrow(new IllegalArgumentException("unsupported url host"));
+        when(storage.toPublicUrl(external)).thenReturn(external);
+
+        assertThat(new FileUrlResolver(storage, signer, true).toResponseUrl(external)).isEqualTo(external);
+        assertThat(new FileUrlResolver(storage, signer, true).toResponseUrl(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("🧪 [서명 키] 프록시 켜짐인데 키가 비었거나 CHANGE_ME면 기동 실패, 프록시 꺼짐이면 키 없이 기동")
+    void signer_failsFastWithoutSecret() {
+        assertThatThrownBy(() -> new FileUrlSigner("", Duration.ofMinutes(15), true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new FileUrlSigner("CHANGE_ME", Duration.ofMinutes(15), true))
+                .isInstanceOf(IllegalStateException.class);
+
+        FileUrlSigner disabled = new FileUrlSigner("", Duration.ofMinutes(15), false);
+        assertThat(disabled.verify("qna/1/a.png", "9999999999", "sig")).isFalse();
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.chillgram.common.google;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 가짜 GCS Storage (메모리, 네트워크 없음) - 테스트/벤치마크용, 빈으로 등록하지 않는다
+ * - src/testFixtures: test와 jmh에서만 보인다 (운영 jar 제외)
+ * - 지원: create(byte[]), writer(resumable), compose, delete, readAllBytes, reader
+ * - 그 외 메서드(get 포함)는 UnsupportedOperationException (Blob은 라이브러리 밖에서 만들 수 없음)
+ * - requestLatency / bytesPerSecond: 요청 1건마다 지연 + 연결 1개 대역폭을 흉내 (0이면 즉시)
+ *   · reader는 열 때 지연만 반영
+ *   · writer는 chunk 전송마다 1건, close 시 남은 바이트 1건
+ *   · compose는 서버 측 작업이라 지연만 반영
+ */
+public final class InMemoryStorage {
+
+    private final Map<BlobId, Stored> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Duration requestLatency;
+    private final long bytesPerSecond;
+    private final Storage storage;
+
+    public InMemoryStorage() {
+        this(Duration.ZERO, 0);
+    }
+
+    public InMemoryStorage(Duration requestLatency, long bytesPerSecond) {
+        this.requestLatency = requestLatency;
+        this.bytesPerSecond = bytesPerSecond;
+        this.storage = (Storage) Proxy.newProxyInstance(
+                Storage.class.getClassLoader(), new Class<?>[]{Storage.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "create" -> create(args);
+                    case "writer" -> writer(args);
+                    case "compose" -> compose((Storage.ComposeRequest) args[0]);
+                    case "delete" -> delete(args);
+                    case "readAllBytes" -> readAllBytes(blobId(args));
+                    case "reader" -> reader(blobId(args));
+                    case "toString" -> "InMemoryStorage" + names();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException("InMemoryStorage: " + method);
+                });
+    }
+
+    public Storage storage() {
+        return storage;
+    }
+
+    /**
+     * 저장된 객체 내용 (없으면 null)
+     */
+    public byte[] content(String bucket, String name) {
+        Stored stored = objects.get(BlobId.of(bucket, name));
+        return stored == null ? null : stored.bytes();
+    }
+
+    public String contentType(String bucket, String name) {
+        Stored stored = objects.get(BlobId.of(bucket, name));
+        return stored == null ? null : stored.contentType();
+    }
+
+    public Set<String> names() {
+        Set<String> names = new TreeSet<>();
+        objects.keySet().forEach(id -> names.add(id.getBucket() + "/" + id.getName()));
+        return names;
+    }
+
+    /**
+     * 지금까지 받은 요청 수 (create/chunk/compose/delete/read)
+     */
+    public int requestCount() {
+        return requests.get();
+    }
+
+    public void clear() {
+        objects.clear();
+        requests.set(0);
+    }
+
+    private Object create(Object[] args) {
+        BlobInfo info = (BlobInfo) args[0];
+        byte[] bytes = new byte[0];
+        if (args.length > 1 && args[1] instanceof byte[] b) {
+            bytes = args.length > 2 && args[2] instanceof Integer off
+                    ? Arrays.copyOfRange(b, off, off + (Integer) args[3])
+                    : b.clone();
+        } else if (args.length > 1 && !(args[1] instanceof Storage.BlobTargetOption[])) {
+            throw new UnsupportedOperationException("InMemoryStorage: create(InputStream)");
+        }
+        request(bytes.length);
+        objects.put(id(info), new Stored(bytes, info.getContentType()));
+        return null;
+    }
+
+    private Object writer(Object[] args) {
+        if (!(args[0] instanceof BlobInfo info)) {
+            throw new UnsupportedOperationException("InMemoryStorage: writer(URL)");
+        }
+        return new Writer(info);
+    }
+
+    private Object compose(Storage.ComposeRequest req) {
+        BlobInfo target = req.getTarget();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Storage.ComposeRequest.SourceBlob source : req.getSourceBlobs()) {
+            Stored stored = objects.get(BlobId.of(target.getBucket(), source.getName()));
+            if (stored == null) {
+                throw new IllegalStateException("compose source not found: " + source.getName());
+            }
+            out.writeBytes(stored.bytes());
+        }
+        request(0);
+        objects.put(id(target), new Stored(out.toByteArray(), target.getContentType()));
+        return null;
+    }
+
+    private Object delete(Object[] args) {
+        request(0);
+        if (args[0] instanceof String bucket) {
+            return objects.remove(BlobId.of(bucket, (String) args[1])) != null;
+        }
+        if (args[0] instanceof BlobId id) {
+            return objects.remove(id(id)) != null;
+        }
+        Iterable<?> ids = args[0] instanceof BlobId[] arr ? List.of(arr) : (Iterable<?>) args[0];
+        List<Boolean> deleted = new ArrayList<>();
+        for (Object id : ids) {
+            deleted.add(objects.remove(id((BlobId) id)) != null);
+        }
+        return deleted;
+    }
+
+    private byte[] readAllBytes(BlobId id) {
+        byte[] bytes = existing(id).bytes();
+        request(bytes.length);
+        return bytes.clone();
+    }
+
+    private ReadChannel reader(BlobId id) {
+        Stored stored = existing(id);
+        request(0);
+        return new Reader(stored.bytes());
+    }
+
+    private Stored existing(BlobId id) {
+        Stored stored = objects.get(id(id));
+        if (stored == null) {
+            throw new IllegalStateException("object not found: " + id);
+        }
+        return stored;
+    }
+
+    private static BlobId blobId(Object[] args) {
+        return args[0] instanceof String bucket ? BlobId.of(bucket, (String) args[1]) : (BlobId) args[0];
+    }
+
+    // generation은 무시 (최신본 1개만 보관)
+    private static BlobId id(BlobId id) {
+        return BlobId.of(id.getBucket(), id.getName());
+    }
+
+    private static BlobId id(BlobInfo info) {
+        return BlobId.of(info.getBucket(), info.getName());
+    }
+
+    private void request(long bytes) {
+        requests.incrementAndGet();
+        long nanos = requestLatency.toNanos();
+        if (bytesPerSecond > 0) {
+            nanos += bytes * 1_000_000_000L / bytesPerSecond;
+        }
+        if (nanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(nanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted", e);
+            }
+        }
+    }
+
+    private record Stored(byte[] bytes, String contentType) {
+    }
+
+    /**
+     * resumable 업로드 흉내: chunkSize만큼 모일 때마다 1건 전송, close 시 객체 확정 (close 전에는 보이지 않음)
+     */
+    private final class Writer implements WriteChannel {
+
+        private final BlobInfo info;
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private int chunkSize = 256 * 1024;
+        private long pending;
+        private boolean open = true;
+
+        Writer(BlobInfo info) {
+            this.info = info;
+        }
+
+        @Override
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            byte[] bytes = new byte[n];
+            src.get(bytes);
+            written.writeBytes(bytes);
+            pending += n;
+            while (pending >= chunkSize) {
+                request(chunkSize);
+                pending -= chunkSize;
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            if (!open) {
+                return;
+            }
+            open = false;
+            request(pending);
+            objects.put(id(info), new Stored(written.toByteArray(), info.getContentType()));
+        }
+
+        @Override
+        public RestorableState<WriteChannel> capture() {
+            throw new UnsupportedOperationException("InMemoryStorage: capture");
+        }
+    }
+
+    private final class Reader implements ReadChannel {
+
+        private final byte[] bytes;
+        private long position;
+        private long limit = Long.MAX_VALUE;
+        private boolean open = true;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            long end = Math.min(bytes.length, limit);
+            if (position >= end) {
+                return -1;
+            }
+            int n = (int) Math.min(dst.remaining(), end - position);
+            dst.put(bytes, (int) position, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void seek(long position) {
+            this.position = position;
+        }
+
+        @Override
+        public ReadChannel limit(long limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        @Override
+        public long limit() {
+            return limit;
+        }
+
+        @Override
+        public void setChunkSize(int chunkSize) {
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public RestorableState<ReadChannel> capture() {
+            throw new UnsupportedOperationException("InMemoryStorage: capture");
+        }
+    }
+}